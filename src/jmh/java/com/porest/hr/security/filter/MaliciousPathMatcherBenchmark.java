@@ -0,0 +1,154 @@
+package com.porest.hr.security.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * MaliciousPathMatcher vs 기존 정규식 목록 비교 벤치마크
+ * 실행: ./gradlew jmh
+ *
+ * <p>코퍼스는 실제 트래픽 비율을 흉내 내 정상 API 호출 위주에 스캐너 probe 를 섞었다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaliciousPathMatcherBenchmark {
+
+    /**
+     * 기존 MaliciousPatternBlockFilter 의 정규식 목록
+     */
+    private static final List<Pattern> LEGACY_PATTERNS = List.of(
+            // 버전 관리 시스템
+            Pattern.compile(".*/\\.git(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.svn(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.hg(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.bzr(/.*)?$", Pattern.CASE_INSENSITIVE),
+
+            // 환경 변수 및 설정 파일
+            Pattern.compile(".*/\\.env(\\..*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.htaccess$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/web\\.config$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/php\\.ini$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/httpd\\.conf$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/nginx\\.conf$", Pattern.CASE_INSENSITIVE),
+
+            // IDE 및 에디터 설정 파일
+            Pattern.compile(".*/\\.idea(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.vscode(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.eclipse(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.settings(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.classpath$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.project$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.DS_Store$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/Thumbs\\.db$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/desktop\\.ini$", Pattern.CASE_INSENSITIVE),
+
+            // 백업 및 임시 파일 (OWASP 권장)
+            Pattern.compile(".*\\.bak$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.backup$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.old$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.orig$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.tmp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.temp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.swp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.swo$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.save$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*~$"),
+
+            // 데이터베이스 및 설정 파일
+            Pattern.compile(".*\\.sql$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.sqlite$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.db$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/config\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/config\\.yml$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/config\\.json$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application\\.yml$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application\\.properties$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application-.*\\.yml$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application-.*\\.properties$", Pattern.CASE_INSENSITIVE),
+
+            // 압축 파일 (소스코드/백업 포함 가능성)
+            Pattern.compile(".*\\.tar$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.tar\\.gz$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.tgz$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.zip$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.rar$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.7z$", Pattern.CASE_INSENSITIVE),
+
+            // 공격 벡터 - 악성 스크립트
+            Pattern.compile(".*/eval-stdin\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/shell\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/c99\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/r57\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/adminer\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/phpMyAdmin(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/phpmyadmin(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.asp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.aspx$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.jsp\\.bak$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.java\\.bak$", Pattern.CASE_INSENSITIVE),
+
+            // 로그 파일 (민감 정보 포함 가능)
+            Pattern.compile(".*\\.log$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/logs(/.*)?$", Pattern.CASE_INSENSITIVE)
+    );
+
+
+    private static final String[] CORPUS = {
+            "/api/v1/users",
+            "/api/v1/users/user1",
+            "/api/v1/vacations/users/user1/stats",
+            "/api/v1/work-histories",
+            "/api/v1/work-histories/excel/download",
+            "/api/v1/holidays",
+            "/api/v1/types/GrantStatus",
+            "/api/v1/company/1/departments",
+            "/api/v1/auth/exchange-code",
+            "/api/v1/schedules",
+            "/actuator/prometheus",
+            "/media/origin/profile/abc_123.png",
+            "/.env",
+            "/.git/config",
+            "/wp-login.php",
+            "/phpMyAdmin/index.php",
+            "/backup.sql",
+            "/config/application-prod.yml"
+    };
+
+    @Benchmark
+    public void legacyRegexList(Blackhole blackhole) {
+        for (String uri : CORPUS) {
+            boolean blocked = false;
+            for (Pattern pattern : LEGACY_PATTERNS) {
+                if (pattern.matcher(uri).matches()) {
+                    blocked = true;
+                    break;
+                }
+            }
+            blackhole.consume(blocked);
+        }
+    }
+
+    @Benchmark
+    public void compiledMatcher(Blackhole blackhole) {
+        for (String uri : CORPUS) {
+            blackhole.consume(MaliciousPathMatcher.match(uri) != null);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.porest.hr.vacation.scheduler;
+
+import com.porest.core.type.CountryCode;
+import com.porest.core.type.YNType;
+import com.porest.hr.user.domain.User;
+import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.domain.VacationPolicy;
+import com.porest.hr.vacation.repository.VacationGrantQueryDslRepository;
+import com.porest.hr.vacation.repository.VacationGrantRepository;
+import com.porest.hr.vacation.type.EffectiveType;
+import com.porest.hr.vacation.type.ExpirationType;
+import com.porest.hr.vacation.type.VacationType;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일일 휴가 부여 INSERT 벤치마크 (VacationGrant IDENTITY vs 시퀀스 pooled + JDBC 배치)
+ * 실행: ./gradlew jmh -Pjmh.includes=GrantInsertBenchmark
+ *
+ * <p>실제 {@link VacationGrant} 엔티티 1,000건을 {@link VacationGrantRepository#saveAll} 로 한 트랜잭션에 저장한다.
+ * SEQUENCE 는 엔티티 매핑 그대로(vacation_grant_seq, allocationSize 50), IDENTITY 는 {@value #IDENTITY_MAPPING} 으로
+ * ID 생성만 IDENTITY 로 덮어쓴다. Hibernate 설정(batch_size 50, order_inserts)은 application.yml 과 같다.
+ * 결과 단위는 행/ms 이다.
+ *
+ * <p>기본 URL 은 H2 인메모리라 네트워크 왕복이 없어 실제 MariaDB 보다 차이가 작게 나온다.
+ * MariaDB 로 재려면 {@code url}, {@code username}, {@code password} 파라미터를 JMH {@code -p} 옵션으로 넘긴다.
+ * 예: {@code ./gradlew jmh -Pjmh.includes=GrantInsertBenchmark -Pjmh.args="-p url=jdbc:mariadb://localhost:3306/bench -p username=bench -p password=bench"}
+ * 스키마를 create-drop 으로 만들고 지우므로 반드시 빈 utf8mb4 스키마를 넘긴다.
+ * JIT 가 안정될 때까지 처리량이 계속 올라가므로 워밍업을 30초로 잡았다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class GrantInsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String IDENTITY_MAPPING = "META-INF/grant-identity-orm.xml";
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    private String idStrategy;
+
+    @Param("jdbc:h2:mem:grant_bench;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+    private String url;
+
+    @Param("sa")
+    private String username;
+
+    @Param("")
+    private String password;
+
+    private AnnotationConfigApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+    private VacationGrantRepository vacationGrantRepository;
+    private Long userRowId;
+    private Long policyRowId;
+    private BigDecimal grantTime;
+    private LocalDateTime grantDate;
+    private LocalDateTime expiryDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("bench.id-strategy", idStrategy);
+        properties.put("bench.url", url);
+        properties.put("bench.username", username);
+        properties.put("bench.password", password);
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("bench", properties));
+        context.register(BenchmarkJpaConfig.class);
+        context.refresh();
+
+        em = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        vacationGrantRepository = context.getBean(VacationGrantRepository.class);
+
+        User user = User.createUser(
+                null, "bench", "벤치마크", "bench@example.com",
+                LocalDate.of(1990, 1, 1), "NONE", "9 ~ 18",
+                LocalDate.of(2020, 1, 1), YNType.N, null, null, CountryCode.KR
+        );
+        VacationPolicy policy = VacationPolicy.createManualGrantPolicy(
+                "연차", "연차 정책", VacationType.ANNUAL, new BigDecimal("15.0000"),
+                YNType.N, YNType.N, EffectiveType.IMMEDIATELY, ExpirationType.END_OF_YEAR
+        );
+        transactionTemplate.executeWithoutResult(status -> {
+            em.persist(user);
+            em.persist(policy);
+        });
+        userRowId = user.getRowId();
+        policyRowId = policy.getRowId();
+
+        grantTime = new BigDecimal("15.0000");
+        grantDate = LocalDateTime.of(2026, 1, 1, 0, 0);
+        expiryDate = grantDate.plusYears(1).minusNanos(1000);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        transactionTemplate.executeWithoutResult(status ->
+                em.createNativeQuery("DELETE FROM vacation_grant").executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 사용자 한 명에게 부여 1,000건을 saveAll 로 저장 (한 트랜잭션)
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = em.getReference(User.class, userRowId);
+            VacationPolicy policy = em.getReference(VacationPolicy.class, policyRowId);
+            List<VacationGrant> grants = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                grants.add(VacationGrant.createVacationGrant(
+                        user, policy, "벤치마크 연차", VacationType.ANNUAL, grantTime, grantDate, expiryDate));
+            }
+            vacationGrantRepository.saveAll(grants);
+        });
+    }
+
+    /**
+     * 벤치마크 전용 JPA 설정 (엔티티, Hibernate 배치 설정, 감사 필드는 애플리케이션과 동일)
+     */
+    @Configuration
+    @EnableJpaAuditing(auditorAwareRef = "auditorAware")
+    @Import(VacationGrantQueryDslRepository.class)
+    static class BenchmarkJpaConfig {
+
+        @Bean(destroyMethod = "close")
+        public HikariDataSource dataSource(@Value("${bench.url}") String url,
+                                           @Value("${bench.username}") String username,
+                                           @Value("${bench.password}") String password) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            if (url.startsWith("jdbc:mariadb:")) {
+                // application.yml 과 같이 배치 INSERT 를 bulk 프로토콜로 전송
+                dataSource.addDataSourceProperty("useBulkStmtsForInserts", "true");
+            }
+            return dataSource;
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                           @Value("${bench.id-strategy}") String idStrategy) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.porest.hr");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            if ("IDENTITY".equals(idStrategy)) {
+                factory.setMappingResources(IDENTITY_MAPPING);
+            }
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create-drop",
+                    "hibernate.default_batch_fetch_size", "100",
+                    "hibernate.jdbc.batch_size", "50",
+                    "hibernate.order_inserts", "true",
+                    "hibernate.order_updates", "true"
+            ));
+            return factory;
+        }
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory(EntityManager entityManager) {
+            return new JPAQueryFactory(entityManager);
+        }
+
+        @Bean
+        public AuditorAware<String> auditorAware() {
+            return () -> Optional.of("benchmark");
+        }
+    }
+}
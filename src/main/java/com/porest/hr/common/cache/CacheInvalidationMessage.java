@@ -0,0 +1,24 @@
+package com.porest.hr.common.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 무효화 메시지 DTO
+ * 한 노드에서 캐시 항목이 무효화되면 Redis Pub/Sub 으로 다른 노드의 L1(Caffeine)에 전파
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheInvalidationMessage {
+
+    // 발행 노드 ID (자기 자신이 보낸 메시지는 무시)
+    private String origin;
+    private String cacheName;
+    // 무효화할 키 (null 이면 캐시 전체)
+    private String key;
+}
@@ -0,0 +1,46 @@
+package com.porest.hr.common.cache;
+
+/**
+ * 2단계 캐시 이름
+ * 설정(cache.two-level.caches.{이름})과 {@code @Cacheable} 에서 같은 이름을 쓴다.
+ */
+public final class CacheNames {
+
+    /**
+     * 활성 회사 타입 코드 목록
+     */
+    public static final String COMPANY_CODES = "company-codes";
+
+    /**
+     * 활성 시스템 타입 코드 목록
+     */
+    public static final String SYSTEM_CODES = "system-codes";
+
+    /**
+     * 전체 휴가 정책 목록 (로케일별)
+     */
+    public static final String VACATION_POLICIES = "vacation-policies";
+
+    /**
+     * 조건별 업무 코드 목록
+     */
+    public static final String WORK_CODES = "work-codes";
+
+    /**
+     * 국가/연도별 근무일 달력 (휴무일 비트셋)
+     */
+    public static final String WORKING_CALENDAR = "working-calendar";
+
+    /**
+     * 사용자별 권한 스냅샷 (SSO 토큰 인증용)
+     */
+    public static final String USER_AUTHORITY = "user-authority";
+
+    /**
+     * 부서 조직도 스냅샷 (단일 키)
+     */
+    public static final String ORG_TREE = "org-tree";
+
+    private CacheNames() {
+    }
+}
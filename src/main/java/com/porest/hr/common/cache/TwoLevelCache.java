@@ -0,0 +1,231 @@
+package com.porest.hr.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * 2단계 캐시 (Caffeine L1 + Redis L2)
+ * 조회는 노드 로컬 L1 -> 공유 L2 -> 원본 순으로 하고, 원본에서 읽은 값은 L2, L1 에 함께 저장한다.
+ * 새로 뜬 노드나 L1 에서 만료된 항목은 DB 대신 L2 에서 채운다.
+ *
+ * <p>무효화(evict, clear)는 L1, L2 를 지우고 다른 노드의 L1 도 지우도록 무효화 메시지를 발행한다.
+ * Redis 장애 시에는 L2 를 건너뛰고(미스로 처리) L1 과 원본만으로 동작하며, 다른 노드의 L1 은 TTL 로 만료된다.
+ * 값은 JDK 직렬화로 L2 에 저장하므로 캐시하는 값은 Serializable 이어야 한다. null 값은 캐시하지 않는다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final RedisOperations<String, Object> redisOperations;
+    private final String redisKeyPrefix;
+    private final Duration ttl;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    /**
+     * @param name 캐시 이름
+     * @param localCache L1 캐시
+     * @param redisOperations L2 Redis (null 이면 L1 만 사용)
+     * @param keyPrefix L2 키 접두사
+     * @param ttl L2 TTL
+     * @param invalidationPublisher 무효화 메시지 발행 (다른 노드 L1 무효화)
+     * @param meterRegistry L2 적중/미스 지표 등록
+     */
+    public TwoLevelCache(String name,
+                         Cache<String, Object> localCache,
+                         RedisOperations<String, Object> redisOperations,
+                         String keyPrefix,
+                         Duration ttl,
+                         Consumer<CacheInvalidationMessage> invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisOperations = redisOperations;
+        this.redisKeyPrefix = keyPrefix + name + ":";
+        this.ttl = ttl;
+        this.invalidationPublisher = invalidationPublisher;
+        this.l2Hit = Counter.builder("cache.l2.gets").tag("cache", name).tag("result", "hit")
+                .description("L2(Redis) 캐시 조회 적중 수").register(meterRegistry);
+        this.l2Miss = Counter.builder("cache.l2.gets").tag("cache", name).tag("result", "miss")
+                .description("L2(Redis) 캐시 조회 미스 수").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = cacheKey(key);
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        value = getRemote(cacheKey);
+        if (value != null) {
+            localCache.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = cacheKey(key);
+        // 같은 노드에서 같은 키의 동시 미스는 한 번만 원본을 읽는다
+        Object value = localCache.get(cacheKey, k -> {
+            Object remote = getRemote(k);
+            if (remote != null) {
+                return remote;
+            }
+            Object loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (loaded != null) {
+                putRemote(k, loaded);
+            }
+            return loaded;
+        });
+        return (T) value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // null 은 캐시하지 않고 기존 값만 지운다
+            evict(key);
+            return;
+        }
+        String cacheKey = cacheKey(key);
+        putRemote(cacheKey, value);
+        localCache.put(cacheKey, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = cacheKey(key);
+        // L1 무효화는 진행 중인 같은 키의 로딩이 끝날 때까지 기다리므로, 그 로딩이 L2 에 쓴 값까지 지우도록 L1 을 먼저 지운다
+        localCache.invalidate(cacheKey);
+        evictRemote(cacheKey);
+        invalidationPublisher.accept(CacheInvalidationMessage.builder().cacheName(name).key(cacheKey).build());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = localCache.getIfPresent(cacheKey(key)) != null;
+        evict(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        clearRemote();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(CacheInvalidationMessage.builder().cacheName(name).build());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = localCache.estimatedSize() > 0;
+        clear();
+        return notEmpty;
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 메시지 반영 (L1 만, L2 는 발행한 노드가 이미 지웠다)
+     *
+     * @param key 무효화할 키 (null 이면 전체)
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    private String cacheKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private String indexKey() {
+        return redisKeyPrefix + "keys";
+    }
+
+    private Object getRemote(String cacheKey) {
+        if (redisOperations == null) {
+            return null;
+        }
+        try {
+            Object value = redisOperations.opsForValue().get(redisKeyPrefix + cacheKey);
+            (value != null ? l2Hit : l2Miss).increment();
+            return value;
+        } catch (Exception e) {
+            l2Miss.increment();
+            log.warn("Failed to read cache from Redis: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String cacheKey, Object value) {
+        if (redisOperations == null) {
+            return;
+        }
+        try {
+            redisOperations.opsForValue().set(redisKeyPrefix + cacheKey, value, ttl);
+            // clear() 에서 지울 키 목록 (항목보다 오래 살도록 TTL 을 갱신)
+            redisOperations.opsForSet().add(indexKey(), cacheKey);
+            redisOperations.expire(indexKey(), ttl.multipliedBy(2));
+        } catch (Exception e) {
+            log.warn("Failed to write cache to Redis: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void evictRemote(String cacheKey) {
+        if (redisOperations == null) {
+            return;
+        }
+        try {
+            redisOperations.delete(redisKeyPrefix + cacheKey);
+            redisOperations.opsForSet().remove(indexKey(), cacheKey);
+        } catch (Exception e) {
+            log.warn("Failed to evict cache from Redis: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void clearRemote() {
+        if (redisOperations == null) {
+            return;
+        }
+        try {
+            Set<Object> cacheKeys = redisOperations.opsForSet().members(indexKey());
+            if (cacheKeys != null && !cacheKeys.isEmpty()) {
+                redisOperations.delete(cacheKeys.stream().map(k -> redisKeyPrefix + k).toList());
+            }
+            redisOperations.delete(indexKey());
+        } catch (Exception e) {
+            log.warn("Failed to clear cache from Redis: cache={}, reason={}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.porest.hr.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 2단계 캐시 매니저
+ * {@link CacheNames} 와 설정에 있는 캐시를 만들고, 그 밖의 이름은 처음 요청될 때 기본 설정으로 만든다.
+ * 트랜잭션 안에서의 put/evict 는 커밋 이후에 반영한다 (롤백된 변경으로 캐시를 지우거나 채우지 않도록).
+ *
+ * <p>L1 은 CaffeineCacheMetrics(cache.gets, cache.puts, cache.evictions ...), L2 는 cache.l2.gets 로
+ * 캐시별 적중률을 노출한다. 다른 노드가 발행한 무효화 메시지는 {@link #handleInvalidation(String)} 으로 받는다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final TwoLevelCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이 노드의 ID (자기 자신이 발행한 무효화 메시지 구분용)
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(TwoLevelCacheProperties properties,
+                                RedisConnectionFactory connectionFactory,
+                                StringRedisTemplate stringRedisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = JsonMapper.builder().build();
+        this.redisTemplate = properties.isEnabled() && properties.getRedis().isEnabled()
+                ? createRedisTemplate(connectionFactory) : null;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        Set<String> cacheNames = new LinkedHashSet<>(List.of(
+                CacheNames.COMPANY_CODES, CacheNames.SYSTEM_CODES, CacheNames.VACATION_POLICIES, CacheNames.WORK_CODES,
+                CacheNames.WORKING_CALENDAR, CacheNames.USER_AUTHORITY, CacheNames.ORG_TREE));
+        cacheNames.addAll(properties.getCaches().keySet());
+        return cacheNames.stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    /**
+     * 캐시 무효화 메시지 처리
+     * Redis MessageListenerAdapter에서 호출됨
+     */
+    public void handleInvalidation(String message) {
+        log.debug("Received cache invalidation: {}", message);
+
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message, CacheInvalidationMessage.class);
+
+            // 자기 자신이 발행한 메시지는 이미 반영되어 있음
+            if (nodeId.equals(invalidation.getOrigin())) {
+                return;
+            }
+            Cache cache = lookupCache(invalidation.getCacheName());
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.evictLocal(invalidation.getKey());
+            }
+        } catch (JacksonException e) {
+            log.error("Failed to parse cache invalidation: {}", message, e);
+        } catch (Exception e) {
+            log.error("Failed to handle cache invalidation: {}", message, e);
+        }
+    }
+
+    private Cache createCache(String name) {
+        if (!properties.isEnabled()) {
+            return new NoOpCache(name);
+        }
+        TwoLevelCacheProperties.Spec spec = properties.getSpec(name);
+        Duration ttl = Duration.ofMillis(spec.getTtl());
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name);
+
+        return new TwoLevelCache(name, localCache, redisTemplate, properties.getRedis().getKeyPrefix(), ttl,
+                this::publishInvalidation, meterRegistry);
+    }
+
+    private void publishInvalidation(CacheInvalidationMessage invalidation) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            CacheInvalidationMessage message = CacheInvalidationMessage.builder()
+                    .origin(nodeId)
+                    .cacheName(invalidation.getCacheName())
+                    .key(invalidation.getKey())
+                    .build();
+            stringRedisTemplate.convertAndSend(properties.getRedis().getChannel(), objectMapper.writeValueAsString(message));
+            log.debug("Published cache invalidation: cache={}, key={}", invalidation.getCacheName(), invalidation.getKey());
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation: cache={}, key={}, reason={}",
+                    invalidation.getCacheName(), invalidation.getKey(), e.getMessage());
+        }
+    }
+
+    private static RedisTemplate<String, Object> createRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(new JdkSerializationRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -34,6 +34,25 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 일일 반복 휴가 부여 파티션 실행기
+     * 파티션마다 트랜잭션(커넥션)을 하나씩 잡으므로 코어 수와 4 중 작은 값으로 제한해 커넥션 풀(기본 10)을 넘지 않게 한다.
+     * 스케줄러는 최대 스레드 수만큼 파티션을 나눈다.
+     */
+    @Bean(name = "vacationGrantTaskExecutor")
+    public ThreadPoolTaskExecutor vacationGrantTaskExecutor() {
+        int partitions = Math.min(Runtime.getRuntime().availableProcessors(), 4);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitions);
+        executor.setMaxPoolSize(partitions);
+        executor.setQueueCapacity(partitions);
+        executor.setThreadNamePrefix("Vacation-Grant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new AsyncExceptionHandler();
@@ -0,0 +1,29 @@
+package com.porest.hr.common.config;
+
+import com.porest.hr.common.cache.TwoLevelCacheManager;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 캐시 설정
+ * 기준 정보 조회에 2단계 캐시(Caffeine L1 + Redis L2)를 사용한다.
+ * 캐시 인터셉터를 트랜잭션 인터셉터보다 바깥에 두어 캐시 적중 시 트랜잭션(DB 커넥션)을 열지 않는다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(TwoLevelCacheProperties twoLevelCacheProperties,
+                                             RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(twoLevelCacheProperties, connectionFactory, stringRedisTemplate, meterRegistry);
+    }
+}
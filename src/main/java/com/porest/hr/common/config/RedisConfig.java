@@ -1,5 +1,9 @@
 package com.porest.hr.common.config;
 
+import com.porest.hr.common.cache.TwoLevelCacheManager;
+import com.porest.hr.common.config.properties.IpBlacklistProperties;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import com.porest.hr.common.event.IpBlacklistEventSubscriber;
 import com.porest.hr.common.event.SsoUserEventSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +15,9 @@ import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 
 /**
  * Redis 설정
- * SSO 서비스로부터 사용자 이벤트 수신용
+ * - SSO 서비스로부터 사용자 이벤트 수신
+ * - 노드 간 IP 블랙리스트 이벤트 공유
+ * - 노드 간 캐시 무효화 메시지 공유
  */
 @Configuration
 public class RedisConfig {
@@ -33,14 +39,40 @@ public class RedisConfig {
         return new MessageListenerAdapter(subscriber, "handleUserEvent");
     }
 
+    @Bean
+    public ChannelTopic ipBlacklistEventTopic(IpBlacklistProperties ipBlacklistProperties) {
+        return new ChannelTopic(ipBlacklistProperties.getSync().getChannel());
+    }
+
+    @Bean
+    public MessageListenerAdapter ipBlacklistEventListenerAdapter(IpBlacklistEventSubscriber subscriber) {
+        return new MessageListenerAdapter(subscriber, "handleIpBlacklistEvent");
+    }
+
+    @Bean
+    public ChannelTopic cacheInvalidationTopic(TwoLevelCacheProperties twoLevelCacheProperties) {
+        return new ChannelTopic(twoLevelCacheProperties.getRedis().getChannel());
+    }
+
+    @Bean
+    public MessageListenerAdapter cacheInvalidationListenerAdapter(TwoLevelCacheManager cacheManager) {
+        return new MessageListenerAdapter(cacheManager, "handleInvalidation");
+    }
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             MessageListenerAdapter userEventListenerAdapter,
-            ChannelTopic userEventTopic) {
+            ChannelTopic userEventTopic,
+            MessageListenerAdapter ipBlacklistEventListenerAdapter,
+            ChannelTopic ipBlacklistEventTopic,
+            MessageListenerAdapter cacheInvalidationListenerAdapter,
+            ChannelTopic cacheInvalidationTopic) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(userEventListenerAdapter, userEventTopic);
+        container.addMessageListener(ipBlacklistEventListenerAdapter, ipBlacklistEventTopic);
+        container.addMessageListener(cacheInvalidationListenerAdapter, cacheInvalidationTopic);
         return container;
     }
 }
@@ -0,0 +1,59 @@
+package com.porest.hr.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * IP 블랙리스트 HR 전용 설정
+ * enabled, file-path 는 porest-core {@code SecurityProperties} 에서 관리하고,
+ * 여기서는 파일 감시(hot reload), 노드 간 런타임 블랙리스트 공유, 자동 차단 설정만 다룬다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.ip-blacklist")
+public class IpBlacklistProperties {
+    private Watch watch = new Watch();
+    private Sync sync = new Sync();
+    private AutoBan autoBan = new AutoBan();
+
+    @Getter
+    @Setter
+    public static class Watch {
+        private boolean enabled = true;
+        // 연속된 파일 이벤트를 모아서 한 번만 다시 로드하기 위한 대기 시간 (ms)
+        private long debounce = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Sync {
+        private boolean enabled = true;
+        private String key = "porest:hr:ip-blacklist:bans";
+        private String channel = "porest:hr:ip-blacklist:events";
+    }
+
+    @Getter
+    @Setter
+    public static class AutoBan {
+        private boolean enabled = true;
+        // 슬라이딩 윈도우 길이 (ms)
+        private long window = 60000;
+        // 윈도우를 나누는 시간 버킷 수
+        private int buckets = 12;
+        // 윈도우 안 누적 점수가 이 값 이상이면 차단
+        private long threshold = 100;
+        // 악성 패턴 요청 1건당 점수
+        private long patternHitWeight = 5;
+        // 401 응답 집계 여부 (NAT 뒤 사용자들이 함께 차단될 수 있어 기본은 끔)
+        private boolean authFailureEnabled = false;
+        // 401 응답 1건당 점수
+        private long authFailureWeight = 1;
+        // 자동 차단 유지 시간 (ms)
+        private long banTtl = 3600000;
+        // 추적할 최대 IP 수 (초과 시 새 IP 는 추적하지 않음)
+        private int maxTrackedIps = 100000;
+    }
+}
@@ -0,0 +1,31 @@
+package com.porest.hr.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 작업 리스 설정
+ * 여러 노드에서 같은 시각에 도는 {@code @Scheduled} 작업을 한 노드만 실행하도록 작업별 리스를 잡는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduler.lease")
+public class JobLeaseProperties {
+    // false 면 리스 없이 모든 노드에서 실행 (단일 노드 배포용)
+    private boolean enabled = true;
+    // 리스 저장소 (REDIS 는 Redis 장애 시 JDBC 로 대체)
+    private Store store = Store.REDIS;
+    private String keyPrefix = "porest:hr:lease:";
+    // 리스 유효 시간 (ms) — 노드가 죽으면 이 시간이 지나야 다른 노드가 잡을 수 있음
+    private long ttl = 600000;
+    // 작업 실행 중 리스 연장 주기 (ms) — ttl 보다 충분히 짧아야 함
+    private long renewInterval = 180000;
+
+    public enum Store {
+        REDIS,
+        JDBC
+    }
+}
@@ -32,4 +32,44 @@ public class JwtProperties {
      * 기본값: 1시간 (3600000ms)
      */
     private long hrAccessExpiration = 3600000;
+
+    /**
+     * 검증된 토큰 캐시 설정
+     */
+    private VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    @Getter
+    @Setter
+    public static class VerifiedTokenCache {
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 보관 토큰 수
+         */
+        private long maximumSize = 10000;
+
+        /**
+         * 최대 보관 시간 (밀리초)
+         * 토큰 만료(exp)가 더 이르면 exp 까지만 보관한다
+         * 기본값: 5분 (300000ms)
+         */
+        private long ttl = 300000;
+    }
+
+    /**
+     * SSO 토큰 인증용 사용자 권한 캐시 설정
+     */
+    private UserAuthorityCache userAuthorityCache = new UserAuthorityCache();
+
+    @Getter
+    @Setter
+    public static class UserAuthorityCache {
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+    }
 }
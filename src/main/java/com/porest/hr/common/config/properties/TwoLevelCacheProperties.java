@@ -0,0 +1,53 @@
+package com.porest.hr.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정 (Caffeine L1 + Redis L2)
+ * 기준 정보(회사/시스템 코드, 휴가 정책, 업무 코드)와 근무일 달력을 캐시한다.
+ * 캐시별 TTL/최대 크기는 caches.{캐시 이름} 으로 덮어쓰고, 없으면 defaults 를 쓴다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.two-level")
+public class TwoLevelCacheProperties {
+    private boolean enabled = true;
+    private Redis redis = new Redis();
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * 캐시 이름별 설정 (없으면 기본값)
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시 설정
+     */
+    public Spec getSpec(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+        // false 면 노드 로컬 Caffeine 만 사용 (다른 노드의 캐시는 TTL 로만 만료)
+        private boolean enabled = true;
+        private String keyPrefix = "porest:hr:cache:";
+        private String channel = "porest:hr:cache:invalidations";
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        // L1, L2 공통 TTL (ms)
+        private long ttl = 600000;
+        // L1 최대 항목 수
+        private long maximumSize = 1000;
+    }
+}
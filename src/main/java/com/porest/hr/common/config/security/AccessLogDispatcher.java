@@ -0,0 +1,302 @@
+package com.porest.hr.common.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 액세스 로그 비동기 파이프라인
+ * 요청 스레드는 {@link #publish(AccessLogEvent)} 로 이벤트를 큐에 넣기만 하고 바로 반환한다.
+ * 백그라운드 drainer 스레드가 이벤트를 배치로 꺼내 포맷팅 후 SLF4J(콘솔/파일/Loki)로 출력한다.
+ *
+ * <p>큐는 lock-free({@link ConcurrentLinkedQueue} + 크기 카운터)이며 용량을 넘으면 이벤트를 버린다
+ * (Loki 가 느려져도 요청 지연에 영향을 주지 않기 위해). 적재/유실 건수와 큐 길이는
+ * {@code access_log.*} 지표로 노출된다.
+ *
+ * <p>로그는 기존과 동일하게 {@link RequestResponseLoggingFilter} 로거 이름으로 출력한다.
+ */
+@Slf4j
+@Component
+public class AccessLogDispatcher implements SmartLifecycle {
+
+    private static final Logger accessLog = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+
+    private static final String TRACE_ID_KEY = "requestId";
+    static final int QUEUE_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    private static final int MAX_BODY_LENGTH = 500;
+    private static final int MAX_USER_AGENT_LENGTH = 50;
+    private static final String BINARY_BODY_PLACEHOLDER = "[binary]";
+
+    /**
+     * 웹 서버 graceful shutdown(DEFAULT_PHASE - 2048) 보다 낮은 phase
+     * 종료는 phase 가 높은 순서이므로, 처리 중인 요청이 끝나 액세스 로그를 모두 넣은 뒤에 drainer 를 멈춘다.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final Queue<AccessLogEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final Counter queuedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private volatile Thread drainer;
+
+    public AccessLogDispatcher(MeterRegistry meterRegistry) {
+        this.queuedCounter = Counter.builder("access_log.events.queued")
+                .description("액세스 로그 큐 적재 건수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("access_log.events.dropped")
+                .description("큐가 가득 차 버려진 액세스 로그 건수")
+                .register(meterRegistry);
+        Gauge.builder("access_log.queue.size", queueSize, AtomicInteger::get)
+                .description("출력 대기 중인 액세스 로그 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 액세스 로그 이벤트 적재 (요청 스레드에서 호출, 블로킹 없음)
+     *
+     * @param event 액세스 로그 이벤트
+     * @return 적재 여부 (큐가 가득 차면 false)
+     */
+    public boolean publish(AccessLogEvent event) {
+        if (queueSize.incrementAndGet() > QUEUE_CAPACITY) {
+            queueSize.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.offer(event);
+        queuedCounter.increment();
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainer = Thread.ofPlatform()
+                .name("access-log-drainer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = drainer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 시 남은 이벤트 모두 출력
+        while (drainBatch() > 0) {
+            // continue draining
+        }
+    }
+
+    /**
+     * 큐에서 최대 BATCH_SIZE 건을 꺼내 출력
+     *
+     * @return 출력 건수
+     */
+    int drainBatch() {
+        int drained = 0;
+        AccessLogEvent event;
+        while (drained < BATCH_SIZE && (event = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            drained++;
+            write(event);
+        }
+        return drained;
+    }
+
+    /**
+     * 요청/응답 정보를 가독성 좋은 한 줄 포맷으로 로깅
+     * 포맷: [traceId] | status | time | METHOD URI | IP:ip | User:user | Agent:agent | Req:body | Res:body
+     * Body가 길 경우 요약본은 INFO/WARN/ERROR로, 전체 캡처본은 DEBUG로 별도 출력
+     */
+    private void write(AccessLogEvent event) {
+        MDC.put(TRACE_ID_KEY, event.getTraceId());
+        try {
+            String requestBody = getRequestBody(event);
+            String responseBody = getResponseBody(event);
+            String fullUri = event.getQueryString() != null
+                    ? event.getUri() + "?" + event.getQueryString()
+                    : event.getUri();
+
+            // Body 잘림 여부 확인
+            boolean requestBodyTruncated = requestBody != null && requestBody.length() > MAX_BODY_LENGTH;
+            boolean responseBodyTruncated = responseBody != null
+                    && (responseBody.length() > MAX_BODY_LENGTH || event.isResponseTruncated());
+
+            // 로그 메시지 구성
+            StringBuilder logMessage = new StringBuilder(256)
+                    .append('[').append(event.getTraceId()).append("] | ")
+                    .append(event.getStatus()).append(" | ")
+                    .append(padLeft(event.getExecutionTime(), 4)).append("ms | ")
+                    .append(event.getMethod()).append(' ').append(fullUri)
+                    .append(" | IP:").append(event.getClientIp() != null ? event.getClientIp() : "-")
+                    .append(" | User:").append(event.getUserId() != null ? event.getUserId() : "anonymous")
+                    .append(" | Agent:").append(event.getUserAgent() != null && !event.getUserAgent().isEmpty()
+                            ? truncate(event.getUserAgent(), MAX_USER_AGENT_LENGTH)
+                            : "-");
+
+            // Request Body (있는 경우만)
+            if (requestBody != null && !requestBody.isEmpty()) {
+                logMessage.append(" | Req:").append(truncate(requestBody, MAX_BODY_LENGTH));
+            }
+
+            // Response Body (있는 경우만)
+            if (responseBody != null && !responseBody.isEmpty()) {
+                logMessage.append(" | Res:").append(truncate(responseBody, MAX_BODY_LENGTH));
+            }
+
+            // 상태 코드에 따라 로그 레벨 분리
+            int status = event.getStatus();
+            if (status >= 500) {
+                accessLog.error("{}", logMessage);
+            } else if (status >= 400) {
+                accessLog.warn("{}", logMessage);
+            } else {
+                accessLog.info("{}", logMessage);
+            }
+
+            // Body가 잘린 경우 DEBUG 레벨로 캡처된 원본 출력
+            if (accessLog.isDebugEnabled()) {
+                if (requestBodyTruncated) {
+                    accessLog.debug("[{}] Full Request Body: {}", event.getTraceId(), sanitizeForLog(requestBody));
+                }
+                if (responseBodyTruncated) {
+                    accessLog.debug("[{}] Full Response Body: {}", event.getTraceId(), sanitizeForLog(responseBody));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to log request/response", e);
+        } finally {
+            MDC.remove(TRACE_ID_KEY);
+        }
+    }
+
+    private String getRequestBody(AccessLogEvent event) {
+        byte[] content = event.getRequestBody();
+        if (content == null || content.length == 0) {
+            return null;
+        }
+        // 비밀번호 등 민감한 정보 마스킹
+        return maskSensitiveData(new String(content, StandardCharsets.UTF_8));
+    }
+
+    private String getResponseBody(AccessLogEvent event) {
+        if (event.isResponseBinary()) {
+            return BINARY_BODY_PLACEHOLDER;
+        }
+        byte[] content = event.getResponseBody();
+        if (content == null || content.length == 0) {
+            return null;
+        }
+        return new String(content, event.getResponseCharset() != null
+                ? event.getResponseCharset()
+                : StandardCharsets.UTF_8);
+    }
+
+    private static String padLeft(long value, int width) {
+        String str = Long.toString(value);
+        return str.length() >= width ? str : " ".repeat(width - str.length()) + str;
+    }
+
+    /**
+     * 로그 출력을 위해 줄바꿈 제거
+     */
+    private String sanitizeForLog(String str) {
+        if (str == null) {
+            return null;
+        }
+        return str.replace("\n", " ").replace("\r", "");
+    }
+
+    /**
+     * 문자열을 최대 길이로 자르고 말줄임표 추가
+     */
+    private String truncate(String str, int maxLength) {
+        if (str == null) {
+            return null;
+        }
+        // 줄바꿈 제거하여 한 줄로 만듦
+        str = sanitizeForLog(str);
+        if (str.length() <= maxLength) {
+            return str;
+        }
+        return str.substring(0, maxLength) + "...";
+    }
+
+    /**
+     * 민감한 정보 마스킹 (비밀번호, 토큰, 시크릿 등)
+     */
+    private static final String[] SENSITIVE_JSON_FIELDS = {
+            "password", "user_pw", "pwd", "secret", "token",
+            "accessToken", "refreshToken", "apiKey", "apiSecret",
+            "client_secret", "authorization",
+            // 비밀번호 변경 필드 — DTO 는 snake_case(@JsonNaming) 이고, 프록시/변형 대비 camelCase 도 포함
+            "current_password", "new_password", "new_password_confirm",
+            "currentPassword", "newPassword", "confirmPassword", "newPasswordConfirm"
+    };
+
+    private String maskSensitiveData(String body) {
+        // 키 비교를 대소문자 무시로 수행하기 위한 가드용 소문자 사본(키 이름은 마스킹으로 사라지지 않으므로 1회 계산으로 충분).
+        String lower = body.toLowerCase(Locale.ROOT);
+        for (String field : SENSITIVE_JSON_FIELDS) {
+            if (lower.contains(field.toLowerCase(Locale.ROOT))) {
+                // JSON 형태: "fieldName": "value" (키 대소문자 무시, 키 자체는 $1 로 원본 보존)
+                body = body.replaceAll(
+                        "(?i)(\"" + field + "\"\\s*:\\s*\")([^\"]+)(\")",
+                        "$1***$3"
+                );
+                // Query parameter 형태: ?field=value 또는 &field=value (키 대소문자 무시)
+                body = body.replaceAll(
+                        "(?i)(&|\\?)" + field + "=([^&]+)",
+                        "$1" + field + "=***"
+                );
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,36 @@
+package com.porest.hr.common.config.security;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+
+/**
+ * 액세스 로그 이벤트
+ * 요청 스레드에서는 원본 값만 담아 {@link AccessLogDispatcher} 에 넘기고,
+ * 마스킹·자르기·포맷팅은 백그라운드 drainer 스레드에서 수행한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccessLogEvent {
+
+    private final String traceId;
+    private final int status;
+    private final long executionTime;
+    private final String method;
+    private final String uri;
+    private final String queryString;
+    private final String clientIp;
+    private final String userId;
+    private final String userAgent;
+
+    // Body 는 캡처된 원본 바이트 (요청 스레드에서 문자열 변환하지 않음)
+    private final byte[] requestBody;
+    private final byte[] responseBody;
+    private final Charset responseCharset;
+    private final boolean responseBinary;
+    private final boolean responseTruncated;
+}
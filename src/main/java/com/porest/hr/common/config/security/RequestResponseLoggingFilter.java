@@ -5,6 +5,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.security.core.Authentication;
@@ -12,30 +13,26 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.UUID;
 
 /**
  * 모든 HTTP 요청/응답에 대한 포괄적인 로깅을 수행하는 필터
  * - Trace ID (UUID) 생성 및 MDC 설정
- * - Request/Response Body 캡처
+ * - Request/Response Body 캡처 (응답은 스트리밍하면서 앞부분만 캡처, 바이너리/첨부파일은 제외)
  * - 실행 시간 측정
  * - User ID, Client IP, User-Agent 수집
- * - 가독성 좋은 한 줄 포맷으로 로그 출력
+ * - 수집한 값은 {@link AccessLogDispatcher} 에 넘기고, 포맷팅/출력은 백그라운드 스레드에서 수행
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
 
     private static final String TRACE_ID_KEY = "requestId";
-    private static final int MAX_BODY_LENGTH = 500;
-    private static final int MAX_USER_AGENT_LENGTH = 50;
     private static final int CONTENT_CACHE_LIMIT = 10 * 1024; // 10KB
     private static final List<String> EXCLUDED_PATHS = Arrays.asList(
             "/actuator/health",
@@ -43,6 +40,8 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
             "/favicon.ico"
     );
 
+    private final AccessLogDispatcher accessLogDispatcher;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -58,9 +57,10 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         String traceId = generateTraceId();
         MDC.put(TRACE_ID_KEY, traceId);
 
-        // Request/Response Body를 여러 번 읽을 수 있도록 래핑
+        // Request Body를 여러 번 읽을 수 있도록 래핑
         ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request, CONTENT_CACHE_LIMIT);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        // Response Body는 버퍼링하지 않고 클라이언트로 바로 스트리밍하며 앞부분만 캡처
+        TeeResponseWrapper wrappedResponse = new TeeResponseWrapper(response, CONTENT_CACHE_LIMIT);
 
         long startTime = System.currentTimeMillis();
 
@@ -70,11 +70,11 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         } finally {
             long executionTime = System.currentTimeMillis() - startTime;
 
-            // 로그 출력
-            logRequestResponse(wrappedRequest, wrappedResponse, traceId, executionTime);
+            // getWriter()로 쓴 응답이 내부 버퍼에 남지 않도록 flush
+            wrappedResponse.flushWriter();
 
-            // Response Body를 실제 응답으로 복사 (중요!)
-            wrappedResponse.copyBodyToResponse();
+            // 액세스 로그 이벤트 적재 (포맷팅/출력은 비동기)
+            publishAccessLog(wrappedRequest, wrappedResponse, traceId, executionTime);
 
             // MDC 정리
             MDC.clear();
@@ -95,146 +95,35 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 요청/응답 정보를 가독성 좋은 한 줄 포맷으로 로깅
-     * 포맷: [traceId] | status | time | METHOD URI | IP:ip | User:user | Agent:agent | Req:body | Res:body
-     * Body가 길 경우 요약본은 INFO/WARN/ERROR로, 전체 원본은 DEBUG로 별도 출력
+     * 요청 스레드에서만 얻을 수 있는 값(사용자, IP, 캡처된 Body)을 모아 이벤트로 적재
+     * 문자열 변환·마스킹·포맷팅은 {@link AccessLogDispatcher} 가 백그라운드에서 수행한다.
      */
-    private void logRequestResponse(ContentCachingRequestWrapper request,
-                                     ContentCachingResponseWrapper response,
-                                     String traceId,
-                                     long executionTime) {
+    private void publishAccessLog(ContentCachingRequestWrapper request,
+                                  TeeResponseWrapper response,
+                                  String traceId,
+                                  long executionTime) {
         try {
-            int status = response.getStatus();
-            String method = request.getMethod();
-            String uri = request.getRequestURI();
-            String queryString = request.getQueryString();
-            String clientIp = HttpUtils.getClientIp();
-            String userId = getCurrentUserId();
-            String userAgent = getUserAgent(request);
-            String requestBody = getRequestBody(request);
-            String responseBody = getResponseBody(response);
-
-            // URI에 쿼리스트링 포함
-            String fullUri = queryString != null ? uri + "?" + queryString : uri;
-
-            // Body 잘림 여부 확인
-            boolean requestBodyTruncated = requestBody != null && requestBody.length() > MAX_BODY_LENGTH;
-            boolean responseBodyTruncated = responseBody != null && responseBody.length() > MAX_BODY_LENGTH;
-
-            // 로그 메시지 구성
-            StringBuilder logMessage = new StringBuilder();
-            logMessage.append(String.format("[%s] | %d | %4dms | %s %s",
-                    traceId, status, executionTime, method, fullUri));
-
-            // IP 정보
-            logMessage.append(" | IP:").append(clientIp != null ? clientIp : "-");
-
-            // 사용자 정보
-            logMessage.append(" | User:").append(userId != null ? userId : "anonymous");
-
-            // User-Agent 정보
-            logMessage.append(" | Agent:").append(userAgent != null ? userAgent : "-");
-
-            // Request Body (있는 경우만)
-            if (requestBody != null && !requestBody.isEmpty()) {
-                logMessage.append(" | Req:").append(truncate(requestBody, MAX_BODY_LENGTH));
-            }
-
-            // Response Body (있는 경우만)
-            if (responseBody != null && !responseBody.isEmpty()) {
-                logMessage.append(" | Res:").append(truncate(responseBody, MAX_BODY_LENGTH));
-            }
-
-            // 상태 코드에 따라 로그 레벨 분리
-            if (status >= 500) {
-                log.error("{}", logMessage);
-            } else if (status >= 400) {
-                log.warn("{}", logMessage);
-            } else {
-                log.info("{}", logMessage);
-            }
-
-            // Body가 잘린 경우 DEBUG 레벨로 전체 원본 출력
-            if (requestBodyTruncated || responseBodyTruncated) {
-                logFullBody(traceId, requestBody, responseBody, requestBodyTruncated, responseBodyTruncated);
-            }
-
+            AccessLogEvent event = AccessLogEvent.builder()
+                    .traceId(traceId)
+                    .status(response.getStatus())
+                    .executionTime(executionTime)
+                    .method(request.getMethod())
+                    .uri(request.getRequestURI())
+                    .queryString(request.getQueryString())
+                    .clientIp(HttpUtils.getClientIp())
+                    .userId(getCurrentUserId())
+                    .userAgent(request.getHeader("User-Agent"))
+                    .requestBody(request.getContentAsByteArray())
+                    .responseBody(response.getCapturedBytes())
+                    .responseCharset(response.getCapturedCharset())
+                    .responseBinary(response.isCaptureSkipped())
+                    .responseTruncated(response.isCaptureTruncated())
+                    .build();
+
+            accessLogDispatcher.publish(event);
         } catch (Exception e) {
-            log.error("Failed to log request/response", e);
-        }
-    }
-
-    /**
-     * 잘린 Body의 전체 원본을 DEBUG 레벨로 출력
-     */
-    private void logFullBody(String traceId, String requestBody, String responseBody,
-                              boolean requestBodyTruncated, boolean responseBodyTruncated) {
-        if (requestBodyTruncated && requestBody != null) {
-            log.debug("[{}] Full Request Body: {}", traceId, sanitizeForLog(requestBody));
-        }
-        if (responseBodyTruncated && responseBody != null) {
-            log.debug("[{}] Full Response Body: {}", traceId, sanitizeForLog(responseBody));
-        }
-    }
-
-    /**
-     * 로그 출력을 위해 줄바꿈 제거
-     */
-    private String sanitizeForLog(String str) {
-        if (str == null) {
-            return null;
-        }
-        return str.replace("\n", " ").replace("\r", "");
-    }
-
-    /**
-     * User-Agent 헤더 추출 (길이 제한 적용)
-     */
-    private String getUserAgent(HttpServletRequest request) {
-        String userAgent = request.getHeader("User-Agent");
-        if (userAgent != null && !userAgent.isEmpty()) {
-            return truncate(userAgent, MAX_USER_AGENT_LENGTH);
+            log.error("Failed to publish access log", e);
         }
-        return null;
-    }
-
-    /**
-     * 문자열을 최대 길이로 자르고 말줄임표 추가
-     */
-    private String truncate(String str, int maxLength) {
-        if (str == null) {
-            return null;
-        }
-        // 줄바꿈 제거하여 한 줄로 만듦
-        str = str.replace("\n", " ").replace("\r", "");
-        if (str.length() <= maxLength) {
-            return str;
-        }
-        return str.substring(0, maxLength) + "...";
-    }
-
-    /**
-     * Request Body 추출
-     */
-    private String getRequestBody(ContentCachingRequestWrapper request) {
-        byte[] content = request.getContentAsByteArray();
-        if (content.length > 0) {
-            String body = new String(content, StandardCharsets.UTF_8);
-            // 비밀번호 등 민감한 정보 마스킹 (선택적)
-            return maskSensitiveData(body);
-        }
-        return null;
-    }
-
-    /**
-     * Response Body 추출
-     */
-    private String getResponseBody(ContentCachingResponseWrapper response) {
-        byte[] content = response.getContentAsByteArray();
-        if (content.length > 0) {
-            return new String(content, StandardCharsets.UTF_8);
-        }
-        return null;
     }
 
     /**
@@ -252,36 +141,4 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         }
         return null;
     }
-
-    /**
-     * 민감한 정보 마스킹 (비밀번호, 토큰, 시크릿 등)
-     */
-    private static final String[] SENSITIVE_JSON_FIELDS = {
-            "password", "user_pw", "pwd", "secret", "token",
-            "accessToken", "refreshToken", "apiKey", "apiSecret",
-            "client_secret", "authorization",
-            // 비밀번호 변경 필드 — DTO 는 snake_case(@JsonNaming) 이고, 프록시/변형 대비 camelCase 도 포함
-            "current_password", "new_password", "new_password_confirm",
-            "currentPassword", "newPassword", "confirmPassword", "newPasswordConfirm"
-    };
-
-    private String maskSensitiveData(String body) {
-        // 키 비교를 대소문자 무시로 수행하기 위한 가드용 소문자 사본(키 이름은 마스킹으로 사라지지 않으므로 1회 계산으로 충분).
-        String lower = body.toLowerCase(Locale.ROOT);
-        for (String field : SENSITIVE_JSON_FIELDS) {
-            if (lower.contains(field.toLowerCase(Locale.ROOT))) {
-                // JSON 형태: "fieldName": "value" (키 대소문자 무시, 키 자체는 $1 로 원본 보존)
-                body = body.replaceAll(
-                        "(?i)(\"" + field + "\"\\s*:\\s*\")([^\"]+)(\")",
-                        "$1***$3"
-                );
-                // Query parameter 형태: ?field=value 또는 &field=value (키 대소문자 무시)
-                body = body.replaceAll(
-                        "(?i)(&|\\?)" + field + "=([^&]+)",
-                        "$1" + field + "=***"
-                );
-            }
-        }
-        return body;
-    }
 }
@@ -0,0 +1,265 @@
+package com.porest.hr.common.config.security;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 응답 본문을 클라이언트로 바로 흘려보내면서 앞부분만 로깅용으로 복사하는 Response 래퍼
+ * {@code ContentCachingResponseWrapper} 는 본문 전체를 힙에 모았다가 마지막에 복사하므로
+ * 엑셀 다운로드처럼 큰 응답은 파일 크기만큼 힙을 쓴다. 이 래퍼는 최대 {@code captureLimit} 바이트만 보관한다.
+ *
+ * <p>바이너리 Content-Type 이거나 첨부파일(Content-Disposition: attachment) 응답은 캡처하지 않는다.
+ * 캡처 여부는 첫 바이트가 쓰일 때(헤더가 확정된 시점) 한 번만 판단한다.
+ *
+ * <p>{@link #reset()}, {@link #resetBuffer()} 로 버린 본문은 캡처에서도 지우고, 캡처 여부는 다시 판단한다.
+ */
+public class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final List<String> TEXT_CONTENT_TYPES = List.of(
+            "application/json",
+            "application/problem+json",
+            "application/xml",
+            "application/x-www-form-urlencoded",
+            "text/"
+    );
+
+    private final int captureLimit;
+    private final ByteArrayOutputStream captured;
+    private TeeOutputStream outputStream;
+    private PrintWriter writer;
+    private Boolean captureEnabled;
+    private boolean captureTruncated;
+    // writer 에 남은 내용을 버리려고 flush 할 때 원본 스트림이 커밋되지 않도록 막는다
+    private boolean suppressFlush;
+
+    public TeeResponseWrapper(HttpServletResponse response, int captureLimit) {
+        super(response);
+        this.captureLimit = captureLimit;
+        this.captured = new ByteArrayOutputStream(Math.min(captureLimit, 1024));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+        return teeOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called on this response");
+            }
+            Charset charset = Charset.forName(getCharacterEncoding());
+            writer = new PrintWriter(new OutputStreamWriter(teeOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void reset() {
+        discardWriterBuffer();
+        super.reset();
+        // 헤더가 지워졌으므로 스트림/writer 를 다시 고를 수 있게 한다
+        writer = null;
+        outputStream = null;
+        clearCapture();
+    }
+
+    @Override
+    public void resetBuffer() {
+        discardWriterBuffer();
+        super.resetBuffer();
+        clearCapture();
+    }
+
+    /**
+     * getWriter() 로 쓴 내용 중 내부 버퍼에 남은 부분을 내보낸다
+     * 필터 종료 시 캡처 내용을 읽기 전에 호출해야 한다.
+     */
+    public void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 캡처된 본문 원본 바이트 (최대 captureLimit 바이트)
+     *
+     * @return 캡처된 바이트 (비어 있으면 길이 0)
+     */
+    public byte[] getCapturedBytes() {
+        return captured.toByteArray();
+    }
+
+    /**
+     * 캡처된 본문을 해석할 문자셋 (응답 문자셋, 알 수 없으면 UTF-8)
+     *
+     * @return 문자셋
+     */
+    public Charset getCapturedCharset() {
+        try {
+            return Charset.forName(getCharacterEncoding());
+        } catch (Exception e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * 본문이 캡처 한도를 넘어 잘렸는지 여부
+     *
+     * @return 잘렸으면 true
+     */
+    public boolean isCaptureTruncated() {
+        return captureTruncated;
+    }
+
+    /**
+     * 바이너리/첨부파일이라 캡처를 건너뛰었는지 여부
+     *
+     * @return 건너뛰었으면 true
+     */
+    public boolean isCaptureSkipped() {
+        return Boolean.FALSE.equals(captureEnabled);
+    }
+
+    private TeeOutputStream teeOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    // writer 인코더에 남은 문자를 원본 버퍼로 옮겨 둔다 (이어지는 reset 에서 함께 버려진다)
+    private void discardWriterBuffer() {
+        if (writer == null || isCommitted()) {
+            return;
+        }
+        suppressFlush = true;
+        try {
+            writer.flush();
+        } finally {
+            suppressFlush = false;
+        }
+    }
+
+    private void clearCapture() {
+        captured.reset();
+        captureTruncated = false;
+        captureEnabled = null;
+    }
+
+    private boolean shouldCapture() {
+        if (captureEnabled == null) {
+            captureEnabled = isLoggableContent();
+        }
+        return captureEnabled;
+    }
+
+    private boolean isLoggableContent() {
+        String disposition = getHeader(HttpHeaders.CONTENT_DISPOSITION);
+        if (disposition != null && disposition.toLowerCase(Locale.ROOT).startsWith("attachment")) {
+            return false;
+        }
+        String contentType = getContentType();
+        if (contentType == null) {
+            // Content-Type 없이 쓰는 응답(에러 페이지 등)은 텍스트로 간주
+            return true;
+        }
+        String lower = contentType.toLowerCase(Locale.ROOT);
+        return TEXT_CONTENT_TYPES.stream().anyMatch(lower::startsWith) || lower.contains("+json");
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (!shouldCapture()) {
+            return;
+        }
+        int remaining = captureLimit - captured.size();
+        if (remaining <= 0) {
+            captureTruncated = captureTruncated || length > 0;
+            return;
+        }
+        int toCopy = Math.min(remaining, length);
+        captured.write(bytes, offset, toCopy);
+        if (toCopy < length) {
+            captureTruncated = true;
+        }
+    }
+
+    private void captureByte(int b) {
+        if (!shouldCapture()) {
+            return;
+        }
+        if (captured.size() >= captureLimit) {
+            captureTruncated = true;
+            return;
+        }
+        captured.write(b);
+    }
+
+    /**
+     * 원본 스트림에 그대로 쓰면서 앞부분만 캡처하는 스트림
+     */
+    private class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            captureByte(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!suppressFlush) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
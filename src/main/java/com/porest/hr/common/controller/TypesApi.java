@@ -1,6 +1,5 @@
 package com.porest.hr.common.controller;
 
-import com.porest.core.controller.ApiResponse;
 import com.porest.hr.common.controller.dto.TypesDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -8,11 +7,10 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-import java.util.List;
-
 @Tag(name = "Types", description = "공통 타입 조회 API")
 public interface TypesApi {
 
@@ -34,6 +32,8 @@ public interface TypesApi {
                     - holiday-type: 휴일 유형
                     - origin-company-type: 출신 회사 유형
                     - system-type: 시스템 유형
+
+                    응답에 ETag 가 포함되며, If-None-Match 가 같으면 본문 없이 304 를 반환합니다.
                     """
     )
     @ApiResponses({
@@ -42,13 +42,17 @@ public interface TypesApi {
                     description = "타입 값 조회 성공",
                     content = @Content(schema = @Schema(implementation = TypesDto.class))
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match 일치)"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
                     description = "존재하지 않는 타입 이름"
             )
     })
     @GetMapping("/api/v1/types/{enumName}")
-    ApiResponse<List<TypesDto>> getEnumValues(
+    ResponseEntity<byte[]> getEnumValues(
             @Parameter(
                     description = "조회할 Enum 타입 이름",
                     example = "vacation-type",
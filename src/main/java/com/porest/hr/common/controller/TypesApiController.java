@@ -1,109 +1,73 @@
 package com.porest.hr.common.controller;
 
-import com.porest.core.controller.ApiResponse;
 import com.porest.core.exception.EntityNotFoundException;
 import com.porest.core.exception.ErrorCode;
-import com.porest.core.type.CountryCode;
-import com.porest.core.type.DisplayType;
 import com.porest.hr.common.controller.dto.TypesDto;
-import com.porest.hr.common.repository.CompanyCodeRepository;
-import com.porest.hr.common.repository.SystemCodeRepository;
-import com.porest.hr.holiday.type.HolidayType;
-import com.porest.hr.schedule.type.ScheduleType;
-import com.porest.hr.vacation.type.ApprovalStatus;
-import com.porest.hr.vacation.type.EffectiveType;
-import com.porest.hr.vacation.type.ExpirationType;
-import com.porest.hr.vacation.type.GrantMethod;
-import com.porest.hr.vacation.type.GrantStatus;
-import com.porest.hr.vacation.type.RepeatUnit;
-import com.porest.hr.vacation.type.VacationTimeType;
-import com.porest.hr.vacation.type.VacationType;
+import com.porest.hr.common.service.ReferenceCodeService;
+import com.porest.hr.common.service.dto.ReferenceCodeServiceDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 public class TypesApiController implements TypesApi {
-    private final MessageSource messageSource;
-    private final CompanyCodeRepository companyCodeRepository;
-    private final SystemCodeRepository systemCodeRepository;
-
-    // 단일 타입 매핑
-    private static final Map<String, Class<? extends DisplayType>> enumMap;
-
-    static {
-        enumMap = new HashMap<>();
-        enumMap.put("grant-method", GrantMethod.class);
-        enumMap.put("repeat-unit", RepeatUnit.class);
-        enumMap.put("vacation-time", VacationTimeType.class);
-        enumMap.put("vacation-type", VacationType.class);
-        enumMap.put("effective-type", EffectiveType.class);
-        enumMap.put("expiration-type", ExpirationType.class);
-        enumMap.put("approval-status", ApprovalStatus.class);
-        enumMap.put("grant-status", GrantStatus.class);
-        enumMap.put("schedule-type", ScheduleType.class);
-        enumMap.put("holiday-type", HolidayType.class);
-        enumMap.put("country-code", CountryCode.class);
-    }
+    private final TypesCatalog typesCatalog;
+    private final ReferenceCodeService referenceCodeService;
 
     @Override
-    public ApiResponse<List<TypesDto>> getEnumValues(String enumName) {
+    public ResponseEntity<byte[]> getEnumValues(String enumName) {
         String key = enumName.toLowerCase();
         Locale locale = LocaleContextHolder.getLocale();
 
         // DB 기반 타입 조회 (company-type, system-type)
         if ("company-type".equals(key)) {
-            List<TypesDto> companyTypes = companyCodeRepository.findAllActive().stream()
-                    .map(c -> TypesDto.builder()
-                            .code(c.getCode())
-                            .name(c.getName(locale))
-                            .orderSeq((long) c.getSortOrder())
-                            .build())
-                    .toList();
-            return ApiResponse.success(companyTypes);
+            return toResponse(typesCatalog.toEntry(toTypes(referenceCodeService.getCompanyCodes(), locale)));
         }
 
         if ("system-type".equals(key)) {
-            List<TypesDto> systemTypes = systemCodeRepository.findAllActive().stream()
-                    .map(s -> TypesDto.builder()
-                            .code(s.getCode())
-                            .name(s.getName(locale))
-                            .orderSeq((long) s.getSortOrder())
-                            .build())
-                    .toList();
-            return ApiResponse.success(systemTypes);
+            return toResponse(typesCatalog.toEntry(toTypes(referenceCodeService.getSystemCodes(), locale)));
         }
 
-        // 단일 enum 타입
-        Class<? extends DisplayType> enumClass = enumMap.get(key);
+        // 단일 enum 타입 (시작 시 만들어 둔 응답)
+        TypesCatalog.Entry entry = typesCatalog.getEnumValues(key, locale);
 
-        if (enumClass == null) {
+        if (entry == null) {
             throw new EntityNotFoundException(ErrorCode.UNSUPPORTED_TYPE);
         }
 
-        List<TypesDto> enumValues = Arrays.stream(enumClass.getEnumConstants())
-                .map(enumConstant -> TypesDto.builder()
-                        .code(((Enum<?>) enumConstant).name())
-                        .name(messageSource.getMessage(
-                                ((DisplayType) enumConstant).getMessageKey(),
-                                null,
-                                locale
-                        ))
-                        .orderSeq(((DisplayType) enumConstant).getOrderSeq())
-                        .build()
-                )
+        return toResponse(entry);
+    }
+
+    private List<TypesDto> toTypes(List<ReferenceCodeServiceDto> codes, Locale locale) {
+        return codes.stream()
+                .map(c -> TypesDto.builder()
+                        .code(c.getCode())
+                        .name(c.getName(locale))
+                        .orderSeq((long) c.getSortOrder())
+                        .build())
                 .toList();
+    }
 
-        return ApiResponse.success(enumValues);
+    /**
+     * ETag 가 요청의 If-None-Match 와 같으면 본문 없이 304 로 응답된다 (HttpEntityMethodProcessor)
+     * 응답이 언어별로 다르므로 Accept-Language 로 구분하고, 매 요청 재검증하도록 no-cache 를 준다.
+     */
+    private ResponseEntity<byte[]> toResponse(TypesCatalog.Entry entry) {
+        return ResponseEntity.ok()
+                .eTag(entry.eTag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
     }
 }
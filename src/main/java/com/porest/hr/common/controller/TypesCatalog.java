@@ -0,0 +1,123 @@
+package com.porest.hr.common.controller;
+
+import com.porest.core.controller.ApiResponse;
+import com.porest.core.type.CountryCode;
+import com.porest.core.type.DisplayType;
+import com.porest.hr.common.controller.dto.TypesDto;
+import com.porest.hr.holiday.type.HolidayType;
+import com.porest.hr.schedule.type.ScheduleType;
+import com.porest.hr.vacation.type.ApprovalStatus;
+import com.porest.hr.vacation.type.EffectiveType;
+import com.porest.hr.vacation.type.ExpirationType;
+import com.porest.hr.vacation.type.GrantMethod;
+import com.porest.hr.vacation.type.GrantStatus;
+import com.porest.hr.vacation.type.RepeatUnit;
+import com.porest.hr.vacation.type.VacationTimeType;
+import com.porest.hr.vacation.type.VacationType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 타입 조회 응답 카탈로그
+ * enum 타입 값과 표시 이름은 실행 중에 바뀌지 않으므로, 지원 언어별 응답(ApiResponse JSON)과 ETag 를
+ * 시작 시 한 번 만들어 두고 요청마다 그대로 내려준다.
+ *
+ * <p>지원 언어({@link #SUPPORTED_LOCALES}) 외의 언어는 기존처럼 요청 시 만든다 (Accept-Language 값이 임의이므로 저장하지 않음).
+ * 메시지 번들이 언어 단위(messages_ko, messages_en)라 ko-KR, en-US 등은 같은 언어의 응답을 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TypesCatalog {
+
+    static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.KOREAN, Locale.ENGLISH);
+
+    // 단일 타입 매핑
+    private static final Map<String, Class<? extends DisplayType>> ENUM_TYPES = Map.ofEntries(
+            Map.entry("grant-method", GrantMethod.class),
+            Map.entry("repeat-unit", RepeatUnit.class),
+            Map.entry("vacation-time", VacationTimeType.class),
+            Map.entry("vacation-type", VacationType.class),
+            Map.entry("effective-type", EffectiveType.class),
+            Map.entry("expiration-type", ExpirationType.class),
+            Map.entry("approval-status", ApprovalStatus.class),
+            Map.entry("grant-status", GrantStatus.class),
+            Map.entry("schedule-type", ScheduleType.class),
+            Map.entry("holiday-type", HolidayType.class),
+            Map.entry("country-code", CountryCode.class)
+    );
+
+    private final MessageSource messageSource;
+    private final JsonMapper jsonMapper;
+    private Map<String, Entry> catalog;
+
+    @PostConstruct
+    public void init() {
+        Map<String, Entry> entries = new HashMap<>();
+        for (Map.Entry<String, Class<? extends DisplayType>> type : ENUM_TYPES.entrySet()) {
+            for (Locale locale : SUPPORTED_LOCALES) {
+                entries.put(catalogKey(type.getKey(), locale), toEntry(toTypes(type.getValue(), locale)));
+            }
+        }
+        this.catalog = Map.copyOf(entries);
+        log.info("타입 카탈로그 생성 완료: types={}, locales={}", ENUM_TYPES.size(), SUPPORTED_LOCALES);
+    }
+
+    /**
+     * enum 타입 응답 조회
+     *
+     * @param enumName 타입 이름 (소문자)
+     * @param locale 요청 로케일
+     * @return 응답, 지원하지 않는 타입이면 null
+     */
+    public Entry getEnumValues(String enumName, Locale locale) {
+        Entry entry = catalog.get(catalogKey(enumName, locale));
+        if (entry != null) {
+            return entry;
+        }
+        Class<? extends DisplayType> enumClass = ENUM_TYPES.get(enumName);
+        return enumClass != null ? toEntry(toTypes(enumClass, locale)) : null;
+    }
+
+    /**
+     * 타입 목록을 응답으로 변환 (DB 기반 타입용)
+     *
+     * @param types 타입 목록
+     * @return 응답
+     */
+    public Entry toEntry(List<TypesDto> types) {
+        byte[] body = jsonMapper.writeValueAsBytes(ApiResponse.success(types));
+        return new Entry(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    private List<TypesDto> toTypes(Class<? extends DisplayType> enumClass, Locale locale) {
+        return Arrays.stream(enumClass.getEnumConstants())
+                .map(enumConstant -> TypesDto.builder()
+                        .code(((Enum<?>) enumConstant).name())
+                        .name(messageSource.getMessage(enumConstant.getMessageKey(), null, locale))
+                        .orderSeq(enumConstant.getOrderSeq())
+                        .build())
+                .toList();
+    }
+
+    private static String catalogKey(String enumName, Locale locale) {
+        return enumName + ":" + locale.getLanguage();
+    }
+
+    /**
+     * 직렬화된 응답 본문과 강한 ETag (본문 MD5)
+     */
+    public record Entry(byte[] body, String eTag) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.porest.hr.common.domain;
+
+import com.porest.core.type.YNType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 배치 작업 체크포인트<br>
+ * 작업/실행일별로 마지막으로 커밋된 청크의 키(row_id)와 처리 건수를 보관<br>
+ * 청크 처리 트랜잭션 안에서 함께 갱신되므로, 중단된 실행은 마지막 커밋 지점 다음부터 이어서 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // -> protected Order() {}와 동일한 의미 (롬복으로 생성자 막기)
+@Table(name = "job_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_checkpoint", columnNames = {"job_name", "run_date"}))
+public class JobCheckpoint extends AuditingFieldsWithIp {
+    /**
+     * 체크포인트 행 아이디<br>
+     * 테이블 관리용 seq
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "row_id")
+    private Long rowId;
+
+    /**
+     * 작업 이름
+     */
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    /**
+     * 실행일 (회사 기준 날짜)
+     */
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    /**
+     * 마지막으로 커밋된 청크의 마지막 키<br>
+     * null 이면 아직 처리한 청크가 없음
+     */
+    @Column(name = "last_row_id")
+    private Long lastRowId;
+
+    /**
+     * 성공 건수
+     */
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    /**
+     * 실패 건수
+     */
+    @Column(name = "fail_count", nullable = false)
+    private int failCount;
+
+    /**
+     * 스킵 건수
+     */
+    @Column(name = "skip_count", nullable = false)
+    private int skipCount;
+
+    /**
+     * 변경한 행 ID 목록 (감사용)<br>
+     * 청크마다 연속 구간으로 압축한 ID("1-500,502")를 이어 붙임, 변경 행을 기록하지 않는 작업은 null
+     */
+    @Lob
+    @Column(name = "affected_ids")
+    private String affectedIds;
+
+    /**
+     * 완료 여부
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "is_completed", nullable = false, length = 1)
+    private YNType isCompleted;
+
+    /**
+     * 체크포인트 생성 함수
+     *
+     * @return JobCheckpoint
+     */
+    public static JobCheckpoint createJobCheckpoint(String jobName, LocalDate runDate) {
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.runDate = runDate;
+        checkpoint.isCompleted = YNType.N;
+        return checkpoint;
+    }
+
+    /* 비즈니스 편의 메소드 */
+    /**
+     * 청크 처리 결과 반영
+     *
+     * @param lastRowId 청크의 마지막 키
+     * @param success 성공 건수
+     * @param fail 실패 건수
+     * @param skip 스킵 건수
+     */
+    public void advance(Long lastRowId, int success, int fail, int skip) {
+        this.lastRowId = lastRowId;
+        this.successCount += success;
+        this.failCount += fail;
+        this.skipCount += skip;
+    }
+
+    /**
+     * 청크에서 변경한 행 ID 구간 기록
+     *
+     * @param idRanges 연속 구간으로 압축한 ID 목록 (예: "1-500,502")
+     */
+    public void appendAffectedIds(String idRanges) {
+        if (idRanges == null || idRanges.isEmpty()) {
+            return;
+        }
+        this.affectedIds = affectedIds == null ? idRanges : affectedIds + "," + idRanges;
+    }
+
+    /**
+     * 작업 완료 처리
+     */
+    public void complete() {
+        this.isCompleted = YNType.Y;
+    }
+}
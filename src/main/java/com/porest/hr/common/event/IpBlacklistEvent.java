@@ -0,0 +1,28 @@
+package com.porest.hr.common.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * IP 블랙리스트 이벤트 DTO
+ * 한 노드에서 런타임 블랙리스트가 바뀌면 Redis Pub/Sub 으로 다른 노드에 전파
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IpBlacklistEvent {
+
+    private IpBlacklistEventType type;
+    private String ip;
+    // 차단 만료 시각 epoch millis (영구 차단이면 null)
+    private Long expiresAt;
+    // 발행 노드 ID (자기 자신이 보낸 이벤트는 무시)
+    private String origin;
+    private LocalDateTime timestamp;
+}
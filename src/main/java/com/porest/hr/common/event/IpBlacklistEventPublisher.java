@@ -0,0 +1,123 @@
+package com.porest.hr.common.event;
+
+import com.porest.hr.common.config.properties.IpBlacklistProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * IP 블랙리스트 이벤트 발행자
+ * 런타임 블랙리스트를 Redis Sorted Set(score = 만료 시각 epoch millis)에 저장하고
+ * 변경 내용을 Pub/Sub 으로 다른 노드에 알린다. 새로 뜬 노드는 시작 시 만료되지 않은 항목을 읽어온다.
+ *
+ * Redis 장애 시에도 요청 처리에는 영향이 없도록 예외는 로그만 남기고 삼킨다 (로컬 블랙리스트는 그대로 동작).
+ */
+@Slf4j
+@Component
+public class IpBlacklistEventPublisher {
+
+    // 영구 차단 score (Long.MAX_VALUE 는 double 로 저장했다가 long 으로 되돌려도 같은 값)
+    private static final double PERMANENT_SCORE = Long.MAX_VALUE;
+
+    private final StringRedisTemplate redisTemplate;
+    private final IpBlacklistProperties ipBlacklistProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이 노드의 ID (자기 자신이 발행한 이벤트 구분용)
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public IpBlacklistEventPublisher(StringRedisTemplate redisTemplate, IpBlacklistProperties ipBlacklistProperties) {
+        this.redisTemplate = redisTemplate;
+        this.ipBlacklistProperties = ipBlacklistProperties;
+        this.objectMapper = JsonMapper.builder().build();
+    }
+
+    /**
+     * IP 차단 공유
+     *
+     * @param ip        차단할 IP (정규화된 값)
+     * @param expiresAt 차단 만료 시각 epoch millis (영구 차단이면 null)
+     */
+    public void publishBlocked(String ip, Long expiresAt) {
+        publish(IpBlacklistEventType.IP_BLOCKED, ip, expiresAt);
+    }
+
+    /**
+     * IP 차단 해제 공유
+     *
+     * @param ip 차단 해제할 IP (정규화된 값)
+     */
+    public void publishUnblocked(String ip) {
+        publish(IpBlacklistEventType.IP_UNBLOCKED, ip, null);
+    }
+
+    /**
+     * 모든 노드가 공유하는 런타임 블랙리스트 조회 (만료된 항목은 정리)
+     *
+     * @return IP → 만료 시각 epoch millis (영구 차단은 Long.MAX_VALUE, 동기화 비활성화 또는 Redis 장애 시 빈 Map)
+     */
+    public Map<String, Long> findSharedBlacklist() {
+        IpBlacklistProperties.Sync sync = ipBlacklistProperties.getSync();
+        if (!sync.isEnabled()) {
+            return Map.of();
+        }
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(sync.getKey(), 0, now);
+            Set<ZSetOperations.TypedTuple<String>> members =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(sync.getKey(), now, PERMANENT_SCORE);
+            if (members == null) {
+                return Map.of();
+            }
+            Map<String, Long> result = new HashMap<>();
+            for (ZSetOperations.TypedTuple<String> member : members) {
+                if (member.getValue() != null && member.getScore() != null) {
+                    result.put(member.getValue(), member.getScore().longValue());
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("Failed to load shared IP blacklist from Redis: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void publish(IpBlacklistEventType type, String ip, Long expiresAt) {
+        IpBlacklistProperties.Sync sync = ipBlacklistProperties.getSync();
+        if (!sync.isEnabled()) {
+            return;
+        }
+        try {
+            if (type == IpBlacklistEventType.IP_BLOCKED) {
+                redisTemplate.opsForZSet().add(sync.getKey(), ip, expiresAt != null ? expiresAt : PERMANENT_SCORE);
+            } else {
+                redisTemplate.opsForZSet().remove(sync.getKey(), ip);
+            }
+
+            IpBlacklistEvent event = IpBlacklistEvent.builder()
+                    .type(type)
+                    .ip(ip)
+                    .expiresAt(expiresAt)
+                    .origin(nodeId)
+                    .timestamp(LocalDateTime.now())
+                    .build();
+            redisTemplate.convertAndSend(sync.getChannel(), objectMapper.writeValueAsString(event));
+            log.debug("Published IP blacklist event: type={}, ip={}", type, ip);
+        } catch (Exception e) {
+            log.warn("Failed to publish IP blacklist event: type={}, ip={}, reason={}", type, ip, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.porest.hr.common.event;
+
+import com.porest.hr.security.service.IpBlacklistService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * IP 블랙리스트 이벤트 구독자
+ * 다른 노드에서 런타임 블랙리스트가 바뀌면 이 노드의 로컬 블랙리스트에도 반영한다.
+ */
+@Slf4j
+@Component
+public class IpBlacklistEventSubscriber {
+
+    private final IpBlacklistService ipBlacklistService;
+    private final IpBlacklistEventPublisher ipBlacklistEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    public IpBlacklistEventSubscriber(IpBlacklistService ipBlacklistService,
+                                      IpBlacklistEventPublisher ipBlacklistEventPublisher) {
+        this.ipBlacklistService = ipBlacklistService;
+        this.ipBlacklistEventPublisher = ipBlacklistEventPublisher;
+        this.objectMapper = JsonMapper.builder().build();
+    }
+
+    /**
+     * IP 블랙리스트 이벤트 처리
+     * Redis MessageListenerAdapter에서 호출됨
+     */
+    public void handleIpBlacklistEvent(String message) {
+        log.debug("Received IP blacklist event: {}", message);
+
+        try {
+            IpBlacklistEvent event = objectMapper.readValue(message, IpBlacklistEvent.class);
+
+            // 자기 자신이 발행한 이벤트는 이미 반영되어 있음
+            if (ipBlacklistEventPublisher.getNodeId().equals(event.getOrigin())) {
+                return;
+            }
+            ipBlacklistService.applyRemoteEvent(event);
+        } catch (JacksonException e) {
+            log.error("Failed to parse IP blacklist event: {}", message, e);
+        } catch (Exception e) {
+            log.error("Failed to handle IP blacklist event: {}", message, e);
+        }
+    }
+}
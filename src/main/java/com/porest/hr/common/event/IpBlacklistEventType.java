@@ -0,0 +1,9 @@
+package com.porest.hr.common.event;
+
+/**
+ * IP 블랙리스트 이벤트 타입
+ */
+public enum IpBlacklistEventType {
+    IP_BLOCKED,
+    IP_UNBLOCKED
+}
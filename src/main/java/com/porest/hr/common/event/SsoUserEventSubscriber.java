@@ -3,6 +3,7 @@ package com.porest.hr.common.event;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
+import com.porest.hr.security.service.UserAuthorityCache;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -20,16 +21,19 @@ import java.util.Optional;
  *   (HR 관리자가 회사, 근무시간 등 HR 필수 정보와 함께 사용자를 생성해야 함)
  * - USER_UPDATED: 기존 사용자의 SSO 관리 필드(name, email) 동기화
  * - USER_DELETED: 기존 사용자 Soft Delete
+ * 수정/삭제 시 SSO 토큰 인증용 사용자 권한 캐시도 무효화
  */
 @Slf4j
 @Component
 public class SsoUserEventSubscriber {
 
     private final UserRepository userRepository;
+    private final UserAuthorityCache userAuthorityCache;
     private final ObjectMapper objectMapper;
 
-    public SsoUserEventSubscriber(UserRepository userRepository) {
+    public SsoUserEventSubscriber(UserRepository userRepository, UserAuthorityCache userAuthorityCache) {
         this.userRepository = userRepository;
+        this.userAuthorityCache = userAuthorityCache;
         this.objectMapper = JsonMapper.builder().build();
     }
 
@@ -110,6 +114,7 @@ public class SsoUserEventSubscriber {
 
         User user = userOpt.get();
         user.deleteUser();
+        userAuthorityCache.evict(user.getId());
         log.info("User deleted from SSO event: ssoUserRowId={}", event.getUserNo());
     }
 
@@ -117,6 +122,8 @@ public class SsoUserEventSubscriber {
      * SSO 관리 필드 동기화 (name, email)
      */
     private void syncSsoFields(User user, UserEvent event) {
+        // 변경 전 ID 기준으로 권한 캐시 무효화 (userId 가 바뀌는 경우 포함)
+        userAuthorityCache.evict(user.getId());
         user.updateUser(
                 event.getUserId(),
                 event.getName(),
@@ -131,5 +138,6 @@ public class SsoUserEventSubscriber {
                 null,  // dashboard - 변경하지 않음
                 null   // countryCode - 변경하지 않음
         );
+        userAuthorityCache.evict(user.getId());
     }
 }
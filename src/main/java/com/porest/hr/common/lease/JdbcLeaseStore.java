@@ -0,0 +1,62 @@
+package com.porest.hr.common.lease;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JDBC 작업 리스 (job_lease 테이블)
+ * 만료된 행을 조건부 UPDATE 로 가져오고, 행이 없으면 INSERT 한다. 동시에 INSERT 하면 PK 충돌로 한쪽만 성공한다.
+ * 각 문장은 트랜잭션 밖에서 자동 커밋되므로 작업 트랜잭션과 무관하게 바로 다른 노드에 보인다.
+ * 만료 시각은 노드마다 어긋날 수 있는 애플리케이션 시계 대신 DB 시계(NOW(6))로만 계산하고 비교한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcLeaseStore implements LeaseStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        long ttlMicros = toMicros(ttl);
+        int updated = jdbcTemplate.update(
+                "UPDATE job_lease SET owner = ?, expires_at = TIMESTAMPADD(MICROSECOND, ?, NOW(6)) " +
+                        "WHERE lease_name = ? AND expires_at < NOW(6)",
+                owner, ttlMicros, name);
+        if (updated == 1) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO job_lease (lease_name, owner, expires_at) " +
+                            "VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, NOW(6)))",
+                    name, owner, ttlMicros);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean renew(String name, String owner, Duration ttl) {
+        return jdbcTemplate.update(
+                "UPDATE job_lease SET expires_at = TIMESTAMPADD(MICROSECOND, ?, NOW(6)) WHERE lease_name = ? AND owner = ?",
+                toMicros(ttl), name, owner) == 1;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        jdbcTemplate.update("DELETE FROM job_lease WHERE lease_name = ? AND owner = ?", name, owner);
+    }
+
+    @Override
+    public String type() {
+        return "jdbc";
+    }
+
+    private static long toMicros(Duration ttl) {
+        return ttl.toNanos() / 1_000;
+    }
+}
@@ -0,0 +1,164 @@
+package com.porest.hr.common.lease;
+
+import com.porest.hr.common.config.properties.JobLeaseProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 배치 작업 리스 관리
+ * 여러 노드에서 같은 시각에 도는 {@code @Scheduled} 작업을 리스를 잡은 한 노드만 실행하고, 나머지 노드는 건너뛴다.
+ * 실행 중에는 TaskScheduler 에서 renewInterval 마다 리스를 연장하고, 끝나면 반환한다.
+ * 노드가 죽으면 연장이 멈추므로 ttl 이 지난 뒤 다른 노드가 잡을 수 있다.
+ *
+ * <p>Redis 에서 잡다가 오류가 나면 JDBC(job_lease) 로 대신 잡는다. 일부 노드만 Redis 에 닿지 않는 경우에는
+ * 두 저장소에서 각각 잡을 수 있으므로, 작업 자체도 체크포인트로 같은 날 재실행을 막는다.
+ *
+ * <p>지표: scheduler.lease.acquisitions (job, store, result=acquired|held|error),
+ * scheduler.lease.acquire (획득 시도 시간), scheduler.lease.renewals (job, store, result=renewed|lost|error)
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private final JobLeaseProperties properties;
+    private final RedisLeaseStore redisLeaseStore;
+    private final JdbcLeaseStore jdbcLeaseStore;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이 노드의 ID (리스 소유자 토큰 접두사)
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public JobLeaseManager(JobLeaseProperties properties,
+                           RedisLeaseStore redisLeaseStore,
+                           JdbcLeaseStore jdbcLeaseStore,
+                           TaskScheduler taskScheduler,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisLeaseStore = redisLeaseStore;
+        this.jdbcLeaseStore = jdbcLeaseStore;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 리스를 잡은 경우에만 작업 실행
+     *
+     * @param jobName 작업 이름 (리스 이름)
+     * @param job 실행할 작업
+     * @return 실행 여부 (다른 노드가 잡고 있거나 리스를 잡지 못하면 false)
+     */
+    public boolean runExclusively(String jobName, Runnable job) {
+        if (!properties.isEnabled()) {
+            job.run();
+            return true;
+        }
+
+        String owner = nodeId + "/" + UUID.randomUUID();
+        Duration ttl = getLeaseTtl();
+        LeaseStore store = acquire(jobName, owner, ttl);
+        if (store == null) {
+            return false;
+        }
+
+        Duration renewInterval = Duration.ofMillis(properties.getRenewInterval());
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(
+                () -> renew(store, jobName, owner, ttl), Instant.now().plus(renewInterval), renewInterval);
+        try {
+            job.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(store, jobName, owner);
+        }
+    }
+
+    /**
+     * 리스 유효 시간
+     * 죽은 노드의 리스는 이 시간이 지나야 풀리므로, 재기동 후 이어서 실행할 때 이만큼 기다린다.
+     *
+     * @return 리스 유효 시간 (리스를 쓰지 않으면 0)
+     */
+    public Duration getLeaseTtl() {
+        return properties.isEnabled() ? Duration.ofMillis(properties.getTtl()) : Duration.ZERO;
+    }
+
+    private LeaseStore acquire(String jobName, String owner, Duration ttl) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (properties.getStore() == JobLeaseProperties.Store.REDIS) {
+                try {
+                    return tryAcquire(redisLeaseStore, jobName, owner, ttl);
+                } catch (Exception e) {
+                    countAcquisition(jobName, redisLeaseStore, "error");
+                    log.warn("Failed to acquire job lease from Redis, falling back to JDBC: job={}, reason={}",
+                            jobName, e.getMessage());
+                }
+            }
+            try {
+                return tryAcquire(jdbcLeaseStore, jobName, owner, ttl);
+            } catch (Exception e) {
+                countAcquisition(jobName, jdbcLeaseStore, "error");
+                log.error("Failed to acquire job lease, skipping this run: job={}", jobName, e);
+                return null;
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("scheduler.lease.acquire", "job", jobName));
+        }
+    }
+
+    private LeaseStore tryAcquire(LeaseStore store, String jobName, String owner, Duration ttl) {
+        if (store.tryAcquire(jobName, owner, ttl)) {
+            countAcquisition(jobName, store, "acquired");
+            log.info("Job lease acquired: job={}, store={}, owner={}", jobName, store.type(), owner);
+            return store;
+        }
+        countAcquisition(jobName, store, "held");
+        log.info("Job lease held by another node, skipping this run: job={}, store={}", jobName, store.type());
+        return null;
+    }
+
+    private void renew(LeaseStore store, String jobName, String owner, Duration ttl) {
+        try {
+            if (store.renew(jobName, owner, ttl)) {
+                countRenewal(jobName, store, "renewed");
+                return;
+            }
+            countRenewal(jobName, store, "lost");
+            log.error("Job lease lost while running, another node may start the same job: job={}, store={}",
+                    jobName, store.type());
+        } catch (Exception e) {
+            countRenewal(jobName, store, "error");
+            log.warn("Failed to renew job lease: job={}, store={}, reason={}", jobName, store.type(), e.getMessage());
+        }
+    }
+
+    private void release(LeaseStore store, String jobName, String owner) {
+        try {
+            store.release(jobName, owner);
+        } catch (Exception e) {
+            // 반환하지 못해도 ttl 이 지나면 풀린다
+            log.warn("Failed to release job lease: job={}, store={}, reason={}", jobName, store.type(), e.getMessage());
+        }
+    }
+
+    private void countAcquisition(String jobName, LeaseStore store, String result) {
+        meterRegistry.counter("scheduler.lease.acquisitions", "job", jobName, "store", store.type(), "result", result)
+                .increment();
+    }
+
+    private void countRenewal(String jobName, LeaseStore store, String result) {
+        meterRegistry.counter("scheduler.lease.renewals", "job", jobName, "store", store.type(), "result", result)
+                .increment();
+    }
+}
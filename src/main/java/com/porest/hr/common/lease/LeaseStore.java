@@ -0,0 +1,42 @@
+package com.porest.hr.common.lease;
+
+import java.time.Duration;
+
+/**
+ * 작업 리스 저장소
+ * 리스는 이름별로 하나의 소유자(토큰)만 가지며, 유효 시간이 지나면 다른 소유자가 잡을 수 있다.
+ */
+public interface LeaseStore {
+    /**
+     * 리스 획득 시도
+     *
+     * @param name 리스 이름
+     * @param owner 소유자 토큰
+     * @param ttl 유효 시간
+     * @return 획득 여부 (다른 소유자가 잡고 있으면 false)
+     */
+    boolean tryAcquire(String name, String owner, Duration ttl);
+
+    /**
+     * 리스 연장 (소유자가 같을 때만)
+     *
+     * @param name 리스 이름
+     * @param owner 소유자 토큰
+     * @param ttl 연장할 유효 시간
+     * @return 연장 여부 (이미 만료되어 다른 소유자가 잡았으면 false)
+     */
+    boolean renew(String name, String owner, Duration ttl);
+
+    /**
+     * 리스 반환 (소유자가 같을 때만)
+     *
+     * @param name 리스 이름
+     * @param owner 소유자 토큰
+     */
+    void release(String name, String owner);
+
+    /**
+     * 지표 태그용 저장소 이름
+     */
+    String type();
+}
@@ -0,0 +1,54 @@
+package com.porest.hr.common.lease;
+
+import com.porest.hr.common.config.properties.JobLeaseProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 작업 리스
+ * SET NX PX 로 잡고, 연장/반환은 값이 자기 토큰일 때만 하도록 Lua 스크립트로 비교와 변경을 한 번에 한다.
+ */
+@Component
+public class RedisLeaseStore implements LeaseStore {
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisLeaseStore(StringRedisTemplate redisTemplate, JobLeaseProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = properties.getKeyPrefix();
+    }
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(keyPrefix + name, owner, ttl));
+    }
+
+    @Override
+    public boolean renew(String name, String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(keyPrefix + name), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + name), owner);
+    }
+
+    @Override
+    public String type() {
+        return "redis";
+    }
+}
@@ -0,0 +1,44 @@
+package com.porest.hr.common.repository;
+
+import com.porest.core.type.YNType;
+import com.porest.hr.common.domain.JobCheckpoint;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository("jobCheckpointJpaRepository")
+@RequiredArgsConstructor
+public class JobCheckpointJpaRepository implements JobCheckpointRepository {
+    private final EntityManager em;
+
+    @Override
+    public void save(JobCheckpoint checkpoint) {
+        em.persist(checkpoint);
+    }
+
+    @Override
+    public Optional<JobCheckpoint> findByJobNameAndRunDate(String jobName, LocalDate runDate) {
+        List<JobCheckpoint> result = em.createQuery(
+                        "SELECT j FROM JobCheckpoint j WHERE j.jobName = :jobName AND j.runDate = :runDate",
+                        JobCheckpoint.class)
+                .setParameter("jobName", jobName)
+                .setParameter("runDate", runDate)
+                .getResultList();
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
+    @Override
+    public List<JobCheckpoint> findIncompleteByRunDate(LocalDate runDate) {
+        return em.createQuery(
+                        "SELECT j FROM JobCheckpoint j WHERE j.runDate = :runDate AND j.isCompleted = :isCompleted " +
+                                "ORDER BY j.rowId ASC",
+                        JobCheckpoint.class)
+                .setParameter("runDate", runDate)
+                .setParameter("isCompleted", YNType.N)
+                .getResultList();
+    }
+}
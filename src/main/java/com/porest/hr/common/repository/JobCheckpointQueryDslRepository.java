@@ -0,0 +1,53 @@
+package com.porest.hr.common.repository;
+
+import com.porest.core.type.YNType;
+import com.porest.hr.common.domain.JobCheckpoint;
+import com.porest.hr.common.domain.QJobCheckpoint;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Primary
+@RequiredArgsConstructor
+public class JobCheckpointQueryDslRepository implements JobCheckpointRepository {
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    private final QJobCheckpoint jobCheckpoint = QJobCheckpoint.jobCheckpoint;
+
+    @Override
+    public void save(JobCheckpoint checkpoint) {
+        em.persist(checkpoint);
+    }
+
+    @Override
+    public Optional<JobCheckpoint> findByJobNameAndRunDate(String jobName, LocalDate runDate) {
+        JobCheckpoint result = queryFactory
+                .selectFrom(jobCheckpoint)
+                .where(
+                        jobCheckpoint.jobName.eq(jobName),
+                        jobCheckpoint.runDate.eq(runDate)
+                )
+                .fetchOne();
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public List<JobCheckpoint> findIncompleteByRunDate(LocalDate runDate) {
+        return queryFactory
+                .selectFrom(jobCheckpoint)
+                .where(
+                        jobCheckpoint.runDate.eq(runDate),
+                        jobCheckpoint.isCompleted.eq(YNType.N)
+                )
+                .orderBy(jobCheckpoint.rowId.asc())
+                .fetch();
+    }
+}
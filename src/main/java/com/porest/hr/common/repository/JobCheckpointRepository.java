@@ -0,0 +1,36 @@
+package com.porest.hr.common.repository;
+
+import com.porest.hr.common.domain.JobCheckpoint;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배치 작업 체크포인트 Repository
+ */
+public interface JobCheckpointRepository {
+    /**
+     * 체크포인트 저장
+     *
+     * @param checkpoint 저장할 체크포인트
+     */
+    void save(JobCheckpoint checkpoint);
+
+    /**
+     * 작업 이름과 실행일로 체크포인트 조회
+     *
+     * @param jobName 작업 이름
+     * @param runDate 실행일
+     * @return Optional&lt;JobCheckpoint&gt;
+     */
+    Optional<JobCheckpoint> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+
+    /**
+     * 실행일의 완료되지 않은 체크포인트 목록 조회
+     *
+     * @param runDate 실행일
+     * @return List&lt;JobCheckpoint&gt;
+     */
+    List<JobCheckpoint> findIncompleteByRunDate(LocalDate runDate);
+}
@@ -0,0 +1,21 @@
+package com.porest.hr.common.service;
+
+import com.porest.hr.common.service.dto.ReferenceCodeServiceDto;
+
+import java.util.List;
+
+/**
+ * 기준 코드 조회 Service
+ * 회사/시스템 타입 코드는 거의 바뀌지 않으므로 2단계 캐시를 거쳐 조회한다.
+ */
+public interface ReferenceCodeService {
+    /**
+     * 활성 상태의 모든 회사 타입 조회 (정렬 순서)
+     */
+    List<ReferenceCodeServiceDto> getCompanyCodes();
+
+    /**
+     * 활성 상태의 모든 시스템 타입 조회 (정렬 순서)
+     */
+    List<ReferenceCodeServiceDto> getSystemCodes();
+}
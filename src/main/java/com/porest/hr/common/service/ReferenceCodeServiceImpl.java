@@ -0,0 +1,50 @@
+package com.porest.hr.common.service;
+
+import com.porest.hr.common.cache.CacheNames;
+import com.porest.hr.common.repository.CompanyCodeRepository;
+import com.porest.hr.common.repository.SystemCodeRepository;
+import com.porest.hr.common.service.dto.ReferenceCodeServiceDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ReferenceCodeServiceImpl implements ReferenceCodeService {
+    private final CompanyCodeRepository companyCodeRepository;
+    private final SystemCodeRepository systemCodeRepository;
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.COMPANY_CODES, key = "'all'")
+    public List<ReferenceCodeServiceDto> getCompanyCodes() {
+        log.debug("회사 타입 코드 조회");
+        return companyCodeRepository.findAllActive().stream()
+                .map(c -> ReferenceCodeServiceDto.builder()
+                        .code(c.getCode())
+                        .nameKo(c.getNameKo())
+                        .nameEn(c.getNameEn())
+                        .sortOrder(c.getSortOrder())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.SYSTEM_CODES, key = "'all'")
+    public List<ReferenceCodeServiceDto> getSystemCodes() {
+        log.debug("시스템 타입 코드 조회");
+        return systemCodeRepository.findAllActive().stream()
+                .map(s -> ReferenceCodeServiceDto.builder()
+                        .code(s.getCode())
+                        .nameKo(s.getNameKo())
+                        .nameEn(s.getNameEn())
+                        .sortOrder(s.getSortOrder())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.porest.hr.common.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * 기준 코드 (회사 타입, 시스템 타입)
+ * 캐시에 보관되므로 엔티티 대신 변경되지 않는 값만 담는다.
+ */
+@Getter
+@Builder
+public class ReferenceCodeServiceDto implements Serializable {
+    private String code;
+    private String nameKo;
+    private String nameEn;
+    private Integer sortOrder;
+
+    /**
+     * Locale 기반 이름 반환
+     */
+    public String getName(Locale locale) {
+        return "ko".equals(locale.getLanguage()) ? nameKo : nameEn;
+    }
+}
@@ -2,6 +2,7 @@ package com.porest.hr.company.repository;
 
 import com.porest.hr.company.domain.Company;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -36,12 +37,11 @@ public class CompanyJpaRepository implements CompanyRepository {
     }
 
     @Override
-    public Optional<Company> findByIdWithDepartments(String id) {
+    public Optional<Company> findByRowIdForUpdate(Long rowId) {
         List<Company> result = em.createQuery(
-                "select distinct c from Company c " +
-                "left join fetch c.departments d " +
-                "where c.id = :id and (d.parent is null or d is null)", Company.class)
-                .setParameter("id", id)
+                        "select c from Company c where c.rowId = :rowId", Company.class)
+                .setParameter("rowId", rowId)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .getResultList();
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
@@ -3,6 +3,7 @@ package com.porest.hr.company.repository;
 import com.porest.hr.company.domain.Company;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
@@ -10,7 +11,6 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 import static com.porest.hr.company.domain.QCompany.company;
-import static com.porest.hr.department.domain.QDepartment.department;
 
 
 @Repository
@@ -43,15 +43,11 @@ public class CompanyQueryDslRepository implements CompanyRepository {
     }
 
     @Override
-    public Optional<Company> findByIdWithDepartments(String id) {
+    public Optional<Company> findByRowIdForUpdate(Long rowId) {
         return Optional.ofNullable(query
                 .selectFrom(company)
-                .leftJoin(company.departments, department).fetchJoin()
-                .where(
-                        company.id.eq(id),
-                        department.parent.isNull().or(department.isNull())
-                )
-                .distinct()
+                .where(company.rowId.eq(rowId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetchOne()
         );
     }
@@ -31,10 +31,11 @@ public interface CompanyRepository {
     Optional<Company> findById(String id);
 
     /**
-     * 단건 회사 조회 (최상위 부서 포함)
+     * 회사 행 ID로 조회 (비관적 쓰기 락)
+     * 트랜잭션 안에서 호출해야 한다.
      *
-     * @param id 회사 ID
+     * @param rowId 회사 행 ID
      * @return Optional&lt;Company&gt;
      */
-    Optional<Company> findByIdWithDepartments(String id);
+    Optional<Company> findByRowIdForUpdate(Long rowId);
 }
@@ -65,4 +65,15 @@ public interface CompanyService {
      * @throws com.porest.core.exception.EntityNotFoundException 회사가 존재하지 않거나 삭제된 경우
      */
     Company checkCompanyExists(String companyId);
+
+    /**
+     * 회사 존재 여부를 검증하고 회사 엔티티를 반환합니다. (비관적 쓰기 락)
+     * 회사 행을 트랜잭션 종료까지 잠가 같은 회사의 부서 계층 변경을 직렬화합니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param companyRowId 회사 행 ID
+     * @return 회사 엔티티
+     * @throws com.porest.core.exception.EntityNotFoundException 회사가 존재하지 않거나 삭제된 경우
+     */
+    Company checkCompanyExistsForUpdate(Long companyRowId);
 }
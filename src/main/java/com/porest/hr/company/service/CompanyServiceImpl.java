@@ -8,6 +8,7 @@ import com.porest.core.type.YNType;
 import com.porest.hr.company.domain.Company;
 import com.porest.hr.company.repository.CompanyRepository;
 import com.porest.hr.company.service.dto.CompanyServiceDto;
+import com.porest.hr.department.service.OrgTree;
 import com.porest.hr.department.service.dto.DepartmentServiceDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class CompanyServiceImpl implements CompanyService {
     private final CompanyRepository companyRepository;
+    private final OrgTree orgTree;
 
     @Override
     @Transactional
@@ -88,7 +90,7 @@ public class CompanyServiceImpl implements CompanyService {
     @Override
     public CompanyServiceDto searchCompanyWithDepartments(String id) {
         log.debug("회사 조회 (부서 포함): id={}", id);
-        Optional<Company> OCompany = companyRepository.findByIdWithDepartments(id);
+        Optional<Company> OCompany = companyRepository.findById(id);
         if (OCompany.isEmpty()) {
             log.warn("회사 조회 실패 - 존재하지 않는 회사: id={}", id);
             throw new EntityNotFoundException(HrErrorCode.COMPANY_NOT_FOUND);
@@ -96,11 +98,8 @@ public class CompanyServiceImpl implements CompanyService {
 
         Company company = OCompany.get();
 
-        // 최상위(parent가 null) 부서만 필터링, 각 부서 트리를 재귀로 DTO 변환
-        List<DepartmentServiceDto> departmentDtos = company.getDepartments().stream()
-                .filter(department -> department.getParent() == null && YNType.isN(department.getIsDeleted()))
-                .map(DepartmentServiceDto::fromEntityWithChildren)
-                .toList();
+        // 최상위(parent가 null) 부서별 트리를 조직도 스냅샷에서 DTO 변환
+        List<DepartmentServiceDto> departmentDtos = orgTree.snapshot().getCompanyTrees(company.getId());
 
         return CompanyServiceDto.builder()
                 .id(company.getId())
@@ -128,4 +127,14 @@ public class CompanyServiceImpl implements CompanyService {
         }
         return company.get();
     }
+
+    @Override
+    public Company checkCompanyExistsForUpdate(Long companyRowId) {
+        Optional<Company> company = companyRepository.findByRowIdForUpdate(companyRowId);
+        if ((company.isEmpty()) || YNType.isY(company.get().getIsDeleted())) {
+            log.warn("회사 조회 실패 - 존재하지 않거나 삭제된 회사: rowId={}", companyRowId);
+            throw new EntityNotFoundException(HrErrorCode.COMPANY_NOT_FOUND);
+        }
+        return company.get();
+    }
 }
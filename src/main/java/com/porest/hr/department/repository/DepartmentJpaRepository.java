@@ -5,16 +5,47 @@ import com.porest.hr.department.domain.Department;
 import com.porest.hr.department.domain.UserDepartment;
 import com.porest.hr.user.domain.User;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository("departmentJpaRepository")
 @RequiredArgsConstructor
 public class DepartmentJpaRepository implements DepartmentRepository {
+    // 사용자 메인 부서에서 최상위 부서까지 상위 부서 ID를 한 번에 조회 (가까운 상위 부서 순)
+    // 삭제된 부서를 만나면 더 올라가지 않으며, 계층이 순환하더라도 MAX_ANCESTOR_DEPTH 에서 멈춤
+    private static final String ANCESTOR_IDS_SQL =
+            "with recursive ancestors (row_id, parent_row_id, depth) as ( " +
+                    "select d.row_id, d.parent_row_id, 0 from department d " +
+                    "join user_department ud on ud.department_row_id = d.row_id " +
+                    "join users u on u.row_id = ud.user_row_id " +
+                    "where u.user_id = :userId and ud.main_department_yn = 'Y' and ud.is_deleted = 'N' " +
+                    "union all " +
+                    "select p.row_id, p.parent_row_id, a.depth + 1 from department p " +
+                    "join ancestors a on p.row_id = a.parent_row_id " +
+                    "where p.is_deleted = 'N' and a.depth < :maxDepth " +
+                    ") " +
+                    "select row_id from ancestors where depth > 0 order by depth";
+    // 부서 자신부터 최상위 부서까지 상위 부서 ID를 한 번에 조회 (자기 자신, 가까운 상위 부서 순, 조직 깊이만큼만 읽음)
+    private static final String DEPARTMENT_ANCESTOR_IDS_SQL =
+            "with recursive ancestors (row_id, parent_row_id, depth) as ( " +
+                    "select d.row_id, d.parent_row_id, 0 from department d " +
+                    "where d.row_id = :departmentId and d.is_deleted = 'N' " +
+                    "union all " +
+                    "select p.row_id, p.parent_row_id, a.depth + 1 from department p " +
+                    "join ancestors a on p.row_id = a.parent_row_id " +
+                    "where p.is_deleted = 'N' and a.depth < :maxDepth " +
+                    ") " +
+                    "select row_id from ancestors order by depth";
+    private static final int MAX_ANCESTOR_DEPTH = 100;
+
     private final EntityManager em;
 
     @Override
@@ -32,6 +63,17 @@ public class DepartmentJpaRepository implements DepartmentRepository {
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Override
+    public Optional<Department> findByIdForUpdate(Long id) {
+        List<Department> result = em.createQuery(
+                "select d from Department d where d.id = :id and d.isDeleted = :isDeleted", Department.class)
+                .setParameter("id", id)
+                .setParameter("isDeleted", YNType.N)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
     @Override
     public void saveUserDepartment(UserDepartment userDepartment) {
         em.persist(userDepartment);
@@ -104,42 +146,58 @@ public class DepartmentJpaRepository implements DepartmentRepository {
     }
 
     @Override
-    public List<Department> findApproversByUserId(String userId) {
-        List<UserDepartment> userDeptResult = em.createQuery(
-                "select ud from UserDepartment ud " +
-                "join fetch ud.department d " +
-                "where ud.user.id = :userId and ud.mainYN = :mainYN and ud.isDeleted = :isDeleted", UserDepartment.class)
-                .setParameter("userId", userId)
-                .setParameter("mainYN", YNType.Y)
+    public List<Department> findAllActiveDepartments() {
+        return em.createQuery(
+                "select d from Department d " +
+                "left join fetch d.headUser " +
+                "left join fetch d.company " +
+                "where d.isDeleted = :isDeleted", Department.class)
                 .setParameter("isDeleted", YNType.N)
                 .getResultList();
+    }
 
-        if (userDeptResult.isEmpty()) {
+    @Override
+    public List<Department> findApproversByUserId(String userId) {
+        List<Long> ancestorIds = findAncestorIds(userId);
+        if (ancestorIds.isEmpty()) {
             return List.of();
         }
 
-        List<Department> approverDepartments = new ArrayList<>();
-        Department currentDept = userDeptResult.get(0).getDepartment();
-
-        while (currentDept != null && currentDept.getParentId() != null) {
-            List<Department> parentResult = em.createQuery(
-                    "select d from Department d where d.id = :id and d.isDeleted = :isDeleted", Department.class)
-                    .setParameter("id", currentDept.getParentId())
-                    .setParameter("isDeleted", YNType.N)
-                    .getResultList();
-
-            if (parentResult.isEmpty()) {
-                break;
-            }
-
-            Department parentDept = parentResult.get(0);
-            if (parentDept.getHeadUser() != null) {
-                approverDepartments.add(parentDept);
-            }
+        Map<Long, Department> departmentsById = em.createQuery(
+                "select d from Department d " +
+                "join fetch d.headUser " +
+                "where d.rowId in :rowIds", Department.class)
+                .setParameter("rowIds", ancestorIds)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(Department::getRowId, Function.identity()));
+
+        return ancestorIds.stream()
+                .map(departmentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-            currentDept = parentDept;
-        }
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> findAncestorIdsByDepartmentId(Long departmentId) {
+        List<Number> rowIds = em.createNativeQuery(DEPARTMENT_ANCESTOR_IDS_SQL)
+                .setParameter("departmentId", departmentId)
+                .setParameter("maxDepth", MAX_ANCESTOR_DEPTH)
+                .getResultList();
+        return rowIds.stream()
+                .map(Number::longValue)
+                .toList();
+    }
 
-        return approverDepartments;
+    @SuppressWarnings("unchecked")
+    private List<Long> findAncestorIds(String userId) {
+        List<Number> rowIds = em.createNativeQuery(ANCESTOR_IDS_SQL)
+                .setParameter("userId", userId)
+                .setParameter("maxDepth", MAX_ANCESTOR_DEPTH)
+                .getResultList();
+        return rowIds.stream()
+                .map(Number::longValue)
+                .toList();
     }
 }
@@ -7,14 +7,19 @@ import com.porest.hr.user.domain.User;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.porest.hr.company.domain.QCompany.company;
 import static com.porest.hr.department.domain.QDepartment.department;
 import static com.porest.hr.department.domain.QUserDepartment.userDepartment;
 import static com.porest.hr.user.domain.QUser.user;
@@ -23,6 +28,33 @@ import static com.porest.hr.user.domain.QUser.user;
 @Primary
 @RequiredArgsConstructor
 public class DepartmentQueryDslRepository implements DepartmentRepository {
+    // 사용자 메인 부서에서 최상위 부서까지 상위 부서 ID를 한 번에 조회 (가까운 상위 부서 순)
+    // 삭제된 부서를 만나면 더 올라가지 않으며, 계층이 순환하더라도 MAX_ANCESTOR_DEPTH 에서 멈춤
+    private static final String ANCESTOR_IDS_SQL =
+            "with recursive ancestors (row_id, parent_row_id, depth) as ( " +
+                    "select d.row_id, d.parent_row_id, 0 from department d " +
+                    "join user_department ud on ud.department_row_id = d.row_id " +
+                    "join users u on u.row_id = ud.user_row_id " +
+                    "where u.user_id = :userId and ud.main_department_yn = 'Y' and ud.is_deleted = 'N' " +
+                    "union all " +
+                    "select p.row_id, p.parent_row_id, a.depth + 1 from department p " +
+                    "join ancestors a on p.row_id = a.parent_row_id " +
+                    "where p.is_deleted = 'N' and a.depth < :maxDepth " +
+                    ") " +
+                    "select row_id from ancestors where depth > 0 order by depth";
+    // 부서 자신부터 최상위 부서까지 상위 부서 ID를 한 번에 조회 (자기 자신, 가까운 상위 부서 순, 조직 깊이만큼만 읽음)
+    private static final String DEPARTMENT_ANCESTOR_IDS_SQL =
+            "with recursive ancestors (row_id, parent_row_id, depth) as ( " +
+                    "select d.row_id, d.parent_row_id, 0 from department d " +
+                    "where d.row_id = :departmentId and d.is_deleted = 'N' " +
+                    "union all " +
+                    "select p.row_id, p.parent_row_id, a.depth + 1 from department p " +
+                    "join ancestors a on p.row_id = a.parent_row_id " +
+                    "where p.is_deleted = 'N' and a.depth < :maxDepth " +
+                    ") " +
+                    "select row_id from ancestors order by depth";
+    private static final int MAX_ANCESTOR_DEPTH = 100;
+
     private final EntityManager em;
     private final JPAQueryFactory query;
 
@@ -43,6 +75,19 @@ public class DepartmentQueryDslRepository implements DepartmentRepository {
         );
     }
 
+    @Override
+    public Optional<Department> findByIdForUpdate(Long id) {
+        return Optional.ofNullable(query
+                .selectFrom(department)
+                .where(
+                        department.rowId.eq(id),
+                        department.isDeleted.eq(YNType.N)
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne()
+        );
+    }
+
     @Override
     public void saveUserDepartment(UserDepartment userDepartment) {
         em.persist(userDepartment);
@@ -139,44 +184,59 @@ public class DepartmentQueryDslRepository implements DepartmentRepository {
     }
 
     @Override
-    public List<Department> findApproversByUserId(String userId) {
-        // 1. 사용자의 메인 부서 조회
-        UserDepartment userDept = query
-                .selectFrom(userDepartment)
-                .join(userDepartment.department, department).fetchJoin()
-                .where(
-                        userDepartment.user.id.eq(userId),
-                        userDepartment.mainYN.eq(YNType.Y),
-                        userDepartment.isDeleted.eq(YNType.N)
-                )
-                .fetchOne();
+    public List<Department> findAllActiveDepartments() {
+        return query
+                .selectFrom(department)
+                .leftJoin(department.headUser, user).fetchJoin()
+                .leftJoin(department.company, company).fetchJoin()
+                .where(department.isDeleted.eq(YNType.N))
+                .fetch();
+    }
 
-        if (userDept == null) {
+    @Override
+    public List<Department> findApproversByUserId(String userId) {
+        // 1. 상위 부서 ID 조회 (재귀 CTE 1회, 조직 깊이와 무관)
+        List<Long> ancestorIds = findAncestorIds(userId);
+        if (ancestorIds.isEmpty()) {
             return List.of();
         }
 
-        // 2. 상위 부서들을 재귀적으로 조회
-        List<Department> approverDepartments = new ArrayList<>();
-        Department currentDept = userDept.getDepartment();
-
-        // 현재 부서의 parent부터 시작하여 최상위 부서까지 조회
-        while (currentDept != null && currentDept.getParentId() != null) {
-            // parent 부서 조회
-            Department parentDept = query
-                    .selectFrom(department)
-                    .where(
-                            department.rowId.eq(currentDept.getParentId()),
-                            department.isDeleted.eq(YNType.N)
-                    )
-                    .fetchOne();
-
-            if (parentDept != null && parentDept.getHeadUser() != null) {
-                approverDepartments.add(parentDept);
-            }
-
-            currentDept = parentDept;
-        }
+        // 2. 부서장이 있는 상위 부서를 부서장과 함께 일괄 조회
+        Map<Long, Department> departmentsById = query
+                .selectFrom(department)
+                .join(department.headUser, user).fetchJoin()
+                .where(department.rowId.in(ancestorIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Department::getRowId, Function.identity()));
+
+        // 가까운 상위 부서 순서 유지
+        return ancestorIds.stream()
+                .map(departmentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> findAncestorIdsByDepartmentId(Long departmentId) {
+        List<Number> rowIds = em.createNativeQuery(DEPARTMENT_ANCESTOR_IDS_SQL)
+                .setParameter("departmentId", departmentId)
+                .setParameter("maxDepth", MAX_ANCESTOR_DEPTH)
+                .getResultList();
+        return rowIds.stream()
+                .map(Number::longValue)
+                .toList();
+    }
 
-        return approverDepartments;
+    @SuppressWarnings("unchecked")
+    private List<Long> findAncestorIds(String userId) {
+        List<Number> rowIds = em.createNativeQuery(ANCESTOR_IDS_SQL)
+                .setParameter("userId", userId)
+                .setParameter("maxDepth", MAX_ANCESTOR_DEPTH)
+                .getResultList();
+        return rowIds.stream()
+                .map(Number::longValue)
+                .toList();
     }
 }
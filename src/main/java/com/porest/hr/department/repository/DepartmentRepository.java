@@ -26,6 +26,15 @@ public interface DepartmentRepository {
      */
     Optional<Department> findById(Long id);
 
+    /**
+     * 부서 ID로 조회 (비관적 쓰기 락)
+     * 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param id 부서 ID
+     * @return Optional&lt;Department&gt;
+     */
+    Optional<Department> findByIdForUpdate(Long id);
+
     /**
      * 유저-부서 연결 저장
      *
@@ -83,10 +92,29 @@ public interface DepartmentRepository {
     List<Department> findByUserIds(List<String> userIds);
 
     /**
-     * 특정 유저의 승인권자 목록 조회 (상위 부서장들)
+     * 삭제되지 않은 전체 부서 조회 (조직도 스냅샷용, 부서장/회사 포함)
+     *
+     * @return List&lt;Department&gt;
+     */
+    List<Department> findAllActiveDepartments();
+
+    /**
+     * 특정 유저의 승인권자 목록 조회 (상위 부서장들)<br>
+     * 메인 부서의 상위 부서를 재귀 CTE 한 번으로 조회하고, 부서장이 있는 부서만 부서장과 함께 일괄 조회<br>
+     * 가까운 상위 부서부터 최상위 부서 순으로 반환
      *
      * @param userId 유저 ID
      * @return List&lt;Department&gt;
      */
     List<Department> findApproversByUserId(String userId);
+
+    /**
+     * 부서 자신부터 최상위 부서까지 상위 부서 ID 조회<br>
+     * 재귀 CTE 한 번으로 조직 깊이만큼만 읽으며, 삭제된 부서를 만나면 더 올라가지 않음<br>
+     * 자기 자신, 가까운 상위 부서, 최상위 부서 순으로 반환 (삭제되었거나 없는 부서면 빈 목록)
+     *
+     * @param departmentId 부서 ID
+     * @return List&lt;Long&gt;
+     */
+    List<Long> findAncestorIdsByDepartmentId(Long departmentId);
 }
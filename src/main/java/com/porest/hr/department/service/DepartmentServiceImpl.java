@@ -31,6 +31,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final CompanyService companyService;
     private final UserService userService;
+    private final OrgTree orgTree;
 
     @Override
     @Transactional
@@ -68,6 +69,7 @@ public class DepartmentServiceImpl implements DepartmentService {
                 company
         );
         departmentRepository.save(department);
+        orgTree.invalidate();
         log.info("부서 생성 완료: id={}, name={}", department.getRowId(), department.getName());
         return department.getRowId();
     }
@@ -76,11 +78,14 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Transactional
     public void edit(DepartmentServiceDto data) {
         log.debug("부서 수정 시작: id={}", data.getId());
-        Department department = checkDepartmentExists(data.getId());
+        Department department = checkDepartmentExistsForUpdate(data.getId());
 
         // 부모 부서 변경이 있는 경우 검증
         Department newParent = null;
         if (data.getParentId() != null) {
+            // 같은 회사의 계층 변경을 회사 행 락으로 직렬화해 동시 이동으로 순환이 생기지 않게 한다
+            // REPEATABLE READ 에서 아래 조회가 먼저 커밋된 이동을 보도록 일반 조회보다 먼저 잠근다
+            companyService.checkCompanyExistsForUpdate(department.getCompany().getRowId());
             newParent = checkDepartmentExists(data.getParentId());
 
             // 자기 자신을 부모로 설정하는 것 방지
@@ -90,7 +95,8 @@ public class DepartmentServiceImpl implements DepartmentService {
             }
 
             // 순환 참조 방지 (자신의 하위 부서를 부모로 설정하는 것 방지)
-            if (isDescendant(department, newParent)) {
+            // 새 부모에서 최상위 부서까지 올라가며 자신이 있는지 확인 (조직 깊이만큼만 조회)
+            if (departmentRepository.findAncestorIdsByDepartmentId(newParent.getRowId()).contains(department.getRowId())) {
                 log.warn("부서 수정 실패 - 순환 참조: id={}, parentId={}", data.getId(), data.getParentId());
                 throw new InvalidValueException(HrErrorCode.DEPARTMENT_CIRCULAR_REFERENCE);
             }
@@ -117,6 +123,7 @@ public class DepartmentServiceImpl implements DepartmentService {
                 data.getDesc(),
                 data.getColor()
         );
+        orgTree.invalidate();
         log.info("부서 수정 완료: id={}", data.getId());
     }
 
@@ -137,6 +144,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         // 논리 삭제 실행
         department.deleteDepartment();
+        orgTree.invalidate();
         log.info("부서 삭제 완료: departmentId={}", departmentId);
     }
 
@@ -160,8 +168,14 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Override
     public DepartmentServiceDto searchDepartmentByIdWithChildren(Long id) {
         log.debug("부서 조회 (하위 부서 포함): departmentId={}", id);
-        Department department = checkDepartmentExists(id);
-        return DepartmentServiceDto.fromEntityWithChildren(department);
+        DepartmentServiceDto tree = orgTree.snapshot().toTreeDto(id);
+        if (tree != null) {
+            return tree;
+        }
+
+        // 캐시된 스냅샷에 없으면 삭제/미존재 확인 후, 무효화가 아직 닿지 않은 것이므로 직접 만든 스냅샷으로 응답한다
+        checkDepartmentExists(id);
+        return orgTree.load().toTreeDto(id);
     }
 
     @Override
@@ -278,24 +292,12 @@ public class DepartmentServiceImpl implements DepartmentService {
         return department.get();
     }
 
-    /**
-     * 순환 참조 검사: targetDepartment가 currentDepartment의 하위 부서인지 확인
-     */
-    private boolean isDescendant(Department currentDepartment, Department targetDepartment) {
-        if (currentDepartment == null || targetDepartment == null) {
-            return false;
-        }
-
-        for (Department child : currentDepartment.getChildren()) {
-            if (YNType.isN(child.getIsDeleted())) {
-                if (child.getRowId().equals(targetDepartment.getRowId())) {
-                    return true;
-                }
-                if (isDescendant(child, targetDepartment)) {
-                    return true;
-                }
-            }
+    private Department checkDepartmentExistsForUpdate(Long departmentId) {
+        Optional<Department> department = departmentRepository.findByIdForUpdate(departmentId);
+        if ((department.isEmpty()) || YNType.isY(department.get().getIsDeleted())) {
+            log.warn("부서 조회 실패 - 존재하지 않거나 삭제된 부서: departmentId={}", departmentId);
+            throw new EntityNotFoundException(HrErrorCode.DEPARTMENT_NOT_FOUND);
         }
-        return false;
+        return department.get();
     }
 }
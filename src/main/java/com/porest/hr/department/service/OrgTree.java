@@ -0,0 +1,69 @@
+package com.porest.hr.department.service;
+
+import com.porest.hr.common.cache.CacheNames;
+import com.porest.hr.department.repository.DepartmentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부서 조직도
+ * 삭제되지 않은 부서 전체로 만든 {@link OrgTreeSnapshot} 을 하나의 키로 캐시해 두고 통째로 교체한다.
+ * 조직도 조회마다 부서 엔티티의 children 을 계층별로 지연 로딩해 트리를 다시 만들던 것을 대체한다.
+ *
+ * <p>스냅샷은 2단계 캐시({@link CacheNames#ORG_TREE})에 둔다. 노드 안에서 동시에 미스가 나도 캐시의 키 단위 계산으로
+ * 한 번만 다시 만든다. 부서 등록/수정/삭제 시 커밋 이후에 무효화하고, 무효화 메시지로 다른 노드의 스냅샷도 함께 지운다.
+ * 쓰기 트랜잭션 안에서 만든 스냅샷은 롤백될 수 있으므로 {@link #load()} 는 캐시에 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgTree {
+
+    private static final String KEY = "snapshot";
+
+    private final DepartmentRepository departmentRepository;
+    private final CacheManager cacheManager;
+    private Cache cache;
+
+    @PostConstruct
+    public void init() {
+        cache = cacheManager.getCache(CacheNames.ORG_TREE);
+    }
+
+    /**
+     * 현재 조직도 스냅샷 (조회용)
+     * 캐시에 없으면(무효화, TTL 만료) 다시 만들어 캐시한다.
+     *
+     * @return 조직도 스냅샷
+     */
+    public OrgTreeSnapshot snapshot() {
+        return cache.get(KEY, this::build);
+    }
+
+    /**
+     * 캐시하지 않는 새 스냅샷 생성
+     * 캐시된 스냅샷이 낡은 것을 확인한 조회처럼 현재 트랜잭션에서 본 부서가 필요한 경우 사용한다.
+     *
+     * @return 현재 트랜잭션에서 본 조직도 스냅샷
+     */
+    public OrgTreeSnapshot load() {
+        return OrgTreeSnapshot.of(departmentRepository.findAllActiveDepartments());
+    }
+
+    /**
+     * 스냅샷 무효화 (커밋 이후, 모든 노드)
+     */
+    public void invalidate() {
+        cache.evict(KEY);
+    }
+
+    private OrgTreeSnapshot build() {
+        OrgTreeSnapshot built = load();
+        log.debug("조직도 스냅샷 생성: departments={}", built.size());
+        return built;
+    }
+}
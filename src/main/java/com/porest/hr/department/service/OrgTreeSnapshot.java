@@ -0,0 +1,256 @@
+package com.porest.hr.department.service;
+
+import com.porest.hr.department.domain.Department;
+import com.porest.hr.department.service.dto.DepartmentServiceDto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부서 조직도 스냅샷 (불변)
+ * 삭제되지 않은 부서 전체를 부서 ID 인덱스 기반 배열(부모, 자식)로 만들고,
+ * 전위 순회 구간 번호(enter ~ exit)를 매겨 하위 부서 여부를 구간 비교 한 번으로 판단한다.
+ * 엔티티는 들고 있지 않으며 만든 뒤에는 바뀌지 않으므로 여러 스레드가 그대로 공유한다.
+ * 2단계 캐시(L2)에 JDK 직렬화로 저장하므로 Serializable 이다.
+ *
+ * <p>삭제된 부서 아래에 남아 있는 부서는 부모가 없는 것으로 보고 따로 번호를 매긴다 (회사 최상위 부서 목록에는 포함하지 않음).
+ * 데이터가 순환하더라도 방문한 부서는 다시 방문하지 않으므로 만들기와 조회 모두 끝난다.
+ */
+public final class OrgTreeSnapshot implements Serializable {
+
+    private static final int NONE = -1;
+
+    private final Map<Long, Integer> indexById;
+    private final Node[] nodes;
+    private final int[][] children;
+    private final int[] enters;
+    private final int[] exits;
+    private final Map<String, int[]> rootsByCompany;
+
+    private OrgTreeSnapshot(Map<Long, Integer> indexById, Node[] nodes, int[][] children, int[] enters, int[] exits,
+                            Map<String, int[]> rootsByCompany) {
+        this.indexById = indexById;
+        this.nodes = nodes;
+        this.children = children;
+        this.enters = enters;
+        this.exits = exits;
+        this.rootsByCompany = rootsByCompany;
+    }
+
+    /**
+     * 부서 목록으로 스냅샷 생성
+     *
+     * @param departments 삭제되지 않은 부서 목록 (부서장, 회사 포함)
+     * @return 조직도 스냅샷
+     */
+    public static OrgTreeSnapshot of(List<Department> departments) {
+        List<Department> sorted = departments.stream()
+                .sorted(Comparator.comparing(Department::getRowId))
+                .toList();
+        int size = sorted.size();
+
+        Map<Long, Integer> indexById = new HashMap<>(size * 2);
+        Node[] nodes = new Node[size];
+        for (int i = 0; i < size; i++) {
+            Department department = sorted.get(i);
+            indexById.put(department.getRowId(), i);
+            nodes[i] = Node.from(department);
+        }
+
+        // 부모/자식 배열 (자식은 부서 ID 오름차순)
+        int[] parents = new int[size];
+        int[] childCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            Long parentId = nodes[i].parentId();
+            Integer parentIndex = parentId != null ? indexById.get(parentId) : null;
+            parents[i] = parentIndex != null && parentIndex != i ? parentIndex : NONE;
+            if (parents[i] != NONE) {
+                childCounts[parents[i]]++;
+            }
+        }
+        int[][] children = new int[size][];
+        for (int i = 0; i < size; i++) {
+            children[i] = new int[childCounts[i]];
+            childCounts[i] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (parents[i] != NONE) {
+                children[parents[i]][childCounts[parents[i]]++] = i;
+            }
+        }
+
+        // 전위 순회 구간 번호: 부모가 없는 부서부터, 남은 부서(순환)는 그 다음에
+        int[] enters = new int[size];
+        int[] exits = new int[size];
+        int[] stack = new int[size];
+        int[] cursor = new int[size];
+        Arrays.fill(enters, NONE);
+        int counter = 0;
+        for (int i = 0; i < size; i++) {
+            if (parents[i] == NONE) {
+                counter = number(i, children, enters, exits, stack, cursor, counter);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (enters[i] == NONE) {
+                counter = number(i, children, enters, exits, stack, cursor, counter);
+            }
+        }
+
+        // 회사별 최상위 부서 (원래 부모가 없는 부서만)
+        Map<String, List<Integer>> roots = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (nodes[i].parentId() == null && nodes[i].companyId() != null) {
+                roots.computeIfAbsent(nodes[i].companyId(), key -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<String, int[]> rootsByCompany = new HashMap<>();
+        roots.forEach((companyId, indexes) ->
+                rootsByCompany.put(companyId, indexes.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new OrgTreeSnapshot(Map.copyOf(indexById), nodes, children, enters, exits,
+                Map.copyOf(rootsByCompany));
+    }
+
+    // 반복 DFS 로 start 의 하위 트리에 전위 순회 번호를 매기고 다음 번호를 반환
+    private static int number(int start, int[][] children, int[] enters, int[] exits,
+                              int[] stack, int[] cursor, int counter) {
+        int top = 0;
+        stack[top] = start;
+        cursor[top] = 0;
+        enters[start] = counter++;
+
+        while (top >= 0) {
+            int current = stack[top];
+            if (cursor[top] < children[current].length) {
+                int child = children[current][cursor[top]++];
+                if (enters[child] != NONE) {
+                    continue;
+                }
+                enters[child] = counter++;
+                top++;
+                stack[top] = child;
+                cursor[top] = 0;
+            } else {
+                exits[current] = counter - 1;
+                top--;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * 부서 수
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * 삭제되지 않은 부서인지 확인
+     *
+     * @param departmentId 부서 ID
+     * @return 스냅샷에 있으면 true
+     */
+    public boolean contains(Long departmentId) {
+        return departmentId != null && indexById.containsKey(departmentId);
+    }
+
+    /**
+     * 하위 부서 여부 확인 (O(1))
+     *
+     * @param ancestorId 상위 부서 ID
+     * @param departmentId 확인할 부서 ID
+     * @return departmentId 가 ancestorId 의 하위(자기 자신 제외)면 true
+     */
+    public boolean isDescendant(Long ancestorId, Long departmentId) {
+        Integer ancestor = index(ancestorId);
+        Integer target = index(departmentId);
+        if (ancestor == null || target == null || ancestor.equals(target)) {
+            return false;
+        }
+        return enters[ancestor] < enters[target] && enters[target] <= exits[ancestor];
+    }
+
+    /**
+     * 부서와 하위 부서 트리를 DTO 로 변환
+     *
+     * @param departmentId 부서 ID
+     * @return 하위 부서를 포함한 부서 정보 (없는 부서면 null)
+     */
+    public DepartmentServiceDto toTreeDto(Long departmentId) {
+        Integer index = index(departmentId);
+        return index != null ? toTreeDto(index) : null;
+    }
+
+    /**
+     * 회사의 최상위 부서 트리 목록
+     *
+     * @param companyId 회사 ID
+     * @return 최상위 부서별 하위 부서를 포함한 부서 정보 (부서 ID 오름차순)
+     */
+    public List<DepartmentServiceDto> getCompanyTrees(String companyId) {
+        int[] roots = rootsByCompany.get(companyId);
+        if (roots == null) {
+            return List.of();
+        }
+        return Arrays.stream(roots)
+                .mapToObj(this::toTreeDto)
+                .toList();
+    }
+
+    private DepartmentServiceDto toTreeDto(int index) {
+        Node node = nodes[index];
+        // 순환 데이터에서 구간 밖 자식(이미 다른 경로로 방문한 부서)은 다시 내려가지 않음
+        List<DepartmentServiceDto> childDtos = Arrays.stream(children[index])
+                .filter(child -> enters[index] < enters[child] && enters[child] <= exits[index])
+                .mapToObj(this::toTreeDto)
+                .toList();
+        return DepartmentServiceDto.builder()
+                .id(node.id())
+                .name(node.name())
+                .nameKR(node.nameKR())
+                .parentId(node.parentId())
+                .headUserId(node.headUserId())
+                .level(node.level())
+                .desc(node.desc())
+                .color(node.color())
+                .companyId(node.companyId())
+                .children(childDtos)
+                .build();
+    }
+
+    private Integer index(Long departmentId) {
+        return departmentId != null ? indexById.get(departmentId) : null;
+    }
+
+    /**
+     * 스냅샷에 담는 부서 정보 (엔티티를 담지 않는다)
+     */
+    private record Node(Long id, String name, String nameKR, Long parentId, String headUserId, Long level,
+                        String desc, String color, String companyId) implements Serializable {
+
+        static Node from(Department department) {
+            // parentId 는 읽기 전용 컬럼이므로 영속화 전 엔티티는 parent 객체로 확인
+            Long parentId = department.getParentId() != null
+                    ? department.getParentId()
+                    : department.getParent() != null ? department.getParent().getRowId() : null;
+            return new Node(
+                    department.getRowId(),
+                    department.getName(),
+                    department.getNameKR(),
+                    parentId,
+                    department.getHeadUser() != null ? department.getHeadUser().getId() : null,
+                    department.getLevel(),
+                    department.getDesc(),
+                    department.getColor(),
+                    department.getCompany() != null ? department.getCompany().getId() : null
+            );
+        }
+    }
+}
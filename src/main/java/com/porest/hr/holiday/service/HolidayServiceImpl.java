@@ -9,7 +9,6 @@ import com.porest.hr.holiday.domain.Holiday;
 import com.porest.hr.holiday.repository.HolidayRepository;
 import com.porest.hr.holiday.service.dto.HolidayServiceDto;
 import com.porest.hr.holiday.type.HolidayType;
-import com.github.usingsky.calendar.KoreanLunarCalendar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +24,7 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class HolidayServiceImpl implements HolidayService {
     private final HolidayRepository holidayRepository;
+    private final WorkingCalendar workingCalendar;
 
     @Override
     @Transactional
@@ -41,6 +41,7 @@ public class HolidayServiceImpl implements HolidayService {
                 data.getIcon()
         );
         holidayRepository.save(holiday);
+        evictWorkingCalendar(holiday);
         log.info("공휴일 등록 완료: holidayId={}, name={}", holiday.getRowId(), data.getName());
         return holiday.getRowId();
     }
@@ -74,6 +75,8 @@ public class HolidayServiceImpl implements HolidayService {
     public void editHoliday(HolidayServiceDto data) {
         log.debug("공휴일 수정 시작: holidayId={}", data.getId());
         Holiday findHoliday = checkHolidayExist(data.getId());
+        // 날짜/국가가 바뀌면 이전 연도와 새 연도 달력 모두 무효화
+        evictWorkingCalendar(findHoliday);
         findHoliday.updateHoliday(
                 data.getName(),
                 data.getDate(),
@@ -84,6 +87,7 @@ public class HolidayServiceImpl implements HolidayService {
                 data.getIsRecurring(),
                 data.getIcon()
         );
+        evictWorkingCalendar(findHoliday);
         log.info("공휴일 수정 완료: holidayId={}", data.getId());
     }
 
@@ -93,6 +97,7 @@ public class HolidayServiceImpl implements HolidayService {
         log.debug("공휴일 삭제 시작: holidayId={}", holidayId);
         Holiday findHoliday = checkHolidayExist(holidayId);
         holidayRepository.delete(findHoliday);
+        evictWorkingCalendar(findHoliday);
         log.info("공휴일 삭제 완료: holidayId={}", holidayId);
     }
 
@@ -176,27 +181,15 @@ public class HolidayServiceImpl implements HolidayService {
     }
 
     /**
-     * 음력 -> 양력 변환 (korean-lunar-calendar 라이브러리 사용)
+     * 음력 -> 양력 변환 (미리 계산한 변환표 조회)
      * @return 변환된 양력 날짜, 변환 실패 시 null
      */
     private LocalDate convertLunarToSolar(int year, int month, int day) {
-        KoreanLunarCalendar calendar = KoreanLunarCalendar.getInstance();
-        boolean isValid = calendar.setLunarDate(year, month, day, false);
-
-        if (!isValid) {
+        LocalDate solarDate = LunarCalendarTable.toSolar(year, month, day, false);
+        if (solarDate == null) {
             log.warn("음력 날짜 변환 실패 - 유효하지 않은 음력 날짜: {}-{}-{}", year, month, day);
-            return null;
-        }
-
-        String solarIsoFormat = calendar.getSolarIsoFormat(); // "yyyy-MM-dd" 형식
-
-        // 0000-00-00 같은 유효하지 않은 결과 체크
-        if (solarIsoFormat == null || solarIsoFormat.startsWith("0000")) {
-            log.warn("음력 날짜 변환 실패 - 유효하지 않은 결과: {}", solarIsoFormat);
-            return null;
         }
-
-        return LocalDate.parse(solarIsoFormat);
+        return solarDate;
     }
 
     @Override
@@ -234,8 +227,15 @@ public class HolidayServiceImpl implements HolidayService {
                 .collect(Collectors.toList());
 
         holidayRepository.saveAll(holidayEntities);
+        holidayEntities.forEach(this::evictWorkingCalendar);
         log.info("공휴일 일괄 저장 완료: count={}", holidayEntities.size());
 
         return holidayEntities.size();
     }
+
+    private void evictWorkingCalendar(Holiday holiday) {
+        if (holiday.getDate() != null) {
+            workingCalendar.evict(holiday.getCountryCode(), holiday.getDate().getYear());
+        }
+    }
 }
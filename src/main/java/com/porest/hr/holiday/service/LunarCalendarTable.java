@@ -0,0 +1,123 @@
+package com.porest.hr.holiday.service;
+
+import com.github.usingsky.calendar.KoreanLunarCalendar;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 음력 -> 양력 변환표
+ * 음력 날짜를 변환할 때마다 korean-lunar-calendar 로 계산하던 것을, 음력 연도별로 각 달 1일의 양력 날짜와
+ * 그 달의 일수를 한 번만 계산해 두고 이후에는 표 조회 + 날짜 덧셈으로 변환한다.
+ *
+ * <p>지원 범위({@value #MIN_YEAR} ~ {@value #MAX_YEAR})의 연도는 처음 조회될 때 만들어지고 이후 변경되지 않는다.
+ * 만들어진 연도의 조회는 락이 없고, 여러 스레드가 같은 연도를 동시에 처음 조회하면 각자 계산할 수 있지만
+ * 결과가 같으므로 어느 쪽이 저장돼도 상관없다.
+ * 라이브러리가 지원하지 않는 연도나 존재하지 않는 음력 날짜는 기존처럼 변환 실패(null)로 처리한다.
+ */
+public final class LunarCalendarTable {
+
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2100;
+
+    private static final AtomicReferenceArray<LunarYear> YEARS = new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+
+    private LunarCalendarTable() {
+    }
+
+    /**
+     * 음력 날짜를 양력 날짜로 변환
+     *
+     * @param lunarYear 음력 연도
+     * @param lunarMonth 음력 월 (1 ~ 12)
+     * @param lunarDay 음력 일
+     * @param leapMonth 윤달 여부
+     * @return 양력 날짜, 지원 범위 밖이거나 존재하지 않는 음력 날짜면 null
+     */
+    public static LocalDate toSolar(int lunarYear, int lunarMonth, int lunarDay, boolean leapMonth) {
+        if (lunarYear < MIN_YEAR || lunarYear > MAX_YEAR || lunarMonth < 1 || lunarMonth > 12 || lunarDay < 1) {
+            return null;
+        }
+        LunarYear year = lunarYear(lunarYear);
+        int index = leapMonth ? (year.leapMonth == lunarMonth ? LunarYear.LEAP_INDEX : -1) : lunarMonth - 1;
+        if (index < 0 || lunarDay > year.monthLengths[index]) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(year.firstDays[index] + lunarDay - 1);
+    }
+
+    private static LunarYear lunarYear(int lunarYear) {
+        int slot = lunarYear - MIN_YEAR;
+        LunarYear year = YEARS.get(slot);
+        if (year == null) {
+            year = LunarYear.compute(lunarYear);
+            YEARS.set(slot, year);
+        }
+        return year;
+    }
+
+    /**
+     * 음력 한 해의 각 달 1일 양력 날짜(epoch day)와 일수 (0 이면 존재하지 않는 달)
+     * 0 ~ 11 은 평달, 12 는 윤달
+     */
+    private static final class LunarYear {
+
+        private static final int LEAP_INDEX = 12;
+
+        private final long[] firstDays = new long[13];
+        private final int[] monthLengths = new int[13];
+        private int leapMonth;
+
+        static LunarYear compute(int lunarYear) {
+            // getInstance() 가 공유 인스턴스일 수 있어 계산하는 동안만 잠근다 (연도당 한 번)
+            synchronized (KoreanLunarCalendar.class) {
+                return compute(KoreanLunarCalendar.getInstance(), lunarYear);
+            }
+        }
+
+        private static LunarYear compute(KoreanLunarCalendar calendar, int lunarYear) {
+            LunarYear year = new LunarYear();
+            for (int month = 1; month <= 12; month++) {
+                LocalDate firstDay = convert(calendar, lunarYear, month, 1, false);
+                if (firstDay == null) {
+                    continue;
+                }
+                year.firstDays[month - 1] = firstDay.toEpochDay();
+                year.monthLengths[month - 1] = monthLength(calendar, lunarYear, month, false);
+
+                // 윤달이 없는 달에 윤달로 요청하면 평달과 같은 날짜가 나오므로 날짜가 다를 때만 윤달로 본다
+                LocalDate leapFirstDay = convert(calendar, lunarYear, month, 1, true);
+                if (leapFirstDay != null && !leapFirstDay.equals(firstDay)) {
+                    year.leapMonth = month;
+                    year.firstDays[LEAP_INDEX] = leapFirstDay.toEpochDay();
+                    year.monthLengths[LEAP_INDEX] = monthLength(calendar, lunarYear, month, true);
+                }
+            }
+            return year;
+        }
+
+        /**
+         * 음력 한 달의 일수 (보통 29 또는 30, 라이브러리 지원 범위가 끝나는 달은 변환 가능한 마지막 날)
+         */
+        private static int monthLength(KoreanLunarCalendar calendar, int lunarYear, int month, boolean leapMonth) {
+            for (int day = 30; day > 1; day--) {
+                if (convert(calendar, lunarYear, month, day, leapMonth) != null) {
+                    return day;
+                }
+            }
+            return 1;
+        }
+
+        private static LocalDate convert(KoreanLunarCalendar calendar, int lunarYear, int month, int day, boolean leapMonth) {
+            if (!calendar.setLunarDate(lunarYear, month, day, leapMonth)) {
+                return null;
+            }
+            String solarIsoFormat = calendar.getSolarIsoFormat();
+            // 0000-00-00 같은 유효하지 않은 결과 체크
+            if (solarIsoFormat == null || solarIsoFormat.startsWith("0000")) {
+                return null;
+            }
+            return LocalDate.parse(solarIsoFormat);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.porest.hr.holiday.service;
+
+import com.porest.core.type.CountryCode;
+import com.porest.hr.common.cache.CacheNames;
+import com.porest.hr.holiday.domain.Holiday;
+import com.porest.hr.holiday.repository.HolidayRepository;
+import com.porest.hr.holiday.type.HolidayType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 근무일 달력
+ * 국가/연도별로 휴무일(주말, PUBLIC, SUBSTITUTE 공휴일)을 비트셋 하나로 만들어 캐시하고,
+ * 기간 내 근무일 목록/개수, 근무일 여부를 비트 연산으로 계산한다.
+ * 휴가 사용이나 업무 미등록 조회마다 공휴일을 조회하고 날짜 리스트를 병합/제외하던 것을 대체한다.
+ *
+ * <p>달력은 2단계 캐시({@link CacheNames#WORKING_CALENDAR})에 둔다. 공휴일 등록/수정/삭제 시 해당 국가/연도를
+ * 커밋 이후에 무효화하고, 무효화 메시지로 다른 노드의 L1 도 함께 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkingCalendar {
+
+    private final HolidayRepository holidayRepository;
+    private final CacheManager cacheManager;
+    private Cache cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = cacheManager.getCache(CacheNames.WORKING_CALENDAR);
+    }
+
+    /**
+     * 근무일 여부 확인
+     *
+     * @param countryCode 국가 코드
+     * @param date 날짜
+     * @return 주말, 공휴일(PUBLIC, SUBSTITUTE)이 아니면 true
+     */
+    public boolean isWorkingDay(CountryCode countryCode, LocalDate date) {
+        return !yearCalendar(countryCode, date.getYear()).isNonWorking(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 기간 내 근무일 개수 (시작일, 종료일 포함)
+     *
+     * @param countryCode 국가 코드
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @return 근무일 개수 (시작일이 종료일보다 늦으면 0)
+     */
+    public int countWorkingDays(CountryCode countryCode, LocalDate startDate, LocalDate endDate) {
+        int count = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            int from = year == startDate.getYear() ? startDate.getDayOfYear() - 1 : 0;
+            int to = year == endDate.getYear() ? endDate.getDayOfYear() : LocalDate.of(year, 12, 31).getDayOfYear();
+            if (from < to) {
+                count += yearCalendar(countryCode, year).countWorking(from, to);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 기간 내 근무일 목록 (시작일, 종료일 포함, 날짜 오름차순)
+     *
+     * @param countryCode 국가 코드
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @return 근무일 목록 (시작일이 종료일보다 늦으면 빈 목록)
+     */
+    public List<LocalDate> getWorkingDays(CountryCode countryCode, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return Collections.emptyList();
+        }
+        List<LocalDate> workingDays = new ArrayList<>();
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            int from = year == startDate.getYear() ? startDate.getDayOfYear() - 1 : 0;
+            int to = year == endDate.getYear() ? endDate.getDayOfYear() : LocalDate.of(year, 12, 31).getDayOfYear();
+            LocalDate firstDay = LocalDate.of(year, 1, 1);
+            YearCalendar calendar = yearCalendar(countryCode, year);
+            for (int day = calendar.nextWorking(from); day >= 0 && day < to; day = calendar.nextWorking(day + 1)) {
+                workingDays.add(firstDay.plusDays(day));
+            }
+        }
+        return workingDays;
+    }
+
+    /**
+     * 국가/연도 캐시 무효화 (트랜잭션 안이면 커밋 이후, 다른 노드 포함)
+     *
+     * @param countryCode 국가 코드
+     * @param year 연도
+     */
+    public void evict(CountryCode countryCode, int year) {
+        if (countryCode == null) {
+            return;
+        }
+        cache.evict(new CalendarKey(countryCode, year));
+        log.debug("근무일 달력 캐시 무효화: countryCode={}, year={}", countryCode, year);
+    }
+
+    private YearCalendar yearCalendar(CountryCode countryCode, int year) {
+        CalendarKey key = new CalendarKey(countryCode, year);
+        return cache.get(key, () -> load(key));
+    }
+
+    private YearCalendar load(CalendarKey key) {
+        LocalDate firstDay = LocalDate.of(key.year(), 1, 1);
+        LocalDate lastDay = LocalDate.of(key.year(), 12, 31);
+        long[] nonWorking = new long[(lastDay.getDayOfYear() + 63) >>> 6];
+
+        // 주말
+        for (LocalDate date = firstDay; !date.isAfter(lastDay); date = date.plusDays(1)) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                set(nonWorking, date.getDayOfYear() - 1);
+            }
+        }
+
+        // 공휴일 (PUBLIC, SUBSTITUTE만 - ETC 제외)
+        int holidayCount = 0;
+        for (Holiday holiday : holidayRepository.findHolidaysByStartEndDate(firstDay, lastDay, key.countryCode())) {
+            if (holiday.getType() == HolidayType.PUBLIC || holiday.getType() == HolidayType.SUBSTITUTE) {
+                set(nonWorking, holiday.getDate().getDayOfYear() - 1);
+                holidayCount++;
+            }
+        }
+
+        log.debug("근무일 달력 생성: countryCode={}, year={}, holidays={}", key.countryCode(), key.year(), holidayCount);
+        return new YearCalendar(nonWorking, lastDay.getDayOfYear());
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * 캐시 키 (2단계 캐시는 문자열로 바꿔 쓰므로 "KR:2025" 형태로 표현)
+     */
+    private record CalendarKey(CountryCode countryCode, int year) {
+        @Override
+        public String toString() {
+            return countryCode.name() + ":" + year;
+        }
+    }
+
+    /**
+     * 한 해의 휴무일 비트셋 (비트 i = 1월 1일로부터 i 일째가 휴무일), 생성 후 변경하지 않는다
+     * L2(Redis)에 JDK 직렬화로 저장된다.
+     */
+    static final class YearCalendar implements Serializable {
+
+        private final long[] nonWorking;
+        private final int length;
+
+        YearCalendar(long[] nonWorking, int length) {
+            this.nonWorking = nonWorking;
+            this.length = length;
+        }
+
+        boolean isNonWorking(int day) {
+            return (nonWorking[day >>> 6] & (1L << day)) != 0;
+        }
+
+        /**
+         * [from, to) 구간의 근무일 개수
+         */
+        int countWorking(int from, int to) {
+            int nonWorkingCount = 0;
+            int fromWord = from >>> 6;
+            int toWord = (to - 1) >>> 6;
+            for (int word = fromWord; word <= toWord; word++) {
+                long mask = -1L;
+                if (word == fromWord) {
+                    mask &= -1L << from;
+                }
+                if (word == toWord) {
+                    mask &= -1L >>> -to;
+                }
+                nonWorkingCount += Long.bitCount(nonWorking[word] & mask);
+            }
+            return (to - from) - nonWorkingCount;
+        }
+
+        /**
+         * from 이상인 첫 근무일 (없으면 -1)
+         */
+        int nextWorking(int from) {
+            if (from >= length) {
+                return -1;
+            }
+            int word = from >>> 6;
+            long working = ~nonWorking[word] & (-1L << from);
+            while (true) {
+                if (working != 0) {
+                    int day = (word << 6) + Long.numberOfTrailingZeros(working);
+                    return day < length ? day : -1;
+                }
+                if (++word == nonWorking.length) {
+                    return -1;
+                }
+                working = ~nonWorking[word];
+            }
+        }
+    }
+}
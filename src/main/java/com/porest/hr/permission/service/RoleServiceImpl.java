@@ -9,6 +9,7 @@ import com.porest.hr.permission.repository.PermissionRepository;
 import com.porest.hr.permission.repository.RoleRepository;
 import com.porest.hr.permission.type.ActionType;
 import com.porest.hr.permission.type.ResourceType;
+import com.porest.hr.security.service.UserAuthorityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ import java.util.stream.Collectors;
 public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
+    private final UserAuthorityCache userAuthorityCache;
 
     /* ==================== Role 관련 메서드 ==================== */
 
@@ -108,6 +110,7 @@ public class RoleServiceImpl implements RoleService {
                 .collect(Collectors.toList());
 
         role.updateRole(null, desc, permissions);
+        userAuthorityCache.evictAll();
         log.info("역할 수정 (권한 포함) 완료: roleCode={}", roleCode);
     }
 
@@ -127,6 +130,7 @@ public class RoleServiceImpl implements RoleService {
 
         role.clearPermissions();
         permissions.forEach(role::addPermission);
+        userAuthorityCache.evictAll();
         log.info("역할 권한 수정 완료: roleCode={}, permissionCount={}", roleCode, permissions.size());
     }
 
@@ -141,6 +145,7 @@ public class RoleServiceImpl implements RoleService {
                     return new EntityNotFoundException(HrErrorCode.PERMISSION_NOT_FOUND);
                 });
         role.addPermission(permission);
+        userAuthorityCache.evictAll();
         log.info("역할에 권한 추가 완료: roleCode={}, permissionCode={}", roleCode, permissionCode);
     }
 
@@ -155,6 +160,7 @@ public class RoleServiceImpl implements RoleService {
                     return new EntityNotFoundException(HrErrorCode.PERMISSION_NOT_FOUND);
                 });
         role.removePermission(permission);
+        userAuthorityCache.evictAll();
         log.info("역할에서 권한 제거 완료: roleCode={}, permissionCode={}", roleCode, permissionCode);
     }
 
@@ -168,6 +174,7 @@ public class RoleServiceImpl implements RoleService {
                     return new EntityNotFoundException(HrErrorCode.ROLE_NOT_FOUND);
                 });
         role.deleteRole();
+        userAuthorityCache.evictAll();
         log.info("역할 삭제 완료: roleCode={}", roleCode);
     }
 
@@ -232,6 +239,7 @@ public class RoleServiceImpl implements RoleService {
                     return new EntityNotFoundException(HrErrorCode.PERMISSION_NOT_FOUND);
                 });
         permission.deletePermission();
+        userAuthorityCache.evictAll();
         log.info("권한 삭제 완료: permissionCode={}", permissionCode);
     }
 }
@@ -10,8 +10,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Set;
-
 @Tag(name = "Auth", description = "인증 및 보안 API")
 public interface AuthApi {
 
@@ -37,17 +35,17 @@ public interface AuthApi {
 
     @Operation(
             summary = "런타임 블랙리스트 조회",
-            description = "현재 런타임에 추가된 IP 블랙리스트를 조회합니다. (설정 파일 기반 블랙리스트는 제외)"
+            description = "현재 런타임에 추가된 IP 블랙리스트(만료 시각 포함)와 자동 차단 집계 점수를 조회합니다. (설정 파일 기반 블랙리스트는 제외)"
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "블랙리스트 조회 성공",
-                    content = @Content(schema = @Schema(implementation = Set.class))
+                    content = @Content(schema = @Schema(implementation = AuthApiDto.IpBlacklistStatus.class))
             )
     })
     @GetMapping("/api/v1/security/ip-blacklist")
-    ApiResponse<Set<String>> getRuntimeBlacklist();
+    ApiResponse<AuthApiDto.IpBlacklistStatus> getRuntimeBlacklist();
 
     @Operation(
             summary = "IP 블랙리스트에 추가",
@@ -6,6 +6,7 @@ import com.porest.core.exception.UnauthorizedException;
 import com.porest.core.type.YNType;
 import com.porest.hr.security.controller.dto.AuthApiDto;
 import com.porest.hr.security.principal.UserPrincipal;
+import com.porest.hr.security.service.IpAbuseTracker;
 import com.porest.hr.security.service.IpBlacklistService;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.service.UserService;
@@ -18,7 +19,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.porest.hr.permission.domain.Role;
@@ -33,8 +33,11 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 @Tag(name = "Auth", description = "인증/보안 API")
 public class AuthController implements AuthApi {
+    private static final int ABUSE_SCORE_LIMIT = 100;
+
     private final UserService userService;
     private final IpBlacklistService ipBlacklistService;
+    private final IpAbuseTracker ipAbuseTracker;
 
     @Override
     public ApiResponse<AuthApiDto.LoginUserInfo> getUserInfo() {
@@ -100,10 +103,15 @@ public class AuthController implements AuthApi {
 
     @Override
     @Profile({"local", "dev"})
-    public ApiResponse<Set<String>> getRuntimeBlacklist() {
-        Set<String> blacklist = ipBlacklistService.getRuntimeBlacklist();
-        log.info("Runtime blacklist retrieved: {} IPs", blacklist.size());
-        return ApiResponse.success(blacklist);
+    public ApiResponse<AuthApiDto.IpBlacklistStatus> getRuntimeBlacklist() {
+        List<AuthApiDto.BlockedIpInfo> blockedIps = ipBlacklistService.getRuntimeBlacklistEntries().stream()
+                .map(entry -> new AuthApiDto.BlockedIpInfo(entry.getIp(), entry.getExpiresAt()))
+                .toList();
+        List<AuthApiDto.AbuseScoreInfo> abuseScores = ipAbuseTracker.getTopScores(ABUSE_SCORE_LIMIT).stream()
+                .map(score -> new AuthApiDto.AbuseScoreInfo(score.getIp(), score.getScore()))
+                .toList();
+        log.info("Runtime blacklist retrieved: {} IPs, {} tracked", blockedIps.size(), abuseScores.size());
+        return ApiResponse.success(new AuthApiDto.IpBlacklistStatus(blockedIps, abuseScores));
     }
 
     @Override
@@ -4,6 +4,7 @@ import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.annotation.JsonNaming;
 import com.porest.core.type.YNType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -41,4 +42,28 @@ public class AuthApiDto {
         private String permissionCode;         // 권한 코드 (예: USER:READ, VACATION:APPROVE)
         private String permissionName;         // 권한 이름 (예: 사용자 조회, 휴가 승인)
     }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class IpBlacklistStatus {
+        private List<BlockedIpInfo> blockedIps;   // 런타임 차단 IP (수동 + 자동 차단)
+        private List<AbuseScoreInfo> abuseScores; // 자동 차단 집계 중인 IP 점수 (높은 순)
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class BlockedIpInfo {
+        private String ip;
+        private LocalDateTime expiresAt;          // 차단 만료 시각 (영구 차단이면 null)
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class AbuseScoreInfo {
+        private String ip;
+        private long score;                       // 현재 슬라이딩 윈도우 점수
+    }
 }
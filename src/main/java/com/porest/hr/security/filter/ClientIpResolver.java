@@ -0,0 +1,24 @@
+package com.porest.hr.security.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 실제 IP 주소 추출
+ * IP 차단과 자동 차단 집계가 같은 기준의 IP 를 쓰도록 필터들이 공유한다.
+ *
+ * <p>X-Forwarded-For / X-Real-IP 를 직접 읽지 않는다. 맨 왼쪽 값은 클라이언트가 마음대로 넣을 수 있어
+ * 다른 사람의 IP 로 악성 요청을 보내 그 IP 를 자동 차단시킬 수 있기 때문이다.
+ * {@code server.forward-headers-strategy: native} 에서는 Tomcat RemoteIpValve 가 X-Forwarded-For 를
+ * 오른쪽부터 읽으며 신뢰하는 프록시({@code server.tomcat.remoteip.internal-proxies})를 건너뛰고,
+ * 처음 만난 신뢰하지 않는 주소를 remoteAddr 로 설정한다. 신뢰 프록시를 거치지 않은 요청은 헤더를 무시하고
+ * 실제 접속 주소가 그대로 남는다.
+ */
+final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -1,6 +1,7 @@
 package com.porest.hr.security.filter;
 
 import tools.jackson.databind.ObjectMapper;
+import com.porest.hr.security.service.IpAbuseTracker;
 import com.porest.hr.security.service.IpBlacklistService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,6 +9,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -15,16 +18,21 @@ import java.io.IOException;
 
 /**
  * IP 블랙리스트 차단 필터
- * - Spring Security 필터 체인 앞단에서 실행
+ * - Spring Security 필터 체인 앞단에서 실행 (서블릿 필터로도 등록되어 악성 패턴 필터보다 먼저 실행)
  * - 블랙리스트 IP의 모든 요청을 차단
  * - 403 Forbidden 응답 반환
+ * - 401 응답은 {@link IpAbuseTracker} 로 집계해 자동 차단에 사용 (설정으로 켠 경우만)
+ *   403 과 형식상 JWT 를 가진 요청의 401(만료·다른 키 등)은 정상 사용자도 흔히 받으므로 집계하지 않는다.
+ *   NAT 뒤의 사무실 전체가 차단되지 않도록 하기 위함이다.
  */
 @Slf4j
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 @RequiredArgsConstructor
 public class IpBlockFilter extends OncePerRequestFilter {
 
     private final IpBlacklistService ipBlacklistService;
+    private final IpAbuseTracker ipAbuseTracker;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -32,7 +40,7 @@ public class IpBlockFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String clientIp = getClientIp(request);
+        String clientIp = ClientIpResolver.resolve(request);
 
         // IP 블랙리스트 확인
         if (ipBlacklistService.isBlocked(clientIp)) {
@@ -42,6 +50,13 @@ public class IpBlockFilter extends OncePerRequestFilter {
 
         // 정상 요청은 다음 필터로 전달
         filterChain.doFilter(request, response);
+
+        // 토큰 없이(또는 형식이 깨진 토큰으로) 받은 401 만 자동 차단 점수로 집계 (악성 패턴 차단은 해당 필터에서 이미 집계)
+        if (response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED
+                && request.getAttribute(JwtAuthenticationFilter.TOKEN_PRESENTED_ATTRIBUTE) == null
+                && request.getAttribute(MaliciousPatternBlockFilter.BLOCKED_ATTRIBUTE) == null) {
+            ipAbuseTracker.recordAuthFailure(clientIp);
+        }
     }
 
     /**
@@ -74,45 +89,6 @@ public class IpBlockFilter extends OncePerRequestFilter {
         response.getWriter().write(jsonResponse);
     }
 
-    /**
-     * 클라이언트 실제 IP 주소 추출
-     * - Proxy/Load Balancer 고려
-     * - X-Forwarded-For, X-Real-IP 헤더 확인
-     */
-    private static final java.util.regex.Pattern IP_PATTERN = java.util.regex.Pattern.compile(
-            "^((25[0-5]|2[0-4]\\d|[01]?\\d\\d?)\\.){3}(25[0-5]|2[0-4]\\d|[01]?\\d\\d?)$" +
-            "|^([0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}$" +
-            "|^::1$"
-    );
-
-    private String getClientIp(HttpServletRequest request) {
-        // forward-headers-strategy: framework 설정에 의해
-        // Spring이 프록시 헤더를 처리하므로 getRemoteAddr()를 우선 사용
-        String remoteAddr = request.getRemoteAddr();
-
-        // X-Forwarded-For는 신뢰할 수 있는 프록시 환경에서만 참조
-        String forwardedFor = request.getHeader("X-Forwarded-For");
-        if (forwardedFor != null && !forwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(forwardedFor)) {
-            String ip = forwardedFor.contains(",")
-                    ? forwardedFor.split(",")[0].trim()
-                    : forwardedFor.trim();
-
-            // IP 형식 검증으로 스푸핑 방지
-            if (IP_PATTERN.matcher(ip).matches()) {
-                return ip;
-            }
-        }
-
-        String realIp = request.getHeader("X-Real-IP");
-        if (realIp != null && !realIp.isEmpty() && !"unknown".equalsIgnoreCase(realIp)) {
-            if (IP_PATTERN.matcher(realIp.trim()).matches()) {
-                return realIp.trim();
-            }
-        }
-
-        return remoteAddr;
-    }
-
     /**
      * 차단 응답 DTO
      */
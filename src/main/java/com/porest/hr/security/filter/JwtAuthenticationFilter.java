@@ -1,9 +1,9 @@
 package com.porest.hr.security.filter;
 
 import com.porest.hr.security.jwt.JwtTokenProvider;
+import com.porest.hr.security.jwt.VerifiedToken;
 import com.porest.hr.security.principal.JwtClaimsPrincipal;
-import com.porest.hr.security.principal.JwtUserPrincipal;
-import com.porest.hr.user.domain.User;
+import com.porest.hr.security.service.UserAuthorityCache;
 import com.porest.hr.user.service.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -37,28 +37,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    private final UserAuthorityCache userAuthorityCache;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String ACCESS_TOKEN_COOKIE = "hr_access_token";
 
+    /**
+     * 형식상 JWT 인 토큰을 가진 요청 표시 (IpBlockFilter 가 만료 토큰의 401 을 인증 실패로 집계하지 않도록)
+     */
+    static final String TOKEN_PRESENTED_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".TOKEN_PRESENTED";
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String token = resolveToken(request);
+        if (isWellFormedJwt(token)) {
+            request.setAttribute(TOKEN_PRESENTED_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        // 토큰은 여기서 한 번만 파싱(서명 검증)하고 이후에는 스냅샷만 사용
+        VerifiedToken verifiedToken = StringUtils.hasText(token)
+                ? jwtTokenProvider.parseAndClassify(token)
+                : null;
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        if (verifiedToken != null) {
             try {
                 Authentication authentication;
 
-                if (jwtTokenProvider.isHrToken(token)) {
+                if (verifiedToken.isHrToken()) {
                     // HR JWT인 경우: Claims에서 직접 정보 추출 (DB 조회 없음)
-                    authentication = createAuthenticationFromHrToken(token);
+                    authentication = createAuthenticationFromHrToken(verifiedToken);
                 } else {
                     // SSO JWT인 경우: HR DB 조회 필요 (하위 호환성 유지)
-                    authentication = createAuthenticationFromSsoToken(token);
+                    authentication = createAuthenticationFromSsoToken(verifiedToken);
                 }
 
                 // SecurityContext에 인증 정보 설정
@@ -75,19 +89,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * HR JWT에서 인증 객체 생성 (DB 조회 없음)
-     * JWT Claims에서 직접 사용자 정보와 권한을 추출합니다.
+     * 검증된 토큰 스냅샷에서 직접 사용자 정보와 권한을 추출합니다.
      *
-     * @param token HR JWT 토큰
+     * @param verifiedToken 검증된 HR JWT
      * @return Authentication 객체
      */
-    private Authentication createAuthenticationFromHrToken(String token) {
-        // JWT Claims에서 정보 추출
-        String userId = jwtTokenProvider.getUserId(token);
-        Long ssoUserRowId = jwtTokenProvider.getSsoUserRowIdFromHrToken(token);
-        String name = jwtTokenProvider.getNameFromHrToken(token);
-        String email = jwtTokenProvider.getEmailFromHrToken(token);
-        List<String> roles = jwtTokenProvider.getRolesFromHrToken(token);
-        List<String> permissions = jwtTokenProvider.getPermissionsFromHrToken(token);
+    private Authentication createAuthenticationFromHrToken(VerifiedToken verifiedToken) {
+        String userId = verifiedToken.getSubject();
+        List<String> roles = verifiedToken.getRoles();
+        List<String> permissions = verifiedToken.getPermissions();
 
         // 권한 목록 생성 (roles + permissions)
         List<String> allAuthorities = new ArrayList<>(roles);
@@ -98,7 +108,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // JwtClaimsPrincipal 생성 (User는 필요할 때 Lazy Loading)
         JwtClaimsPrincipal principal = new JwtClaimsPrincipal(
-                userId, ssoUserRowId, name, email, roles, permissions,
+                userId, verifiedToken.getSsoUserRowId(), verifiedToken.getName(), verifiedToken.getEmail(),
+                roles, permissions,
                 () -> userService.findUserById(userId)  // Lazy Loading Supplier
         );
 
@@ -108,32 +119,65 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * SSO JWT에서 인증 객체 생성 (DB 조회 필요)
-     * SSO JWT에는 HR 권한 정보가 없으므로 DB에서 조회합니다.
+     * SSO JWT에서 인증 객체 생성
+     * SSO JWT에는 HR 권한 정보가 없으므로 사용자 권한 캐시에서 조회하고,
+     * 캐시에 없을 때만 DB에서 조회합니다.
      *
-     * @param token SSO JWT 토큰
+     * @param verifiedToken 검증된 SSO JWT
      * @return Authentication 객체
      */
-    private Authentication createAuthenticationFromSsoToken(String token) {
-        // JWT에서 사용자 ID 추출
-        String userId = jwtTokenProvider.getUserId(token);
+    private Authentication createAuthenticationFromSsoToken(VerifiedToken verifiedToken) {
+        String userId = verifiedToken.getSubject();
 
-        // HR DB에서 사용자 및 권한 조회
-        User user = userService.findUserById(userId);
+        // 사용자 권한 캐시 조회 (miss 시 HR DB에서 사용자 및 권한 조회)
+        UserAuthorityCache.CachedUserAuthority cached = userAuthorityCache.get(userId, userService::findUserById);
 
-        // 권한 목록 조회
-        List<SimpleGrantedAuthority> authorities = user.getAllAuthorities().stream()
+        // 권한 목록 생성
+        List<SimpleGrantedAuthority> authorities = cached.getAuthorities().stream()
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        // JwtUserPrincipal 생성 (기존 방식 유지)
-        JwtUserPrincipal principal = new JwtUserPrincipal(user);
+        // JwtClaimsPrincipal 생성 (User는 필요할 때 Lazy Loading)
+        JwtClaimsPrincipal principal = new JwtClaimsPrincipal(
+                cached.getUserId(), cached.getSsoUserRowId(), cached.getName(), cached.getEmail(),
+                cached.getRoles(), cached.getPermissions(),
+                () -> userService.findUserById(userId)  // Lazy Loading Supplier
+        );
 
-        log.debug("SSO JWT 인증 성공 (DB 조회): userId={}, authorities={}", userId, authorities.size());
+        log.debug("SSO JWT 인증 성공 (권한 캐시): userId={}, authorities={}", userId, authorities.size());
 
         return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 
+    /**
+     * 서명과 무관하게 JWT 형식(base64url 세 구간)인지 확인
+     *
+     * @param token 토큰
+     * @return 형식이 맞으면 true
+     */
+    static boolean isWellFormedJwt(String token) {
+        if (!StringUtils.hasText(token)) {
+            return false;
+        }
+        int dots = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_') {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return dots == 2 && segmentLength > 0;
+    }
+
     /**
      * 쿠키 또는 Authorization 헤더에서 JWT 토큰 추출
      * HttpOnly 쿠키를 우선 확인하고, 없으면 Authorization 헤더를 확인합니다.
@@ -0,0 +1,251 @@
+package com.porest.hr.security.filter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 악성 요청 경로 매처
+ * 기존에 요청마다 정규식 ~70개를 순서대로 실행하던 것을 미리 컴파일한 자료구조로 바꿔
+ * URI 를 한 번 훑어서 차단 여부를 판단한다. 차단/허용 결과는 기존 정규식 목록과 동일하다.
+ *
+ * <ul>
+ *   <li>확장자 규칙 ({@code .*\.ext$}) — 마지막 '.' 뒤 확장자를 Set 으로 조회</li>
+ *   <li>경로 세그먼트 규칙 ({@code .*&#47;name(&#47;.*)?$}, {@code .*&#47;name$}) — 세그먼트 trie 로 조회</li>
+ *   <li>나머지 ({@code application-*.yml} 등) — 확장자가 해당할 때만 합쳐진 정규식 1개 실행</li>
+ * </ul>
+ *
+ * <p>기존 정규식은 {@code CASE_INSENSITIVE}(ASCII 만 대소문자 무시)였고, {@code .} 이 줄바꿈 문자를
+ * 넘지 못하므로 줄바꿈이 포함된 URI 는 어떤 규칙에도 걸리지 않았다. 이 동작을 그대로 따른다.
+ */
+public final class MaliciousPathMatcher {
+
+    /**
+     * 차단 확장자 ({@code .*\.ext$})
+     * .jsp.bak, .java.bak 은 .bak 에 포함된다.
+     */
+    private static final Set<String> BLOCKED_EXTENSIONS = Set.of(
+            // 백업 및 임시 파일
+            "bak", "backup", "old", "orig", "tmp", "temp", "swp", "swo", "save",
+            // 데이터베이스 파일
+            "sql", "sqlite", "db",
+            // 압축 파일
+            "tar", "tgz", "zip", "rar", "7z",
+            // 서버 스크립트
+            "php", "asp", "aspx",
+            // 로그 파일
+            "log"
+    );
+
+    /**
+     * 확장자 하나로 판단할 수 없는 복합 확장자 ({@code .*\.tar\.gz$})
+     */
+    private static final List<String> BLOCKED_COMPOUND_SUFFIXES = List.of(".tar.gz");
+
+    /**
+     * 나머지 규칙을 실행할 확장자 (이 확장자가 아니면 나머지 규칙은 절대 매치되지 않는다)
+     */
+    private static final Set<String> LEFTOVER_EXTENSIONS = Set.of("yml", "properties");
+
+    /**
+     * 나머지 규칙 ({@code .*&#47;application-.*\.yml$}, {@code .*&#47;application-.*\.properties$})
+     */
+    private static final Pattern LEFTOVER_PATTERN = Pattern.compile(
+            ".*/application-.*\\.(yml|properties)", Pattern.CASE_INSENSITIVE);
+
+    private static final int MAX_EXTENSION_LENGTH = 10;
+
+    private static final SegmentTrie SEGMENTS = new SegmentTrie()
+            // 버전 관리 시스템 / IDE 설정 / 관리 도구 / 로그 디렉터리: 어느 위치의 세그먼트든 차단
+            .directory(".git", ".svn", ".hg", ".bzr",
+                    ".idea", ".vscode", ".eclipse", ".settings",
+                    "phpmyadmin",
+                    "logs")
+            // 특정 파일명: 마지막 세그먼트만 차단
+            .file(".htaccess", "web.config", "php.ini", "httpd.conf", "nginx.conf",
+                    ".classpath", ".project", ".DS_Store", "Thumbs.db", "desktop.ini",
+                    "config.php", "config.yml", "config.json",
+                    "application.yml", "application.properties",
+                    "eval-stdin.php", "shell.php", "c99.php", "r57.php", "adminer.php")
+            // 환경 변수 파일 (.env, .env.local ...)
+            .dotSuffixed(".env");
+
+    private MaliciousPathMatcher() {
+    }
+
+    /**
+     * 요청 URI 가 차단 대상인지 확인
+     *
+     * @param requestUri 요청 URI
+     * @return 매치된 규칙 설명 (차단 대상이 아니면 null)
+     */
+    public static String match(String requestUri) {
+        if (requestUri == null) {
+            return null;
+        }
+        int length = requestUri.length();
+        for (int i = 0; i < length; i++) {
+            // 기존 정규식의 '.' 은 줄바꿈을 넘지 못해 어떤 규칙에도 매치되지 않았다
+            if (isLineTerminator(requestUri.charAt(i))) {
+                return null;
+            }
+        }
+
+        // 1. 확장자 규칙
+        int lastDot = requestUri.lastIndexOf('.');
+        if (lastDot >= 0 && length - lastDot - 1 <= MAX_EXTENSION_LENGTH) {
+            String extension = lowerAscii(requestUri, lastDot + 1);
+            if (BLOCKED_EXTENSIONS.contains(extension)) {
+                return "extension:." + extension;
+            }
+            if (LEFTOVER_EXTENSIONS.contains(extension) && LEFTOVER_PATTERN.matcher(requestUri).matches()) {
+                return "pattern:" + LEFTOVER_PATTERN.pattern();
+            }
+        }
+        for (String suffix : BLOCKED_COMPOUND_SUFFIXES) {
+            if (endsWithIgnoreAsciiCase(requestUri, suffix)) {
+                return "extension:" + suffix;
+            }
+        }
+        // 편집기 백업 파일 (대소문자 무관)
+        if (length > 0 && requestUri.charAt(length - 1) == '~') {
+            return "suffix:~";
+        }
+
+        // 2. 경로 세그먼트 규칙
+        return SEGMENTS.match(requestUri);
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * ASCII 문자만 소문자로 변환 (정규식 CASE_INSENSITIVE 와 동일한 기준)
+     */
+    private static char lowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static String lowerAscii(String str, int from) {
+        char[] chars = new char[str.length() - from];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = lowerAscii(str.charAt(from + i));
+        }
+        return new String(chars);
+    }
+
+    private static boolean endsWithIgnoreAsciiCase(String str, String lowerSuffix) {
+        int offset = str.length() - lowerSuffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < lowerSuffix.length(); i++) {
+            if (lowerAscii(str.charAt(offset + i)) != lowerSuffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 경로 세그먼트 trie (ASCII, 소문자 기준)
+     * URI 의 각 '/' 위치에서 다음 세그먼트를 따라 내려가며 규칙을 확인한다.
+     */
+    private static final class SegmentTrie {
+
+        private final Node root = new Node();
+
+        /**
+         * 어느 위치든 세그먼트 이름이 일치하면 차단 ({@code .*&#47;name(&#47;.*)?$})
+         */
+        SegmentTrie directory(String... names) {
+            for (String name : names) {
+                Node node = insert(name);
+                node.directory = true;
+                node.rule = "directory:" + name;
+            }
+            return this;
+        }
+
+        /**
+         * 마지막 세그먼트 이름이 일치하면 차단 ({@code .*&#47;name$})
+         */
+        SegmentTrie file(String... names) {
+            for (String name : names) {
+                Node node = insert(name);
+                node.file = true;
+                node.rule = "file:" + name;
+            }
+            return this;
+        }
+
+        /**
+         * 이름 뒤가 URI 끝이거나 '.' 이면 차단 ({@code .*&#47;name(\..*)?$})
+         */
+        SegmentTrie dotSuffixed(String... names) {
+            for (String name : names) {
+                Node node = insert(name);
+                node.dotSuffixed = true;
+                node.rule = "dot-suffixed:" + name;
+            }
+            return this;
+        }
+
+        private Node insert(String name) {
+            Node node = root;
+            for (int i = 0; i < name.length(); i++) {
+                char c = lowerAscii(name.charAt(i));
+                if (c >= Node.ALPHABET_SIZE) {
+                    throw new IllegalArgumentException("Non-ASCII segment rule: " + name);
+                }
+                if (node.children[c] == null) {
+                    node.children[c] = new Node();
+                }
+                node = node.children[c];
+            }
+            return node;
+        }
+
+        String match(String uri) {
+            int length = uri.length();
+            for (int slash = uri.indexOf('/'); slash >= 0; slash = uri.indexOf('/', slash + 1)) {
+                Node node = root;
+                int i = slash + 1;
+                while (i < length && node != null) {
+                    char c = uri.charAt(i);
+                    if (c == '/') {
+                        break;
+                    }
+                    c = lowerAscii(c);
+                    node = c < Node.ALPHABET_SIZE ? node.children[c] : null;
+                    i++;
+                    if (node != null && node.dotSuffixed && (i == length || uri.charAt(i) == '.')) {
+                        return node.rule;
+                    }
+                }
+                if (node == null) {
+                    continue;
+                }
+                boolean atEnd = i == length;
+                if (node.directory && (atEnd || uri.charAt(i) == '/')) {
+                    return node.rule;
+                }
+                if (node.file && atEnd) {
+                    return node.rule;
+                }
+            }
+            return null;
+        }
+
+        private static final class Node {
+            private static final int ALPHABET_SIZE = 128;
+
+            private final Node[] children = new Node[ALPHABET_SIZE];
+            private boolean directory;
+            private boolean file;
+            private boolean dotSuffixed;
+            private String rule;
+        }
+    }
+}
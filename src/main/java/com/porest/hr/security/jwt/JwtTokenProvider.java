@@ -5,16 +5,17 @@ import com.porest.hr.user.domain.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -29,7 +30,11 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private final SsoJwksKeyLocator ssoJwksKeyLocator;
+    private final VerifiedTokenCache verifiedTokenCache;
     private SecretKey hrKey;
+    // 파서는 thread-safe 하므로 요청마다 빌드하지 않고 재사용
+    private JwtParser hrParser;
+    private JwtParser ssoParser;
 
     private static final String HR_ISSUER = "porest-hr";
     private static final String TOKEN_TYPE_CLAIM = "type";
@@ -44,23 +49,66 @@ public class JwtTokenProvider {
             throw new IllegalStateException("jwt.hr-secret(JWT_HR_SECRET) 이 설정되지 않았습니다");
         }
         this.hrKey = Keys.hmacShaKeyFor(hrSecret.getBytes(StandardCharsets.UTF_8));
+        this.hrParser = Jwts.parser().verifyWith(hrKey).build();
+        this.ssoParser = Jwts.parser().keyLocator(ssoJwksKeyLocator).build();
     }
 
-    // ==================== SSO JWT 검증 ====================
+    // ==================== 토큰 파싱 (단일 진입점) ====================
 
     /**
-     * SSO JWT 토큰 유효성 검증
+     * 토큰을 한 번만 파싱해 종류(HR/SSO)를 판별하고 검증된 스냅샷을 반환
+     * HR JWT를 우선 검증하고, HR 키로 검증되지 않으면 SSO JWT(JWKS)로 검증한다.
+     * 필터/서비스는 이 결과만 사용하고 토큰을 다시 파싱하지 않는다.
+     * 이미 검증한 토큰이면 서명 검증 없이 캐시에서 반환한다.
      *
      * @param token JWT 토큰
-     * @return 유효 여부
+     * @return 검증된 토큰 (검증 실패 시 null)
      */
-    public boolean validateSsoToken(String token) {
+    public VerifiedToken parseAndClassify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            Jwts.parser()
-                    .keyLocator(ssoJwksKeyLocator)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = hrParser.parseSignedClaims(token).getPayload();
+            if (HR_ISSUER.equals(claims.getIssuer())) {
+                return cache(token, VerifiedToken.of(VerifiedToken.Type.HR, claims));
+            }
+        } catch (ExpiredJwtException e) {
+            // HR 키로 서명이 확인된 뒤 만료된 토큰이므로 SSO 검증까지 갈 필요 없음
+            log.warn("HR JWT token expired: {}", e.getMessage());
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            // HR 토큰이 아니면 SSO 토큰으로 재시도
+            log.debug("Not an HR JWT token: {}", e.getMessage());
+        }
+        return verifySsoToken(token);
+    }
+
+    /**
+     * SSO JWT 토큰만 검증해 스냅샷 반환 (HR 토큰은 허용하지 않음)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 SSO 토큰 (검증 실패 시 null)
+     */
+    public VerifiedToken parseSsoToken(String token) {
+        if (StringUtils.hasText(token)) {
+            VerifiedToken cached = verifiedTokenCache.get(token);
+            if (cached != null) {
+                return cached.isHrToken() ? null : cached;
+            }
+        }
+        return verifySsoToken(token);
+    }
+
+    private VerifiedToken verifySsoToken(String token) {
+        try {
+            Claims claims = ssoParser.parseSignedClaims(token).getPayload();
+            return cache(token, VerifiedToken.of(VerifiedToken.Type.SSO, claims));
         } catch (ExpiredJwtException e) {
             log.warn("SSO JWT token expired: {}", e.getMessage());
         } catch (JwtException e) {
@@ -68,7 +116,24 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("SSO JWT token is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    private VerifiedToken cache(String token, VerifiedToken verifiedToken) {
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
+    // ==================== SSO JWT 검증 ====================
+
+    /**
+     * SSO JWT 토큰 유효성 검증
+     *
+     * @param token JWT 토큰
+     * @return 유효 여부
+     */
+    public boolean validateSsoToken(String token) {
+        return parseSsoToken(token) != null;
     }
 
     /**
@@ -78,8 +143,7 @@ public class JwtTokenProvider {
      * @return 사용자 번호
      */
     public Long getUserNoFromSsoToken(String token) {
-        Claims claims = getSsoClaims(token);
-        return claims.get("userNo", Long.class);
+        return getSsoToken(token).getUserNo();
     }
 
     /**
@@ -89,8 +153,7 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public String getUserIdFromSsoToken(String token) {
-        Claims claims = getSsoClaims(token);
-        return claims.getSubject();
+        return getSsoToken(token).getSubject();
     }
 
     /**
@@ -99,25 +162,22 @@ public class JwtTokenProvider {
      * @param token JWT 토큰
      * @return 서비스 코드 목록
      */
-    @SuppressWarnings("unchecked")
     public List<String> getServicesFromSsoToken(String token) {
-        Claims claims = getSsoClaims(token);
-        List<String> services = claims.get("services", List.class);
-        return services != null ? services : Collections.emptyList();
+        return getSsoToken(token).getServices();
     }
 
     /**
-     * SSO JWT 토큰에서 Claims 추출
+     * SSO JWT 토큰 파싱 (검증 실패 시 예외)
      *
      * @param token JWT 토큰
-     * @return Claims
+     * @return 검증된 SSO 토큰
      */
-    private Claims getSsoClaims(String token) {
-        return Jwts.parser()
-                .keyLocator(ssoJwksKeyLocator)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private VerifiedToken getSsoToken(String token) {
+        VerifiedToken verified = parseSsoToken(token);
+        if (verified == null) {
+            throw new JwtException("Invalid SSO JWT token");
+        }
+        return verified;
     }
 
     // ==================== HR JWT 생성 ====================
@@ -167,24 +227,7 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateHrToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(hrKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            // HR JWT인지 확인 (issuer 체크)
-            String issuer = claims.getIssuer();
-            return HR_ISSUER.equals(issuer);
-        } catch (ExpiredJwtException e) {
-            log.warn("HR JWT token expired: {}", e.getMessage());
-        } catch (JwtException e) {
-            log.warn("Invalid HR JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("HR JWT token is empty: {}", e.getMessage());
-        }
-        return false;
+        return isHrToken(token);
     }
 
     /**
@@ -195,12 +238,7 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateToken(String token) {
-        // HR JWT 먼저 검증
-        if (validateHrToken(token)) {
-            return true;
-        }
-        // SSO JWT 검증 (기존 호환성)
-        return validateSsoToken(token);
+        return parseAndClassify(token) != null;
     }
 
     /**
@@ -210,12 +248,7 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public String getUserId(String token) {
-        // HR JWT인지 확인
-        if (isHrToken(token)) {
-            return getHrClaims(token).getSubject();
-        }
-        // SSO JWT
-        return getSsoClaims(token).getSubject();
+        return getVerifiedToken(token).getSubject();
     }
 
     /**
@@ -225,8 +258,7 @@ public class JwtTokenProvider {
      * @return 사용자 이름
      */
     public String getUserName(String token) {
-        Claims claims = isHrToken(token) ? getHrClaims(token) : getSsoClaims(token);
-        return claims.get("name", String.class);
+        return getVerifiedToken(token).getName();
     }
 
     /**
@@ -236,8 +268,7 @@ public class JwtTokenProvider {
      * @return 이메일
      */
     public String getEmail(String token) {
-        Claims claims = isHrToken(token) ? getHrClaims(token) : getSsoClaims(token);
-        return claims.get("email", String.class);
+        return getVerifiedToken(token).getEmail();
     }
 
     /**
@@ -247,30 +278,36 @@ public class JwtTokenProvider {
      * @return HR JWT 여부
      */
     public boolean isHrToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(hrKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return HR_ISSUER.equals(claims.getIssuer());
-        } catch (Exception e) {
-            return false;
+        VerifiedToken verified = parseAndClassify(token);
+        return verified != null && verified.isHrToken();
+    }
+
+    /**
+     * 토큰 파싱 (검증 실패 시 예외)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰
+     */
+    private VerifiedToken getVerifiedToken(String token) {
+        VerifiedToken verified = parseAndClassify(token);
+        if (verified == null) {
+            throw new JwtException("Invalid JWT token");
         }
+        return verified;
     }
 
     /**
-     * HR JWT 토큰에서 Claims 추출
+     * HR JWT 토큰 파싱 (HR 토큰이 아니면 예외)
      *
      * @param token JWT 토큰
-     * @return Claims
+     * @return 검증된 HR 토큰
      */
-    private Claims getHrClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(hrKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private VerifiedToken getHrToken(String token) {
+        VerifiedToken verified = getVerifiedToken(token);
+        if (!verified.isHrToken()) {
+            throw new JwtException("Not an HR JWT token");
+        }
+        return verified;
     }
 
     // ==================== HR JWT Claims 추출 메서드 ====================
@@ -282,8 +319,7 @@ public class JwtTokenProvider {
      * @return SSO 사용자 행 아이디
      */
     public Long getSsoUserRowIdFromHrToken(String token) {
-        Claims claims = getHrClaims(token);
-        return claims.get("ssoUserRowId", Long.class);
+        return getHrToken(token).getSsoUserRowId();
     }
 
     /**
@@ -293,8 +329,7 @@ public class JwtTokenProvider {
      * @return 사용자 이름
      */
     public String getNameFromHrToken(String token) {
-        Claims claims = getHrClaims(token);
-        return claims.get("name", String.class);
+        return getHrToken(token).getName();
     }
 
     /**
@@ -304,8 +339,7 @@ public class JwtTokenProvider {
      * @return 이메일
      */
     public String getEmailFromHrToken(String token) {
-        Claims claims = getHrClaims(token);
-        return claims.get("email", String.class);
+        return getHrToken(token).getEmail();
     }
 
     /**
@@ -314,11 +348,8 @@ public class JwtTokenProvider {
      * @param token JWT 토큰
      * @return 역할 코드 목록
      */
-    @SuppressWarnings("unchecked")
     public List<String> getRolesFromHrToken(String token) {
-        Claims claims = getHrClaims(token);
-        List<String> roles = claims.get("roles", List.class);
-        return roles != null ? roles : Collections.emptyList();
+        return getHrToken(token).getRoles();
     }
 
     /**
@@ -327,10 +358,7 @@ public class JwtTokenProvider {
      * @param token JWT 토큰
      * @return 권한 코드 목록
      */
-    @SuppressWarnings("unchecked")
     public List<String> getPermissionsFromHrToken(String token) {
-        Claims claims = getHrClaims(token);
-        List<String> permissions = claims.get("permissions", List.class);
-        return permissions != null ? permissions : Collections.emptyList();
+        return getHrToken(token).getPermissions();
     }
 }
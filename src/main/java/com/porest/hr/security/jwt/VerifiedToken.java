@@ -0,0 +1,97 @@
+package com.porest.hr.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT 스냅샷
+ * {@link JwtTokenProvider#parseAndClassify(String)} 가 토큰을 한 번만 파싱해 만든 불변 객체로,
+ * 필터 체인에서는 이 객체만 넘겨 다시 파싱(서명 검증)하지 않는다.
+ */
+@Getter
+public class VerifiedToken {
+
+    /**
+     * 토큰 발급 주체
+     */
+    public enum Type {
+        HR,  // HR 자체 토큰 (HS256)
+        SSO  // SSO 토큰 (RS256, JWKS 검증)
+    }
+
+    private final Type type;
+    private final String subject;
+    private final Instant expiresAt;
+    private final Claims claims;
+
+    // 자주 쓰는 클레임은 생성 시점에 한 번만 꺼내 둔다
+    private final Long ssoUserRowId;
+    private final Long userNo;
+    private final String name;
+    private final String email;
+    private final List<String> roles;
+    private final List<String> permissions;
+    private final List<String> services;
+
+    private VerifiedToken(Type type, Claims claims) {
+        this.type = type;
+        this.claims = claims;
+        this.subject = claims.getSubject();
+        Date expiration = claims.getExpiration();
+        this.expiresAt = expiration != null ? expiration.toInstant() : null;
+        this.ssoUserRowId = claims.get("ssoUserRowId", Long.class);
+        this.userNo = claims.get("userNo", Long.class);
+        this.name = claims.get("name", String.class);
+        this.email = claims.get("email", String.class);
+        this.roles = stringList(claims, "roles");
+        this.permissions = stringList(claims, "permissions");
+        this.services = stringList(claims, "services");
+    }
+
+    /**
+     * 검증된 Claims 로 스냅샷 생성
+     *
+     * @param type 토큰 종류
+     * @param claims 서명 검증이 끝난 Claims
+     * @return VerifiedToken
+     */
+    public static VerifiedToken of(Type type, Claims claims) {
+        return new VerifiedToken(type, claims);
+    }
+
+    /**
+     * HR 자체 토큰 여부
+     *
+     * @return HR 토큰이면 true
+     */
+    public boolean isHrToken() {
+        return type == Type.HR;
+    }
+
+    /**
+     * 기준 시각에 만료되었는지 확인
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true (exp 클레임이 없으면 false)
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    // 배열 안의 null 이나 문자열이 아닌 값은 버린다 (List.copyOf 는 null 요소에서 NPE)
+    private static List<String> stringList(Claims claims, String name) {
+        List<?> values = claims.get(name, List.class);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return values.stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.porest.hr.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.porest.hr.common.config.properties.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ * SPA 는 같은 hr_access_token 쿠키를 계속 재전송하므로, 한 번 검증한 토큰은 캐시에서 꺼내
+ * HMAC/RS256 서명 검증을 생략한다.
+ *
+ * <p>키는 토큰 원문이 아니라 SHA-256 digest 를 쓴다(메모리·힙덤프에 토큰 원문을 남기지 않기 위해).
+ * 보관 시간은 설정 TTL 과 토큰 exp 중 이른 쪽이며, 검증 실패 결과는 캐시하지 않는다.
+ * 적중/실패/축출 지표는 {@code cache.*{cache=jwt.verified-token}} 으로 Micrometer 에 노출된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+    private Cache<String, VerifiedToken> cache;
+
+    @PostConstruct
+    public void init() {
+        JwtProperties.VerifiedTokenCache properties = jwtProperties.getVerifiedTokenCache();
+        long ttlNanos = Duration.ofMillis(properties.getTtl()).toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return Math.min(ttlNanos, nanosUntilExpiry(value));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 (없거나 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        if (!isEnabled()) {
+            return null;
+        }
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.isExpiredAt(Instant.now())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 검증 결과 저장
+     *
+     * @param token JWT 토큰
+     * @param verifiedToken 검증된 토큰
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (!isEnabled() || verifiedToken.isExpiredAt(Instant.now())) {
+            return;
+        }
+        cache.put(digest(token), verifiedToken);
+    }
+
+    /**
+     * 캐시 전체 비우기 (키 교체 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private boolean isEnabled() {
+        return jwtProperties.getVerifiedTokenCache().isEnabled();
+    }
+
+    private static long nanosUntilExpiry(VerifiedToken value) {
+        if (value.getExpiresAt() == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+    }
+
+    private static String digest(String token) {
+        try {
+            // MessageDigest 는 thread-safe 하지 않으므로 호출마다 생성
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.porest.hr.security.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 런타임 블랙리스트 항목
+ */
+@Getter
+@AllArgsConstructor
+public class BlockedIp {
+    private String ip;
+    // 차단 만료 시각 (영구 차단이면 null)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,423 @@
+package com.porest.hr.security.service;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * IP/CIDR 블랙리스트 인덱스
+ * 블랙리스트 항목을 로드 시점에 IPv4/IPv6 주소 비트 기준 이진 trie 로 컴파일한다.
+ * 조회는 항목 수와 무관하게 최대 32/128 단계이며, 일반적인 IP 표기(점 10진 IPv4, 16진 IPv6)는
+ * 문자열을 직접 {@code long} 키로 파싱하므로 객체를 할당하지 않는다.
+ *
+ * <p>IP 로 해석되지 않는 항목은 기존과 같이 문자열 정확 매칭으로만 비교한다.
+ * 불변 객체이므로 목록이 바뀌면 새로 컴파일해서 교체한다.
+ */
+public final class CidrIndex {
+
+    public static final CidrIndex EMPTY = compile(Set.of());
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+    private static final int IPV4_MAPPED_PREFIX = 96;
+    private static final long IPV4_MAPPED_MARKER = 0xFFFFL;
+    private static final int NOT_PARSED = -2;
+
+    private final BitTrie ipv4;
+    private final BitTrie ipv6;
+    private final Set<String> exactEntries;
+    private final String[] rules;
+
+    private CidrIndex(BitTrie ipv4, BitTrie ipv6, Set<String> exactEntries, String[] rules) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+        this.exactEntries = exactEntries;
+        this.rules = rules;
+    }
+
+    /**
+     * 블랙리스트 항목 컴파일
+     *
+     * @param entries IP 또는 CIDR 항목 (예: "192.168.1.100", "10.0.0.0/8", "2001:db8::/32")
+     * @return 컴파일된 인덱스
+     */
+    public static CidrIndex compile(Collection<String> entries) {
+        BitTrie.Builder ipv4 = new BitTrie.Builder();
+        BitTrie.Builder ipv6 = new BitTrie.Builder();
+        HashSet<String> exact = new HashSet<>();
+        String[] rules = new String[entries.size()];
+        int ruleCount = 0;
+
+        for (String entry : entries) {
+            int slash = entry.indexOf('/');
+            String address = slash >= 0 ? entry.substring(0, slash) : entry;
+            InetAddress inetAddress = parseLiteral(address);
+            Integer prefix = slash >= 0 ? parsePrefix(entry.substring(slash + 1)) : null;
+            if (inetAddress == null || (slash >= 0 && prefix == null)) {
+                exact.add(entry);
+                continue;
+            }
+
+            byte[] bytes = inetAddress.getAddress();
+            int maxBits = bytes.length * 8;
+            int prefixLength = prefix != null ? prefix : maxBits;
+            // ::ffff:a.b.c.d/120 처럼 IPv4-mapped 로 쓴 항목은 IPv4 prefix 로 환산
+            if (inetAddress instanceof Inet4Address && address.indexOf(':') >= 0 && prefixLength > IPV4_BITS) {
+                prefixLength -= IPV4_MAPPED_PREFIX;
+            }
+            if (prefixLength < 0 || prefixLength > maxBits) {
+                exact.add(entry);
+                continue;
+            }
+
+            rules[ruleCount] = entry;
+            if (bytes.length == 4) {
+                ipv4.insert(toLong(bytes, 0) << 32, 0L, prefixLength, ruleCount);
+            } else {
+                ipv6.insert(toLong(bytes, 0), toLong(bytes, 8), prefixLength, ruleCount);
+            }
+            ruleCount++;
+        }
+
+        return new CidrIndex(ipv4.build(), ipv6.build(), Set.copyOf(exact), Arrays.copyOf(rules, ruleCount));
+    }
+
+    /**
+     * 인덱스 항목 수 (trie 항목 + 정확 매칭 항목)
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return rules.length + exactEntries.size();
+    }
+
+    /**
+     * IP 가 블랙리스트 항목에 포함되는지 확인
+     *
+     * @param ip 확인할 IP (정규화된 값)
+     * @return 매칭된 블랙리스트 항목 (없으면 null)
+     */
+    public String match(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return null;
+        }
+        if (!exactEntries.isEmpty() && exactEntries.contains(ip)) {
+            return ip;
+        }
+
+        long ipv4Key = parseIpv4(ip);
+        if (ipv4Key >= 0) {
+            return rule(ipv4.find(ipv4Key << 32, 0L, IPV4_BITS));
+        }
+        if (ip.indexOf(':') >= 0) {
+            int found = findIpv6(ip);
+            if (found != NOT_PARSED) {
+                return rule(found);
+            }
+        }
+        return matchSlow(ip);
+    }
+
+    private String rule(int index) {
+        return index >= 0 ? rules[index] : null;
+    }
+
+    /**
+     * 빠른 파서가 처리하지 못하는 표기 (IPv4 내장 IPv6, zone id, 축약 IPv4 등)
+     * 드문 경우라 {@link InetAddress#ofLiteral(String)} 로 처리한다. DNS 조회는 하지 않는다.
+     */
+    private String matchSlow(String ip) {
+        InetAddress inetAddress = parseLiteral(ip);
+        if (inetAddress == null) {
+            return null;
+        }
+        byte[] bytes = inetAddress.getAddress();
+        if (bytes.length == 4) {
+            return rule(ipv4.find(toLong(bytes, 0) << 32, 0L, IPV4_BITS));
+        }
+        return rule(ipv6.find(toLong(bytes, 0), toLong(bytes, 8), IPV6_BITS));
+    }
+
+    /**
+     * 16진 그룹과 "::" 로만 이루어진 IPv6 주소를 파싱해서 조회
+     * 객체 할당 없이 상위/하위 64비트를 지역 변수로 계산한다.
+     *
+     * @return 매칭된 항목 인덱스, 없으면 -1, 이 파서로 처리할 수 없는 표기면 NOT_PARSED
+     */
+    private int findIpv6(String ip) {
+        int length = ip.length();
+        long headHi = 0;
+        long headLo = 0;
+        long tailHi = 0;
+        long tailLo = 0;
+        int headGroups = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+
+        int i = 0;
+        if (length >= 2 && ip.charAt(0) == ':' && ip.charAt(1) == ':') {
+            compressed = true;
+            i = 2;
+        }
+        while (i < length) {
+            int group = 0;
+            int digits = 0;
+            while (i < length && digits <= 4) {
+                int digit = hexDigit(ip.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                group = (group << 4) | digit;
+                digits++;
+                i++;
+            }
+            if (digits == 0 || digits > 4) {
+                return NOT_PARSED;
+            }
+            if (compressed) {
+                tailHi = (tailHi << 16) | (tailLo >>> 48);
+                tailLo = (tailLo << 16) | group;
+                tailGroups++;
+            } else {
+                headHi = (headHi << 16) | (headLo >>> 48);
+                headLo = (headLo << 16) | group;
+                headGroups++;
+            }
+            if (i == length) {
+                break;
+            }
+            if (ip.charAt(i) != ':') {
+                return NOT_PARSED;
+            }
+            i++;
+            if (i < length && ip.charAt(i) == ':') {
+                if (compressed) {
+                    return NOT_PARSED;
+                }
+                compressed = true;
+                i++;
+            } else if (i == length) {
+                return NOT_PARSED;
+            }
+        }
+
+        int groups = headGroups + tailGroups;
+        if (compressed ? groups > 7 : groups != 8) {
+            return NOT_PARSED;
+        }
+
+        // head 를 왼쪽으로 정렬한 뒤 tail 과 합친다
+        int shift = 16 * (8 - headGroups);
+        long hi;
+        long lo;
+        if (shift >= 128) {
+            hi = 0;
+            lo = 0;
+        } else if (shift >= 64) {
+            hi = headLo << (shift - 64);
+            lo = 0;
+        } else if (shift > 0) {
+            hi = (headHi << shift) | (headLo >>> (64 - shift));
+            lo = headLo << shift;
+        } else {
+            hi = headHi;
+            lo = headLo;
+        }
+        hi |= tailHi;
+        lo |= tailLo;
+
+        // IPv4-mapped (::ffff:a.b.c.d 의 16진 표기) 는 IPv4 로 조회
+        if (hi == 0 && (lo >>> 32) == IPV4_MAPPED_MARKER) {
+            return ipv4.find(lo << 32, 0L, IPV4_BITS);
+        }
+        return ipv6.find(hi, lo, IPV6_BITS);
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * 점 10진 IPv4 주소 파싱 (할당 없음)
+     *
+     * @return 32비트 주소 값, 형식이 아니면 -1
+     */
+    static long parseIpv4(String ip) {
+        int length = ip.length();
+        long value = 0;
+        int octets = 0;
+        int i = 0;
+        while (i < length) {
+            int octet = 0;
+            int digits = 0;
+            while (i < length) {
+                char c = ip.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                digits++;
+                i++;
+            }
+            if (digits == 0 || digits > 3 || octet > 255) {
+                return -1;
+            }
+            value = (value << 8) | octet;
+            octets++;
+            if (i == length) {
+                break;
+            }
+            if (ip.charAt(i) != '.' || octets == 4) {
+                return -1;
+            }
+            i++;
+            if (i == length) {
+                return -1;
+            }
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    private static InetAddress parseLiteral(String address) {
+        try {
+            return InetAddress.ofLiteral(address);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Integer parsePrefix(String prefix) {
+        try {
+            return Integer.parseInt(prefix);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        int end = Math.min(offset + 8, bytes.length);
+        for (int i = offset; i < end; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * 주소 비트 이진 trie (배열 기반)
+     * 주소는 상위 64비트(hi)부터 하위 64비트(lo) 순으로 비트를 읽는다. IPv4 는 hi 의 상위 32비트를 쓴다.
+     * 노드 0 은 루트이며 자식 인덱스 0 은 "자식 없음"을 뜻한다.
+     */
+    private static final class BitTrie {
+
+        private static final int NO_RULE = -1;
+
+        private final int[] zero;
+        private final int[] one;
+        private final int[] rule;
+
+        private BitTrie(int[] zero, int[] one, int[] rule) {
+            this.zero = zero;
+            this.one = one;
+            this.rule = rule;
+        }
+
+        /**
+         * 가장 짧은 prefix 부터 확인하므로 처음 만나는 항목을 바로 반환한다.
+         *
+         * @return 매칭된 항목 인덱스, 없으면 -1
+         */
+        int find(long hi, long lo, int bits) {
+            int node = 0;
+            if (rule[node] != NO_RULE) {
+                return rule[node];
+            }
+            for (int depth = 0; depth < bits; depth++) {
+                node = bit(hi, lo, depth) == 0 ? zero[node] : one[node];
+                if (node == 0) {
+                    return NO_RULE;
+                }
+                if (rule[node] != NO_RULE) {
+                    return rule[node];
+                }
+            }
+            return NO_RULE;
+        }
+
+        private static int bit(long hi, long lo, int depth) {
+            return depth < 64
+                    ? (int) (hi >>> (63 - depth)) & 1
+                    : (int) (lo >>> (127 - depth)) & 1;
+        }
+
+        private static final class Builder {
+
+            private int[] zero = new int[64];
+            private int[] one = new int[64];
+            private int[] rule = newRules(64);
+            private int size = 1;
+
+            void insert(long hi, long lo, int prefixLength, int ruleIndex) {
+                int node = 0;
+                for (int depth = 0; depth < prefixLength; depth++) {
+                    // 더 넓은 범위가 이미 있으면 하위 범위는 추가할 필요가 없다
+                    if (rule[node] != NO_RULE) {
+                        return;
+                    }
+                    boolean zeroBit = bit(hi, lo, depth) == 0;
+                    int child = zeroBit ? zero[node] : one[node];
+                    if (child == 0) {
+                        // newNode() 가 배열을 늘릴 수 있으므로 할당 후에 배열을 참조한다
+                        child = newNode();
+                        if (zeroBit) {
+                            zero[node] = child;
+                        } else {
+                            one[node] = child;
+                        }
+                    }
+                    node = child;
+                }
+                if (rule[node] == NO_RULE) {
+                    rule[node] = ruleIndex;
+                }
+            }
+
+            private int newNode() {
+                if (size == rule.length) {
+                    int capacity = size * 2;
+                    zero = Arrays.copyOf(zero, capacity);
+                    one = Arrays.copyOf(one, capacity);
+                    int[] grown = newRules(capacity);
+                    System.arraycopy(rule, 0, grown, 0, size);
+                    rule = grown;
+                }
+                return size++;
+            }
+
+            private static int[] newRules(int capacity) {
+                int[] rules = new int[capacity];
+                Arrays.fill(rules, NO_RULE);
+                return rules;
+            }
+
+            BitTrie build() {
+                return new BitTrie(
+                        Arrays.copyOf(zero, size),
+                        Arrays.copyOf(one, size),
+                        Arrays.copyOf(rule, size));
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.porest.hr.security.service;
+
+import com.porest.hr.common.config.properties.IpBlacklistProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * IP 별 악용 점수 집계 및 자동 차단
+ * 악성 패턴 요청과 (설정 시) 401 응답을 IP 별 슬라이딩 윈도우로 집계하고, 윈도우 안 점수가 임계치를 넘으면
+ * {@link IpBlacklistService#addToBlacklist(String, Duration)} 으로 일정 시간 차단한다.
+ *
+ * <p>윈도우는 시간 버킷 배열({@link AtomicLongArray})이라 기록/합산에 락이 없다. 버킷이 다음 주기로 넘어갈 때
+ * 초기화와 동시에 들어온 기록은 유실될 수 있어 점수는 근사치이며, 차단 판단에는 충분하다.
+ * 요청이 끊긴 IP 의 윈도우는 주기적으로 제거한다.
+ */
+@Slf4j
+@Component
+public class IpAbuseTracker {
+
+    private final IpBlacklistProperties ipBlacklistProperties;
+    private final IpBlacklistService ipBlacklistService;
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final Counter bannedCounter;
+
+    public IpAbuseTracker(IpBlacklistProperties ipBlacklistProperties,
+                          IpBlacklistService ipBlacklistService,
+                          MeterRegistry meterRegistry) {
+        this.ipBlacklistProperties = ipBlacklistProperties;
+        this.ipBlacklistService = ipBlacklistService;
+        this.bannedCounter = Counter.builder("security.ip_auto_ban.banned")
+                .description("자동 차단된 IP 수")
+                .register(meterRegistry);
+        Gauge.builder("security.ip_auto_ban.tracked", windows, Map::size)
+                .description("점수를 집계 중인 IP 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 악성 패턴 요청 기록
+     *
+     * @param ip 클라이언트 IP
+     */
+    public void recordPatternHit(String ip) {
+        record(ip, ipBlacklistProperties.getAutoBan().getPatternHitWeight(), System.currentTimeMillis());
+    }
+
+    /**
+     * 인증 실패(401) 응답 기록 (auth-failure-enabled 일 때만 집계)
+     *
+     * @param ip 클라이언트 IP
+     */
+    public void recordAuthFailure(String ip) {
+        IpBlacklistProperties.AutoBan autoBan = ipBlacklistProperties.getAutoBan();
+        if (!autoBan.isAuthFailureEnabled()) {
+            return;
+        }
+        record(ip, autoBan.getAuthFailureWeight(), System.currentTimeMillis());
+    }
+
+    /**
+     * 점수 기록 후 임계치를 넘으면 차단
+     *
+     * @return 이번 기록으로 차단했으면 true
+     */
+    boolean record(String ip, long weight, long now) {
+        IpBlacklistProperties.AutoBan autoBan = ipBlacklistProperties.getAutoBan();
+        if (!autoBan.isEnabled() || ip == null || ip.isEmpty() || weight <= 0) {
+            return false;
+        }
+
+        SlidingWindow window = windows.get(ip);
+        if (window == null) {
+            // 대량의 위조 IP 로 메모리가 늘어나지 않도록 추적 IP 수를 제한
+            if (windows.size() >= autoBan.getMaxTrackedIps()) {
+                return false;
+            }
+            window = windows.computeIfAbsent(ip, key -> new SlidingWindow(
+                    autoBan.getBuckets(), Math.max(1, autoBan.getWindow() / autoBan.getBuckets())));
+        }
+
+        long score = window.add(weight, now);
+        if (score < autoBan.getThreshold() || !window.markBanned()) {
+            return false;
+        }
+
+        windows.remove(ip, window);
+        ipBlacklistService.addToBlacklist(ip, Duration.ofMillis(autoBan.getBanTtl()));
+        bannedCounter.increment();
+        log.warn("🚫 IP auto-banned - IP: {}, score: {} (threshold {} in {}ms), ttl: {}ms",
+                ip, score, autoBan.getThreshold(), autoBan.getWindow(), autoBan.getBanTtl());
+        return true;
+    }
+
+    /**
+     * 현재 윈도우 점수가 높은 IP 조회
+     *
+     * @param limit 최대 개수
+     * @return 점수 내림차순 목록
+     */
+    public List<AbuseScore> getTopScores(int limit) {
+        long now = System.currentTimeMillis();
+        return windows.entrySet().stream()
+                .map(entry -> new AbuseScore(entry.getKey(), entry.getValue().sum(now)))
+                .filter(score -> score.getScore() > 0)
+                .sorted(Comparator.comparingLong(AbuseScore::getScore).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 윈도우 길이 동안 기록이 없는 IP 제거
+     */
+    @Scheduled(fixedDelayString = "${security.ip-blacklist.auto-ban.window:60000}")
+    public void evictIdle() {
+        evictIdle(System.currentTimeMillis());
+    }
+
+    void evictIdle(long now) {
+        long idleBefore = now - ipBlacklistProperties.getAutoBan().getWindow();
+        windows.values().removeIf(window -> window.lastSeen < idleBefore);
+    }
+
+    /**
+     * IP 별 현재 점수
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AbuseScore {
+        private String ip;
+        private long score;
+    }
+
+    /**
+     * 시간 버킷 기반 슬라이딩 윈도우
+     * 버킷 i 는 (epoch % buckets == i) 인 주기의 점수를 담고, epochs[i] 로 어느 주기의 값인지 구분한다.
+     */
+    static final class SlidingWindow {
+
+        private final int buckets;
+        private final long bucketMillis;
+        private final AtomicLongArray counts;
+        private final AtomicLongArray epochs;
+        private final AtomicBoolean banned = new AtomicBoolean();
+        private volatile long lastSeen;
+
+        SlidingWindow(int buckets, long bucketMillis) {
+            this.buckets = buckets;
+            this.bucketMillis = bucketMillis;
+            this.counts = new AtomicLongArray(buckets);
+            this.epochs = new AtomicLongArray(buckets);
+        }
+
+        long add(long weight, long now) {
+            long epoch = now / bucketMillis;
+            int index = (int) (epoch % buckets);
+            long current = epochs.get(index);
+            if (current < epoch && epochs.compareAndSet(index, current, epoch)) {
+                // 지난 주기의 값을 비우고 이번 주기로 재사용
+                counts.set(index, 0);
+            }
+            counts.addAndGet(index, weight);
+            lastSeen = now;
+            return sum(now);
+        }
+
+        long sum(long now) {
+            long epoch = now / bucketMillis;
+            long total = 0;
+            for (int i = 0; i < buckets; i++) {
+                if (epoch - epochs.get(i) < buckets) {
+                    total += counts.get(i);
+                }
+            }
+            return total;
+        }
+
+        boolean markBanned() {
+            return banned.compareAndSet(false, true);
+        }
+    }
+}
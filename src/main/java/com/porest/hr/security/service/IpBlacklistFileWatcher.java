@@ -0,0 +1,132 @@
+package com.porest.hr.security.service;
+
+import com.porest.core.config.properties.SecurityProperties;
+import com.porest.hr.common.config.properties.IpBlacklistProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * IP 블랙리스트 파일 감시자
+ * 블랙리스트 파일이 있는 디렉터리를 {@link WatchService} 로 감시하다가 변경이 생기면
+ * 백그라운드 스레드에서 {@link IpBlacklistService#reloadFromFile()} 을 호출한다.
+ *
+ * <p>편집기 저장이나 Kubernetes ConfigMap 갱신(심볼릭 링크 교체)은 이벤트가 여러 번, 파일 이름이 아닌
+ * 항목으로도 오기 때문에 디렉터리 이벤트는 모두 받아서 debounce 후 한 번만 다시 로드한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IpBlacklistFileWatcher implements SmartLifecycle {
+
+    private final SecurityProperties securityProperties;
+    private final IpBlacklistProperties ipBlacklistProperties;
+    private final IpBlacklistService ipBlacklistService;
+
+    private volatile boolean running;
+    private volatile WatchService watchService;
+    private volatile Thread watcher;
+
+    @Override
+    public void start() {
+        running = true;
+        if (!securityProperties.getIpBlacklist().isEnabled() || !ipBlacklistProperties.getWatch().isEnabled()) {
+            return;
+        }
+        String filePath = securityProperties.getIpBlacklist().getFilePath();
+        if (!StringUtils.hasText(filePath)) {
+            return;
+        }
+
+        Path directory = Paths.get(filePath).toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            log.warn("IP blacklist directory not found, file watching disabled: {}", directory);
+            return;
+        }
+
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            watchService = service;
+        } catch (IOException e) {
+            log.error("Failed to watch IP blacklist directory: {}", directory, e);
+            return;
+        }
+
+        watcher = Thread.ofPlatform()
+                .name("ip-blacklist-watcher")
+                .daemon(true)
+                .start(this::watchLoop);
+        log.info("Watching IP blacklist file for changes: {}", filePath);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        WatchService service = watchService;
+        if (service == null) {
+            return;
+        }
+        try {
+            service.close();
+        } catch (IOException e) {
+            log.warn("Failed to close IP blacklist watch service", e);
+        }
+        Thread thread = watcher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watchLoop() {
+        long debounce = ipBlacklistProperties.getWatch().getDebounce();
+        try {
+            while (running) {
+                WatchKey key = watchService.take();
+                drain(key);
+
+                // debounce: 이어지는 이벤트가 없을 때까지 모았다가 한 번만 다시 로드
+                WatchKey next;
+                while ((next = watchService.poll(debounce, TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+
+                try {
+                    ipBlacklistService.reloadFromFile();
+                } catch (Exception e) {
+                    log.error("Failed to reload IP blacklist file", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stop() 에서 닫힘
+        }
+    }
+
+    private void drain(WatchKey key) {
+        key.pollEvents();
+        key.reset();
+    }
+}
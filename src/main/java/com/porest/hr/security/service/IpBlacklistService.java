@@ -1,12 +1,17 @@
 package com.porest.hr.security.service;
 
+import com.porest.hr.common.event.IpBlacklistEvent;
+
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 
 /**
  * IP 블랙리스트 관리 서비스
  * - 설정 파일 기반 블랙리스트
  * - 외부 파일 기반 블랙리스트
- * - 런타임 동적 추가/제거
+ * - 런타임 동적 추가/제거 (Redis 로 노드 간 공유)
+ * - 외부 파일 변경 시 재시작 없이 다시 로드
  * - CIDR 표기법 지원
  */
 public interface IpBlacklistService {
@@ -26,6 +31,15 @@ public interface IpBlacklistService {
      */
     void addToBlacklist(String ipAddress);
 
+    /**
+     * 런타임에 IP를 일정 시간 동안 블랙리스트에 추가 (자동 차단용)
+     * 이미 더 오래 차단된 IP 는 기존 만료 시각을 유지한다.
+     *
+     * @param ipAddress 차단할 IP
+     * @param ttl       차단 유지 시간
+     */
+    void addToBlacklist(String ipAddress, Duration ttl);
+
     /**
      * 런타임 블랙리스트에서 IP 제거
      *
@@ -37,4 +51,24 @@ public interface IpBlacklistService {
      * 현재 런타임 블랙리스트 조회
      */
     Set<String> getRuntimeBlacklist();
+
+    /**
+     * 현재 런타임 블랙리스트 조회 (만료 시각 포함)
+     *
+     * @return 차단 IP 목록 (IP 순)
+     */
+    List<BlockedIp> getRuntimeBlacklistEntries();
+
+    /**
+     * 외부 파일 블랙리스트 다시 로드
+     * 새 스냅샷을 만든 뒤 한 번에 교체한다. 파일을 읽지 못하면 기존 스냅샷을 유지한다.
+     */
+    void reloadFromFile();
+
+    /**
+     * 다른 노드에서 발행한 런타임 블랙리스트 변경 반영 (재발행하지 않음)
+     *
+     * @param event IP 블랙리스트 이벤트
+     */
+    void applyRemoteEvent(IpBlacklistEvent event);
 }
@@ -1,6 +1,8 @@
 package com.porest.hr.security.service;
 
 import com.porest.core.config.properties.SecurityProperties;
+import com.porest.hr.common.event.IpBlacklistEvent;
+import com.porest.hr.common.event.IpBlacklistEventPublisher;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,36 +11,46 @@ import org.springframework.util.StringUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IpBlacklistServiceImpl implements IpBlacklistService {
 
+    private static final long PERMANENT = Long.MAX_VALUE;
+
     private final SecurityProperties securityProperties;
+    private final IpBlacklistEventPublisher ipBlacklistEventPublisher;
 
     /**
-     * 런타임에 추가된 블랙리스트 (동적 차단용)
-     * ConcurrentHashMap으로 스레드 안전성 보장
+     * 런타임에 추가된 블랙리스트 (동적 차단용, IP → 만료 시각 epoch millis)
+     * ConcurrentHashMap으로 스레드 안전성 보장, Redis 로 다른 노드와 공유
+     * 영구 차단은 {@link #PERMANENT} 이며, 만료된 항목은 조회 시 제거한다.
      */
-    private final Set<String> runtimeBlockedIps = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> runtimeBlockedIps = new ConcurrentHashMap<>();
 
     /**
-     * 외부 파일에서 로드된 블랙리스트
+     * 외부 파일에서 로드된 블랙리스트 (로드 시점에 CIDR trie 로 컴파일)
+     * 파일이 바뀌면 새 스냅샷을 만들어 참조만 교체하므로 조회 시 락이 필요 없다.
      */
-    private final List<String> fileBasedBlockedIps = new ArrayList<>();
+    private volatile CidrIndex fileBasedBlockedIps = CidrIndex.EMPTY;
 
     /**
-     * 애플리케이션 시작 시 외부 파일에서 IP 블랙리스트 로드
+     * 애플리케이션 시작 시 외부 파일과 공유 런타임 블랙리스트(Redis) 로드
      */
     @PostConstruct
     public void init() {
@@ -48,11 +60,21 @@ public class IpBlacklistServiceImpl implements IpBlacklistService {
         }
 
         loadBlockedIpsFromFile();
+        runtimeBlockedIps.putAll(ipBlacklistEventPublisher.findSharedBlacklist());
         logBlacklistSummary();
     }
 
+    @Override
+    public void reloadFromFile() {
+        if (!securityProperties.getIpBlacklist().isEnabled()) {
+            return;
+        }
+        loadBlockedIpsFromFile();
+    }
+
     /**
      * 외부 파일에서 IP 블랙리스트 로드
+     * 파일을 읽지 못하면 기존 스냅샷을 유지한다.
      */
     private void loadBlockedIpsFromFile() {
         String filePath = securityProperties.getIpBlacklist().getFilePath();
@@ -75,23 +97,21 @@ public class IpBlacklistServiceImpl implements IpBlacklistService {
                 return;
             }
 
-            int loadedCount = 0;
+            List<String> entries = new ArrayList<>();
             try (BufferedReader reader = Files.newBufferedReader(path)) {
                 String line;
-                int lineNumber = 0;
 
                 while ((line = reader.readLine()) != null) {
-                    lineNumber++;
                     String ip = parseLine(line);
 
                     if (ip != null) {
-                        fileBasedBlockedIps.add(ip);
-                        loadedCount++;
+                        entries.add(ip);
                     }
                 }
             }
 
-            log.info("✅ Loaded {} IP addresses from blacklist file: {}", loadedCount, filePath);
+            fileBasedBlockedIps = CidrIndex.compile(entries);
+            log.info("✅ Loaded {} IP addresses from blacklist file: {}", entries.size(), filePath);
 
         } catch (IOException e) {
             log.error("❌ Failed to read IP blacklist file: {}", filePath, e);
@@ -134,9 +154,10 @@ public class IpBlacklistServiceImpl implements IpBlacklistService {
      */
     private void logBlacklistSummary() {
         int fileCount = fileBasedBlockedIps.size();
+        int runtimeCount = runtimeBlockedIps.size();
 
-        if (fileCount > 0) {
-            log.info("📋 IP Blacklist loaded: {} IPs from file", fileCount);
+        if (fileCount > 0 || runtimeCount > 0) {
+            log.info("📋 IP Blacklist loaded: {} IPs from file, {} IPs shared at runtime", fileCount, runtimeCount);
         } else {
             log.info("📋 IP Blacklist is empty (no IPs configured in file)");
         }
@@ -156,17 +177,21 @@ public class IpBlacklistServiceImpl implements IpBlacklistService {
         String normalizedIp = normalizeIpAddress(ipAddress);
 
         // 1. 런타임 블랙리스트 확인 (정확한 매칭)
-        if (runtimeBlockedIps.contains(normalizedIp)) {
-            log.debug("IP {} is in runtime blacklist", normalizedIp);
-            return true;
+        Long expiresAt = runtimeBlockedIps.get(normalizedIp);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                log.debug("IP {} is in runtime blacklist", normalizedIp);
+                return true;
+            }
+            // 만료된 임시 차단은 제거 (그 사이 다시 차단됐으면 값이 달라 제거되지 않음)
+            runtimeBlockedIps.remove(normalizedIp, expiresAt);
         }
 
         // 2. 외부 파일 블랙리스트 확인 (CIDR 포함)
-        for (String blockedIp : fileBasedBlockedIps) {
-            if (matchesIpPattern(normalizedIp, blockedIp)) {
-                log.debug("IP {} matches file-based blacklist pattern: {}", normalizedIp, blockedIp);
-                return true;
-            }
+        String matchedPattern = fileBasedBlockedIps.match(normalizedIp);
+        if (matchedPattern != null) {
+            log.debug("IP {} matches file-based blacklist pattern: {}", normalizedIp, matchedPattern);
+            return true;
         }
 
         return false;
@@ -175,20 +200,59 @@ public class IpBlacklistServiceImpl implements IpBlacklistService {
     @Override
     public void addToBlacklist(String ipAddress) {
         String normalizedIp = normalizeIpAddress(ipAddress);
-        runtimeBlockedIps.add(normalizedIp);
+        runtimeBlockedIps.put(normalizedIp, PERMANENT);
+        ipBlacklistEventPublisher.publishBlocked(normalizedIp, null);
         log.warn("⚠️ IP added to runtime blacklist: {}", normalizedIp);
     }
 
+    @Override
+    public void addToBlacklist(String ipAddress, Duration ttl) {
+        String normalizedIp = normalizeIpAddress(ipAddress);
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        // 이미 더 길게(영구 포함) 차단된 IP 는 줄이지 않는다
+        long merged = runtimeBlockedIps.merge(normalizedIp, expiresAt, Math::max);
+        ipBlacklistEventPublisher.publishBlocked(normalizedIp, merged == PERMANENT ? null : merged);
+        log.warn("⚠️ IP added to runtime blacklist for {}: {}", ttl, normalizedIp);
+    }
+
     @Override
     public void removeFromBlacklist(String ipAddress) {
         String normalizedIp = normalizeIpAddress(ipAddress);
         runtimeBlockedIps.remove(normalizedIp);
+        ipBlacklistEventPublisher.publishUnblocked(normalizedIp);
         log.info("IP removed from runtime blacklist: {}", normalizedIp);
     }
 
+    @Override
+    public void applyRemoteEvent(IpBlacklistEvent event) {
+        String normalizedIp = normalizeIpAddress(event.getIp());
+        switch (event.getType()) {
+            case IP_BLOCKED -> runtimeBlockedIps.put(normalizedIp,
+                    event.getExpiresAt() != null ? event.getExpiresAt() : PERMANENT);
+            case IP_UNBLOCKED -> runtimeBlockedIps.remove(normalizedIp);
+        }
+        log.info("Applied IP blacklist event from {}: type={}, ip={}", event.getOrigin(), event.getType(), normalizedIp);
+    }
+
     @Override
     public Set<String> getRuntimeBlacklist() {
-        return Set.copyOf(runtimeBlockedIps);
+        long now = System.currentTimeMillis();
+        return runtimeBlockedIps.entrySet().stream()
+                .filter(entry -> entry.getValue() > now)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public List<BlockedIp> getRuntimeBlacklistEntries() {
+        long now = System.currentTimeMillis();
+        return runtimeBlockedIps.entrySet().stream()
+                .filter(entry -> entry.getValue() > now)
+                .map(entry -> new BlockedIp(entry.getKey(), entry.getValue() == PERMANENT
+                        ? null
+                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getValue()), ZoneId.systemDefault())))
+                .sorted(Comparator.comparing(BlockedIp::getIp))
+                .toList();
     }
 
     /**
@@ -213,69 +277,4 @@ public class IpBlacklistServiceImpl implements IpBlacklistService {
 
         return ipAddress;
     }
-
-    /**
-     * IP 패턴 매칭 (CIDR 표기법 지원)
-     *
-     * @param ip      확인할 IP
-     * @param pattern 패턴 (예: "192.168.1.100" 또는 "192.168.1.0/24")
-     * @return 매칭되면 true
-     */
-    private boolean matchesIpPattern(String ip, String pattern) {
-        // 정확한 매칭
-        if (ip.equals(pattern)) {
-            return true;
-        }
-
-        // CIDR 표기법 처리 (예: 192.168.1.0/24)
-        if (pattern.contains("/")) {
-            return matchesCidr(ip, pattern);
-        }
-
-        return false;
-    }
-
-    /**
-     * CIDR 표기법 매칭
-     *
-     * @param ip         확인할 IP (예: "192.168.1.100")
-     * @param cidr       CIDR 표기 (예: "192.168.1.0/24")
-     * @return 범위 내에 있으면 true
-     */
-    private boolean matchesCidr(String ip, String cidr) {
-        try {
-            String[] parts = cidr.split("/");
-            if (parts.length != 2) {
-                return false;
-            }
-
-            String networkAddress = parts[0];
-            int prefixLength = Integer.parseInt(parts[1]);
-
-            InetAddress ipAddr = InetAddress.getByName(ip);
-            InetAddress networkAddr = InetAddress.getByName(networkAddress);
-
-            byte[] ipBytes = ipAddr.getAddress();
-            byte[] networkBytes = networkAddr.getAddress();
-
-            if (ipBytes.length != networkBytes.length) {
-                return false; // IPv4와 IPv6 혼용 불가
-            }
-
-            int maskBits = prefixLength;
-            for (int i = 0; i < ipBytes.length; i++) {
-                int mask = (maskBits >= 8) ? 0xFF : (0xFF << (8 - maskBits)) & 0xFF;
-                maskBits = Math.max(0, maskBits - 8);
-
-                if ((ipBytes[i] & mask) != (networkBytes[i] & mask)) {
-                    return false;
-                }
-            }
-
-            return true;
-        } catch (UnknownHostException | NumberFormatException e) {
-            log.error("Invalid CIDR pattern: {}", cidr, e);
-            return false;
-        }
-    }
 }
@@ -8,6 +8,7 @@ import com.porest.hr.common.exception.HrErrorCode;
 import com.porest.hr.permission.domain.Role;
 import com.porest.hr.security.controller.dto.TokenExchangeDto;
 import com.porest.hr.security.jwt.JwtTokenProvider;
+import com.porest.hr.security.jwt.VerifiedToken;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -59,14 +60,15 @@ public class TokenExchangeService {
     public TokenExchangeDto.ExchangeResult exchange(String ssoToken) {
         log.debug("Token exchange request received");
 
-        // 1. SSO JWT 검증
-        if (!jwtTokenProvider.validateSsoToken(ssoToken)) {
+        // 1. SSO JWT 검증 (한 번만 파싱하고 이후에는 스냅샷 사용)
+        VerifiedToken verifiedToken = jwtTokenProvider.parseSsoToken(ssoToken);
+        if (verifiedToken == null) {
             log.warn("Invalid SSO token");
             throw new UnauthorizedException(ErrorCode.UNAUTHORIZED, "Invalid SSO token");
         }
 
         // 2. SSO JWT에서 서비스 접근 목록 추출
-        List<String> services = jwtTokenProvider.getServicesFromSsoToken(ssoToken);
+        List<String> services = verifiedToken.getServices();
         log.debug("Services from SSO token: {}", services);
 
         // 3. HR 서비스 접근 권한 확인
@@ -76,7 +78,7 @@ public class TokenExchangeService {
         }
 
         // 4. 사용자 정보 추출
-        String userId = jwtTokenProvider.getUserIdFromSsoToken(ssoToken);
+        String userId = verifiedToken.getSubject();
 
         // 5. HR DB에서 사용자 조회
         User user = userService.findUserById(userId);
@@ -0,0 +1,122 @@
+package com.porest.hr.security.service;
+
+import com.porest.hr.common.cache.CacheNames;
+import com.porest.hr.common.config.properties.JwtProperties;
+import com.porest.hr.permission.domain.Role;
+import com.porest.hr.user.domain.User;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자 권한 캐시 (SSO 토큰 인증용)
+ * SSO JWT 에는 HR 권한 정보가 없어 요청마다 사용자·역할·권한을 fetch join 으로 조회했다.
+ * 인증에 필요한 필드와 {@link User#getAllAuthorities()} 결과만 사용자별로 캐시한다.
+ *
+ * <p>스냅샷은 2단계 캐시({@link CacheNames#USER_AUTHORITY})에 둔다. 역할/권한 변경, 사용자 수정,
+ * SSO 사용자 이벤트에서 커밋 이후에 무효화하고, 무효화 메시지로 다른 노드의 L1 도 함께 지운다.
+ * 권한 회수가 다른 노드에서 TTL 동안 남아 있지 않도록 노드 로컬 캐시만 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAuthorityCache {
+
+    private final JwtProperties jwtProperties;
+    private final CacheManager cacheManager;
+    private Cache cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = cacheManager.getCache(CacheNames.USER_AUTHORITY);
+    }
+
+    /**
+     * 캐시된 사용자 권한 조회, 없으면 loader 로 조회 후 캐시
+     *
+     * @param userId 사용자 ID
+     * @param loader 사용자 조회 함수 (역할/권한 포함)
+     * @return 사용자 권한 스냅샷
+     */
+    public CachedUserAuthority get(String userId, Function<String, User> loader) {
+        if (!jwtProperties.getUserAuthorityCache().isEnabled()) {
+            return CachedUserAuthority.from(loader.apply(userId));
+        }
+        return cache.get(userId, () -> CachedUserAuthority.from(loader.apply(userId)));
+    }
+
+    /**
+     * 사용자 한 명의 캐시 무효화 (트랜잭션 안이면 커밋 이후, 다른 노드 포함)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(String userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.evict(userId);
+        log.debug("사용자 권한 캐시 무효화: userId={}", userId);
+    }
+
+    /**
+     * 전체 캐시 무효화 (트랜잭션 안이면 커밋 이후, 다른 노드 포함)
+     * 역할/권한 변경은 여러 사용자에 영향을 주므로 전체를 비운다.
+     */
+    public void evictAll() {
+        cache.clear();
+        log.debug("사용자 권한 캐시 전체 무효화");
+    }
+
+    /**
+     * 캐시되는 사용자 권한 스냅샷 (엔티티를 캐시하지 않는다)
+     */
+    @Getter
+    public static class CachedUserAuthority implements Serializable {
+        private final String userId;
+        private final Long ssoUserRowId;
+        private final String name;
+        private final String email;
+        private final List<String> roles;
+        private final List<String> authorities;
+
+        private CachedUserAuthority(String userId, Long ssoUserRowId, String name, String email,
+                                    List<String> roles, List<String> authorities) {
+            this.userId = userId;
+            this.ssoUserRowId = ssoUserRowId;
+            this.name = name;
+            this.email = email;
+            this.roles = roles;
+            this.authorities = authorities;
+        }
+
+        public static CachedUserAuthority from(User user) {
+            return new CachedUserAuthority(
+                    user.getId(),
+                    user.getSsoUserRowId(),
+                    user.getName(),
+                    user.getEmail(),
+                    user.getRoles().stream().map(Role::getCode).toList(),
+                    List.copyOf(user.getAllAuthorities())
+            );
+        }
+
+        /**
+         * 역할 코드를 제외한 권한 코드 목록
+         *
+         * @return 권한 코드 목록
+         */
+        public List<String> getPermissions() {
+            return authorities.stream()
+                    .filter(authority -> !roles.contains(authority))
+                    .toList();
+        }
+    }
+}
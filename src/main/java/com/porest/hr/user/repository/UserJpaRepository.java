@@ -4,6 +4,7 @@ import com.porest.core.type.YNType;
 import com.porest.hr.permission.domain.Role;
 import com.porest.hr.user.domain.User;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -40,6 +41,16 @@ public class UserJpaRepository implements UserRepository {
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Override
+    public Optional<User> findByIdForUpdate(String userId) {
+        List<User> result = em.createQuery(
+                        "select u from User u where u.id = :userId", User.class)
+                .setParameter("userId", userId)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
     @Override
     public List<User> findUsers() {
         return em.createQuery("select u from User u where u.isDeleted = :isDeleted and u.company != :systemCompany", User.class)
@@ -117,6 +128,53 @@ public class UserJpaRepository implements UserRepository {
         return users;
     }
 
+    @Override
+    public List<User> findUsersByIds(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return em.createQuery("select u from User u where u.id in :userIds and u.isDeleted = :isDeleted", User.class)
+                .setParameter("userIds", userIds)
+                .setParameter("isDeleted", YNType.N)
+                .getResultList();
+    }
+
+    @Override
+    public List<User> findUsersByIdsWithRolesAndPermissions(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 1단계: User + UserRole + Role 조회
+        List<User> users = em.createQuery(
+                "select distinct u from User u " +
+                "left join fetch u.userRoles ur " +
+                "left join fetch ur.role r " +
+                "where u.id in :userIds and u.isDeleted = :isDeleted", User.class)
+                .setParameter("userIds", userIds)
+                .setParameter("isDeleted", YNType.N)
+                .getResultList();
+
+        // 2단계: 모든 사용자의 Role들에 대한 RolePermission + Permission 조회
+        List<Role> allRoles = users.stream()
+                .flatMap(u -> u.getRoles().stream())
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (!allRoles.isEmpty()) {
+            em.createQuery(
+                "select distinct r from Role r " +
+                "left join fetch r.rolePermissions rp " +
+                "left join fetch rp.permission p " +
+                "where r in :roles", Role.class)
+                .setParameter("roles", allRoles)
+                .getResultList();
+        }
+
+        return users;
+    }
+
     @Override
     public List<User> findDeletedUsersByModifyDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return em.createQuery(
@@ -5,6 +5,7 @@ import com.porest.hr.permission.domain.Role;
 import com.porest.hr.user.domain.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
@@ -49,6 +50,16 @@ public class UserQueryDslRepository implements UserRepository {
         );
     }
 
+    @Override
+    public Optional<User> findByIdForUpdate(String userId) {
+        return Optional.ofNullable(query
+                .selectFrom(user)
+                .where(user.id.eq(userId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne()
+        );
+    }
+
     @Override
     public List<User> findUsers() {
         return query
@@ -123,6 +134,54 @@ public class UserQueryDslRepository implements UserRepository {
         return users;
     }
 
+    @Override
+    public List<User> findUsersByIds(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return query
+                .selectFrom(user)
+                .where(user.id.in(userIds)
+                        .and(user.isDeleted.eq(YNType.N)))
+                .fetch();
+    }
+
+    @Override
+    public List<User> findUsersByIdsWithRolesAndPermissions(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 1단계: User + UserRole + Role 조회
+        List<User> users = query
+                .selectFrom(user)
+                .distinct()
+                .leftJoin(user.userRoles, userRole).fetchJoin()
+                .leftJoin(userRole.role, role).fetchJoin()
+                .where(user.id.in(userIds)
+                        .and(user.isDeleted.eq(YNType.N)))
+                .fetch();
+
+        // 2단계: 모든 사용자의 Role들에 대한 RolePermission + Permission 조회
+        List<Role> allRoles = users.stream()
+                .flatMap(u -> u.getRoles().stream())
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (!allRoles.isEmpty()) {
+            query
+                    .selectFrom(role)
+                    .distinct()
+                    .leftJoin(role.rolePermissions, rolePermission).fetchJoin()
+                    .leftJoin(rolePermission.permission).fetchJoin()
+                    .where(role.in(allRoles))
+                    .fetch();
+        }
+
+        return users;
+    }
+
     @Override
     public List<User> findDeletedUsersByModifyDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return query
@@ -33,6 +33,16 @@ public interface UserRepository {
      */
     Optional<User> findById(String userId);
 
+    /**
+     * userId로 단일 유저 검색 (비관적 쓰기 락)<br>
+     * 유저 행에 SELECT ... FOR UPDATE 를 걸어 같은 유저에 대한 휴가 차감/복구를 트랜잭션 단위로 직렬화한다.
+     * 락은 트랜잭션이 끝날 때 풀린다.
+     *
+     * @param userId 유저 ID
+     * @return Optional&lt;User&gt;
+     */
+    Optional<User> findByIdForUpdate(String userId);
+
     /**
      * userId로 유저 검색 (역할과 권한 정보 포함)
      *
@@ -55,6 +65,22 @@ public interface UserRepository {
      */
     List<User> findUsersWithRolesAndPermissions();
 
+    /**
+     * 여러 userId로 유저 일괄 조회 (삭제된 유저 제외)
+     *
+     * @param userIds 유저 ID 리스트
+     * @return List&lt;User&gt;
+     */
+    List<User> findUsersByIds(List<String> userIds);
+
+    /**
+     * 여러 userId로 유저 일괄 조회 (역할과 권한 정보 포함)
+     *
+     * @param userIds 유저 ID 리스트
+     * @return List&lt;User&gt;
+     */
+    List<User> findUsersByIdsWithRolesAndPermissions(List<String> userIds);
+
     /**
      * 삭제된 유저 중 modifyDate가 특정 기간 내인 유저 조회
      *
@@ -67,6 +67,17 @@ public interface UserService {
      */
     User checkUserExist(String userId);
 
+    /**
+     * 사용자 존재 여부 확인 및 조회 (비관적 쓰기 락)
+     * 사용자 행을 트랜잭션 종료까지 잠가 같은 사용자의 휴가 잔여 시간 변경을 직렬화한다.
+     * 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param userId 사용자 ID
+     * @return User 엔티티
+     * @throws com.porest.core.exception.EntityNotFoundException 사용자가 존재하지 않는 경우
+     */
+    User checkUserExistForUpdate(String userId);
+
     /**
      * 사용자 조회 (역할 및 권한 정보 포함)
      * 로그인 체크 시 최신 사용자 정보를 조회하기 위한 메서드
@@ -153,6 +164,14 @@ public interface UserService {
      */
     List<User> findAllUsers();
 
+    /**
+     * 전체 사용자 엔티티 목록 조회 (역할/권한 미포함)
+     * 사용자 기본 정보만 필요한 집계/통계용
+     *
+     * @return 모든 User 엔티티 리스트
+     */
+    List<User> findAllUsersWithoutRoles();
+
     /**
      * 사용자 초대<br>
      * SSO에 사용자 초대 요청 후 HR에 사용자 정보 저장
@@ -14,6 +14,7 @@ import com.porest.core.util.FileUtils;
 import com.porest.hr.department.repository.DepartmentRepository;
 import com.porest.hr.permission.domain.Role;
 import com.porest.hr.permission.repository.RoleRepository;
+import com.porest.hr.security.service.UserAuthorityCache;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.repository.UserRepository;
 import com.porest.hr.user.service.dto.UserServiceDto;
@@ -48,6 +49,7 @@ public class UserServiceImpl implements UserService {
     private final DepartmentRepository departmentRepository;
     private final EntityManager em;
     private final SsoApiClient ssoApiClient;
+    private final UserAuthorityCache userAuthorityCache;
 
     @Value("${sso.client-code}")
     private String ssoClientCode;
@@ -276,6 +278,7 @@ public class UserServiceImpl implements UserService {
                 data.getDashboard(),
                 data.getCountryCode()
         );
+        userAuthorityCache.evict(data.getId());
         log.info("사용자 수정 완료: id={}", data.getId());
     }
 
@@ -285,6 +288,7 @@ public class UserServiceImpl implements UserService {
         log.debug("사용자 삭제 시작: userId={}", userId);
         User user = checkUserExist(userId);
         user.deleteUser();
+        userAuthorityCache.evict(userId);
         log.info("사용자 삭제 완료: userId={}", userId);
     }
 
@@ -321,6 +325,16 @@ public class UserServiceImpl implements UserService {
         return findUser.get();
     }
 
+    @Override
+    public User checkUserExistForUpdate(String userId) {
+        Optional<User> findUser = userRepository.findByIdForUpdate(userId);
+        if ((findUser.isEmpty()) || YNType.isY(findUser.get().getIsDeleted())) {
+            log.warn("사용자 조회 실패 - 존재하지 않거나 삭제된 사용자: userId={}", userId);
+            throw new EntityNotFoundException(HrErrorCode.USER_NOT_FOUND);
+        }
+        return findUser.get();
+    }
+
     @Override
     public User findUserById(String userId) {
         Optional<User> findUser = userRepository.findByIdWithRolesAndPermissions(userId);
@@ -413,13 +427,21 @@ public class UserServiceImpl implements UserService {
                 departmentRepository.findApproversByUserId(userId);
         log.debug("승인권자 목록 조회 완료: userId={}, count={}", userId, approverDepartments.size());
 
+        // 승인권자(부서장)와 역할/권한 일괄 조회
+        List<String> approverIds = approverDepartments.stream()
+                .filter(dept -> dept.getHeadUser() != null)
+                .map(dept -> dept.getHeadUser().getId())
+                .distinct()
+                .toList();
+        Map<String, User> approversById = userRepository.findUsersByIdsWithRolesAndPermissions(approverIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
         return approverDepartments.stream()
                 .map(dept -> {
                     if (dept.getHeadUser() == null) {
                         return null;
                     }
-                    User approver = userRepository.findByIdWithRolesAndPermissions(dept.getHeadUser().getId())
-                            .orElse(null);
+                    User approver = approversById.get(dept.getHeadUser().getId());
 
                     if (approver == null || YNType.isY(approver.getIsDeleted())) {
                         return null;
@@ -495,6 +517,11 @@ public class UserServiceImpl implements UserService {
         return users;
     }
 
+    @Override
+    public List<User> findAllUsersWithoutRoles() {
+        return userRepository.findUsers();
+    }
+
     @Override
     @Transactional
     public UserServiceDto.InviteResult inviteUser(UserServiceDto data) {
@@ -74,7 +74,7 @@ public interface VacationApi {
 
     @Operation(
             summary = "모든 유저의 휴가 정보 조회",
-            description = "전체 사용자의 휴가 정보를 조회합니다."
+            description = "전체 사용자의 특정 연도 휴가 정보를 유저 ID 순으로 페이지 단위 조회합니다. 다음 페이지는 응답의 next_cursor 를 cursor 로 전달해 조회합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -87,7 +87,14 @@ public interface VacationApi {
             )
     })
     @GetMapping("/api/v1/vacations")
-    ApiResponse getAllUsersVacationHistory();
+    ApiResponse getAllUsersVacationHistory(
+            @Parameter(description = "조회할 연도", example = "2024", required = true)
+            @RequestParam("year") Integer year,
+            @Parameter(description = "이전 페이지의 마지막 유저 ID (첫 페이지는 생략)", example = "user123")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (유저 수, 최대 500)", example = "100")
+            @RequestParam(defaultValue = "100") int size
+    );
 
     @Operation(
             summary = "특정 유저의 사용 가능한 휴가 조회",
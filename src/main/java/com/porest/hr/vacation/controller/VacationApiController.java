@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -101,10 +102,10 @@ public class VacationApiController implements VacationApi {
 
     @Override
     @PreAuthorize("hasAuthority('VACATION:READ')")
-    public ApiResponse getAllUsersVacationHistory() {
-        List<VacationServiceDto> usersVacations = vacationService.getAllUsersVacationHistory();
+    public ApiResponse getAllUsersVacationHistory(Integer year, String cursor, int size) {
+        Slice<VacationServiceDto> usersVacations = vacationService.getAllUsersVacationHistory(year, cursor, size);
 
-        List<VacationApiDto.GetAllUsersVacationHistoryResp> resp = usersVacations.stream()
+        List<VacationApiDto.GetAllUsersVacationHistoryResp> content = usersVacations.getContent().stream()
                 .map(dto -> {
                     // VacationGrant 정보 변환
                     List<VacationApiDto.GetAllUsersVacationHistoryResp.VacationGrantInfo> grantInfos =
@@ -147,7 +148,14 @@ public class VacationApiController implements VacationApi {
                 })
                 .toList();
 
-        return ApiResponse.success(resp);
+        // 다음 페이지 커서는 이번 페이지의 마지막 유저 ID
+        String nextCursor = usersVacations.hasNext() ? content.get(content.size() - 1).getUserId() : null;
+
+        return ApiResponse.success(new VacationApiDto.GetAllUsersVacationHistoryPageResp(
+                content,
+                nextCursor,
+                usersVacations.hasNext()
+        ));
     }
 
     @Override
@@ -168,6 +168,15 @@ public class VacationApiDto {
         }
     }
 
+    @Getter
+    @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class GetAllUsersVacationHistoryPageResp {
+        private List<GetAllUsersVacationHistoryResp> content;
+        private String nextCursor;  // 다음 페이지 조회 시 cursor 로 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
     @Getter
     @AllArgsConstructor
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
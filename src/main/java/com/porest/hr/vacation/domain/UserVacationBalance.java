@@ -0,0 +1,76 @@
+package com.porest.hr.vacation.domain;
+
+import com.porest.hr.common.domain.AuditingFieldsWithIp;
+import com.porest.hr.user.domain.User;
+import com.porest.hr.vacation.type.VacationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 휴가 잔액 원장<br>
+ * 사용자/휴가 타입/유효기간(부여일 ~ 만료일)별로 사용 가능한(ACTIVE, EXHAUSTED) 부여 휴가의 부여 시간, 잔여 시간 합계를 보관<br>
+ * 행은 VacationBalanceLedger 가 DB 에서 바로 증감(INSERT ... ON DUPLICATE KEY UPDATE)하므로 엔티티로는 조회만 함
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // -> protected Order() {}와 동일한 의미 (롬복으로 생성자 막기)
+@Table(name = "user_vacation_balance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_vacation_balance",
+                columnNames = {"user_row_id", "vacation_type", "period_start", "period_end"}))
+public class UserVacationBalance extends AuditingFieldsWithIp {
+    /**
+     * 휴가 잔액 행 아이디<br>
+     * 테이블 관리용 seq
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "row_id")
+    private Long rowId;
+
+    /**
+     * 사용자 객체<br>
+     * 테이블 컬럼은 user_row_id
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_row_id", nullable = false)
+    private User user;
+
+    /**
+     * 휴가 타입
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vacation_type", nullable = false, length = 15)
+    private VacationType type;
+
+    /**
+     * 유효기간 시작일<br>
+     * 합산한 부여 휴가의 grantDate
+     */
+    @Column(name = "period_start", nullable = false)
+    private LocalDateTime periodStart;
+
+    /**
+     * 유효기간 종료일<br>
+     * 합산한 부여 휴가의 expiryDate
+     */
+    @Column(name = "period_end", nullable = false)
+    private LocalDateTime periodEnd;
+
+    /**
+     * 부여 시간 합계<br>
+     * 사용 가능한 부여 휴가의 grantTime 합계
+     */
+    @Column(name = "grant_time", nullable = false, precision = 9, scale = 4)
+    private BigDecimal grantTime;
+
+    /**
+     * 잔여 시간 합계<br>
+     * 사용 가능한 부여 휴가의 remainTime 합계
+     */
+    @Column(name = "remain_time", nullable = false, precision = 9, scale = 4)
+    private BigDecimal remainTime;
+}
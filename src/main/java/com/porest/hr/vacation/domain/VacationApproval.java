@@ -19,9 +19,11 @@ import java.time.LocalDateTime;
 public class VacationApproval extends AuditingFieldsWithIp {
     /**
      * 휴가 승인 행 아이디<br>
-     * 테이블 관리용 seq
+     * 테이블 관리용 PK (vacation_approval_seq 시퀀스, 50개 단위 pooled 할당)
      */
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vacation_approval_seq")
+    @SequenceGenerator(name = "vacation_approval_seq", sequenceName = "vacation_approval_seq", allocationSize = 50)
     @Column(name = "row_id")
     private Long rowId;
 
@@ -23,9 +23,12 @@ import java.util.List;
 public class VacationGrant extends AuditingFieldsWithIp {
     /**
      * 휴가 부여 행 아이디<br>
-     * 테이블 관리용 seq
+     * 테이블 관리용 PK (vacation_grant_seq 시퀀스, 50개 단위 pooled 할당)<br>
+     * IDENTITY 는 INSERT 마다 키를 받아야 해서 JDBC 배치가 꺼지므로 대량 생성 엔티티는 시퀀스를 사용
      */
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vacation_grant_seq")
+    @SequenceGenerator(name = "vacation_grant_seq", sequenceName = "vacation_grant_seq", allocationSize = 50)
     @Column(name = "row_id")
     private Long rowId;
 
@@ -15,9 +15,11 @@ import java.math.BigDecimal;
 public class VacationUsageDeduction extends AuditingFieldsWithIp {
     /**
      * 휴가 사용 차감 내역 행 아이디<br>
-     * 테이블 관리용 seq
+     * 테이블 관리용 PK (vacation_usage_deduction_seq 시퀀스, 50개 단위 pooled 할당)
      */
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vacation_usage_deduction_seq")
+    @SequenceGenerator(name = "vacation_usage_deduction_seq", sequenceName = "vacation_usage_deduction_seq", allocationSize = 50)
     @Column(name = "row_id")
     private Long rowId;
 
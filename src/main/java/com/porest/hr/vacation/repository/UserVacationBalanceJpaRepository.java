@@ -0,0 +1,112 @@
+package com.porest.hr.vacation.repository;
+
+import com.porest.hr.vacation.domain.UserVacationBalance;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
+import com.porest.hr.vacation.type.VacationType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository("userVacationBalanceJpaRepository")
+@RequiredArgsConstructor
+public class UserVacationBalanceJpaRepository implements UserVacationBalanceRepository {
+    // 행이 있으면 현재 값에 증감분을 더하고, 없으면 증감분으로 생성 (유니크 키: 사용자, 휴가 타입, 유효기간)
+    private static final String ADD_BALANCE_SQL =
+            "insert into user_vacation_balance (user_row_id, vacation_type, period_start, period_end, " +
+                    "grant_time, remain_time, create_at, create_by, modify_at, modify_by) " +
+                    "values (:userRowId, :type, :periodStart, :periodEnd, " +
+                    ":grantTime, :remainTime, :modifyAt, :modifyBy, :modifyAt, :modifyBy) " +
+                    "on duplicate key update grant_time = grant_time + values(grant_time), " +
+                    "remain_time = remain_time + values(remain_time), " +
+                    "modify_at = values(modify_at), modify_by = values(modify_by), modify_ip = null";
+
+    private final EntityManager em;
+
+    @Override
+    public void addBalance(Long userRowId, VacationType type, LocalDateTime periodStart, LocalDateTime periodEnd,
+                           BigDecimal grantTimeDelta, BigDecimal remainTimeDelta, LocalDateTime modifyAt, String modifyBy) {
+        em.createNativeQuery(ADD_BALANCE_SQL)
+                .setParameter("userRowId", userRowId)
+                .setParameter("type", type.name())
+                .setParameter("periodStart", periodStart)
+                .setParameter("periodEnd", periodEnd)
+                .setParameter("grantTime", grantTimeDelta)
+                .setParameter("remainTime", remainTimeDelta)
+                .setParameter("modifyAt", modifyAt)
+                .setParameter("modifyBy", modifyBy)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UserVacationBalance> findByUserIdAndDate(String userId, LocalDateTime date) {
+        return em.createQuery(
+                        "select uvb from UserVacationBalance uvb " +
+                                "where uvb.user.id = :userId " +
+                                "and uvb.remainTime > 0 " +
+                                "and uvb.periodStart <= :date " +
+                                "and uvb.periodEnd >= :date " +
+                                "order by uvb.periodEnd asc, uvb.periodStart asc", UserVacationBalance.class)
+                .setParameter("userId", userId)
+                .setParameter("date", date)
+                .getResultList();
+    }
+
+    @Override
+    public List<VacationTimeSumDto> sumGrantTimeByValidPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return em.createQuery(
+                        "select new com.porest.hr.vacation.repository.dto.VacationTimeSumDto(u.id, sum(uvb.grantTime)) " +
+                                "from UserVacationBalance uvb join uvb.user u " +
+                                "where uvb.periodStart <= :endOfPeriod " +
+                                "and uvb.periodEnd >= :startOfPeriod " +
+                                "group by u.id", VacationTimeSumDto.class)
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .getResultList();
+    }
+
+    @Override
+    public List<VacationBalanceSumDto> findSumsByUserRowIds(List<Long> userRowIds) {
+        if (userRowIds == null || userRowIds.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery(
+                        "select new com.porest.hr.vacation.repository.dto.VacationBalanceSumDto(" +
+                                "uvb.user.rowId, uvb.type, uvb.periodStart, uvb.periodEnd, uvb.grantTime, uvb.remainTime) " +
+                                "from UserVacationBalance uvb " +
+                                "where uvb.user.rowId in :userRowIds", VacationBalanceSumDto.class)
+                .setParameter("userRowIds", userRowIds)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findUserRowIdsAfter(Long afterUserRowId, int limit) {
+        TypedQuery<Long> typedQuery = em.createQuery(
+                        "select distinct uvb.user.rowId from UserVacationBalance uvb " +
+                                (afterUserRowId != null ? "where uvb.user.rowId > :afterUserRowId " : "") +
+                                "order by uvb.user.rowId asc", Long.class)
+                .setMaxResults(limit);
+        if (afterUserRowId != null) {
+            typedQuery.setParameter("afterUserRowId", afterUserRowId);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public long deleteEmptyByUserRowIds(List<Long> userRowIds) {
+        if (userRowIds == null || userRowIds.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery(
+                        "delete from UserVacationBalance uvb " +
+                                "where uvb.user.rowId in :userRowIds " +
+                                "and uvb.grantTime = 0 and uvb.remainTime = 0")
+                .setParameter("userRowIds", userRowIds)
+                .executeUpdate();
+    }
+}
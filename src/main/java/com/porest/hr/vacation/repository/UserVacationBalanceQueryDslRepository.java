@@ -0,0 +1,119 @@
+package com.porest.hr.vacation.repository;
+
+import com.porest.hr.vacation.domain.UserVacationBalance;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
+import com.porest.hr.vacation.type.VacationType;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.porest.hr.vacation.domain.QUserVacationBalance.userVacationBalance;
+
+@Repository
+@Primary
+@RequiredArgsConstructor
+public class UserVacationBalanceQueryDslRepository implements UserVacationBalanceRepository {
+    // 행이 있으면 현재 값에 증감분을 더하고, 없으면 증감분으로 생성 (유니크 키: 사용자, 휴가 타입, 유효기간)
+    private static final String ADD_BALANCE_SQL =
+            "insert into user_vacation_balance (user_row_id, vacation_type, period_start, period_end, " +
+                    "grant_time, remain_time, create_at, create_by, modify_at, modify_by) " +
+                    "values (:userRowId, :type, :periodStart, :periodEnd, " +
+                    ":grantTime, :remainTime, :modifyAt, :modifyBy, :modifyAt, :modifyBy) " +
+                    "on duplicate key update grant_time = grant_time + values(grant_time), " +
+                    "remain_time = remain_time + values(remain_time), " +
+                    "modify_at = values(modify_at), modify_by = values(modify_by), modify_ip = null";
+
+    private final EntityManager em;
+    private final JPAQueryFactory query;
+
+    @Override
+    public void addBalance(Long userRowId, VacationType type, LocalDateTime periodStart, LocalDateTime periodEnd,
+                           BigDecimal grantTimeDelta, BigDecimal remainTimeDelta, LocalDateTime modifyAt, String modifyBy) {
+        em.createNativeQuery(ADD_BALANCE_SQL)
+                .setParameter("userRowId", userRowId)
+                .setParameter("type", type.name())
+                .setParameter("periodStart", periodStart)
+                .setParameter("periodEnd", periodEnd)
+                .setParameter("grantTime", grantTimeDelta)
+                .setParameter("remainTime", remainTimeDelta)
+                .setParameter("modifyAt", modifyAt)
+                .setParameter("modifyBy", modifyBy)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UserVacationBalance> findByUserIdAndDate(String userId, LocalDateTime date) {
+        return query
+                .selectFrom(userVacationBalance)
+                .where(userVacationBalance.user.id.eq(userId)
+                        .and(userVacationBalance.remainTime.gt(BigDecimal.ZERO))
+                        .and(userVacationBalance.periodStart.loe(date))
+                        .and(userVacationBalance.periodEnd.goe(date)))
+                .orderBy(userVacationBalance.periodEnd.asc(), userVacationBalance.periodStart.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<VacationTimeSumDto> sumGrantTimeByValidPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return query
+                .select(Projections.constructor(VacationTimeSumDto.class,
+                        userVacationBalance.user.id,
+                        userVacationBalance.grantTime.sumAggregate()))
+                .from(userVacationBalance)
+                .where(userVacationBalance.periodStart.loe(endOfPeriod)
+                        .and(userVacationBalance.periodEnd.goe(startOfPeriod)))
+                .groupBy(userVacationBalance.user.id)
+                .fetch();
+    }
+
+    @Override
+    public List<VacationBalanceSumDto> findSumsByUserRowIds(List<Long> userRowIds) {
+        if (userRowIds == null || userRowIds.isEmpty()) {
+            return List.of();
+        }
+        return query
+                .select(Projections.constructor(VacationBalanceSumDto.class,
+                        userVacationBalance.user.rowId,
+                        userVacationBalance.type,
+                        userVacationBalance.periodStart,
+                        userVacationBalance.periodEnd,
+                        userVacationBalance.grantTime,
+                        userVacationBalance.remainTime))
+                .from(userVacationBalance)
+                .where(userVacationBalance.user.rowId.in(userRowIds))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findUserRowIdsAfter(Long afterUserRowId, int limit) {
+        return query
+                .select(userVacationBalance.user.rowId)
+                .distinct()
+                .from(userVacationBalance)
+                .where(afterUserRowId != null ? userVacationBalance.user.rowId.gt(afterUserRowId) : null)
+                .orderBy(userVacationBalance.user.rowId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long deleteEmptyByUserRowIds(List<Long> userRowIds) {
+        if (userRowIds == null || userRowIds.isEmpty()) {
+            return 0;
+        }
+        return query
+                .delete(userVacationBalance)
+                .where(userVacationBalance.user.rowId.in(userRowIds)
+                        .and(userVacationBalance.grantTime.eq(BigDecimal.ZERO))
+                        .and(userVacationBalance.remainTime.eq(BigDecimal.ZERO)))
+                .execute();
+    }
+}
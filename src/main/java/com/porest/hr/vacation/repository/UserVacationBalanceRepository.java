@@ -0,0 +1,77 @@
+package com.porest.hr.vacation.repository;
+
+import com.porest.hr.vacation.domain.UserVacationBalance;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
+import com.porest.hr.vacation.type.VacationType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserVacationBalanceRepository {
+    /**
+     * 휴가 잔액 증감 (행이 없으면 생성)
+     * 읽고 다시 쓰지 않고 DB 에서 현재 값에 더하므로(INSERT ... ON DUPLICATE KEY UPDATE),
+     * 같은 행을 동시에 증감해도 한쪽 증감이 사라지지 않는다.
+     *
+     * @param userRowId 사용자 row id
+     * @param type 휴가 타입
+     * @param periodStart 유효기간 시작일 (부여 휴가의 grantDate)
+     * @param periodEnd 유효기간 종료일 (부여 휴가의 expiryDate)
+     * @param grantTimeDelta 부여 시간 증감
+     * @param remainTimeDelta 잔여 시간 증감
+     * @param modifyAt 수정 일시
+     * @param modifyBy 수정자 (없으면 null)
+     */
+    void addBalance(Long userRowId, VacationType type, LocalDateTime periodStart, LocalDateTime periodEnd,
+                    BigDecimal grantTimeDelta, BigDecimal remainTimeDelta, LocalDateTime modifyAt, String modifyBy);
+
+    /**
+     * 특정 날짜에 사용할 수 있는 휴가 잔액 조회
+     * VacationGrantRepository.findAvailableGrantsByUserIdAndDate 와 같은 조건을 유효기간별 합계 행에서 조회
+     * - periodStart <= date && periodEnd >= date
+     * - remainTime > 0
+     *
+     * @param userId 사용자 ID
+     * @param date 기준 날짜
+     * @return 휴가 타입/유효기간별 잔액
+     */
+    List<UserVacationBalance> findByUserIdAndDate(String userId, LocalDateTime date);
+
+    /**
+     * 사용자별 특정 기간 내 유효한 부여 시간 합계 (전체 유저 휴가 통계용)
+     * VacationGrantRepository.sumGrantTimeByValidPeriod 와 같은 조건을 유효기간별 합계 행에서 집계
+     * - periodStart <= endOfPeriod && periodEnd >= startOfPeriod
+     *
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @return 사용자별 grantTime 합계
+     */
+    List<VacationTimeSumDto> sumGrantTimeByValidPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
+
+    /**
+     * 사용자 row id 목록의 잔액 행 조회 (원장 대사용)
+     *
+     * @param userRowIds 사용자 row id 리스트
+     * @return 사용자/휴가 타입/유효기간별 잔액
+     */
+    List<VacationBalanceSumDto> findSumsByUserRowIds(List<Long> userRowIds);
+
+    /**
+     * 잔액 행이 있는 사용자 row id 조회 (사용자 row id 키셋, 원장 대사용)
+     *
+     * @param afterUserRowId 이전 청크의 마지막 사용자 row id (null이면 처음부터)
+     * @param limit 최대 조회 건수
+     * @return 사용자 row id 오름차순 리스트
+     */
+    List<Long> findUserRowIdsAfter(Long afterUserRowId, int limit);
+
+    /**
+     * 부여 시간, 잔여 시간이 모두 0 인 잔액 행 삭제 (원장 대사용)
+     *
+     * @param userRowIds 사용자 row id 리스트
+     * @return 삭제한 행 수
+     */
+    long deleteEmptyByUserRowIds(List<Long> userRowIds);
+}
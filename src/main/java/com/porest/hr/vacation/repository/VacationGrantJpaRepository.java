@@ -2,10 +2,14 @@ package com.porest.hr.vacation.repository;
 
 import com.porest.core.type.YNType;
 import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.type.GrantMethod;
 import com.porest.hr.vacation.type.GrantStatus;
 import com.porest.hr.vacation.type.VacationType;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -13,10 +17,23 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository("vacationGrantJpaRepository")
 @RequiredArgsConstructor
 public class VacationGrantJpaRepository implements VacationGrantRepository {
+    // 휴가 내역 조회 조건 (ACTIVE/EXHAUSTED/EXPIRED, 기간 겹침)
+    private static final String HISTORY_IN_PERIOD =
+            "vg.isDeleted = :isDeleted and vg.status in :statuses " +
+                    "and vg.grantDate <= :endOfPeriod and vg.expiryDate >= :startOfPeriod ";
+    // 사용자/휴가 타입/유효기간별 합계 (휴가 잔액 원장 증감, 대사용)
+    private static final String BALANCE_SUM_SELECT =
+            "select new com.porest.hr.vacation.repository.dto.VacationBalanceSumDto(" +
+                    "vg.user.rowId, vg.type, vg.grantDate, vg.expiryDate, sum(vg.grantTime), sum(vg.remainTime)) " +
+                    "from VacationGrant vg ";
+    private static final String BALANCE_SUM_GROUP_BY =
+            "group by vg.user.rowId, vg.type, vg.grantDate, vg.expiryDate";
+
     private final EntityManager em;
 
     @Override
@@ -143,18 +160,42 @@ public class VacationGrantJpaRepository implements VacationGrantRepository {
     }
 
     @Override
-    public List<VacationGrant> findExpiredTargets(LocalDateTime currentDate) {
-        return em.createQuery(
-                        "select vg from VacationGrant vg " +
-                                "join fetch vg.user " +
-                                "join fetch vg.policy " +
+    public List<Long> findExpiredTargetIdsForUpdate(LocalDateTime currentDate, Long afterRowId, int limit) {
+        TypedQuery<Long> typedQuery = em.createQuery(
+                        "select vg.rowId from VacationGrant vg " +
                                 "where vg.isDeleted = :isDeleted " +
                                 "and vg.status = :status " +
-                                "and vg.expiryDate < :currentDate", VacationGrant.class)
+                                "and vg.expiryDate < :currentDate " +
+                                (afterRowId != null ? "and vg.rowId > :afterRowId " : "") +
+                                "order by vg.rowId asc", Long.class)
                 .setParameter("isDeleted", YNType.N)
                 .setParameter("status", GrantStatus.ACTIVE)
                 .setParameter("currentDate", currentDate)
-                .getResultList();
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE);
+        if (afterRowId != null) {
+            typedQuery.setParameter("afterRowId", afterRowId);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public long expireByIds(List<Long> vacationGrantIds, LocalDateTime modifyAt, String modifyBy) {
+        if (vacationGrantIds == null || vacationGrantIds.isEmpty()) {
+            return 0;
+        }
+        // 벌크 UPDATE 에는 감사 리스너가 돌지 않으므로 감사 컬럼을 직접 채운다
+        return em.createQuery(
+                        "update VacationGrant vg set vg.status = :expired, vg.modifyAt = :modifyAt, " +
+                                "vg.modifyBy = :modifyBy, vg.modifyIp = null " +
+                                "where vg.rowId in :ids and vg.isDeleted = :isDeleted and vg.status = :status")
+                .setParameter("expired", GrantStatus.EXPIRED)
+                .setParameter("modifyAt", modifyAt)
+                .setParameter("modifyBy", modifyBy)
+                .setParameter("ids", vacationGrantIds)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("status", GrantStatus.ACTIVE)
+                .executeUpdate();
     }
 
     @Override
@@ -244,4 +285,125 @@ public class VacationGrantJpaRepository implements VacationGrantRepository {
                 .setParameter("isDeleted", YNType.N)
                 .getResultList();
     }
+
+    @Override
+    public List<VacationTimeSumDto> sumGrantTimeByValidPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return em.createQuery(
+                        "select new com.porest.hr.vacation.repository.dto.VacationTimeSumDto(vg.user.id, sum(vg.grantTime)) " +
+                                "from VacationGrant vg " +
+                                "where vg.grantDate <= :endOfPeriod " +
+                                "and vg.expiryDate >= :startOfPeriod " +
+                                "and vg.status in :statuses " +
+                                "and vg.isDeleted = :isDeleted " +
+                                "group by vg.user.id", VacationTimeSumDto.class)
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .setParameter("statuses", List.of(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED))
+                .setParameter("isDeleted", YNType.N)
+                .getResultList();
+    }
+
+    @Override
+    public List<VacationTimeSumDto> sumGrantTimeByStatusesAndPeriod(List<GrantStatus> statuses, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return em.createQuery(
+                        "select new com.porest.hr.vacation.repository.dto.VacationTimeSumDto(vg.user.id, sum(vg.grantTime)) " +
+                                "from VacationGrant vg " +
+                                "where vg.status in :statuses " +
+                                "and vg.requestStartTime between :startOfPeriod and :endOfPeriod " +
+                                "and vg.isDeleted = :isDeleted " +
+                                "group by vg.user.id", VacationTimeSumDto.class)
+                .setParameter("statuses", statuses)
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .setParameter("isDeleted", YNType.N)
+                .getResultList();
+    }
+
+    @Override
+    public List<String> findUserIdsWithHistoryAfter(String afterUserId, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod, int limit) {
+        TypedQuery<String> typedQuery = em.createQuery(
+                        "select u.id from User u " +
+                                "where u.company != :systemCompany " +
+                                (afterUserId != null ? "and u.id > :afterUserId " : "") +
+                                "and (exists (select 1 from VacationGrant vg where vg.user = u and " + HISTORY_IN_PERIOD + ") " +
+                                "or exists (select 1 from VacationUsage vu where vu.user = u and vu.isDeleted = :isDeleted " +
+                                "and vu.startDate between :startOfPeriod and :endOfPeriod)) " +
+                                "order by u.id asc", String.class)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("statuses", List.of(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED, GrantStatus.EXPIRED))
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .setParameter("systemCompany", "SYSTEM")
+                .setMaxResults(limit);
+        if (afterUserId != null) {
+            typedQuery.setParameter("afterUserId", afterUserId);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Stream<VacationGrant> streamByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Stream.empty();
+        }
+        return em.createQuery(
+                        "select vg from VacationGrant vg " +
+                                "join fetch vg.user " +
+                                "join fetch vg.policy " +
+                                "where vg.user.id in :userIds and vg.user.company != :systemCompany and " + HISTORY_IN_PERIOD +
+                                "order by vg.user.id asc, vg.grantDate asc", VacationGrant.class)
+                .setParameter("userIds", userIds)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("statuses", List.of(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED, GrantStatus.EXPIRED))
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .setParameter("systemCompany", "SYSTEM")
+                .getResultStream();
+    }
+
+    @Override
+    public List<VacationBalanceSumDto> sumActiveGrantsByIds(List<Long> vacationGrantIds) {
+        if (vacationGrantIds == null || vacationGrantIds.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery(
+                        BALANCE_SUM_SELECT +
+                                "where vg.rowId in :ids and vg.isDeleted = :isDeleted and vg.status = :status " +
+                                BALANCE_SUM_GROUP_BY, VacationBalanceSumDto.class)
+                .setParameter("ids", vacationGrantIds)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("status", GrantStatus.ACTIVE)
+                .getResultList();
+    }
+
+    @Override
+    public List<VacationBalanceSumDto> sumUsableGrantsByUserRowIds(List<Long> userRowIds) {
+        if (userRowIds == null || userRowIds.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery(
+                        BALANCE_SUM_SELECT +
+                                "where vg.user.rowId in :userRowIds and vg.isDeleted = :isDeleted and vg.status in :statuses " +
+                                BALANCE_SUM_GROUP_BY, VacationBalanceSumDto.class)
+                .setParameter("userRowIds", userRowIds)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("statuses", List.of(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED))
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findUsableUserRowIdsAfter(Long afterUserRowId, int limit) {
+        TypedQuery<Long> typedQuery = em.createQuery(
+                        "select distinct vg.user.rowId from VacationGrant vg " +
+                                "where vg.isDeleted = :isDeleted and vg.status in :statuses " +
+                                (afterUserRowId != null ? "and vg.user.rowId > :afterUserRowId " : "") +
+                                "order by vg.user.rowId asc", Long.class)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("statuses", List.of(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED))
+                .setMaxResults(limit);
+        if (afterUserRowId != null) {
+            typedQuery.setParameter("afterUserRowId", afterUserRowId);
+        }
+        return typedQuery.getResultList();
+    }
 }
@@ -1,12 +1,20 @@
 package com.porest.hr.vacation.repository;
 
 import com.porest.core.type.YNType;
+import com.porest.hr.user.domain.QUser;
 import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.type.GrantMethod;
 import com.porest.hr.vacation.type.GrantStatus;
 import com.porest.hr.vacation.type.VacationType;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
@@ -15,8 +23,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.porest.hr.vacation.domain.QVacationGrant.vacationGrant;
+import static com.porest.hr.vacation.domain.QVacationUsage.vacationUsage;
 
 @Repository
 @Primary
@@ -127,17 +137,38 @@ public class VacationGrantQueryDslRepository implements VacationGrantRepository
     }
 
     @Override
-    public List<VacationGrant> findExpiredTargets(LocalDateTime currentDate) {
+    public List<Long> findExpiredTargetIdsForUpdate(LocalDateTime currentDate, Long afterRowId, int limit) {
         return query
-                .selectFrom(vacationGrant)
-                .join(vacationGrant.user).fetchJoin()
-                .join(vacationGrant.policy).fetchJoin()
+                .select(vacationGrant.rowId)
+                .from(vacationGrant)
                 .where(vacationGrant.isDeleted.eq(YNType.N)
                         .and(vacationGrant.status.eq(GrantStatus.ACTIVE))
-                        .and(vacationGrant.expiryDate.lt(currentDate)))
+                        .and(vacationGrant.expiryDate.lt(currentDate)),
+                        afterRowId != null ? vacationGrant.rowId.gt(afterRowId) : null)
+                .orderBy(vacationGrant.rowId.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetch();
     }
 
+    @Override
+    public long expireByIds(List<Long> vacationGrantIds, LocalDateTime modifyAt, String modifyBy) {
+        if (vacationGrantIds == null || vacationGrantIds.isEmpty()) {
+            return 0;
+        }
+        // 벌크 UPDATE 에는 감사 리스너가 돌지 않으므로 감사 컬럼을 직접 채운다
+        return query
+                .update(vacationGrant)
+                .set(vacationGrant.status, GrantStatus.EXPIRED)
+                .set(vacationGrant.modifyAt, modifyAt)
+                .set(vacationGrant.modifyBy, modifyBy)
+                .setNull(vacationGrant.modifyIp)
+                .where(vacationGrant.rowId.in(vacationGrantIds)
+                        .and(vacationGrant.isDeleted.eq(YNType.N))
+                        .and(vacationGrant.status.eq(GrantStatus.ACTIVE)))
+                .execute();
+    }
+
     @Override
     public Optional<VacationGrant> findById(Long id) {
         return Optional.ofNullable(query
@@ -208,4 +239,133 @@ public class VacationGrantQueryDslRepository implements VacationGrantRepository
                         .and(vacationGrant.isDeleted.eq(YNType.N)))
                 .fetch();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<VacationTimeSumDto> sumGrantTimeByValidPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return query
+                .select(Projections.constructor(VacationTimeSumDto.class,
+                        vacationGrant.user.id,
+                        vacationGrant.grantTime.sumAggregate()))
+                .from(vacationGrant)
+                .where(vacationGrant.grantDate.loe(endOfPeriod)
+                        .and(vacationGrant.expiryDate.goe(startOfPeriod))
+                        .and(vacationGrant.status.in(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED))
+                        .and(vacationGrant.isDeleted.eq(YNType.N)))
+                .groupBy(vacationGrant.user.id)
+                .fetch();
+    }
+
+    @Override
+    public List<VacationTimeSumDto> sumGrantTimeByStatusesAndPeriod(List<GrantStatus> statuses, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return query
+                .select(Projections.constructor(VacationTimeSumDto.class,
+                        vacationGrant.user.id,
+                        vacationGrant.grantTime.sumAggregate()))
+                .from(vacationGrant)
+                .where(vacationGrant.status.in(statuses)
+                        .and(vacationGrant.requestStartTime.between(startOfPeriod, endOfPeriod))
+                        .and(vacationGrant.isDeleted.eq(YNType.N)))
+                .groupBy(vacationGrant.user.id)
+                .fetch();
+    }
+
+    @Override
+    public List<String> findUserIdsWithHistoryAfter(String afterUserId, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod, int limit) {
+        QUser user = QUser.user;
+        return query
+                .select(user.id)
+                .from(user)
+                .where(user.company.ne("SYSTEM"),
+                        afterUserId != null ? user.id.gt(afterUserId) : null,
+                        JPAExpressions.selectOne()
+                                .from(vacationGrant)
+                                .where(vacationGrant.user.eq(user), historyInPeriod(startOfPeriod, endOfPeriod))
+                                .exists()
+                                .or(JPAExpressions.selectOne()
+                                        .from(vacationUsage)
+                                        .where(vacationUsage.user.eq(user),
+                                                vacationUsage.isDeleted.eq(YNType.N),
+                                                vacationUsage.startDate.between(startOfPeriod, endOfPeriod))
+                                        .exists()))
+                .orderBy(user.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<VacationGrant> streamByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Stream.empty();
+        }
+        return query
+                .selectFrom(vacationGrant)
+                .join(vacationGrant.user).fetchJoin()
+                .join(vacationGrant.policy).fetchJoin()
+                .where(vacationGrant.user.id.in(userIds),
+                        vacationGrant.user.company.ne("SYSTEM"),
+                        historyInPeriod(startOfPeriod, endOfPeriod))
+                .orderBy(vacationGrant.user.id.asc(), vacationGrant.grantDate.asc())
+                .stream();
+    }
+
+    private BooleanExpression historyInPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return vacationGrant.isDeleted.eq(YNType.N)
+                .and(vacationGrant.status.in(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED, GrantStatus.EXPIRED))
+                .and(vacationGrant.grantDate.loe(endOfPeriod))
+                .and(vacationGrant.expiryDate.goe(startOfPeriod));
+    }
+
+    @Override
+    public List<VacationBalanceSumDto> sumActiveGrantsByIds(List<Long> vacationGrantIds) {
+        if (vacationGrantIds == null || vacationGrantIds.isEmpty()) {
+            return List.of();
+        }
+        return query
+                .select(balanceSum())
+                .from(vacationGrant)
+                .where(vacationGrant.rowId.in(vacationGrantIds)
+                        .and(vacationGrant.isDeleted.eq(YNType.N))
+                        .and(vacationGrant.status.eq(GrantStatus.ACTIVE)))
+                .groupBy(vacationGrant.user.rowId, vacationGrant.type, vacationGrant.grantDate, vacationGrant.expiryDate)
+                .fetch();
+    }
+
+    @Override
+    public List<VacationBalanceSumDto> sumUsableGrantsByUserRowIds(List<Long> userRowIds) {
+        if (userRowIds == null || userRowIds.isEmpty()) {
+            return List.of();
+        }
+        return query
+                .select(balanceSum())
+                .from(vacationGrant)
+                .where(vacationGrant.user.rowId.in(userRowIds)
+                        .and(vacationGrant.isDeleted.eq(YNType.N))
+                        .and(vacationGrant.status.in(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED)))
+                .groupBy(vacationGrant.user.rowId, vacationGrant.type, vacationGrant.grantDate, vacationGrant.expiryDate)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findUsableUserRowIdsAfter(Long afterUserRowId, int limit) {
+        return query
+                .select(vacationGrant.user.rowId)
+                .distinct()
+                .from(vacationGrant)
+                .where(vacationGrant.isDeleted.eq(YNType.N)
+                        .and(vacationGrant.status.in(GrantStatus.ACTIVE, GrantStatus.EXHAUSTED)),
+                        afterUserRowId != null ? vacationGrant.user.rowId.gt(afterUserRowId) : null)
+                .orderBy(vacationGrant.user.rowId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private static ConstructorExpression<VacationBalanceSumDto> balanceSum() {
+        return Projections.constructor(VacationBalanceSumDto.class,
+                vacationGrant.user.rowId,
+                vacationGrant.type,
+                vacationGrant.grantDate,
+                vacationGrant.expiryDate,
+                vacationGrant.grantTime.sumAggregate(),
+                vacationGrant.remainTime.sumAggregate());
+    }
+}
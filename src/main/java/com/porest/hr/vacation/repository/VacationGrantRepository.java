@@ -1,12 +1,15 @@
 package com.porest.hr.vacation.repository;
 
 import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.type.GrantStatus;
 import com.porest.hr.vacation.type.VacationType;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface VacationGrantRepository {
     /**
@@ -80,15 +83,31 @@ public interface VacationGrantRepository {
     List<VacationGrant> findValidGrantsByUserIdAndBaseTime(String userId, LocalDateTime baseTime);
 
     /**
-     * 만료 대상 VacationGrant 조회
+     * 만료 대상 VacationGrant ID 조회 (비관적 쓰기 락)
      * - status == ACTIVE
      * - expiryDate < 현재 날짜
      * - isDeleted == N
+     * - rowId 기준 키셋 페이지네이션 (rowId 오름차순, afterRowId 초과)
+     * - 조회한 행은 트랜잭션이 끝날 때까지 잠기므로 같은 트랜잭션의 expireByIds 가 정확히 이 행들을 만료 처리함
      *
      * @param currentDate 현재 날짜
-     * @return 만료 대상 VacationGrant 리스트
+     * @param afterRowId 이전 청크의 마지막 rowId (첫 청크는 null)
+     * @param limit 최대 조회 건수
+     * @return 만료 대상 VacationGrant ID 리스트
      */
-    List<VacationGrant> findExpiredTargets(LocalDateTime currentDate);
+    List<Long> findExpiredTargetIdsForUpdate(LocalDateTime currentDate, Long afterRowId, int limit);
+
+    /**
+     * 주어진 ID 중 ACTIVE 상태인 부여 휴가를 한 번의 UPDATE 로 만료 처리<br>
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 대상 엔티티를 읽어 두었다면 다시 조회해야 함<br>
+     * 감사 리스너가 돌지 않으므로 수정 일시/수정자를 인자로 채우고, 요청이 없는 배치 작업이라 수정 IP 는 비움
+     *
+     * @param vacationGrantIds VacationGrant ID 리스트
+     * @param modifyAt 수정 일시 (회사 시계 기준)
+     * @param modifyBy 수정자
+     * @return 만료 처리된 건수
+     */
+    long expireByIds(List<Long> vacationGrantIds, LocalDateTime modifyAt, String modifyBy);
 
     /**
      * ID로 VacationGrant 조회
@@ -147,4 +166,92 @@ public interface VacationGrantRepository {
      * @return 조건에 맞는 VacationGrant 리스트
      */
     List<VacationGrant> findByUserIdsAndStatusesAndPeriod(List<String> userIds, List<GrantStatus> statuses, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
-}
\ No newline at end of file
+
+    /**
+     * 사용자별 특정 기간 내 유효한 VacationGrant 의 grantTime 합계 (전체 유저 휴가 통계용)
+     * findByUserIdsAndValidPeriod 와 같은 조건을 전체 사용자에 대해 집계
+     * - grantDate <= endOfPeriod && expiryDate >= startOfPeriod
+     * - status: ACTIVE 또는 EXHAUSTED
+     * - isDeleted == N
+     *
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @return 사용자별 grantTime 합계
+     */
+    List<VacationTimeSumDto> sumGrantTimeByValidPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
+
+    /**
+     * 사용자별 특정 상태, 특정 기간 내 신청한 VacationGrant 의 grantTime 합계 (전체 유저 휴가 통계용)
+     * findByUserIdsAndStatusesAndPeriod 와 같은 조건을 전체 사용자에 대해 집계
+     * - requestStartTime between startOfPeriod and endOfPeriod
+     * - isDeleted == N
+     *
+     * @param statuses 조회할 상태 리스트
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @return 사용자별 grantTime 합계
+     */
+    List<VacationTimeSumDto> sumGrantTimeByStatusesAndPeriod(List<GrantStatus> statuses, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
+
+    /**
+     * 특정 기간의 휴가 부여 또는 사용 내역이 있는 유저 ID 조회 (유저 ID 기준 키셋 페이지네이션)
+     * 유저 테이블 한 곳에서 정렬/비교하므로 DB 정렬 규칙(collation)과 커서 비교가 항상 일치함
+     * - 부여: streamByUserIdsAndPeriod 조건
+     * - 사용: VacationUsageRepository.streamByUserIdsAndPeriod 조건
+     * - 시스템 계정 제외
+     *
+     * @param afterUserId 이전 페이지의 마지막 유저 ID (null이면 처음부터)
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @param limit 최대 조회 수
+     * @return afterUserId 보다 큰 유저 ID 리스트 (오름차순)
+     */
+    List<String> findUserIdsWithHistoryAfter(String afterUserId, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod, int limit);
+
+    /**
+     * 여러 유저의 특정 기간 휴가 부여 내역 스트림 조회 (User, Policy 정보 포함)
+     * - grantDate <= endOfPeriod && expiryDate >= startOfPeriod
+     * - status: ACTIVE, EXHAUSTED, EXPIRED
+     * - isDeleted == N, 시스템 계정 제외
+     * - 유저 ID 및 grantDate 오름차순<br>
+     * 반환된 Stream 은 트랜잭션 안에서 사용 후 반드시 close 해야 함
+     *
+     * @param userIds 유저 ID 리스트
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @return VacationGrant 스트림
+     */
+    Stream<VacationGrant> streamByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
+
+    /**
+     * ID 목록 중 ACTIVE 상태인 VacationGrant 의 사용자/휴가 타입/유효기간별 합계 (만료 시 휴가 잔액 원장 차감용)
+     * expireByIds 와 같은 조건
+     * - status: ACTIVE
+     * - isDeleted == N
+     *
+     * @param vacationGrantIds VacationGrant ID 리스트
+     * @return 사용자/휴가 타입/유효기간별 grantTime, remainTime 합계
+     */
+    List<VacationBalanceSumDto> sumActiveGrantsByIds(List<Long> vacationGrantIds);
+
+    /**
+     * 사용자 row id 목록의 사용 가능한 VacationGrant 사용자/휴가 타입/유효기간별 합계 (휴가 잔액 원장 대사용)
+     * - status: ACTIVE 또는 EXHAUSTED
+     * - isDeleted == N
+     *
+     * @param userRowIds 사용자 row id 리스트
+     * @return 사용자/휴가 타입/유효기간별 grantTime, remainTime 합계
+     */
+    List<VacationBalanceSumDto> sumUsableGrantsByUserRowIds(List<Long> userRowIds);
+
+    /**
+     * 사용 가능한 VacationGrant 가 있는 사용자 row id 조회 (사용자 row id 키셋, 휴가 잔액 원장 대사용)
+     * - status: ACTIVE 또는 EXHAUSTED
+     * - isDeleted == N
+     *
+     * @param afterUserRowId 이전 청크의 마지막 사용자 row id (null이면 처음부터)
+     * @param limit 최대 조회 건수
+     * @return 사용자 row id 오름차순 리스트
+     */
+    List<Long> findUsableUserRowIdsAfter(Long afterUserRowId, int limit);
+}
@@ -4,6 +4,7 @@ import com.porest.core.type.YNType;
 import com.porest.hr.vacation.domain.VacationGrantSchedule;
 import com.porest.hr.vacation.type.GrantMethod;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -55,8 +56,8 @@ public class VacationGrantScheduleJpaRepository implements VacationGrantSchedule
     }
 
     @Override
-    public List<VacationGrantSchedule> findRepeatGrantTargetsForToday(LocalDate today) {
-        return em.createQuery(
+    public List<VacationGrantSchedule> findRepeatGrantTargetsForToday(LocalDate today, Long afterRowId, int limit) {
+        TypedQuery<VacationGrantSchedule> typedQuery = em.createQuery(
                 "select s from VacationGrantSchedule s " +
                 "left join fetch s.user u " +
                 "left join fetch s.vacationPolicy p " +
@@ -64,10 +65,31 @@ public class VacationGrantScheduleJpaRepository implements VacationGrantSchedule
                 "and p.grantMethod = :grantMethod " +
                 "and p.isDeleted = :isDeleted " +
                 "and u.isDeleted = :isDeleted " +
-                "and (s.nextGrantDate is null or s.nextGrantDate <= :today)", VacationGrantSchedule.class)
+                "and (s.nextGrantDate is null or s.nextGrantDate <= :today) " +
+                (afterRowId != null ? "and s.rowId > :afterRowId " : "") +
+                "order by s.rowId asc", VacationGrantSchedule.class)
                 .setParameter("isDeleted", YNType.N)
                 .setParameter("grantMethod", GrantMethod.REPEAT_GRANT)
                 .setParameter("today", today)
+                .setMaxResults(limit);
+        if (afterRowId != null) {
+            typedQuery.setParameter("afterRowId", afterRowId);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public List<VacationGrantSchedule> findByIdsWithUserAndPolicy(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery(
+                "select s from VacationGrantSchedule s " +
+                "left join fetch s.user u " +
+                "left join fetch s.vacationPolicy p " +
+                "where s.rowId in :scheduleIds " +
+                "order by s.rowId asc", VacationGrantSchedule.class)
+                .setParameter("scheduleIds", scheduleIds)
                 .getResultList();
     }
 }
@@ -70,7 +70,7 @@ public class VacationGrantScheduleQueryDslRepository implements VacationGrantSch
     }
 
     @Override
-    public List<VacationGrantSchedule> findRepeatGrantTargetsForToday(LocalDate today) {
+    public List<VacationGrantSchedule> findRepeatGrantTargetsForToday(LocalDate today, Long afterRowId, int limit) {
         QVacationGrantSchedule schedule = QVacationGrantSchedule.vacationGrantSchedule;
         QUser user = QUser.user;
         QVacationPolicy policy = QVacationPolicy.vacationPolicy;
@@ -85,8 +85,30 @@ public class VacationGrantScheduleQueryDslRepository implements VacationGrantSch
                         policy.isDeleted.eq(YNType.N),
                         user.isDeleted.eq(YNType.N),
                         schedule.nextGrantDate.isNull()
-                                .or(schedule.nextGrantDate.loe(today))
+                                .or(schedule.nextGrantDate.loe(today)),
+                        afterRowId != null ? schedule.rowId.gt(afterRowId) : null
                 )
+                .orderBy(schedule.rowId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<VacationGrantSchedule> findByIdsWithUserAndPolicy(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QVacationGrantSchedule schedule = QVacationGrantSchedule.vacationGrantSchedule;
+        QUser user = QUser.user;
+        QVacationPolicy policy = QVacationPolicy.vacationPolicy;
+
+        return queryFactory
+                .selectFrom(schedule)
+                .leftJoin(schedule.user, user).fetchJoin()
+                .leftJoin(schedule.vacationPolicy, policy).fetchJoin()
+                .where(schedule.rowId.in(scheduleIds))
+                .orderBy(schedule.rowId.asc())
                 .fetch();
     }
 }
@@ -39,10 +39,22 @@ public interface VacationGrantScheduleRepository {
     /**
      * 오늘 부여 대상 스케줄 목록 조회<br>
      * 스케줄러에서 사용<br>
-     * 조건: REPEAT_GRANT 정책, nextGrantDate <= today 또는 nextGrantDate is null
+     * 조건: REPEAT_GRANT 정책, nextGrantDate <= today 또는 nextGrantDate is null<br>
+     * rowId 기준 키셋 페이지네이션 (rowId 오름차순, afterRowId 초과)
      *
      * @param today 오늘 날짜
+     * @param afterRowId 이전 청크의 마지막 rowId (첫 청크는 null)
+     * @param limit 최대 조회 건수
      * @return List<VacationGrantSchedule>
      */
-    List<VacationGrantSchedule> findRepeatGrantTargetsForToday(LocalDate today);
+    List<VacationGrantSchedule> findRepeatGrantTargetsForToday(LocalDate today, Long afterRowId, int limit);
+
+    /**
+     * 스케줄 ID 목록으로 스케줄 조회 (사용자, 정책 함께 조회)<br>
+     * 스케줄러에서 파티션마다 자기 트랜잭션 안에서 대상을 다시 읽을 때 사용
+     *
+     * @param scheduleIds 스케줄 rowId 목록
+     * @return List<VacationGrantSchedule> (rowId 오름차순)
+     */
+    List<VacationGrantSchedule> findByIdsWithUserAndPolicy(List<Long> scheduleIds);
 }
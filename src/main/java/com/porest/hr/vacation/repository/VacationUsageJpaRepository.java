@@ -2,17 +2,25 @@ package com.porest.hr.vacation.repository;
 
 import com.porest.core.type.YNType;
 import com.porest.hr.vacation.domain.VacationUsage;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository("vacationUsageJpaRepository")
 @RequiredArgsConstructor
 public class VacationUsageJpaRepository implements VacationUsageRepository {
+    // 휴가 내역 조회 조건 (시작일 기준 기간 내, 시스템 계정 제외)
+    private static final String HISTORY_IN_PERIOD =
+            "vu.isDeleted = :isDeleted and vu.startDate between :startOfPeriod and :endOfPeriod " +
+                    "and vu.user.company != :systemCompany ";
+
     private final EntityManager em;
 
     @Override
@@ -31,6 +39,16 @@ public class VacationUsageJpaRepository implements VacationUsageRepository {
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Override
+    public Optional<VacationUsage> findByIdForUpdate(Long vacationUsageId) {
+        List<VacationUsage> result = em.createQuery(
+                        "select vu from VacationUsage vu where vu.id = :id", VacationUsage.class)
+                .setParameter("id", vacationUsageId)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
     @Override
     public List<VacationUsage> findByUserIdAndYear(String userId, int year) {
         LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0, 0);
@@ -147,4 +165,36 @@ public class VacationUsageJpaRepository implements VacationUsageRepository {
                 .setParameter("isDeleted", YNType.N)
                 .getResultList();
     }
+
+    @Override
+    public List<VacationTimeSumDto> sumUsedTimeByPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return em.createQuery(
+                        "select new com.porest.hr.vacation.repository.dto.VacationTimeSumDto(vu.user.id, sum(vu.usedTime)) " +
+                                "from VacationUsage vu " +
+                                "where vu.startDate between :startOfPeriod and :endOfPeriod " +
+                                "and vu.isDeleted = :isDeleted " +
+                                "group by vu.user.id", VacationTimeSumDto.class)
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .setParameter("isDeleted", YNType.N)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<VacationUsage> streamByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Stream.empty();
+        }
+        return em.createQuery(
+                        "select vu from VacationUsage vu " +
+                                "join fetch vu.user " +
+                                "where vu.user.id in :userIds and " + HISTORY_IN_PERIOD +
+                                "order by vu.user.id asc, vu.startDate asc", VacationUsage.class)
+                .setParameter("userIds", userIds)
+                .setParameter("isDeleted", YNType.N)
+                .setParameter("startOfPeriod", startOfPeriod)
+                .setParameter("endOfPeriod", endOfPeriod)
+                .setParameter("systemCompany", "SYSTEM")
+                .getResultStream();
+    }
 }
@@ -2,8 +2,12 @@ package com.porest.hr.vacation.repository;
 
 import com.porest.core.type.YNType;
 import com.porest.hr.vacation.domain.VacationUsage;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
@@ -11,6 +15,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.porest.hr.vacation.domain.QVacationUsage.vacationUsage;
 
@@ -36,6 +41,16 @@ public class VacationUsageQueryDslRepository implements VacationUsageRepository
         );
     }
 
+    @Override
+    public Optional<VacationUsage> findByIdForUpdate(Long vacationUsageId) {
+        return Optional.ofNullable(query
+                .selectFrom(vacationUsage)
+                .where(vacationUsage.rowId.eq(vacationUsageId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne()
+        );
+    }
+
     @Override
     public List<VacationUsage> findByUserIdAndYear(String userId, int year) {
         LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0, 0);
@@ -131,4 +146,37 @@ public class VacationUsageQueryDslRepository implements VacationUsageRepository
                         .and(vacationUsage.isDeleted.eq(YNType.N)))
                 .fetch();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<VacationTimeSumDto> sumUsedTimeByPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return query
+                .select(Projections.constructor(VacationTimeSumDto.class,
+                        vacationUsage.user.id,
+                        vacationUsage.usedTime.sumAggregate()))
+                .from(vacationUsage)
+                .where(vacationUsage.startDate.between(startOfPeriod, endOfPeriod)
+                        .and(vacationUsage.isDeleted.eq(YNType.N)))
+                .groupBy(vacationUsage.user.id)
+                .fetch();
+    }
+
+    @Override
+    public Stream<VacationUsage> streamByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Stream.empty();
+        }
+        return query
+                .selectFrom(vacationUsage)
+                .join(vacationUsage.user).fetchJoin()
+                .where(vacationUsage.user.id.in(userIds),
+                        historyInPeriod(startOfPeriod, endOfPeriod))
+                .orderBy(vacationUsage.user.id.asc(), vacationUsage.startDate.asc())
+                .stream();
+    }
+
+    private BooleanExpression historyInPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod) {
+        return vacationUsage.isDeleted.eq(YNType.N)
+                .and(vacationUsage.startDate.between(startOfPeriod, endOfPeriod))
+                .and(vacationUsage.user.company.ne("SYSTEM"));
+    }
+}
@@ -1,10 +1,12 @@
 package com.porest.hr.vacation.repository;
 
 import com.porest.hr.vacation.domain.VacationUsage;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface VacationUsageRepository {
     /**
@@ -17,6 +19,12 @@ public interface VacationUsageRepository {
      */
     Optional<VacationUsage> findById(Long vacationUsageId);
 
+    /**
+     * ID로 VacationUsage 조회 (비관적 쓰기 락)
+     * 최신 커밋 상태를 읽고, 트랜잭션이 끝날 때까지 다른 트랜잭션의 수정/취소를 막음
+     */
+    Optional<VacationUsage> findByIdForUpdate(Long vacationUsageId);
+
     /**
      * 유저 ID와 년도로 VacationUsage 조회
      * - startDate가 해당 년도에 포함되는 VacationUsage 조회
@@ -86,4 +94,28 @@ public interface VacationUsageRepository {
      * @return 해당 기간 내 VacationUsage 리스트
      */
     List<VacationUsage> findByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
+
+    /**
+     * 사용자별 특정 기간 내 VacationUsage 의 usedTime 합계 (전체 유저 휴가 통계용)
+     * findByUserIdsAndPeriod 와 같은 조건을 전체 사용자에 대해 집계
+     *
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @return 사용자별 usedTime 합계
+     */
+    List<VacationTimeSumDto> sumUsedTimeByPeriod(LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
+
+    /**
+     * 여러 유저의 특정 기간 휴가 사용 내역 스트림 조회 (User 정보 포함)
+     * - startDate between startOfPeriod and endOfPeriod
+     * - isDeleted == N, 시스템 계정 제외
+     * - 유저 ID 및 startDate 오름차순<br>
+     * 반환된 Stream 은 트랜잭션 안에서 사용 후 반드시 close 해야 함
+     *
+     * @param userIds 유저 ID 리스트
+     * @param startOfPeriod 조회 기간 시작일
+     * @param endOfPeriod 조회 기간 종료일
+     * @return VacationUsage 스트림
+     */
+    Stream<VacationUsage> streamByUserIdsAndPeriod(List<String> userIds, LocalDateTime startOfPeriod, LocalDateTime endOfPeriod);
 }
@@ -0,0 +1,30 @@
+package com.porest.hr.vacation.repository.dto;
+
+import com.porest.hr.vacation.type.VacationType;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/휴가 타입/유효기간별 부여 시간, 잔여 시간 합계 (휴가 잔액 원장 증감, 대사용)
+ */
+@Getter
+public class VacationBalanceSumDto {
+    private Long userRowId;
+    private VacationType type;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private BigDecimal grantTime;
+    private BigDecimal remainTime;
+
+    public VacationBalanceSumDto(Long userRowId, VacationType type, LocalDateTime periodStart, LocalDateTime periodEnd,
+                                 BigDecimal grantTime, BigDecimal remainTime) {
+        this.userRowId = userRowId;
+        this.type = type;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.grantTime = grantTime;
+        this.remainTime = remainTime;
+    }
+}
@@ -0,0 +1,19 @@
+package com.porest.hr.vacation.repository.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자별 휴가 시간 합계 (전체 유저 휴가 통계용)
+ */
+@Getter
+public class VacationTimeSumDto {
+    private String userId;
+    private BigDecimal time;
+
+    public VacationTimeSumDto(String userId, BigDecimal time) {
+        this.userId = userId;
+        this.time = time;
+    }
+}
@@ -0,0 +1,51 @@
+package com.porest.hr.vacation.scheduler;
+
+import com.porest.hr.common.lease.JobLeaseManager;
+import com.porest.hr.vacation.service.VacationBalanceLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 휴가 잔액 원장 대사 스케줄러<br>
+ * 매일 04:30에 실행되어 원장(user_vacation_balance)을 부여 휴가(vacation_grant) 합계와 비교하고,
+ * 차이가 있으면 부여 휴가 기준으로 바로잡음 (자정 만료/부여 스케줄러 이후)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VacationBalanceScheduler {
+    static final String RECONCILE_JOB = "VACATION_BALANCE_RECONCILE";
+
+    private final VacationBalanceLedger vacationBalanceLedger;
+    private final JobLeaseManager jobLeaseManager;
+
+    /**
+     * 휴가 잔액 원장 대사<br>
+     * 사용자 청크별로 별도 트랜잭션에서 처리하므로 이 메소드에는 트랜잭션을 걸지 않음<br>
+     * 여러 노드 중 작업 리스를 잡은 한 노드만 실행<br>
+     * cron: "초 분 시 일 월 요일"
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void reconcileBalancesDaily() {
+        jobLeaseManager.runExclusively(RECONCILE_JOB, this::reconcileBalances);
+    }
+
+    private void reconcileBalances() {
+        log.info("========== 휴가 잔액 원장 대사 스케줄러 시작 ==========");
+
+        try {
+            int mismatchCount = vacationBalanceLedger.reconcile(true);
+
+            if (mismatchCount > 0) {
+                log.warn("========== 휴가 잔액 원장 대사 스케줄러 완료 ========== 불일치 보정: {} 건", mismatchCount);
+            } else {
+                log.info("========== 휴가 잔액 원장 대사 스케줄러 완료 ========== 불일치 없음");
+            }
+        } catch (Exception e) {
+            log.error("휴가 잔액 원장 대사 스케줄러 실행 중 오류 발생", e);
+            throw e;
+        }
+    }
+}
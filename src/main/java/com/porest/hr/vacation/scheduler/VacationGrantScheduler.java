@@ -1,86 +1,114 @@
 package com.porest.hr.vacation.scheduler;
 
+import com.porest.core.type.YNType;
+import com.porest.hr.common.domain.JobCheckpoint;
+import com.porest.hr.common.lease.JobLeaseManager;
+import com.porest.hr.common.repository.JobCheckpointRepository;
 import com.porest.hr.common.time.CompanyClock;
 import com.porest.hr.vacation.domain.VacationGrant;
 import com.porest.hr.vacation.domain.VacationGrantSchedule;
 import com.porest.hr.vacation.domain.VacationPolicy;
 import com.porest.hr.vacation.repository.VacationGrantRepository;
 import com.porest.hr.vacation.repository.VacationGrantScheduleRepository;
+import com.porest.hr.vacation.service.VacationBalanceLedger;
 import com.porest.hr.vacation.service.policy.RepeatGrant;
 import com.porest.hr.vacation.service.policy.factory.VacationPolicyStrategyFactory;
 import com.porest.hr.vacation.type.GrantMethod;
 import com.porest.hr.vacation.type.VacationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * 반복 부여 휴가 정책 스케줄러<br>
- * 매일 자정(00:00)에 실행되어 오늘 부여해야 할 휴가를 자동으로 부여함
+ * 매일 자정(00:00)에 실행되어 만료된 휴가를 만료 처리하고, 오늘 부여해야 할 휴가를 자동으로 부여함
+ *
+ * <p>대상은 rowId 키셋으로 CHUNK_SIZE 건씩 읽어 청크마다 별도 트랜잭션에서 처리한다.
+ * 청크가 커밋될 때 같은 트랜잭션에서 체크포인트(job_checkpoint)도 갱신하므로,
+ * 실행이 중간에 죽으면 같은 날 재기동 시 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ * 영속성 컨텍스트는 청크 트랜잭션과 함께 끝나므로 처리한 엔티티가 실행 내내 쌓이지 않는다.
+ *
+ * <p>반복 부여는 청크를 사용자 ID 해시로 나눠 vacationGrantTaskExecutor 에서 파티션별 트랜잭션으로 동시에 처리하고,
+ * 모든 파티션이 커밋된 뒤 합산 결과로 체크포인트를 넘긴다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class VacationGrantScheduler {
+    static final String EXPIRE_JOB = "VACATION_EXPIRE";
+    static final String GRANT_JOB = "VACATION_REPEAT_GRANT";
+    static final int CHUNK_SIZE = 500;
+    // 벌크 UPDATE 로 변경한 행의 수정자 (로그인 사용자가 없는 배치 작업)
+    static final String SYSTEM_ACTOR = "SYSTEM";
+
     private final VacationGrantScheduleRepository vacationGrantScheduleRepository;
     private final CompanyClock companyClock;
     private final VacationGrantRepository vacationGrantRepository;
     private final VacationPolicyStrategyFactory strategyFactory;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final JobLeaseManager jobLeaseManager;
+    private final ThreadPoolTaskExecutor vacationGrantTaskExecutor;
+    private final VacationBalanceLedger vacationBalanceLedger;
 
     /**
      * 만료된 휴가 자동 처리 스케줄러<br>
      * 매일 자정(00:00)에 실행<br>
+     * 청크별로 별도 트랜잭션에서 처리하므로 이 메소드에는 트랜잭션을 걸지 않음<br>
+     * 청크마다 엔티티 대신 대상 ID 만 락을 잡아 읽고 한 번의 UPDATE 로 만료 처리<br>
+     * 여러 노드 중 작업 리스를 잡은 한 노드만 실행<br>
      * cron: "초 분 시 일 월 요일"
      */
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void expireVacationsDaily() {
+        jobLeaseManager.runExclusively(EXPIRE_JOB, this::expireVacations);
+    }
+
+    /**
+     * 반복 부여 휴가 자동 부여 스케줄러<br>
+     * 매일 자정(00:00)에 실행<br>
+     * 청크를 사용자 해시 파티션으로 나눠 파티션별 트랜잭션에서 병렬 처리하므로 이 메소드에는 트랜잭션을 걸지 않음<br>
+     * 여러 노드 중 작업 리스를 잡은 한 노드만 실행<br>
+     * cron: "초 분 시 일 월 요일"
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void grantVacationsDaily() {
+        jobLeaseManager.runExclusively(GRANT_JOB, this::grantVacations);
+    }
+
+    private void expireVacations() {
+        LocalDate today = companyClock.today();
         LocalDateTime now = companyClock.now();
         log.info("========== 휴가 만료 처리 스케줄러 시작 ========== [{}]", now);
 
         try {
-            // 1. 만료 대상 VacationGrant 조회 (status == ACTIVE && expiryDate < 현재)
-            List<VacationGrant> expiredTargets = vacationGrantRepository.findExpiredTargets(now);
-            log.info("만료 대상 휴가 수: {}", expiredTargets.size());
-
-            if (expiredTargets.isEmpty()) {
-                log.info("만료 처리할 휴가가 없습니다.");
+            // 만료 대상 VacationGrant (status == ACTIVE && expiryDate < 현재) 를 청크 단위 벌크 UPDATE 로 만료 처리
+            ChunkResult total = runChunks(EXPIRE_JOB, today, afterRowId ->
+                    transactionTemplate.execute(status -> expireChunk(today, now, afterRowId)));
+            if (total == null) {
                 return;
             }
 
-            // 2. 각 grant에 대해 만료 처리
-            int successCount = 0;
-            int failCount = 0;
-
-            for (VacationGrant grant : expiredTargets) {
-                try {
-                    // 만료 처리 (status를 EXPIRED로 변경)
-                    grant.expire();
-                    successCount++;
-
-                    log.info("휴가 만료 처리 완료 - Grant ID: {}, User: {}, VacationType: {}, RemainTime: {}, ExpiryDate: {}",
-                            grant.getRowId(),
-                            grant.getUser().getId(),
-                            grant.getType().name(),
-                            grant.getRemainTime(),
-                            grant.getExpiryDate());
-
-                } catch (Exception e) {
-                    log.error("휴가 만료 처리 실패 - VacationGrant ID: {}, Error: {}",
-                            grant.getRowId(), e.getMessage(), e);
-                    failCount++;
-                }
-            }
-
-            log.info("========== 휴가 만료 처리 스케줄러 완료 ========== 성공: {}, 실패: {}, 총: {}",
-                    successCount, failCount, expiredTargets.size());
+            log.info("========== 휴가 만료 처리 스케줄러 완료 ========== 성공: {}, 스킵: {}, 총: {}",
+                    total.success(), total.skip(), total.size());
 
         } catch (Exception e) {
             log.error("휴가 만료 처리 스케줄러 실행 중 오류 발생", e);
@@ -88,14 +116,7 @@ public class VacationGrantScheduler {
         }
     }
 
-    /**
-     * 반복 부여 휴가 자동 부여 스케줄러<br>
-     * 매일 자정(00:00)에 실행<br>
-     * cron: "초 분 시 일 월 요일"
-     */
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    @Transactional
-    public void grantVacationsDaily() {
+    private void grantVacations() {
         LocalDate today = companyClock.today();
         log.info("========== 휴가 자동 부여 스케줄러 시작 ========== [{}]", today);
 
@@ -103,98 +124,303 @@ public class VacationGrantScheduler {
             // RepeatGrant 전략 인스턴스 가져오기
             RepeatGrant repeatGrantService = (RepeatGrant) strategyFactory.getStrategy(GrantMethod.REPEAT_GRANT);
 
-            // 1. 오늘 부여 대상인 VacationGrantSchedule 조회
-            List<VacationGrantSchedule> targets = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today);
-            log.info("부여 대상 스케줄 수: {}", targets.size());
-
-            if (targets.isEmpty()) {
-                log.info("오늘 부여할 휴가가 없습니다.");
+            // 오늘 부여 대상인 VacationGrantSchedule 을 청크 단위로 읽어 사용자 해시 파티션별로 병렬 부여 처리
+            Map<Long, GrantDates> grantDates = new ConcurrentHashMap<>();
+            ChunkResult total = runChunks(GRANT_JOB, today, afterRowId -> grantChunk(repeatGrantService, today, afterRowId, grantDates));
+            if (total == null) {
                 return;
             }
 
-            // 2. 각 스케줄에 대해 휴가 부여 처리
-            List<VacationGrant> grantsToSave = new ArrayList<>();
-            int successCount = 0;
-            int failCount = 0;
-
-            int skipCount = 0;
-
-            for (VacationGrantSchedule schedule : targets) {
-                try {
-                    VacationPolicy policy = schedule.getVacationPolicy();
-
-                    // 오늘이 정책의 실제 부여 예정일인지 검증
-                    LocalDate expectedGrantDate = repeatGrantService.calculateNextGrantDate(policy, today.minusDays(1));
-
-                    if (expectedGrantDate == null || !today.equals(expectedGrantDate)) {
-                        // 오늘 부여 대상이 아님 → nextGrantDate만 갱신하고 skip
-                        LocalDate newNextGrantDate = repeatGrantService.calculateNextGrantDate(policy, today);
-                        schedule.updateNextGrantDate(newNextGrantDate);
-                        skipCount++;
-                        log.info("휴가 부여 대상 아님 (skip) - User: {}, Policy: {}, ExpectedDate: {}, NextGrantDate: {}",
-                                schedule.getUser().getId(),
-                                policy.getName(),
-                                expectedGrantDate,
-                                newNextGrantDate);
-                        continue;
-                    }
-
-                    VacationType vacationType = policy.getVacationType();
-
-                    // 효력 발생일과 만료일 계산
-                    LocalDateTime now = companyClock.now();
-                    LocalDateTime startDate = policy.getEffectiveType().calculateDate(now);
-                    LocalDateTime expiryDate = policy.getExpirationType().calculateDate(startDate);
-
-                    // VacationGrant 생성
-                    String desc = policy.getName() + "에 의한 휴가 부여";
-                    VacationGrant vacationGrant = VacationGrant.createVacationGrant(
-                            schedule.getUser(),
-                            policy,
-                            desc,
-                            vacationType,
-                            policy.getGrantTime(),
-                            startDate,
-                            expiryDate
-                    );
-
-                    grantsToSave.add(vacationGrant);
-
-                    // 다음 부여일 갱신 (현재 부여일 기준으로 재계산)
-                    // lastGrantedAt은 실제 부여 시점(today), startDate는 휴가 유효기간 시작일
-                    LocalDate newNextGrantDate = repeatGrantService.calculateNextGrantDate(policy, today);
-                    schedule.updateGrantHistory(today.atStartOfDay(), newNextGrantDate);
-
-                    successCount++;
-                    log.info("휴가 부여 완료 - User: {}, Policy: {}, VacationType: {}, GrantTime: {}, StartDate: {}, ExpiryDate: {}, NextGrantDate: {}",
+            log.info("========== 휴가 자동 부여 스케줄러 완료 ========== 성공: {}, 실패: {}, 스킵: {}, 총: {}",
+                    total.success(), total.fail(), total.skip(), total.size());
+
+        } catch (Exception e) {
+            log.error("휴가 자동 부여 스케줄러 실행 중 오류 발생", e);
+            throw e;
+        }
+    }
+
+    /**
+     * 중단된 실행 재개<br>
+     * 기동 시 오늘 체크포인트 중 완료되지 않은 작업을 스케줄러 스레드에서 이어서 실행<br>
+     * 죽은 노드가 잡고 있던 리스가 풀리도록 리스 유효 시간만큼 기다렸다가 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncompleteRuns() {
+        LocalDate today = companyClock.today();
+        List<JobCheckpoint> incomplete = transactionTemplate.execute(status ->
+                jobCheckpointRepository.findIncompleteByRunDate(today));
+        if (incomplete == null || incomplete.isEmpty()) {
+            return;
+        }
+
+        Instant startAt = Instant.now().plus(jobLeaseManager.getLeaseTtl());
+        for (JobCheckpoint checkpoint : incomplete) {
+            log.warn("중단된 배치 작업 재개 예약 - Job: {}, RunDate: {}, LastRowId: {}, StartAt: {}",
+                    checkpoint.getJobName(), checkpoint.getRunDate(), checkpoint.getLastRowId(), startAt);
+            switch (checkpoint.getJobName()) {
+                case EXPIRE_JOB -> taskScheduler.schedule(this::expireVacationsDaily, startAt);
+                case GRANT_JOB -> taskScheduler.schedule(this::grantVacationsDaily, startAt);
+                default -> log.warn("알 수 없는 배치 작업 체크포인트 - Job: {}", checkpoint.getJobName());
+            }
+        }
+    }
+
+    /**
+     * 체크포인트부터 빈 청크가 나올 때까지 청크를 하나씩 처리<br>
+     * 청크 함수가 자기 트랜잭션을 열고, 커밋과 함께 체크포인트를 넘긴다
+     *
+     * @return 이번 실행의 합계 (오늘 이미 완료된 작업이면 null)
+     */
+    private ChunkResult runChunks(String jobName, LocalDate runDate, Function<Long, ChunkResult> chunk) {
+        JobCheckpoint checkpoint = transactionTemplate.execute(status -> startCheckpoint(jobName, runDate));
+        if (checkpoint == null) {
+            log.info("오늘 이미 완료된 작업입니다. Job: {}, RunDate: {}", jobName, runDate);
+            return null;
+        }
+        if (checkpoint.getLastRowId() != null) {
+            log.info("체크포인트부터 이어서 처리 - Job: {}, LastRowId: {}", jobName, checkpoint.getLastRowId());
+        }
+
+        ChunkResult total = ChunkResult.EMPTY;
+        Long afterRowId = checkpoint.getLastRowId();
+        while (true) {
+            Long from = afterRowId;
+            ChunkResult result = chunk.apply(from);
+            if (result == null || result.size() == 0) {
+                break;
+            }
+            total = total.plus(result);
+            afterRowId = result.lastRowId();
+            log.info("청크 처리 완료 - Job: {}, 건수: {}, LastRowId: {}, 누적: {}", jobName, result.size(), afterRowId, total.size());
+            if (result.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.findByJobNameAndRunDate(jobName, runDate)
+                .ifPresent(JobCheckpoint::complete));
+        if (total.size() == 0) {
+            log.info("처리할 대상이 없습니다. Job: {}", jobName);
+        }
+        return total;
+    }
+
+    private JobCheckpoint startCheckpoint(String jobName, LocalDate runDate) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findByJobNameAndRunDate(jobName, runDate).orElse(null);
+        if (checkpoint == null) {
+            checkpoint = JobCheckpoint.createJobCheckpoint(jobName, runDate);
+            jobCheckpointRepository.save(checkpoint);
+            return checkpoint;
+        }
+        return YNType.isY(checkpoint.getIsCompleted()) ? null : checkpoint;
+    }
+
+    private void advanceCheckpoint(String jobName, LocalDate runDate, ChunkResult result, String affectedIdRanges) {
+        jobCheckpointRepository.findByJobNameAndRunDate(jobName, runDate)
+                .ifPresent(checkpoint -> {
+                    checkpoint.advance(result.lastRowId(), result.success(), result.fail(), result.skip());
+                    checkpoint.appendAffectedIds(affectedIdRanges);
+                });
+    }
+
+    private ChunkResult expireChunk(LocalDate runDate, LocalDateTime now, Long afterRowId) {
+        List<Long> expiredIds = vacationGrantRepository.findExpiredTargetIdsForUpdate(now, afterRowId, CHUNK_SIZE);
+        if (expiredIds.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+
+        // 조회한 행은 이 트랜잭션이 락을 잡고 있으므로, 같은 ID 목록을 한 번의 UPDATE 로 EXPIRED 처리
+        // 만료되는 부여 휴가의 유효기간별 합계는 UPDATE 전에 잔액 원장에서 뺀다
+        vacationBalanceLedger.releaseAll(vacationGrantRepository.sumActiveGrantsByIds(expiredIds));
+        int expiredCount = (int) vacationGrantRepository.expireByIds(expiredIds, now, SYSTEM_ACTOR);
+
+        // 갱신 건수가 조회 건수보다 적으면 스킵으로 집계 (락을 잡은 행이라 정상적으로는 0)
+        int skipCount = expiredIds.size() - expiredCount;
+        String idRanges = toRanges(expiredIds);
+        log.info("휴가 만료 처리 - 만료: {}, 스킵: {}, Grant IDs: [{}]", expiredCount, skipCount, idRanges);
+
+        ChunkResult result = new ChunkResult(expiredIds.size(),
+                expiredIds.get(expiredIds.size() - 1), expiredCount, 0, skipCount);
+        // 만료한 ID 구간은 같은 트랜잭션에서 체크포인트 행에 감사 기록으로 남긴다
+        advanceCheckpoint(EXPIRE_JOB, runDate, result, idRanges);
+        return result;
+    }
+
+    private ChunkResult grantChunk(RepeatGrant repeatGrantService, LocalDate today, Long afterRowId,
+                                   Map<Long, GrantDates> grantDates) {
+        List<VacationGrantSchedule> targets = transactionTemplate.execute(status ->
+                vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today, afterRowId, CHUNK_SIZE));
+        if (targets == null || targets.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+
+        // 같은 사용자의 스케줄은 같은 파티션에 모아, 한 사용자의 부여가 여러 파티션 트랜잭션에 흩어지지 않게 한다
+        int partitionCount = Math.max(1, vacationGrantTaskExecutor.getMaxPoolSize());
+        List<List<Long>> partitions = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (VacationGrantSchedule schedule : targets) {
+            partitions.get(Math.floorMod(schedule.getUser().getId().hashCode(), partitionCount)).add(schedule.getRowId());
+        }
+
+        List<CompletableFuture<ChunkResult>> futures = partitions.stream()
+                .filter(scheduleIds -> !scheduleIds.isEmpty())
+                .map(scheduleIds -> CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                        grantPartition(repeatGrantService, today, scheduleIds, grantDates)), vacationGrantTaskExecutor))
+                .toList();
+
+        // 모든 파티션이 끝난 뒤 합산하고, 하나라도 롤백됐으면 체크포인트를 넘기지 않고 실패시킨다
+        // (커밋된 파티션의 스케줄은 nextGrantDate 가 넘어가 재실행 시 다시 조회되지 않음)
+        ChunkResult merged = ChunkResult.EMPTY;
+        RuntimeException failure = null;
+        for (CompletableFuture<ChunkResult> future : futures) {
+            try {
+                merged = merged.plus(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        ChunkResult result = new ChunkResult(targets.size(),
+                targets.get(targets.size() - 1).getRowId(), merged.success(), merged.fail(), merged.skip());
+        transactionTemplate.executeWithoutResult(status -> advanceCheckpoint(GRANT_JOB, today, result, null));
+        return result;
+    }
+
+    /**
+     * 파티션 하나를 자기 트랜잭션(영속성 컨텍스트)에서 처리<br>
+     * 청크를 읽은 영속성 컨텍스트는 이미 닫혔으므로 대상을 ID 로 다시 읽는다
+     */
+    private ChunkResult grantPartition(RepeatGrant repeatGrantService, LocalDate today, List<Long> scheduleIds,
+                                       Map<Long, GrantDates> grantDates) {
+        List<VacationGrantSchedule> targets = vacationGrantScheduleRepository.findByIdsWithUserAndPolicy(scheduleIds);
+
+        List<VacationGrant> grantsToSave = new ArrayList<>();
+        int successCount = 0;
+        int failCount = 0;
+        int skipCount = 0;
+
+        for (VacationGrantSchedule schedule : targets) {
+            try {
+                VacationPolicy policy = schedule.getVacationPolicy();
+
+                // 오늘이 정책의 실제 부여 예정일인지 검증 (부여일은 정책과 실행일로만 정해지므로 정책마다 한 번만 계산)
+                GrantDates dates = grantDates.computeIfAbsent(policy.getRowId(), policyId -> new GrantDates(
+                        repeatGrantService.calculateNextGrantDate(policy, today.minusDays(1)),
+                        repeatGrantService.calculateNextGrantDate(policy, today)));
+                LocalDate expectedGrantDate = dates.expected();
+                LocalDate newNextGrantDate = dates.next();
+
+                if (expectedGrantDate == null || !today.equals(expectedGrantDate)) {
+                    // 오늘 부여 대상이 아님 → nextGrantDate만 갱신하고 skip
+                    schedule.updateNextGrantDate(newNextGrantDate);
+                    skipCount++;
+                    log.info("휴가 부여 대상 아님 (skip) - User: {}, Policy: {}, ExpectedDate: {}, NextGrantDate: {}",
                             schedule.getUser().getId(),
                             policy.getName(),
-                            vacationType.name(),
-                            policy.getGrantTime(),
-                            startDate,
-                            expiryDate,
+                            expectedGrantDate,
                             newNextGrantDate);
-
-                } catch (Exception e) {
-                    log.error("휴가 부여 실패 - VacationGrantSchedule ID: {}, Error: {}",
-                            schedule.getRowId(), e.getMessage(), e);
-                    failCount++;
-                    // 개별 실패는 스킵하고 계속 진행
+                    continue;
                 }
+
+                VacationType vacationType = policy.getVacationType();
+
+                // 효력 발생일과 만료일 계산
+                LocalDateTime now = companyClock.now();
+                LocalDateTime startDate = policy.getEffectiveType().calculateDate(now);
+                LocalDateTime expiryDate = policy.getExpirationType().calculateDate(startDate);
+
+                // VacationGrant 생성
+                String desc = policy.getName() + "에 의한 휴가 부여";
+                VacationGrant vacationGrant = VacationGrant.createVacationGrant(
+                        schedule.getUser(),
+                        policy,
+                        desc,
+                        vacationType,
+                        policy.getGrantTime(),
+                        startDate,
+                        expiryDate
+                );
+
+                grantsToSave.add(vacationGrant);
+
+                // 다음 부여일 갱신 (현재 부여일 기준으로 재계산)
+                // lastGrantedAt은 실제 부여 시점(today), startDate는 휴가 유효기간 시작일
+                schedule.updateGrantHistory(today.atStartOfDay(), newNextGrantDate);
+
+                successCount++;
+                log.info("휴가 부여 완료 - User: {}, Policy: {}, VacationType: {}, GrantTime: {}, StartDate: {}, ExpiryDate: {}, NextGrantDate: {}",
+                        schedule.getUser().getId(),
+                        policy.getName(),
+                        vacationType.name(),
+                        policy.getGrantTime(),
+                        startDate,
+                        expiryDate,
+                        newNextGrantDate);
+
+            } catch (Exception e) {
+                log.error("휴가 부여 실패 - VacationGrantSchedule ID: {}, Error: {}",
+                        schedule.getRowId(), e.getMessage(), e);
+                failCount++;
+                // 개별 실패는 스킵하고 계속 진행
             }
+        }
+
+        // 파티션 단위 일괄 저장 (잔액 원장 반영)
+        if (!grantsToSave.isEmpty()) {
+            vacationGrantRepository.saveAll(grantsToSave);
+            vacationBalanceLedger.grantAll(grantsToSave);
+            log.info("VacationGrant {} 건 저장 완료", grantsToSave.size());
+        }
 
-            // 3. 일괄 저장
-            if (!grantsToSave.isEmpty()) {
-                vacationGrantRepository.saveAll(grantsToSave);
-                log.info("VacationGrant {} 건 저장 완료", grantsToSave.size());
+        return new ChunkResult(targets.size(), null, successCount, failCount, skipCount);
+    }
+
+    /**
+     * 오름차순 ID 목록을 연속 구간으로 압축 (예: 1-500,502,510-512)
+     */
+    private static String toRanges(List<Long> sortedIds) {
+        StringBuilder ranges = new StringBuilder();
+        int i = 0;
+        while (i < sortedIds.size()) {
+            int j = i;
+            while (j + 1 < sortedIds.size() && sortedIds.get(j + 1) == sortedIds.get(j) + 1) {
+                j++;
             }
+            if (!ranges.isEmpty()) {
+                ranges.append(',');
+            }
+            ranges.append(sortedIds.get(i));
+            if (j > i) {
+                ranges.append('-').append(sortedIds.get(j));
+            }
+            i = j + 1;
+        }
+        return ranges.toString();
+    }
 
-            log.info("========== 휴가 자동 부여 스케줄러 완료 ========== 성공: {}, 실패: {}, 스킵: {}, 총: {}",
-                    successCount, failCount, skipCount, targets.size());
+    /**
+     * 정책별 부여일 (expected 는 어제 기준 다음 부여일 = 오늘 부여 여부, next 는 오늘 기준 다음 부여일)
+     */
+    private record GrantDates(LocalDate expected, LocalDate next) {
+    }
 
-        } catch (Exception e) {
-            log.error("휴가 자동 부여 스케줄러 실행 중 오류 발생", e);
-            throw e;
+    /**
+     * 청크 처리 결과 (size 는 읽은 대상 수, lastRowId 는 다음 청크의 키셋 시작점)
+     */
+    private record ChunkResult(int size, Long lastRowId, int success, int fail, int skip) {
+        static final ChunkResult EMPTY = new ChunkResult(0, null, 0, 0, 0);
+
+        ChunkResult plus(ChunkResult other) {
+            return new ChunkResult(size + other.size, other.lastRowId,
+                    success + other.success, fail + other.fail, skip + other.skip);
         }
     }
-}
\ No newline at end of file
+}
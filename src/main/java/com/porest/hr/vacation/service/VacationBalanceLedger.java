@@ -0,0 +1,226 @@
+package com.porest.hr.vacation.service;
+
+import com.porest.core.type.YNType;
+import com.porest.hr.common.time.CompanyClock;
+import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.repository.UserVacationBalanceRepository;
+import com.porest.hr.vacation.repository.VacationGrantRepository;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.type.GrantStatus;
+import com.porest.hr.vacation.type.VacationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 사용자 휴가 잔액 원장
+ * 사용자/휴가 타입/유효기간(부여일 ~ 만료일)별 사용 가능한(ACTIVE, EXHAUSTED) 부여 휴가의 부여 시간, 잔여 시간 합계를
+ * 부여/사용/취소/회수/만료가 일어나는 트랜잭션 안에서 함께 증감한다.
+ * 날짜 기준 잔액 조회는 부여 내역을 모아 합산하지 않고 기준 날짜를 포함하는 유효기간의 원장 행만 읽는다.
+ *
+ * <p>증감은 DB 에서 현재 값에 더하는 한 문장(INSERT ... ON DUPLICATE KEY UPDATE)이라 락 순서와 관계없이 동시 증감이 사라지지 않는다.
+ * 부여 휴가 상태를 바꾸는 호출부는 사용 불가가 되기 전({@link #release}) 또는 사용 가능이 된 후({@link #grant}),
+ * 잔여 시간을 바꾼 후({@link #adjustRemain}) 이 클래스를 호출해야 한다.
+ *
+ * <p>{@link #reconcile(boolean)} 은 사용자 청크마다 원본(vacation_grant) 합계와 원장을 같은 트랜잭션에서 읽어 비교하고,
+ * 차이를 증감분으로 반영해 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VacationBalanceLedger {
+    static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final UserVacationBalanceRepository userVacationBalanceRepository;
+    private final VacationGrantRepository vacationGrantRepository;
+    private final CompanyClock companyClock;
+    private final AuditorAware<String> auditorAware;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 사용 가능 상태가 된 부여 휴가 반영 (생성 또는 승인 직후 호출)
+     *
+     * @param grant 부여 휴가
+     */
+    public void grant(VacationGrant grant) {
+        grantAll(List.of(grant));
+    }
+
+    /**
+     * 사용 가능 상태가 된 부여 휴가 일괄 반영 (같은 사용자/휴가 타입/유효기간은 한 번에 증감)
+     *
+     * @param grants 부여 휴가 리스트
+     */
+    public void grantAll(List<VacationGrant> grants) {
+        Map<BalanceKey, BigDecimal[]> deltas = new LinkedHashMap<>();
+        for (VacationGrant grant : grants) {
+            if (!isUsable(grant)) {
+                continue;
+            }
+            BigDecimal[] delta = deltas.computeIfAbsent(BalanceKey.of(grant), key -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            delta[0] = delta[0].add(grant.getGrantTime());
+            delta[1] = delta[1].add(grant.getRemainTime());
+        }
+        deltas.forEach((key, delta) -> apply(key, delta[0], delta[1]));
+    }
+
+    /**
+     * 사용 불가 상태가 될 부여 휴가 제외 (회수 처리 직전 호출)
+     *
+     * @param grant 부여 휴가
+     */
+    public void release(VacationGrant grant) {
+        if (!isUsable(grant)) {
+            return;
+        }
+        apply(BalanceKey.of(grant), grant.getGrantTime().negate(), grant.getRemainTime().negate());
+    }
+
+    /**
+     * 사용 불가 상태가 될 부여 휴가 합계 제외 (벌크 만료 직전 호출)
+     *
+     * @param sums 사용자/휴가 타입/유효기간별 부여 휴가 합계
+     */
+    public void releaseAll(List<VacationBalanceSumDto> sums) {
+        for (VacationBalanceSumDto sum : sums) {
+            apply(BalanceKey.of(sum), sum.getGrantTime().negate(), sum.getRemainTime().negate());
+        }
+    }
+
+    /**
+     * 잔여 시간 증감 반영 (휴가 사용 차감, 사용 취소 복구 후 호출)
+     * 만료/회수된 부여 휴가는 원장에서 이미 빠졌으므로 반영하지 않는다.
+     *
+     * @param grant 잔여 시간이 바뀐 부여 휴가
+     * @param remainTimeDelta 잔여 시간 증감 (차감은 음수)
+     */
+    public void adjustRemain(VacationGrant grant, BigDecimal remainTimeDelta) {
+        if (!isUsable(grant)) {
+            return;
+        }
+        apply(BalanceKey.of(grant), BigDecimal.ZERO, remainTimeDelta);
+    }
+
+    /**
+     * 원장 대사
+     * 사용자 row id 순으로 청크를 나눠, 청크마다 한 트랜잭션에서 원본 합계와 원장을 같은 스냅샷으로 읽어 비교한다.
+     * 차이는 덮어쓰지 않고 증감분으로 반영하므로, 비교 이후 커밋된 정상적인 증감도 함께 남는다.
+     *
+     * @param repair 차이가 있으면 원본 기준으로 바로잡을지 여부
+     * @return 차이가 확인된 원장 행(사용자/휴가 타입/유효기간) 수
+     */
+    public int reconcile(boolean repair) {
+        int mismatchCount = 0;
+        Long afterUserRowId = null;
+        while (true) {
+            Long from = afterUserRowId;
+            ReconcileResult result = transactionTemplate.execute(status -> reconcileChunk(from, repair));
+            if (result == null || result.lastUserRowId() == null) {
+                break;
+            }
+            mismatchCount += result.mismatchCount();
+            afterUserRowId = result.lastUserRowId();
+            if (result.size() < RECONCILE_CHUNK_SIZE) {
+                break;
+            }
+        }
+        return mismatchCount;
+    }
+
+    private ReconcileResult reconcileChunk(Long afterUserRowId, boolean repair) {
+        // 원장 행만 남은 사용자와 부여 휴가만 있는 사용자를 모두 포함하도록 두 키셋을 합쳐 앞에서부터 자른다
+        TreeSet<Long> candidates = new TreeSet<>(userVacationBalanceRepository.findUserRowIdsAfter(afterUserRowId, RECONCILE_CHUNK_SIZE));
+        candidates.addAll(vacationGrantRepository.findUsableUserRowIdsAfter(afterUserRowId, RECONCILE_CHUNK_SIZE));
+        List<Long> userRowIds = candidates.stream().limit(RECONCILE_CHUNK_SIZE).toList();
+        if (userRowIds.isEmpty()) {
+            return new ReconcileResult(0, null, 0);
+        }
+
+        Map<BalanceKey, VacationBalanceSumDto> expected = new HashMap<>();
+        for (VacationBalanceSumDto sum : vacationGrantRepository.sumUsableGrantsByUserRowIds(userRowIds)) {
+            expected.put(BalanceKey.of(sum), sum);
+        }
+        Map<BalanceKey, VacationBalanceSumDto> actual = new HashMap<>();
+        for (VacationBalanceSumDto balance : userVacationBalanceRepository.findSumsByUserRowIds(userRowIds)) {
+            actual.put(BalanceKey.of(balance), balance);
+        }
+
+        List<BalanceKey> keys = new ArrayList<>(expected.keySet());
+        actual.keySet().stream().filter(key -> !expected.containsKey(key)).forEach(keys::add);
+
+        int mismatchCount = 0;
+        for (BalanceKey key : keys) {
+            VacationBalanceSumDto sum = expected.get(key);
+            VacationBalanceSumDto balance = actual.get(key);
+            BigDecimal grantTimeDelta = grantTimeOf(sum).subtract(grantTimeOf(balance));
+            BigDecimal remainTimeDelta = remainTimeOf(sum).subtract(remainTimeOf(balance));
+            if (grantTimeDelta.signum() == 0 && remainTimeDelta.signum() == 0) {
+                continue;
+            }
+
+            mismatchCount++;
+            log.warn("휴가 잔액 원장 불일치 - UserRowId: {}, VacationType: {}, Period: {} ~ {}, Ledger: {}/{}, Grants: {}/{}",
+                    key.userRowId(), key.type(), key.periodStart(), key.periodEnd(),
+                    balance != null ? balance.getGrantTime() : null, balance != null ? balance.getRemainTime() : null,
+                    grantTimeOf(sum), remainTimeOf(sum));
+            if (repair) {
+                apply(key, grantTimeDelta, remainTimeDelta);
+            }
+        }
+        if (repair) {
+            userVacationBalanceRepository.deleteEmptyByUserRowIds(userRowIds);
+        }
+        return new ReconcileResult(userRowIds.size(), userRowIds.get(userRowIds.size() - 1), mismatchCount);
+    }
+
+    private void apply(BalanceKey key, BigDecimal grantTimeDelta, BigDecimal remainTimeDelta) {
+        if (grantTimeDelta.signum() == 0 && remainTimeDelta.signum() == 0) {
+            return;
+        }
+        userVacationBalanceRepository.addBalance(key.userRowId(), key.type(), key.periodStart(), key.periodEnd(),
+                grantTimeDelta, remainTimeDelta, companyClock.now(), auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    private static boolean isUsable(VacationGrant grant) {
+        return YNType.isN(grant.getIsDeleted())
+                && (grant.getStatus() == GrantStatus.ACTIVE || grant.getStatus() == GrantStatus.EXHAUSTED);
+    }
+
+    private static BigDecimal grantTimeOf(VacationBalanceSumDto sum) {
+        return sum != null && sum.getGrantTime() != null ? sum.getGrantTime() : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal remainTimeOf(VacationBalanceSumDto sum) {
+        return sum != null && sum.getRemainTime() != null ? sum.getRemainTime() : BigDecimal.ZERO;
+    }
+
+    /**
+     * 원장 행 키 (사용자, 휴가 타입, 유효기간)
+     */
+    private record BalanceKey(Long userRowId, VacationType type, LocalDateTime periodStart, LocalDateTime periodEnd) {
+        static BalanceKey of(VacationGrant grant) {
+            return new BalanceKey(grant.getUser().getRowId(), grant.getType(), grant.getGrantDate(), grant.getExpiryDate());
+        }
+
+        static BalanceKey of(VacationBalanceSumDto sum) {
+            return new BalanceKey(sum.getUserRowId(), sum.getType(), sum.getPeriodStart(), sum.getPeriodEnd());
+        }
+    }
+
+    /**
+     * 대사 청크 결과 (size 는 비교한 사용자 수, lastUserRowId 는 다음 청크의 키셋 시작점)
+     */
+    private record ReconcileResult(int size, Long lastUserRowId, int mismatchCount) {
+    }
+}
@@ -9,6 +9,7 @@ import com.porest.hr.vacation.service.dto.VacationServiceDto;
 import com.porest.hr.vacation.type.GrantMethod;
 import com.porest.hr.vacation.type.GrantStatus;
 import com.porest.hr.vacation.type.VacationType;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,11 +37,17 @@ public interface VacationService {
     VacationServiceDto getUserVacationHistory(String userId, int year);
 
     /**
-     * 모든 유저의 휴가 부여 및 사용 내역 조회
+     * 모든 유저의 특정 년도 휴가 부여 및 사용 내역 조회 (유저 ID 기준 키셋 페이지네이션)
+     * - 부여 내역: 해당 년도와 유효기간이 겹치는 ACTIVE/EXHAUSTED/EXPIRED 부여 (getUserVacationHistory 와 같은 기준)
+     * - 사용 내역: 해당 년도에 시작하는 사용
+     * - 유저 ID 오름차순, 한 페이지에 최대 size 명
      *
-     * @return 모든 유저별 부여받은 내역(VacationGrant)과 사용한 내역(VacationUsage)
+     * @param year 조회할 연도
+     * @param cursor 이전 페이지의 마지막 유저 ID (첫 페이지는 null)
+     * @param size 페이지 크기 (유저 수)
+     * @return 유저별 부여받은 내역(VacationGrant)과 사용한 내역(VacationUsage), 다음 페이지 존재 여부
      */
-    List<VacationServiceDto> getAllUsersVacationHistory();
+    Slice<VacationServiceDto> getAllUsersVacationHistory(Integer year, String cursor, int size);
 
     /**
      * 시작 날짜 기준으로 사용 가능한 휴가 조회 (VacationType별 그룹화)
@@ -7,26 +7,28 @@ import com.porest.core.exception.InvalidValueException;
 import com.porest.hr.common.exception.HrErrorCode;
 import com.porest.hr.common.time.CompanyClock;
 import com.porest.core.util.TimeUtils;
-import com.porest.core.type.CountryCode;
 import com.porest.core.type.YNType;
+import com.porest.hr.common.cache.CacheNames;
 import com.porest.hr.department.domain.Department;
 import com.porest.hr.department.repository.DepartmentRepository;
-import com.porest.hr.holiday.repository.HolidayRepository;
-import com.porest.hr.holiday.type.HolidayType;
+import com.porest.hr.holiday.service.WorkingCalendar;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.service.UserService;
+import com.porest.hr.vacation.domain.UserVacationBalance;
 import com.porest.hr.vacation.domain.UserVacationPlan;
 import com.porest.hr.vacation.domain.VacationApproval;
 import com.porest.hr.vacation.domain.VacationGrant;
 import com.porest.hr.vacation.domain.VacationPolicy;
 import com.porest.hr.vacation.domain.VacationUsage;
 import com.porest.hr.vacation.domain.VacationUsageDeduction;
+import com.porest.hr.vacation.repository.UserVacationBalanceRepository;
 import com.porest.hr.vacation.repository.UserVacationPlanRepository;
 import com.porest.hr.vacation.repository.VacationApprovalRepository;
 import com.porest.hr.vacation.repository.VacationGrantRepository;
 import com.porest.hr.vacation.repository.VacationPolicyRepository;
 import com.porest.hr.vacation.repository.VacationUsageDeductionRepository;
 import com.porest.hr.vacation.repository.VacationUsageRepository;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.service.dto.VacationApprovalServiceDto;
 import com.porest.hr.vacation.service.dto.VacationPolicyServiceDto;
 import com.porest.hr.vacation.service.dto.VacationServiceDto;
@@ -41,6 +43,11 @@ import com.porest.hr.vacation.type.VacationTimeType;
 import com.porest.hr.vacation.type.VacationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,20 +63,23 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class VacationServiceImpl implements VacationService {
+    // 전체 유저 휴가 내역 조회 한 페이지 최대 유저 수
+    static final int MAX_HISTORY_PAGE_SIZE = 500;
+
     private final VacationPolicyRepository vacationPolicyRepository;
     private final CompanyClock companyClock;
     private final UserVacationPlanRepository userVacationPlanRepository;
-    private final HolidayRepository holidayRepository;
+    private final WorkingCalendar workingCalendar;
     private final UserService userService;
     private final VacationPolicyStrategyFactory vacationPolicyStrategyFactory;
     private final VacationGrantRepository vacationGrantRepository;
@@ -79,13 +89,17 @@ public class VacationServiceImpl implements VacationService {
     private final DepartmentRepository departmentRepository;
     private final RepeatGrantDescriptionFactory repeatGrantDescriptionFactory;
     private final VacationTimeFormatter vacationTimeFormatter;
+    private final UserVacationBalanceRepository userVacationBalanceRepository;
+    private final VacationBalanceLedger vacationBalanceLedger;
 
     @Transactional
     @Override
     public Long useVacation(VacationServiceDto data) {
         log.debug("휴가 사용 신청 시작: userId={}, type={}, timeType={}", data.getUserId(), data.getType(), data.getTimeType());
-        // 1. 사용자 검증
-        User user = userService.checkUserExist(data.getUserId());
+        // 1. 사용자 검증 + 사용자 행 락
+        // 같은 사용자의 휴가 사용/취소 요청이 동시에 들어오면 잔여 시간을 각자 읽고 차감해 초과 사용될 수 있으므로
+        // 트랜잭션이 끝날 때까지 사용자 단위로 직렬화한다. (잔여 시간 조회보다 먼저 잡아야 한다)
+        User user = userService.checkUserExistForUpdate(data.getUserId());
 
         // 2. 날짜 범위 검증은 @DateRange 어노테이션으로 Controller 레벨에서 처리
 
@@ -110,41 +124,24 @@ public class VacationServiceImpl implements VacationService {
             }
         }
 
-        // 5. 주말 리스트 조회
-        List<LocalDate> weekDays = TimeUtils.filterByDayOfWeek(data.getStartDate(), data.getEndDate(), new int[]{6, 7});
-
-        // 6. 공휴일 리스트 조회 (사용자의 국가 코드 기반)
-        CountryCode countryCode = user.getCountryCode();
-        List<LocalDate> holidays = holidayRepository.findHolidaysByStartEndDateWithType(
+        // 5. 기간 내 근무일 수 계산 (주말, 공휴일 제외 - 사용자의 국가 코드 기반 근무일 달력)
+        int workingDayCount = workingCalendar.countWorkingDays(
+                user.getCountryCode(),
                 data.getStartDate().toLocalDate(),
-                data.getEndDate().toLocalDate(),
-                HolidayType.PUBLIC,
-                countryCode
-        ).stream()
-                .map(h -> h.getDate())
-                .toList();
-
-        weekDays = TimeUtils.mergeDates(weekDays, holidays);
-
-        // 7. 두 날짜 간 모든 날짜 가져오기
-        List<LocalDate> betweenDates = TimeUtils.getDateRange(data.getStartDate(), data.getEndDate());
-        log.info("betweenDates : {}, weekDays : {}", betweenDates, weekDays);
-
-        // 8. 사용자가 캘린더에서 선택한 날짜 중 휴일, 공휴일 제거
-        betweenDates = TimeUtils.excludeDates(betweenDates, weekDays);
-        log.info("remainDays : {}", betweenDates);
+                data.getEndDate().toLocalDate()
+        );
 
-        // 9. 등록하려는 총 사용시간 계산
-        BigDecimal totalUseTime = new BigDecimal("0.0000").add(data.getTimeType().convertToValue(betweenDates.size()));
+        // 6. 등록하려는 총 사용시간 계산
+        BigDecimal totalUseTime = new BigDecimal("0.0000").add(data.getTimeType().convertToValue(workingDayCount));
 
-        // 10. 사용 가능한 VacationGrant 조회 (FIFO: VacationType 일치 + 휴가 시작일이 유효기간 내 + 만료일 가까운 순)
+        // 7. 사용 가능한 VacationGrant 조회 (FIFO: VacationType 일치 + 휴가 시작일이 유효기간 내 + 만료일 가까운 순)
         List<VacationGrant> availableGrants = vacationGrantRepository.findAvailableGrantsByUserIdAndTypeAndDate(
                 data.getUserId(),
                 data.getType(),
                 data.getStartDate()  // 사용자가 사용하려는 휴가 시작일
         );
 
-        // 11. 총 잔여 시간 계산 및 검증
+        // 8. 총 잔여 시간 계산 및 검증
         BigDecimal totalRemainTime = availableGrants.stream()
                 .map(VacationGrant::getRemainTime)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -154,7 +151,7 @@ public class VacationServiceImpl implements VacationService {
             throw new BusinessRuleViolationException(HrErrorCode.VACATION_INSUFFICIENT_BALANCE);
         }
 
-        // 12. 통합 기간 휴가 사용 내역 생성
+        // 9. 통합 기간 휴가 사용 내역 생성
         VacationUsage usage = VacationUsage.createVacationUsage(
                 user,
                 data.getDesc(),
@@ -164,7 +161,7 @@ public class VacationServiceImpl implements VacationService {
                 totalUseTime
         );
 
-        // 13. FIFO로 VacationGrant에서 차감
+        // 10. FIFO로 VacationGrant에서 차감
         List<VacationUsageDeduction> deductionsToSave = new ArrayList<>();
         BigDecimal remainingNeedTime = totalUseTime;
 
@@ -185,8 +182,9 @@ public class VacationServiceImpl implements VacationService {
                 );
                 deductionsToSave.add(deduction);
 
-                // VacationGrant의 remainTime 차감
+                // VacationGrant의 remainTime 차감 (잔액 원장 반영)
                 grant.deduct(deductibleTime);
+                vacationBalanceLedger.adjustRemain(grant, deductibleTime.negate());
 
                 remainingNeedTime = remainingNeedTime.subtract(deductibleTime);
             }
@@ -198,12 +196,12 @@ public class VacationServiceImpl implements VacationService {
             throw new BusinessRuleViolationException(HrErrorCode.VACATION_INSUFFICIENT_BALANCE);
         }
 
-        // 14. 저장
+        // 11. 저장
         vacationUsageRepository.save(usage);
         vacationUsageDeductionRepository.saveAll(deductionsToSave);
 
         log.info("휴가 사용 완료 - User: {}, Period: {} ~ {}, WorkingDays: {}, TotalUseTime: {}",
-                user.getId(), data.getStartDate(), data.getEndDate(), betweenDates.size(), totalUseTime);
+                user.getId(), data.getStartDate(), data.getEndDate(), workingDayCount, totalUseTime);
 
         return usage.getRowId();
     }
@@ -227,49 +225,48 @@ public class VacationServiceImpl implements VacationService {
     }
 
     @Override
-    public List<VacationServiceDto> getAllUsersVacationHistory() {
-        log.debug("전체 유저 휴가 내역 조회 시작");
-        // 모든 부여 내역 조회
-        List<VacationGrant> allGrants = vacationGrantRepository.findAllWithUser();
-
-        // 모든 사용 내역 조회
-        List<VacationUsage> allUsages = vacationUsageRepository.findAllWithUser();
-
-        // User별로 Grant 그룹핑
-        Map<String, List<VacationGrant>> grantsByUser = allGrants.stream()
-                .collect(Collectors.groupingBy(g -> g.getUser().getId()));
-
-        // User별로 Usage 그룹핑
-        Map<String, List<VacationUsage>> usagesByUser = allUsages.stream()
-                .collect(Collectors.groupingBy(u -> u.getUser().getId()));
-
-        // 모든 userId 수집
-        Set<String> allUserIds = new HashSet<>();
-        allUserIds.addAll(grantsByUser.keySet());
-        allUserIds.addAll(usagesByUser.keySet());
-
-        // User별로 VacationServiceDto 생성
-        return allUserIds.stream()
-                .map(userId -> {
-                    List<VacationGrant> grants = grantsByUser.getOrDefault(userId, new ArrayList<>());
-                    List<VacationUsage> usages = usagesByUser.getOrDefault(userId, new ArrayList<>());
-
-                    // User 객체는 grants나 usages에서 가져오기
-                    User user = null;
-                    if (!grants.isEmpty()) {
-                        user = grants.get(0).getUser();
-                    } else if (!usages.isEmpty()) {
-                        user = usages.get(0).getUser();
-                    }
+    public Slice<VacationServiceDto> getAllUsersVacationHistory(Integer year, String cursor, int size) {
+        log.debug("전체 유저 휴가 내역 조회 시작: year={}, cursor={}, size={}", year, cursor, size);
+        if (year == null || size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            log.warn("전체 유저 휴가 내역 조회 실패 - 잘못된 파라미터: year={}, size={}", year, size);
+            throw new InvalidValueException(ErrorCode.INVALID_PARAMETER);
+        }
 
-                    return VacationServiceDto.builder()
-                            .userId(userId)
-                            .user(user)
-                            .grants(grants)
-                            .usages(usages)
-                            .build();
-                })
+        LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0, 0);
+        LocalDateTime endOfYear = LocalDateTime.of(year, 12, 31, 23, 59, 59);
+
+        // 1. 이번 페이지 유저 ID (부여/사용 내역이 있는 유저를 cursor 이후부터 size + 1 명)
+        List<String> candidateIds = vacationGrantRepository.findUserIdsWithHistoryAfter(cursor, startOfYear, endOfYear, size + 1);
+        boolean hasNext = candidateIds.size() > size;
+        List<String> userIds = hasNext ? candidateIds.subList(0, size) : candidateIds;
+
+        // 2. 해당 유저들의 내역을 스트림으로 읽어 유저 ID 순서대로 묶음
+        Map<String, List<VacationGrant>> grantsByUser = new HashMap<>();
+        Map<String, List<VacationUsage>> usagesByUser = new HashMap<>();
+        Map<String, User> usersById = new HashMap<>();
+        try (Stream<VacationGrant> grants = vacationGrantRepository.streamByUserIdsAndPeriod(userIds, startOfYear, endOfYear)) {
+            grants.forEach(grant -> {
+                usersById.putIfAbsent(grant.getUser().getId(), grant.getUser());
+                grantsByUser.computeIfAbsent(grant.getUser().getId(), id -> new ArrayList<>()).add(grant);
+            });
+        }
+        try (Stream<VacationUsage> usages = vacationUsageRepository.streamByUserIdsAndPeriod(userIds, startOfYear, endOfYear)) {
+            usages.forEach(usage -> {
+                usersById.putIfAbsent(usage.getUser().getId(), usage.getUser());
+                usagesByUser.computeIfAbsent(usage.getUser().getId(), id -> new ArrayList<>()).add(usage);
+            });
+        }
+
+        List<VacationServiceDto> content = userIds.stream()
+                .map(userId -> VacationServiceDto.builder()
+                        .userId(userId)
+                        .user(usersById.get(userId))
+                        .grants(grantsByUser.getOrDefault(userId, List.of()))
+                        .usages(usagesByUser.getOrDefault(userId, List.of()))
+                        .build())
                 .toList();
+
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
     }
 
     @Override
@@ -277,16 +274,16 @@ public class VacationServiceImpl implements VacationService {
         // 유저 조회
         userService.checkUserExist(userId);
 
-        // 시작 날짜를 기준으로 사용 가능한 휴가 부여 내역 조회
-        List<VacationGrant> availableGrants = vacationGrantRepository.findAvailableGrantsByUserIdAndDate(userId, startDate);
+        // 시작 날짜를 유효기간에 포함하는 휴가 잔액 원장 행 조회 (부여 내역 대신 유효기간별 합계 행)
+        List<UserVacationBalance> balances = userVacationBalanceRepository.findByUserIdAndDate(userId, startDate);
 
         // VacationType별로 그룹화하고 remainTime 합산
-        Map<VacationType, BigDecimal> remainTimeByType = availableGrants.stream()
+        Map<VacationType, BigDecimal> remainTimeByType = balances.stream()
                 .collect(Collectors.groupingBy(
-                        VacationGrant::getType,
+                        UserVacationBalance::getType,
                         Collectors.reducing(
                                 BigDecimal.ZERO,
-                                VacationGrant::getRemainTime,
+                                UserVacationBalance::getRemainTime,
                                 BigDecimal::add
                         )
                 ));
@@ -304,12 +301,16 @@ public class VacationServiceImpl implements VacationService {
     @Override
     public void cancelVacationUsage(Long vacationUsageId) {
         log.debug("휴가 사용 취소 시작: vacationUsageId={}", vacationUsageId);
-        // 1. VacationUsage 조회
-        VacationUsage usage = vacationUsageRepository.findById(vacationUsageId)
+        // 1. VacationUsage 조회 + 사용 내역 행 락, 사용자 행 락
+        // MariaDB(REPEATABLE READ)는 트랜잭션의 첫 일반 SELECT 시점 스냅샷을 계속 읽으므로,
+        // 락을 잡기 전에 일반 조회를 하면 락을 기다리는 동안 커밋된 잔여 시간 변경을 놓치고 덮어쓸 수 있다.
+        // 사용 내역 → 사용자 순으로 락 조회를 먼저 끝낸 뒤에 일반 조회를 한다.
+        VacationUsage usage = vacationUsageRepository.findByIdForUpdate(vacationUsageId)
                 .orElseThrow(() -> {
                     log.warn("휴가 사용 취소 실패 - 휴가 사용 내역 없음: vacationUsageId={}", vacationUsageId);
                     return new EntityNotFoundException(HrErrorCode.VACATION_NOT_FOUND);
                 });
+        userService.checkUserExistForUpdate(usage.getUser().getId());
 
         // 2. 이미 삭제된 경우 예외 처리
         if (YNType.isY(usage.getIsDeleted())) {
@@ -330,6 +331,7 @@ public class VacationServiceImpl implements VacationService {
         for (VacationUsageDeduction deduction : deductions) {
             VacationGrant grant = deduction.getGrant();
             grant.restore(deduction.getDeductedTime());
+            vacationBalanceLedger.adjustRemain(grant, deduction.getDeductedTime());
             log.info("VacationGrant {} 복구: {} 추가", grant.getRowId(), deduction.getDeductedTime());
         }
 
@@ -557,6 +559,7 @@ public class VacationServiceImpl implements VacationService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.VACATION_POLICIES, allEntries = true)
     @Override
     public Long createVacationPolicy(VacationPolicyServiceDto data) {
         log.debug("휴가 정책 생성 시작: name={}, grantMethod={}", data.getName(), data.getGrantMethod());
@@ -596,6 +599,9 @@ public class VacationServiceImpl implements VacationService {
                 .build();
     }
 
+    // 반복 부여 설명이 로케일별로 달라 로케일별로 캐시
+    @Cacheable(cacheNames = CacheNames.VACATION_POLICIES,
+            key = "T(org.springframework.context.i18n.LocaleContextHolder).getLocale().toLanguageTag()")
     @Override
     public List<VacationPolicyServiceDto> getVacationPolicies() {
         log.debug("전체 휴가 정책 목록 조회");
@@ -640,6 +646,7 @@ public class VacationServiceImpl implements VacationService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.VACATION_POLICIES, allEntries = true)
     @Override
     public Long deleteVacationPolicy(Long vacationPolicyId) {
         log.debug("휴가 정책 삭제 시작: vacationPolicyId={}", vacationPolicyId);
@@ -669,6 +676,7 @@ public class VacationServiceImpl implements VacationService {
             // ACTIVE 상태인 grant만 회수 처리
             // EXHAUSTED(소진), EXPIRED(만료), REVOKED(이미 회수됨)는 스킵
             if (grant.getStatus() == GrantStatus.ACTIVE) {
+                vacationBalanceLedger.release(grant);
                 grant.revoke();
                 revokedGrantCount++;
 
@@ -798,8 +806,9 @@ public class VacationServiceImpl implements VacationService {
                 expiryDate
         );
 
-        // 8. 저장
+        // 8. 저장 (잔액 원장 반영)
         vacationGrantRepository.save(vacationGrant);
+        vacationBalanceLedger.grant(vacationGrant);
 
         log.info("Manually granted vacation: grantId={}, userId={}, policyId={}, grantTime={}, grantDate={}, expiryDate={}",
                 vacationGrant.getRowId(), userId, policy.getRowId(), grantTime, grantDate, expiryDate);
@@ -836,7 +845,8 @@ public class VacationServiceImpl implements VacationService {
             throw new BusinessRuleViolationException(HrErrorCode.VACATION_CANNOT_CANCEL);
         }
 
-        // 5. 회수 처리
+        // 5. 회수 처리 (잔액 원장에서 제외)
+        vacationBalanceLedger.release(grant);
         grant.revoke();
 
         log.info("Revoked vacation grant: grantId={}, userId={}, policyId={}, grantTime={}",
@@ -996,6 +1006,7 @@ public class VacationServiceImpl implements VacationService {
             LocalDateTime grantDate = policy.getEffectiveType().calculateDate(now);
             LocalDateTime expiryDate = policy.getExpirationType().calculateDate(grantDate);
             vacationGrant.approve(grantDate, expiryDate);
+            vacationBalanceLedger.grant(vacationGrant);
 
             if (requiredCount != null && requiredCount > 0 && availableApproverCount == 0) {
                 log.info("휴가 신청 완료 (자동 승인 - 최상위 조직장) - User: {}, Policy: {}, GrantId: {}",
@@ -1062,6 +1073,7 @@ public class VacationServiceImpl implements VacationService {
             LocalDateTime expiryDate = policy.getExpirationType().calculateDate(grantDate);
 
             vacationGrant.approve(grantDate, expiryDate);
+            vacationBalanceLedger.grant(vacationGrant);
 
             log.info("휴가 전체 승인 완료 - VacationGrant ID: {}, Final Approver: {}, Status: ACTIVE",
                     vacationGrant.getRowId(), approverId);
@@ -1547,34 +1559,20 @@ public class VacationServiceImpl implements VacationService {
         LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0, 0);
         LocalDateTime endOfYear = LocalDateTime.of(year, 12, 31, 23, 59, 59);
 
-        // 모든 사용자 조회 (N+1 방지: 단일 쿼리로 조회)
-        List<User> allUsers = userService.findAllUsers();
+        // 모든 사용자 조회 (역할/권한은 필요 없으므로 제외)
+        List<User> allUsers = userService.findAllUsersWithoutRoles();
 
         if (allUsers.isEmpty()) {
             return List.of();
         }
 
-        // 모든 사용자 ID 추출
-        List<String> userIds = allUsers.stream()
-                .map(User::getId)
-                .toList();
-
-        // IN 쿼리로 한번에 모든 휴가 데이터 조회 (N+1 방지)
-        List<VacationGrant> allValidGrants = vacationGrantRepository
-                .findByUserIdsAndValidPeriod(userIds, startOfYear, endOfYear);
-        List<VacationUsage> allUsages = vacationUsageRepository
-                .findByUserIdsAndPeriod(userIds, startOfYear, endOfYear);
-        List<VacationGrant> allPendingGrants = vacationGrantRepository
-                .findByUserIdsAndStatusesAndPeriod(userIds,
-                        List.of(GrantStatus.PENDING, GrantStatus.PROGRESS), startOfYear, endOfYear);
-
-        // userId 기준으로 Map 그룹핑
-        Map<String, List<VacationGrant>> validGrantsMap = allValidGrants.stream()
-                .collect(Collectors.groupingBy(g -> g.getUser().getId()));
-        Map<String, List<VacationUsage>> usagesMap = allUsages.stream()
-                .collect(Collectors.groupingBy(u -> u.getUser().getId()));
-        Map<String, List<VacationGrant>> pendingGrantsMap = allPendingGrants.stream()
-                .collect(Collectors.groupingBy(g -> g.getUser().getId()));
+        // 사용자별 합계를 DB에서 집계 (엔티티 로딩 없이 userId별 한 행, 부여 합계는 휴가 잔액 원장의 유효기간별 행에서 집계)
+        Map<String, BigDecimal> totalDaysMap = toTimeMap(userVacationBalanceRepository
+                .sumGrantTimeByValidPeriod(startOfYear, endOfYear));
+        Map<String, BigDecimal> usedDaysMap = toTimeMap(vacationUsageRepository
+                .sumUsedTimeByPeriod(startOfYear, endOfYear));
+        Map<String, BigDecimal> scheduledDaysMap = toTimeMap(vacationGrantRepository
+                .sumGrantTimeByStatusesAndPeriod(List.of(GrantStatus.PENDING, GrantStatus.PROGRESS), startOfYear, endOfYear));
 
         // 각 사용자별 휴가 통계 계산 (Map lookup으로 O(1) 조회)
         return allUsers.stream()
@@ -1585,28 +1583,10 @@ public class VacationServiceImpl implements VacationService {
                             .map(ud -> ud.getDepartment().getName())
                             .orElse("");
 
-                    // Map에서 해당 사용자의 휴가 데이터 조회
-                    List<VacationGrant> validGrants = validGrantsMap.getOrDefault(user.getId(), List.of());
-                    List<VacationUsage> usages = usagesMap.getOrDefault(user.getId(), List.of());
-                    List<VacationGrant> pendingGrants = pendingGrantsMap.getOrDefault(user.getId(), List.of());
-
-                    // 총 휴가 일수 계산 (부여받은 grantTime 합계)
-                    BigDecimal totalVacationDays = validGrants.stream()
-                            .map(VacationGrant::getGrantTime)
-                            .filter(Objects::nonNull)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    // 사용 휴가 일수 계산
-                    BigDecimal usedVacationDays = usages.stream()
-                            .map(VacationUsage::getUsedTime)
-                            .filter(Objects::nonNull)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    // 사용 예정 휴가 일수 계산
-                    BigDecimal scheduledVacationDays = pendingGrants.stream()
-                            .map(VacationGrant::getGrantTime)
-                            .filter(Objects::nonNull)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+                    // Map에서 해당 사용자의 휴가 합계 조회
+                    BigDecimal totalVacationDays = totalDaysMap.getOrDefault(user.getId(), BigDecimal.ZERO);
+                    BigDecimal usedVacationDays = usedDaysMap.getOrDefault(user.getId(), BigDecimal.ZERO);
+                    BigDecimal scheduledVacationDays = scheduledDaysMap.getOrDefault(user.getId(), BigDecimal.ZERO);
 
                     // 잔여 휴가 일수 계산 (총 휴가 - 사용 휴가 - 사용 예정)
                     BigDecimal remainingVacationDays = totalVacationDays
@@ -1625,6 +1605,17 @@ public class VacationServiceImpl implements VacationService {
                 .toList();
     }
 
+    /**
+     * 사용자별 시간 합계 목록을 userId 기준 Map 으로 변환 (합계가 null 이면 0)
+     */
+    private static Map<String, BigDecimal> toTimeMap(List<VacationTimeSumDto> sums) {
+        Map<String, BigDecimal> timeMap = new HashMap<>();
+        for (VacationTimeSumDto sum : sums) {
+            timeMap.put(sum.getUserId(), sum.getTime() != null ? sum.getTime() : BigDecimal.ZERO);
+        }
+        return timeMap;
+    }
+
     // ========================================
     // Helper Methods (Plan 기반)
     // ========================================
@@ -10,12 +10,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter @Setter
 @Builder
-public class VacationPolicyServiceDto {
+public class VacationPolicyServiceDto implements Serializable {
     private Long id;
     private String name;
     private String desc;
@@ -18,9 +18,11 @@ import java.time.LocalDate;
 public class WorkHistory extends AuditingFieldsWithIp {
     /**
      * 행 아이디<br>
-     * 테이블 관리용 PK (auto increment)
+     * 테이블 관리용 PK (work_history_seq 시퀀스, 50개 단위 pooled 할당)
      */
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_history_seq")
+    @SequenceGenerator(name = "work_history_seq", sequenceName = "work_history_seq", allocationSize = 50)
     @Column(name = "row_id")
     private Long rowId;
 
@@ -31,6 +31,19 @@ public class WorkCodeJpaRepository implements WorkCodeRepository {
         return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Override
+    public List<WorkCode> findByCodes(List<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            return List.of();
+        }
+
+        return em.createQuery(
+                        "select wc from WorkCode wc where wc.code in :codes and wc.isDeleted = :isDeleted", WorkCode.class)
+                .setParameter("codes", codes)
+                .setParameter("isDeleted", YNType.N)
+                .getResultList();
+    }
+
     @Override
     public Optional<WorkCode> findByRowId(Long rowId) {
         List<WorkCode> result = em.createQuery(
@@ -40,6 +40,21 @@ public class WorkCodeQueryDslRepository implements WorkCodeRepository {
         );
     }
 
+    @Override
+    public List<WorkCode> findByCodes(List<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            return List.of();
+        }
+
+        return query
+                .selectFrom(workCode)
+                .where(
+                        workCode.code.in(codes),
+                        workCode.isDeleted.eq(YNType.N)
+                )
+                .fetch();
+    }
+
     @Override
     public Optional<WorkCode> findByRowId(Long rowId) {
         return Optional.ofNullable(
@@ -25,6 +25,14 @@ public interface WorkCodeRepository {
      */
     Optional<WorkCode> findByCode(String code);
 
+    /**
+     * 여러 코드로 업무 코드 일괄 조회 (삭제된 코드 제외)
+     *
+     * @param codes 업무 코드 리스트
+     * @return List&lt;WorkCode&gt;
+     */
+    List<WorkCode> findByCodes(List<String> codes);
+
     /**
      * rowId로 업무 코드 조회
      *
@@ -4,12 +4,15 @@ import com.porest.core.exception.DuplicateException;
 import com.porest.core.exception.EntityNotFoundException;
 import com.porest.hr.common.exception.HrErrorCode;
 import com.porest.core.exception.InvalidValueException;
+import com.porest.hr.common.cache.CacheNames;
 import com.porest.hr.work.domain.WorkCode;
 import com.porest.hr.work.repository.WorkCodeRepository;
 import com.porest.hr.work.service.dto.WorkCodeServiceDto;
 import com.porest.hr.work.type.CodeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ public class WorkCodeServiceImpl implements WorkCodeService {
     private final WorkCodeRepository workCodeRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheNames.WORK_CODES)
     public List<WorkCodeServiceDto> findWorkCodes(String parentWorkCode, Long parentWorkCodeId, Boolean parentIsNull, CodeType type) {
         List<WorkCode> workCodes = workCodeRepository.findAllByConditions(parentWorkCode, parentWorkCodeId, parentIsNull, type);
         return workCodes.stream()
@@ -40,6 +44,7 @@ public class WorkCodeServiceImpl implements WorkCodeService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.WORK_CODES, allEntries = true)
     public Long createWorkCode(String code, String name, CodeType type, Long parentId, Integer orderSeq) {
         // 부모 코드 조회 (parentId가 있는 경우)
         WorkCode parent = null;
@@ -65,6 +70,7 @@ public class WorkCodeServiceImpl implements WorkCodeService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.WORK_CODES, allEntries = true)
     public void updateWorkCode(Long id, String code, String name, Long parentId, Integer orderSeq) {
         // 업무 코드 조회
         WorkCode workCode = workCodeRepository.findByRowId(id)
@@ -100,6 +106,7 @@ public class WorkCodeServiceImpl implements WorkCodeService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.WORK_CODES, allEntries = true)
     public void deleteWorkCode(Long id) {
         // 업무 코드 조회
         WorkCode workCode = workCodeRepository.findByRowId(id)
@@ -5,9 +5,7 @@ import com.porest.hr.common.exception.HrErrorCode;
 import com.porest.hr.common.time.CompanyClock;
 import com.porest.core.exception.InvalidValueException;
 import com.porest.core.type.CountryCode;
-import com.porest.hr.holiday.domain.Holiday;
-import com.porest.hr.holiday.service.HolidayService;
-import com.porest.hr.holiday.type.HolidayType;
+import com.porest.hr.holiday.service.WorkingCalendar;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.repository.UserRepository;
 import com.porest.hr.user.service.UserService;
@@ -32,18 +30,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -57,7 +52,7 @@ public class WorkHistoryServiceImpl implements WorkHistoryService {
     private final CompanyClock companyClock;
     private final WorkCodeRepository workCodeRepository;
     private final UserService userService;
-    private final HolidayService holidayService;
+    private final WorkingCalendar workingCalendar;
     private final UserRepository userRepository;
     private final VacationUsageRepository vacationUsageRepository;
 
@@ -87,11 +82,32 @@ public class WorkHistoryServiceImpl implements WorkHistoryService {
     @Transactional
     public List<Long> createWorkHistories(List<WorkHistoryServiceDto> dataList) {
         log.debug("업무 이력 일괄 생성 시작: count={}", dataList.size());
+
+        // 행마다 유저/업무 코드를 단건 조회하지 않고 IN 조회 한 번씩으로 모아 메모리에서 검증
+        Map<String, User> users = userRepository.findUsersByIds(dataList.stream()
+                        .map(WorkHistoryServiceDto::getUserId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, u -> u, (a, b) -> a));
+        Map<String, WorkCode> workCodes = workCodeRepository.findByCodes(dataList.stream()
+                        .flatMap(data -> Stream.of(data.getGroupCode(), data.getPartCode(), data.getClassCode()))
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(WorkCode::getCode, c -> c, (a, b) -> a));
+
         List<WorkHistory> workHistories = dataList.stream().map(data -> {
-            User user = userService.checkUserExist(data.getUserId());
-            WorkCode group = checkWorkCodeExist(data.getGroupCode());
-            WorkCode part = checkWorkCodeExist(data.getPartCode());
-            WorkCode classes = checkWorkCodeExist(data.getClassCode());
+            User user = users.get(data.getUserId());
+            if (user == null) {
+                log.warn("사용자 조회 실패 - 존재하지 않거나 삭제된 사용자: userId={}", data.getUserId());
+                throw new EntityNotFoundException(HrErrorCode.USER_NOT_FOUND);
+            }
+            WorkCode group = getWorkCode(workCodes, data.getGroupCode());
+            WorkCode part = getWorkCode(workCodes, data.getPartCode());
+            WorkCode classes = getWorkCode(workCodes, data.getClassCode());
 
             return WorkHistory.createWorkHistory(
                     data.getDate(),
@@ -104,7 +120,7 @@ public class WorkHistoryServiceImpl implements WorkHistoryService {
         }).collect(Collectors.toList());
 
         workHistoryRepository.saveAll(workHistories);
-        log.info("업무 이력 일괄 생성 완료: count={}", workHistories.size());
+        log.info("업무 이력 일괄 생성 완료: count={}, users={}, workCodes={}", workHistories.size(), users.size(), workCodes.size());
 
         return workHistories.stream()
                 .map(WorkHistory::getRowId)
@@ -194,6 +210,20 @@ public class WorkHistoryServiceImpl implements WorkHistoryService {
         return workHistory.get();
     }
 
+    // 일괄 조회한 업무 코드에서 찾기 (checkWorkCodeExist 와 같은 예외)
+    private WorkCode getWorkCode(Map<String, WorkCode> workCodes, String code) {
+        if (code == null) {
+            log.warn("업무 코드 검증 실패 - 코드 미입력");
+            throw new InvalidValueException(HrErrorCode.WORK_CODE_REQUIRED);
+        }
+        WorkCode workCode = workCodes.get(code);
+        if (workCode == null) {
+            log.warn("업무 코드 조회 실패 - 존재하지 않는 코드: code={}", code);
+            throw new EntityNotFoundException(HrErrorCode.WORK_CODE_NOT_FOUND);
+        }
+        return workCode;
+    }
+
     private WorkCode checkWorkCodeExist(String code) {
         if (code == null) {
             log.warn("업무 코드 검증 실패 - 코드 미입력");
@@ -303,24 +333,8 @@ public class WorkHistoryServiceImpl implements WorkHistoryService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        // 해당 기간의 공휴일 조회 (PUBLIC, SUBSTITUTE만 - ETC 제외)
-        List<Holiday> holidays = holidayService.searchHolidaysByStartEndDate(startDate, endDate, CountryCode.KR);
-        Set<LocalDate> holidayDates = holidays.stream()
-                .filter(h -> h.getType() == HolidayType.PUBLIC || h.getType() == HolidayType.SUBSTITUTE)
-                .map(Holiday::getDate)
-                .collect(Collectors.toSet());
-
-        // 주말과 공휴일을 제외한 근무일 리스트 생성
-        List<LocalDate> workingDays = new ArrayList<>();
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
-            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
-                    && !holidayDates.contains(currentDate)) {
-                workingDays.add(currentDate);
-            }
-            currentDate = currentDate.plusDays(1);
-        }
+        // 주말과 공휴일(PUBLIC, SUBSTITUTE)을 제외한 근무일 리스트
+        List<LocalDate> workingDays = workingCalendar.getWorkingDays(CountryCode.KR, startDate, endDate);
 
         // 대상 유저 조회: 삭제되지 않은 유저 + 삭제됐지만 modifyDate가 해당 년월인 유저
         List<User> users = userRepository.findUsers(); // 삭제되지 않은 유저
@@ -501,24 +515,8 @@ public class WorkHistoryServiceImpl implements WorkHistoryService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        // 해당 기간의 공휴일 조회 (PUBLIC, SUBSTITUTE만 - ETC 제외)
-        List<Holiday> holidays = holidayService.searchHolidaysByStartEndDate(startDate, endDate, CountryCode.KR);
-        Set<LocalDate> holidayDates = holidays.stream()
-                .filter(h -> h.getType() == HolidayType.PUBLIC || h.getType() == HolidayType.SUBSTITUTE)
-                .map(Holiday::getDate)
-                .collect(Collectors.toSet());
-
-        // 주말과 공휴일을 제외한 근무일 리스트 생성
-        List<LocalDate> workingDays = new ArrayList<>();
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
-            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
-                    && !holidayDates.contains(currentDate)) {
-                workingDays.add(currentDate);
-            }
-            currentDate = currentDate.plusDays(1);
-        }
+        // 주말과 공휴일(PUBLIC, SUBSTITUTE)을 제외한 근무일 리스트
+        List<LocalDate> workingDays = workingCalendar.getWorkingDays(CountryCode.KR, startDate, endDate);
 
         // 기간 내 날짜별 업무 시간 합계 조회 (단일 쿼리)
         Map<LocalDate, BigDecimal> dailyWorkHoursMap = workHistoryRepository
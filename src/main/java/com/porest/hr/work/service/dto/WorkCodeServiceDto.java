@@ -4,9 +4,11 @@ import com.porest.hr.work.type.CodeType;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Getter
 @Builder
-public class WorkCodeServiceDto {
+public class WorkCodeServiceDto implements Serializable {
     private Long id;
     private String code;
     private String name;
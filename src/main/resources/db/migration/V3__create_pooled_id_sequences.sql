@@ -0,0 +1,39 @@
+-- 대량 생성 엔티티 PK 를 AUTO_INCREMENT 에서 시퀀스(pooled, 50개 단위 할당)로 전환
+-- IDENTITY 는 INSERT 마다 생성 키를 받아야 해서 Hibernate JDBC 배치가 꺼집니다.
+-- 시퀀스 값은 할당 구간의 끝(hi)이므로 기존 최대 row_id + 50 에서 시작해야 첫 구간(최대 + 1 ~ 최대 + 50)이 겹치지 않습니다.
+-- MariaDB 10.3 이상 필요. 기존 AUTO_INCREMENT 속성은 그대로 두며 애플리케이션은 더 이상 사용하지 않습니다.
+
+-- vacation_grant
+SET @start = (SELECT COALESCE(MAX(row_id), 0) + 50 FROM vacation_grant);
+SET @ddl = CONCAT('CREATE SEQUENCE vacation_grant_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- vacation_usage
+SET @start = (SELECT COALESCE(MAX(row_id), 0) + 50 FROM vacation_usage);
+SET @ddl = CONCAT('CREATE SEQUENCE vacation_usage_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- vacation_usage_deduction
+SET @start = (SELECT COALESCE(MAX(row_id), 0) + 50 FROM vacation_usage_deduction);
+SET @ddl = CONCAT('CREATE SEQUENCE vacation_usage_deduction_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- vacation_approval
+SET @start = (SELECT COALESCE(MAX(row_id), 0) + 50 FROM vacation_approval);
+SET @ddl = CONCAT('CREATE SEQUENCE vacation_approval_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- work_history
+SET @start = (SELECT COALESCE(MAX(row_id), 0) + 50 FROM work_history);
+SET @ddl = CONCAT('CREATE SEQUENCE work_history_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,22 @@
+-- 배치 작업 체크포인트
+-- 작업/실행일별로 마지막으로 커밋된 청크의 키와 처리 건수를 보관합니다.
+-- 청크 트랜잭션에서 함께 갱신되며, 중단된 실행은 마지막 커밋 지점 다음부터 이어서 처리합니다.
+
+CREATE TABLE job_checkpoint (
+    row_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    job_name      VARCHAR(50)  NOT NULL,
+    run_date      DATE         NOT NULL,
+    last_row_id   BIGINT,
+    success_count INT          NOT NULL,
+    fail_count    INT          NOT NULL,
+    skip_count    INT          NOT NULL,
+    is_completed  VARCHAR(1)   NOT NULL,
+    create_at     DATETIME(6),
+    create_by     VARCHAR(255),
+    create_ip     VARCHAR(45),
+    modify_at     DATETIME(6),
+    modify_by     VARCHAR(255),
+    modify_ip     VARCHAR(45),
+    PRIMARY KEY (row_id),
+    CONSTRAINT uk_job_checkpoint UNIQUE (job_name, run_date)
+);
@@ -0,0 +1,9 @@
+-- 배치 작업 리스 (Redis 를 쓸 수 없을 때의 대체 저장소)
+-- 여러 노드 중 한 노드만 같은 배치 작업을 실행하도록 작업별로 소유자와 만료 시각을 보관합니다.
+
+CREATE TABLE job_lease (
+    lease_name VARCHAR(100) NOT NULL,
+    owner      VARCHAR(100) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (lease_name)
+);
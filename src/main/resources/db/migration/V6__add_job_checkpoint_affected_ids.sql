@@ -0,0 +1,4 @@
+-- 배치 작업 체크포인트에 변경 행 ID 기록 추가
+-- 휴가 만료처럼 벌크 UPDATE 로 처리하는 작업이 청크마다 변경한 행 ID 를 연속 구간("1-500,502")으로 압축해 이어 붙입니다.
+
+ALTER TABLE job_checkpoint ADD COLUMN affected_ids MEDIUMTEXT;
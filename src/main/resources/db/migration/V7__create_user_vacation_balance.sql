@@ -0,0 +1,33 @@
+-- 사용자 휴가 잔액 원장
+-- 사용자/휴가 타입/유효기간(부여일 ~ 만료일)별로 사용 가능한(ACTIVE, EXHAUSTED) 부여 휴가의 부여 시간, 잔여 시간 합계를 보관합니다.
+-- 부여/사용/취소/회수/만료 트랜잭션에서 INSERT ... ON DUPLICATE KEY UPDATE 로 증감하며, 매일 부여 휴가 합계와 대사합니다.
+-- 유효기간 컬럼은 vacation_grant.grant_date, expiry_date 와 같은 타입이어야 키가 일치합니다.
+
+CREATE TABLE user_vacation_balance (
+    row_id        BIGINT        NOT NULL AUTO_INCREMENT,
+    user_row_id   BIGINT        NOT NULL,
+    vacation_type VARCHAR(15)   NOT NULL,
+    period_start  DATETIME(6)   NOT NULL,
+    period_end    DATETIME(6)   NOT NULL,
+    grant_time    DECIMAL(9, 4) NOT NULL,
+    remain_time   DECIMAL(9, 4) NOT NULL,
+    create_at     DATETIME(6),
+    create_by     VARCHAR(255),
+    create_ip     VARCHAR(45),
+    modify_at     DATETIME(6),
+    modify_by     VARCHAR(255),
+    modify_ip     VARCHAR(45),
+    PRIMARY KEY (row_id),
+    CONSTRAINT uk_user_vacation_balance UNIQUE (user_row_id, vacation_type, period_start, period_end),
+    INDEX idx_user_vacation_balance_period (period_start, period_end)
+);
+
+-- 기존 부여 휴가로 원장 채우기
+INSERT INTO user_vacation_balance (user_row_id, vacation_type, period_start, period_end, grant_time, remain_time,
+                                   create_at, create_by, modify_at, modify_by)
+SELECT user_row_id, vacation_type, grant_date, expiry_date, SUM(grant_time), SUM(remain_time),
+       NOW(6), 'SYSTEM', NOW(6), 'SYSTEM'
+FROM vacation_grant
+WHERE is_deleted = 'N'
+  AND grant_status IN ('ACTIVE', 'EXHAUSTED')
+GROUP BY user_row_id, vacation_type, grant_date, expiry_date;
@@ -0,0 +1,104 @@
+package com.porest.hr.common.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.SmartLifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("액세스 로그 비동기 파이프라인 테스트")
+class AccessLogDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessLogDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new AccessLogDispatcher(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    private AccessLogEvent event(int i) {
+        return AccessLogEvent.builder()
+                .traceId("trace-" + i)
+                .status(200)
+                .executionTime(1)
+                .method("GET")
+                .uri("/api/v1/test")
+                .build();
+    }
+
+    private double queueSize() {
+        return meterRegistry.get("access_log.queue.size").gauge().value();
+    }
+
+    @Test
+    @DisplayName("성공 - 큐가 가득 차면 이벤트를 버리고 유실 건수를 센다")
+    void dropWhenFull() {
+        // given
+        for (int i = 0; i < AccessLogDispatcher.QUEUE_CAPACITY; i++) {
+            assertThat(dispatcher.publish(event(i))).isTrue();
+        }
+
+        // when
+        boolean accepted = dispatcher.publish(event(AccessLogDispatcher.QUEUE_CAPACITY));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(AccessLogDispatcher.QUEUE_CAPACITY).isEqualTo(8192);
+        assertThat(meterRegistry.get("access_log.events.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("access_log.events.queued").counter().count()).isEqualTo(8192.0);
+        assertThat(queueSize()).isEqualTo(8192.0);
+    }
+
+    @Test
+    @DisplayName("성공 - 배치로 꺼내면 자리가 생겨 다시 적재된다")
+    void publishAfterDrain() {
+        // given
+        for (int i = 0; i < AccessLogDispatcher.QUEUE_CAPACITY; i++) {
+            dispatcher.publish(event(i));
+        }
+
+        // when
+        int drained = dispatcher.drainBatch();
+        boolean accepted = dispatcher.publish(event(-1));
+
+        // then
+        assertThat(drained).isEqualTo(256);
+        assertThat(accepted).isTrue();
+        assertThat(queueSize()).isEqualTo(8192.0 - 256 + 1);
+    }
+
+    @Test
+    @DisplayName("성공 - 멈출 때 큐에 남은 이벤트를 모두 출력한다")
+    void drainOnStop() {
+        // given
+        for (int i = 0; i < 1000; i++) {
+            dispatcher.publish(event(i));
+        }
+        dispatcher.start();
+
+        // when
+        dispatcher.stop();
+
+        // then
+        assertThat(dispatcher.isRunning()).isFalse();
+        assertThat(queueSize()).isZero();
+        assertThat(dispatcher.drainBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 - 웹 서버 graceful shutdown 이후에 멈추도록 더 낮은 phase 를 쓴다")
+    void stopsAfterWebServer() {
+        // then
+        assertThat(dispatcher.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+}
@@ -0,0 +1,241 @@
+package com.porest.hr.common.config.security;
+
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("응답 tee 래퍼 테스트")
+class TeeResponseWrapperTest {
+
+    private MockHttpServletResponse response;
+    private TeeResponseWrapper wrapper;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        wrapper = new TeeResponseWrapper(response, 4);
+    }
+
+    @Nested
+    @DisplayName("캡처")
+    class Capture {
+        @Test
+        @DisplayName("성공 - 원본에는 전부 쓰고 캡처는 한도까지만 보관한다")
+        void capturePrefixOnly() throws IOException {
+            // when
+            wrapper.getOutputStream().write("abcdefgh".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(response.getContentAsString()).isEqualTo("abcdefgh");
+            assertThat(new String(wrapper.getCapturedBytes(), StandardCharsets.UTF_8)).isEqualTo("abcd");
+            assertThat(wrapper.isCaptureTruncated()).isTrue();
+            assertThat(wrapper.isCaptureSkipped()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 한 바이트씩 써도 한도에서 자르고, 한도 이하면 잘림 표시를 하지 않는다")
+        void captureSingleBytes() throws IOException {
+            // given
+            ServletOutputStream out = wrapper.getOutputStream();
+
+            // when
+            for (byte b : "abcd".getBytes(StandardCharsets.UTF_8)) {
+                out.write(b);
+            }
+            boolean truncatedAtLimit = wrapper.isCaptureTruncated();
+            out.write('e');
+
+            // then
+            assertThat(truncatedAtLimit).isFalse();
+            assertThat(wrapper.isCaptureTruncated()).isTrue();
+            assertThat(wrapper.getCapturedBytes()).hasSize(4);
+            assertThat(response.getContentAsString()).isEqualTo("abcde");
+        }
+
+        @Test
+        @DisplayName("성공 - getWriter 로 쓴 내용도 응답 문자셋으로 tee 를 거친다")
+        void captureThroughWriter() throws IOException {
+            // given
+            TeeResponseWrapper large = new TeeResponseWrapper(response, 1024);
+
+            // when
+            PrintWriter writer = large.getWriter();
+            writer.write("{\"name\":\"휴가\"}");
+            large.flushWriter();
+
+            // then
+            assertThat(response.getContentAsString()).isEqualTo("{\"name\":\"휴가\"}");
+            assertThat(new String(large.getCapturedBytes(), large.getCapturedCharset())).isEqualTo("{\"name\":\"휴가\"}");
+            assertThat(large.getWriter()).isSameAs(writer);
+        }
+
+        @Test
+        @DisplayName("성공 - 바이너리 응답은 캡처하지 않고 그대로 내보낸다")
+        void skipBinary() throws IOException {
+            // given
+            response.setContentType("application/octet-stream");
+            byte[] body = {0, (byte) 0xFF, 1, 2, 3, 4, 5};
+
+            // when
+            wrapper.getOutputStream().write(body);
+
+            // then
+            assertThat(response.getContentAsByteArray()).containsExactly(body);
+            assertThat(wrapper.getCapturedBytes()).isEmpty();
+            assertThat(wrapper.isCaptureSkipped()).isTrue();
+            assertThat(wrapper.isCaptureTruncated()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 첨부파일 응답은 텍스트 타입이어도 캡처하지 않는다")
+        void skipAttachment() throws IOException {
+            // given
+            response.setContentType("text/csv");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"vacation.csv\"");
+
+            // when
+            wrapper.getOutputStream().write("a,b,c".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(response.getContentAsString()).isEqualTo("a,b,c");
+            assertThat(wrapper.isCaptureSkipped()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("reset")
+    class Reset {
+        @Test
+        @DisplayName("성공 - resetBuffer 는 캡처한 본문도 지우고 이후 내용만 캡처한다")
+        void resetBufferClearsCapture() throws IOException {
+            // given
+            ServletOutputStream out = wrapper.getOutputStream();
+            out.write("abcdef".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            wrapper.resetBuffer();
+            out.write("xy".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(response.getContentAsString()).isEqualTo("xy");
+            assertThat(new String(wrapper.getCapturedBytes(), StandardCharsets.UTF_8)).isEqualTo("xy");
+            assertThat(wrapper.isCaptureTruncated()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - resetBuffer 는 writer 에 남은 내용도 커밋하지 않고 버린다")
+        void resetBufferDiscardsWriterBuffer() throws IOException {
+            // given
+            PrintWriter writer = wrapper.getWriter();
+            writer.write("error");
+
+            // when
+            wrapper.resetBuffer();
+            boolean committedByReset = response.isCommitted();
+            writer.write("ok");
+            wrapper.flushWriter();
+
+            // then
+            assertThat(committedByReset).isFalse();
+            assertThat(response.getContentAsString()).isEqualTo("ok");
+            assertThat(new String(wrapper.getCapturedBytes(), StandardCharsets.UTF_8)).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("성공 - reset 이후에는 바뀐 헤더로 캡처 여부를 다시 판단한다")
+        void resetRedecidesCapture() throws IOException {
+            // given
+            response.setContentType("application/octet-stream");
+            wrapper.getOutputStream().write(new byte[]{1, 2, 3});
+
+            // when
+            wrapper.reset();
+            wrapper.setContentType("application/json");
+            wrapper.getWriter().write("{}");
+            wrapper.flushWriter();
+
+            // then
+            assertThat(wrapper.isCaptureSkipped()).isFalse();
+            assertThat(new String(wrapper.getCapturedBytes(), StandardCharsets.UTF_8)).isEqualTo("{}");
+            assertThat(response.getContentAsString()).isEqualTo("{}");
+        }
+
+        @Test
+        @DisplayName("실패 - 커밋된 응답은 reset 할 수 없고 캡처도 그대로 둔다")
+        void resetAfterCommit() throws IOException {
+            // given
+            wrapper.getOutputStream().write("ab".getBytes(StandardCharsets.UTF_8));
+            wrapper.flushBuffer();
+
+            // when & then
+            assertThatThrownBy(() -> wrapper.resetBuffer()).isInstanceOf(IllegalStateException.class);
+            assertThat(new String(wrapper.getCapturedBytes(), StandardCharsets.UTF_8)).isEqualTo("ab");
+        }
+    }
+
+    @Nested
+    @DisplayName("flush / commit")
+    class Flush {
+        @Test
+        @DisplayName("성공 - flushBuffer 는 writer 에 남은 내용을 내보내고 응답을 커밋한다")
+        void flushBufferFlushesWriter() throws IOException {
+            // given
+            wrapper.getWriter().write("ok");
+            String beforeFlush = response.getContentAsString();
+
+            // when
+            wrapper.flushBuffer();
+
+            // then
+            assertThat(beforeFlush).isEmpty();
+            assertThat(response.getContentAsString()).isEqualTo("ok");
+            assertThat(response.isCommitted()).isTrue();
+            assertThat(wrapper.getCapturedBytes()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("성공 - 스트림 flush 는 원본 스트림으로 전달된다")
+        void streamFlushDelegates() throws IOException {
+            // when
+            wrapper.getOutputStream().write('x');
+            wrapper.getOutputStream().flush();
+
+            // then
+            assertThat(response.isCommitted()).isTrue();
+            assertThat(response.getContentAsString()).isEqualTo("x");
+        }
+
+        @Test
+        @DisplayName("실패 - getWriter 이후 getOutputStream 을 부르면 예외가 발생한다")
+        void outputStreamAfterWriter() throws IOException {
+            // given
+            wrapper.getWriter();
+
+            // when & then
+            assertThatThrownBy(() -> wrapper.getOutputStream()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("실패 - getOutputStream 이후 getWriter 를 부르면 예외가 발생한다")
+        void writerAfterOutputStream() throws IOException {
+            // given
+            wrapper.getOutputStream();
+
+            // when & then
+            assertThatThrownBy(() -> wrapper.getWriter()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
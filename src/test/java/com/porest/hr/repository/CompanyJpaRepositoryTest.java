@@ -2,7 +2,6 @@ package com.porest.hr.repository;
 
 import com.porest.hr.company.domain.Company;
 import com.porest.hr.company.repository.CompanyJpaRepository;
-import com.porest.hr.department.domain.Department;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -84,28 +83,29 @@ class CompanyJpaRepositoryTest {
     }
 
     @Test
-    @DisplayName("회사와 최상위 부서를 함께 조회")
-    void findByIdWithDepartments() {
+    @DisplayName("회사 수정")
+    void updateCompany() {
         // given
         Company company = Company.createCompany("company1", "테스트 회사", "설명");
         companyRepository.save(company);
-
-        em.persist(Department.createDepartment("개발팀", "개발팀", null, null, 1L, "개발 부서", "#FF0000", company));
-        em.persist(Department.createDepartment("인사팀", "인사팀", null, null, 2L, "인사 부서", "#00FF00", company));
         em.flush();
         em.clear();
 
         // when
-        Optional<Company> findCompany = companyRepository.findByIdWithDepartments("company1");
+        Company foundCompany = companyRepository.findById("company1").orElseThrow();
+        foundCompany.updateCompany("수정된 회사", "수정된 설명");
+        em.flush();
+        em.clear();
 
         // then
-        assertThat(findCompany.isPresent()).isTrue();
-        assertThat(findCompany.get().getDepartments()).hasSize(2);
+        Company updatedCompany = companyRepository.findById("company1").orElseThrow();
+        assertThat(updatedCompany.getName()).isEqualTo("수정된 회사");
+        assertThat(updatedCompany.getDesc()).isEqualTo("수정된 설명");
     }
 
     @Test
-    @DisplayName("회사 수정")
-    void updateCompany() {
+    @DisplayName("회사 행 ID로 락 조회")
+    void findByRowIdForUpdate() {
         // given
         Company company = Company.createCompany("company1", "테스트 회사", "설명");
         companyRepository.save(company);
@@ -113,14 +113,11 @@ class CompanyJpaRepositoryTest {
         em.clear();
 
         // when
-        Company foundCompany = companyRepository.findById("company1").orElseThrow();
-        foundCompany.updateCompany("수정된 회사", "수정된 설명");
-        em.flush();
-        em.clear();
+        Optional<Company> found = companyRepository.findByRowIdForUpdate(company.getRowId());
 
         // then
-        Company updatedCompany = companyRepository.findById("company1").orElseThrow();
-        assertThat(updatedCompany.getName()).isEqualTo("수정된 회사");
-        assertThat(updatedCompany.getDesc()).isEqualTo("수정된 설명");
+        assertThat(found).isPresent();
+        assertThat(found.get().getId()).isEqualTo("company1");
+        assertThat(companyRepository.findByRowIdForUpdate(999L)).isEmpty();
     }
 }
@@ -386,4 +386,118 @@ class DepartmentJpaRepositoryTest {
         assertThat(userDepartments.get(0).getUser().getId()).isEqualTo("normalUser");
         assertThat(userDepartments.get(0).getUser().getCompany()).isNotEqualTo("SYSTEM");
     }
+
+    @Test
+    @DisplayName("부서장이 없는 상위 부서는 건너뛰고, 삭제된 상위 부서에서 조회를 멈춘다")
+    void findApproversByUserIdSkipsNoHeadAndStopsAtDeleted() {
+        // given
+        User user = createTestUser("user1", "테스트유저1", "user1@test.com");
+        User head1 = createTestUser("head1", "부서장1", "head1@test.com");
+        User head3 = createTestUser("head3", "부서장3", "head3@test.com");
+        em.persist(user);
+        em.persist(head1);
+        em.persist(head3);
+
+        // 부서 계층 생성: 회사(삭제) -> 본부 -> 실(부서장 없음) -> 팀
+        Department root = Department.createDepartment("회사", "회사", null, head1, 1L, "회사", "#FF0000", company);
+        departmentRepository.save(root);
+        root.deleteDepartment();
+
+        Department headquarters = Department.createDepartment("본부", "본부", root, head3, 2L, "본부", "#00FF00", company);
+        departmentRepository.save(headquarters);
+
+        Department division = Department.createDepartment("실", "실", headquarters, null, 3L, "실", "#0000FF", company);
+        departmentRepository.save(division);
+
+        Department team = Department.createDepartment("팀", "팀", division, head1, 4L, "팀", "#000000", company);
+        departmentRepository.save(team);
+
+        departmentRepository.saveUserDepartment(UserDepartment.createUserDepartment(user, team, YNType.Y));
+        em.flush();
+        em.clear();
+
+        // when
+        List<Department> approvers = departmentRepository.findApproversByUserId("user1");
+
+        // then
+        assertThat(approvers).extracting(Department::getName).containsExactly("본부");
+        assertThat(approvers.get(0).getHeadUser().getId()).isEqualTo("head3");
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 부서 전체를 부서장, 회사와 함께 조회한다")
+    void findAllActiveDepartments() {
+        // given
+        User head = createTestUser("head1", "부서장1", "head1@test.com");
+        em.persist(head);
+
+        Department root = Department.createDepartment("본부", "본부", null, head, 1L, "본부", "#FF0000", company);
+        departmentRepository.save(root);
+        Department team = Department.createDepartment("팀", "팀", root, null, 2L, "팀", "#00FF00", company);
+        departmentRepository.save(team);
+        Department deleted = Department.createDepartment("삭제팀", "삭제팀", root, null, 2L, "삭제팀", "#0000FF", company);
+        departmentRepository.save(deleted);
+        deleted.deleteDepartment();
+        em.flush();
+        em.clear();
+
+        // when
+        List<Department> departments = departmentRepository.findAllActiveDepartments();
+
+        // then
+        assertThat(departments).extracting(Department::getName).containsExactlyInAnyOrder("본부", "팀");
+        Department foundRoot = departments.stream().filter(d -> d.getName().equals("본부")).findFirst().orElseThrow();
+        Department foundTeam = departments.stream().filter(d -> d.getName().equals("팀")).findFirst().orElseThrow();
+        assertThat(foundRoot.getHeadUser().getId()).isEqualTo("head1");
+        assertThat(foundRoot.getCompany().getId()).isEqualTo(company.getId());
+        assertThat(foundTeam.getParentId()).isEqualTo(foundRoot.getRowId());
+    }
+
+    @Test
+    @DisplayName("락 조회는 삭제되지 않은 부서만 조회한다")
+    void findByIdForUpdate() {
+        // given
+        Department team = Department.createDepartment("팀", "팀", null, null, 1L, "팀", "#FF0000", company);
+        departmentRepository.save(team);
+        Department deleted = Department.createDepartment("삭제팀", "삭제팀", null, null, 1L, "삭제팀", "#00FF00", company);
+        departmentRepository.save(deleted);
+        deleted.deleteDepartment();
+        em.flush();
+        em.clear();
+
+        // when
+        Optional<Department> found = departmentRepository.findByIdForUpdate(team.getRowId());
+        Optional<Department> foundDeleted = departmentRepository.findByIdForUpdate(deleted.getRowId());
+
+        // then
+        assertThat(found).isPresent();
+        assertThat(found.get().getName()).isEqualTo("팀");
+        assertThat(foundDeleted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부서 자신부터 최상위 부서까지 상위 부서 ID를 가까운 순으로 조회하고, 삭제된 상위 부서에서 멈춘다")
+    void findAncestorIdsByDepartmentId() {
+        // given
+        // 부서 계층 생성: 회사(삭제) -> 본부 -> 실 -> 팀
+        Department root = Department.createDepartment("회사", "회사", null, null, 1L, "회사", "#FF0000", company);
+        departmentRepository.save(root);
+        root.deleteDepartment();
+        Department headquarters = Department.createDepartment("본부", "본부", root, null, 2L, "본부", "#00FF00", company);
+        departmentRepository.save(headquarters);
+        Department division = Department.createDepartment("실", "실", headquarters, null, 3L, "실", "#0000FF", company);
+        departmentRepository.save(division);
+        Department team = Department.createDepartment("팀", "팀", division, null, 4L, "팀", "#000000", company);
+        departmentRepository.save(team);
+        em.flush();
+        em.clear();
+
+        // when
+        List<Long> ancestorIds = departmentRepository.findAncestorIdsByDepartmentId(team.getRowId());
+
+        // then
+        assertThat(ancestorIds).containsExactly(team.getRowId(), division.getRowId(), headquarters.getRowId());
+        assertThat(departmentRepository.findAncestorIdsByDepartmentId(root.getRowId())).isEmpty();
+        assertThat(departmentRepository.findAncestorIdsByDepartmentId(999L)).isEmpty();
+    }
 }
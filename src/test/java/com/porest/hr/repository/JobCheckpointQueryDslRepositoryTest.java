@@ -0,0 +1,77 @@
+package com.porest.hr.repository;
+
+import com.porest.core.type.YNType;
+import com.porest.hr.common.domain.JobCheckpoint;
+import com.porest.hr.common.repository.JobCheckpointQueryDslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JobCheckpointQueryDslRepository.class, TestQuerydslConfig.class})
+@Transactional
+@DisplayName("QueryDSL 배치 체크포인트 레포지토리 테스트")
+class JobCheckpointQueryDslRepositoryTest {
+    @Autowired
+    private JobCheckpointQueryDslRepository jobCheckpointRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("체크포인트 저장 및 작업/실행일로 조회")
+    void save() {
+        // given
+        LocalDate runDate = LocalDate.of(2026, 1, 1);
+        JobCheckpoint checkpoint = JobCheckpoint.createJobCheckpoint("VACATION_EXPIRE", runDate);
+        jobCheckpointRepository.save(checkpoint);
+        checkpoint.advance(500L, 498, 1, 1);
+        checkpoint.appendAffectedIds("1-480,485-500");
+        checkpoint.appendAffectedIds(null);
+
+        // when
+        em.flush();
+        em.clear();
+
+        // then
+        Optional<JobCheckpoint> findCheckpoint = jobCheckpointRepository.findByJobNameAndRunDate("VACATION_EXPIRE", runDate);
+        assertThat(findCheckpoint.isPresent()).isTrue();
+        assertThat(findCheckpoint.get().getLastRowId()).isEqualTo(500L);
+        assertThat(findCheckpoint.get().getSuccessCount()).isEqualTo(498);
+        assertThat(findCheckpoint.get().getAffectedIds()).isEqualTo("1-480,485-500");
+        assertThat(findCheckpoint.get().getIsCompleted()).isEqualTo(YNType.N);
+        assertThat(jobCheckpointRepository.findByJobNameAndRunDate("VACATION_EXPIRE", runDate.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행일의 완료되지 않은 체크포인트만 조회")
+    void findIncompleteByRunDate() {
+        // given
+        LocalDate runDate = LocalDate.of(2026, 1, 1);
+        JobCheckpoint incomplete = JobCheckpoint.createJobCheckpoint("VACATION_EXPIRE", runDate);
+        JobCheckpoint completed = JobCheckpoint.createJobCheckpoint("VACATION_REPEAT_GRANT", runDate);
+        completed.complete();
+        JobCheckpoint yesterday = JobCheckpoint.createJobCheckpoint("VACATION_REPEAT_GRANT", runDate.minusDays(1));
+        jobCheckpointRepository.save(incomplete);
+        jobCheckpointRepository.save(completed);
+        jobCheckpointRepository.save(yesterday);
+        em.flush();
+        em.clear();
+
+        // when
+        List<JobCheckpoint> result = jobCheckpointRepository.findIncompleteByRunDate(runDate);
+
+        // then
+        assertThat(result).extracting(JobCheckpoint::getJobName).containsExactly("VACATION_EXPIRE");
+    }
+}
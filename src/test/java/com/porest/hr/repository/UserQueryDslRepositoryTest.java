@@ -453,4 +453,64 @@ class UserQueryDslRepositoryTest {
         // then
         assertThat(findUser.isEmpty()).isTrue();
     }
+
+    @Test
+    @DisplayName("여러 유저를 역할과 권한과 함께 일괄 조회 - 삭제된 유저는 제외")
+    void findUsersByIdsWithRolesAndPermissions() {
+        // given
+        Role role = Role.createRole("ADMIN", "관리자", "시스템 관리자");
+        em.persist(role);
+
+        User user1 = createTestUser("user1", "유저1", "user1@test.com");
+        user1.addRole(role);
+        userRepository.save(user1);
+
+        User user2 = createTestUser("user2", "유저2", "user2@test.com");
+        userRepository.save(user2);
+
+        User user3 = createTestUser("user3", "유저3", "user3@test.com");
+        userRepository.save(user3);
+        user3.deleteUser();
+        em.flush();
+        em.clear();
+
+        // when
+        List<User> users = userRepository.findUsersByIdsWithRolesAndPermissions(List.of("user1", "user2", "user3"));
+
+        // then
+        assertThat(users).extracting(User::getId).containsExactlyInAnyOrder("user1", "user2");
+        assertThat(users).filteredOn(u -> u.getId().equals("user1"))
+                .singleElement()
+                .satisfies(u -> assertThat(u.getRoles()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("여러 유저를 역할과 권한과 함께 일괄 조회 - ID 목록이 비어 있으면 빈 리스트")
+    void findUsersByIdsWithRolesAndPermissionsEmpty() {
+        // when
+        List<User> users = userRepository.findUsersByIdsWithRolesAndPermissions(List.of());
+
+        // then
+        assertThat(users).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 유저 일괄 조회 - 삭제된 유저는 제외")
+    void findUsersByIds() {
+        // given
+        userRepository.save(createTestUser("user1", "유저1", "user1@test.com"));
+        userRepository.save(createTestUser("user2", "유저2", "user2@test.com"));
+        User deleted = createTestUser("user3", "유저3", "user3@test.com");
+        userRepository.save(deleted);
+        deleted.deleteUser();
+        em.flush();
+        em.clear();
+
+        // when
+        List<User> users = userRepository.findUsersByIds(List.of("user1", "user2", "user3", "none"));
+
+        // then
+        assertThat(users).extracting(User::getId).containsExactlyInAnyOrder("user1", "user2");
+        assertThat(userRepository.findUsersByIds(List.of())).isEmpty();
+    }
 }
@@ -0,0 +1,182 @@
+package com.porest.hr.repository;
+
+import com.porest.core.type.CountryCode;
+import com.porest.core.type.YNType;
+import com.porest.hr.user.domain.User;
+import com.porest.hr.vacation.domain.UserVacationBalance;
+import com.porest.hr.vacation.repository.UserVacationBalanceJpaRepository;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
+import com.porest.hr.vacation.type.VacationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+// 원장 증감(INSERT ... ON DUPLICATE KEY UPDATE)을 위해 MariaDB 모드 H2(application.yml)를 그대로 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserVacationBalanceJpaRepository.class, TestQuerydslConfig.class})
+@Transactional
+@DisplayName("JPA 휴가 잔액 원장 레포지토리 테스트")
+class UserVacationBalanceJpaRepositoryTest {
+    private static final LocalDateTime START_2025 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END_2025 = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+    private static final LocalDateTime START_2026 = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime END_2026 = LocalDateTime.of(2026, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private UserVacationBalanceJpaRepository userVacationBalanceRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private User user;
+
+    // 테스트용 User 생성 헬퍼 메소드
+    private User createTestUser(String id, String name, String email) {
+        return User.createUser(
+                null, id, name, email,
+                LocalDate.of(1990, 1, 1), "NONE", "9 ~ 18",
+                LocalDate.now(), YNType.N, null, null, CountryCode.KR
+        );
+    }
+
+    private void addBalance(User target, VacationType type, LocalDateTime periodStart, LocalDateTime periodEnd,
+                            String grantTime, String remainTime) {
+        userVacationBalanceRepository.addBalance(target.getRowId(), type, periodStart, periodEnd,
+                new BigDecimal(grantTime), new BigDecimal(remainTime), LocalDateTime.now(), "admin");
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = createTestUser("user1", "테스트유저1", "user1@test.com");
+        em.persist(user);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("같은 사용자/휴가 타입/유효기간의 증감은 한 행에 누적")
+    void addBalanceAccumulates() {
+        // given
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "8.0", "8.0");
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "4.0", "4.0");
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "0", "-3.0");
+        addBalance(user, VacationType.ANNUAL, START_2026, END_2026, "8.0", "8.0");
+        em.clear();
+
+        // when
+        List<VacationBalanceSumDto> result = userVacationBalanceRepository.findSumsByUserRowIds(List.of(user.getRowId()));
+
+        // then
+        assertThat(result).hasSize(2);
+        VacationBalanceSumDto balance2025 = result.stream()
+                .filter(sum -> sum.getPeriodStart().equals(START_2025))
+                .findFirst().orElseThrow();
+        assertThat(balance2025.getGrantTime()).isEqualByComparingTo(new BigDecimal("12.0"));
+        assertThat(balance2025.getRemainTime()).isEqualByComparingTo(new BigDecimal("9.0"));
+    }
+
+    @Test
+    @DisplayName("기준 날짜를 유효기간에 포함하고 잔여 시간이 남은 행만 조회")
+    void findByUserIdAndDate() {
+        // given
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "8.0", "6.0");
+        addBalance(user, VacationType.MATERNITY, START_2025, END_2025, "8.0", "0");
+        addBalance(user, VacationType.ANNUAL, START_2026, END_2026, "8.0", "8.0");
+        em.clear();
+
+        // when
+        List<UserVacationBalance> result = userVacationBalanceRepository.findByUserIdAndDate("user1", LocalDateTime.of(2025, 6, 1, 0, 0));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getType()).isEqualTo(VacationType.ANNUAL);
+        assertThat(result.get(0).getRemainTime()).isEqualByComparingTo(new BigDecimal("6.0"));
+    }
+
+    @Test
+    @DisplayName("유저별 기간과 겹치는 유효기간의 부여 시간 합계 집계")
+    void sumGrantTimeByValidPeriod() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        em.persist(user2);
+        em.flush();
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "8.0", "6.0");
+        addBalance(user, VacationType.MATERNITY, LocalDateTime.of(2024, 7, 1, 0, 0), LocalDateTime.of(2025, 6, 30, 23, 59, 59), "4.0", "0");
+        addBalance(user, VacationType.ANNUAL, START_2026, END_2026, "8.0", "8.0");
+        addBalance(user2, VacationType.ANNUAL, START_2025, END_2025, "16.0", "16.0");
+
+        // when
+        List<VacationTimeSumDto> result = userVacationBalanceRepository.sumGrantTimeByValidPeriod(START_2025, END_2025);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result).filteredOn(sum -> sum.getUserId().equals("user1"))
+                .singleElement()
+                .satisfies(sum -> assertThat(sum.getTime()).isEqualByComparingTo(new BigDecimal("12.0")));
+        assertThat(result).filteredOn(sum -> sum.getUserId().equals("user2"))
+                .singleElement()
+                .satisfies(sum -> assertThat(sum.getTime()).isEqualByComparingTo(new BigDecimal("16.0")));
+    }
+
+    @Test
+    @DisplayName("잔액 행이 있는 사용자 row id를 키셋으로 조회")
+    void findUserRowIdsAfter() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        User user3 = createTestUser("user3", "테스트유저3", "user3@test.com");
+        em.persist(user2);
+        em.persist(user3);
+        em.flush();
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "8.0", "8.0");
+        addBalance(user, VacationType.ANNUAL, START_2026, END_2026, "8.0", "8.0");
+        addBalance(user3, VacationType.ANNUAL, START_2025, END_2025, "8.0", "8.0");
+
+        // when
+        List<Long> firstPage = userVacationBalanceRepository.findUserRowIdsAfter(null, 1);
+        List<Long> nextPage = userVacationBalanceRepository.findUserRowIdsAfter(user.getRowId(), 10);
+
+        // then
+        assertThat(firstPage).containsExactly(user.getRowId());
+        assertThat(nextPage).containsExactly(user3.getRowId());
+    }
+
+    @Test
+    @DisplayName("부여 시간, 잔여 시간이 모두 0인 행만 삭제")
+    void deleteEmptyByUserRowIds() {
+        // given
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "8.0", "8.0");
+        addBalance(user, VacationType.ANNUAL, START_2025, END_2025, "-8.0", "-8.0");
+        addBalance(user, VacationType.ANNUAL, START_2026, END_2026, "8.0", "0");
+
+        // when
+        long deleted = userVacationBalanceRepository.deleteEmptyByUserRowIds(List.of(user.getRowId()));
+
+        // then
+        assertThat(deleted).isEqualTo(1L);
+        assertThat(userVacationBalanceRepository.findSumsByUserRowIds(List.of(user.getRowId())))
+                .extracting(VacationBalanceSumDto::getPeriodStart)
+                .containsExactly(START_2026);
+    }
+
+    @Test
+    @DisplayName("사용자 row id 목록이 비어 있으면 조회/삭제하지 않음")
+    void emptyUserRowIds() {
+        // when & then
+        assertThat(userVacationBalanceRepository.findSumsByUserRowIds(List.of())).isEmpty();
+        assertThat(userVacationBalanceRepository.deleteEmptyByUserRowIds(List.of())).isZero();
+    }
+}
@@ -0,0 +1,330 @@
+package com.porest.hr.repository;
+
+import com.porest.core.exception.BusinessRuleViolationException;
+import com.porest.core.type.CountryCode;
+import com.porest.core.type.YNType;
+import com.porest.core.util.MessageResolver;
+import com.porest.hr.client.sso.SsoApiClient;
+import com.porest.hr.common.time.CompanyClock;
+import com.porest.hr.department.repository.DepartmentRepository;
+import com.porest.hr.holiday.service.WorkingCalendar;
+import com.porest.hr.permission.repository.RoleRepository;
+import com.porest.hr.security.service.UserAuthorityCache;
+import com.porest.hr.user.domain.User;
+import com.porest.hr.user.repository.UserQueryDslRepository;
+import com.porest.hr.user.service.UserServiceImpl;
+import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.domain.VacationPolicy;
+import com.porest.hr.vacation.repository.UserVacationBalanceQueryDslRepository;
+import com.porest.hr.vacation.repository.UserVacationPlanRepository;
+import com.porest.hr.vacation.repository.VacationApprovalRepository;
+import com.porest.hr.vacation.repository.VacationGrantQueryDslRepository;
+import com.porest.hr.vacation.repository.VacationPolicyRepository;
+import com.porest.hr.vacation.repository.VacationUsageDeductionQueryDslRepository;
+import com.porest.hr.vacation.repository.VacationUsageQueryDslRepository;
+import com.porest.hr.vacation.service.VacationBalanceLedger;
+import com.porest.hr.vacation.service.VacationService;
+import com.porest.hr.vacation.service.VacationServiceImpl;
+import com.porest.hr.vacation.service.VacationTimeFormatter;
+import com.porest.hr.vacation.service.dto.VacationServiceDto;
+import com.porest.hr.vacation.service.policy.description.RepeatGrantDescriptionFactory;
+import com.porest.hr.vacation.service.policy.factory.VacationPolicyStrategyFactory;
+import com.porest.hr.vacation.type.EffectiveType;
+import com.porest.hr.vacation.type.ExpirationType;
+import com.porest.hr.vacation.type.VacationTimeType;
+import com.porest.hr.vacation.type.VacationType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 같은 유저에 대한 동시 휴가 사용/취소 테스트
+ * 실제 VacationServiceImpl.useVacation / cancelVacationUsage 를 트랜잭션 프록시를 거쳐 여러 스레드에서 동시에 호출해도
+ * 잔여 시간보다 많이 차감되지 않고, 취소로 복구한 시간이 유실되지 않는지 확인한다.
+ * 휴가 잔액 원장도 실제 구현으로 함께 증감해 부여 휴가 잔여 시간 합계와 어긋나지 않는지 확인한다.
+ * 휴가 차감과 무관한 협력 객체(근무일 달력, 회사 시계 등)만 목으로 대체한다.
+ */
+@DataJpaTest(properties = {
+        "sso.client-code=hr",
+        "file.root-path=/tmp/porest",
+        "file.web-url-prefix=/files",
+        "file.temp.path.profile=/tmp/porest/temp",
+        "file.origin.path.profile=/tmp/porest/profile"
+})
+// 원장 증감(INSERT ... ON DUPLICATE KEY UPDATE)을 위해 MariaDB 모드 H2(application.yml)를 그대로 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        VacationServiceImpl.class, UserServiceImpl.class, VacationBalanceLedger.class,
+        UserQueryDslRepository.class, VacationGrantQueryDslRepository.class,
+        VacationUsageQueryDslRepository.class, VacationUsageDeductionQueryDslRepository.class,
+        UserVacationBalanceQueryDslRepository.class,
+        TestQuerydslConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("휴가 동시 사용/취소 테스트")
+class VacationGrantConcurrencyTest {
+    private static final int REQUEST_COUNT = 100;
+    private static final String USER_ID = "concurrentUser";
+    // 휴가 1일(DAYOFF) 사용 시간
+    private static final BigDecimal DAY = VacationTimeType.DAYOFF.convertToValue(1);
+    // 총 잔여 시간 (5일 + 5일 = 요청 10건만 성공해야 한다)
+    private static final BigDecimal TOTAL_GRANT = DAY.multiply(BigDecimal.valueOf(10));
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VacationBalanceLedger vacationBalanceLedger;
+
+    @MockitoBean
+    private WorkingCalendar workingCalendar;
+
+    @MockitoBean
+    private CompanyClock companyClock;
+
+    @MockitoBean
+    private VacationPolicyRepository vacationPolicyRepository;
+
+    @MockitoBean
+    private UserVacationPlanRepository userVacationPlanRepository;
+
+    @MockitoBean
+    private VacationPolicyStrategyFactory vacationPolicyStrategyFactory;
+
+    @MockitoBean
+    private VacationApprovalRepository vacationApprovalRepository;
+
+    @MockitoBean
+    private DepartmentRepository departmentRepository;
+
+    @MockitoBean
+    private RepeatGrantDescriptionFactory repeatGrantDescriptionFactory;
+
+    @MockitoBean
+    private VacationTimeFormatter vacationTimeFormatter;
+
+    @MockitoBean
+    private MessageResolver messageResolver;
+
+    @MockitoBean
+    private RoleRepository roleRepository;
+
+    @MockitoBean
+    private SsoApiClient ssoApiClient;
+
+    @MockitoBean
+    private UserAuthorityCache userAuthorityCache;
+
+    @MockitoBean
+    private AuditorAware<String> auditorAware;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 주말/공휴일 없이 시작일~종료일 일수를 근무일로 보고, 취소 시점은 휴가 시작일 이전
+        given(workingCalendar.countWorkingDays(any(), any(), any())).willAnswer(inv ->
+                (int) (((LocalDate) inv.getArgument(2)).toEpochDay() - ((LocalDate) inv.getArgument(1)).toEpochDay()) + 1);
+        given(companyClock.now()).willReturn(LocalDateTime.of(2025, 3, 1, 9, 0));
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = User.createUser(
+                    null, USER_ID, "동시성유저", "concurrent@test.com",
+                    LocalDate.of(1990, 1, 1), "NONE", "9 ~ 18",
+                    LocalDate.now(), YNType.N, null, null, CountryCode.KR
+            );
+            em.persist(user);
+
+            VacationPolicy policy = VacationPolicy.createManualGrantPolicy(
+                    "연차", "연차 정책", VacationType.ANNUAL, DAY,
+                    YNType.N, YNType.N, EffectiveType.IMMEDIATELY, ExpirationType.END_OF_YEAR
+            );
+            em.persist(policy);
+
+            VacationGrant first = VacationGrant.createVacationGrant(
+                    user, policy, "연차1", VacationType.ANNUAL, DAY.multiply(BigDecimal.valueOf(5)),
+                    LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 6, 30, 23, 59, 59)
+            );
+            VacationGrant second = VacationGrant.createVacationGrant(
+                    user, policy, "연차2", VacationType.ANNUAL, DAY.multiply(BigDecimal.valueOf(5)),
+                    LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59, 59)
+            );
+            em.persist(first);
+            em.persist(second);
+            vacationBalanceLedger.grantAll(List.of(first, second));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("delete from UserVacationBalance").executeUpdate();
+            em.createQuery("delete from VacationUsageDeduction").executeUpdate();
+            em.createQuery("delete from VacationUsage").executeUpdate();
+            em.createQuery("delete from VacationGrant").executeUpdate();
+            em.createQuery("delete from VacationPolicy").executeUpdate();
+            em.createQuery("delete from User u where u.id = :userId")
+                    .setParameter("userId", USER_ID)
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("100건 동시 휴가 사용에도 잔여 시간만큼만 차감된다")
+    void concurrentUseDoesNotOverspend() throws Exception {
+        // given
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            tasks.add(() -> {
+                use(succeeded, rejected);
+                return null;
+            });
+        }
+
+        // when
+        runConcurrently(tasks);
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(10);
+        assertThat(rejected.get()).isEqualTo(REQUEST_COUNT - 10);
+        assertBalance(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("사용과 취소가 동시에 들어와도 복구한 시간이 유실되지 않고 잔여 시간을 넘겨 차감하지 않는다")
+    void concurrentUseAndCancelKeepBalance() throws Exception {
+        // given
+        // 2일 사용 내역을 먼저 만들어 두고(잔여 8일), 이를 취소하는 요청과 1일 사용 요청 20건을 동시에 실행
+        Long usageId = vacationService.useVacation(useRequest(LocalDateTime.of(2025, 3, 10, 9, 0), 2));
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            vacationService.cancelVacationUsage(usageId);
+            return null;
+        });
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                use(succeeded, rejected);
+                return null;
+            });
+        }
+
+        // when
+        runConcurrently(tasks);
+
+        // then
+        // 취소 전에는 8건까지, 취소가 끝난 뒤에는 복구된 2일만큼 더 성공할 수 있다 (취소가 가장 늦으면 8건)
+        assertThat(succeeded.get()).isBetween(8, 10);
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(20);
+        assertBalance(TOTAL_GRANT.subtract(DAY.multiply(BigDecimal.valueOf(succeeded.get()))));
+    }
+
+    private void use(AtomicInteger succeeded, AtomicInteger rejected) {
+        try {
+            vacationService.useVacation(useRequest(LocalDateTime.of(2025, 3, 3, 9, 0), 1));
+            succeeded.incrementAndGet();
+        } catch (BusinessRuleViolationException e) {
+            rejected.incrementAndGet();
+        }
+    }
+
+    private VacationServiceDto useRequest(LocalDateTime startDate, int days) {
+        return VacationServiceDto.builder()
+                .userId(USER_ID)
+                .type(VacationType.ANNUAL)
+                .desc("연차")
+                .timeType(VacationTimeType.DAYOFF)
+                .startDate(startDate)
+                .endDate(startDate.plusDays(days - 1).withHour(18))
+                .build();
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.call();
+            }));
+        }
+        ready.await();
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * 부여 잔여 시간과 살아있는 사용 내역의 차감 합계, 휴가 잔액 원장이 서로 맞는지 확인
+     */
+    private void assertBalance(BigDecimal expectedRemain) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<VacationGrant> grants = em.createQuery("select vg from VacationGrant vg", VacationGrant.class)
+                    .getResultList();
+            BigDecimal totalRemain = grants.stream()
+                    .map(VacationGrant::getRemainTime)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal totalDeducted = em.createQuery(
+                            "select coalesce(sum(d.deductedTime), 0) from VacationUsageDeduction d " +
+                                    "where d.usage.isDeleted = :isDeleted", BigDecimal.class)
+                    .setParameter("isDeleted", YNType.N)
+                    .getSingleResult();
+
+            BigDecimal ledgerRemain = em.createQuery(
+                            "select coalesce(sum(b.remainTime), 0) from UserVacationBalance b", BigDecimal.class)
+                    .getSingleResult();
+
+            assertThat(totalRemain).isEqualByComparingTo(expectedRemain);
+            assertThat(totalRemain.add(totalDeducted)).isEqualByComparingTo(TOTAL_GRANT);
+            assertThat(ledgerRemain).isEqualByComparingTo(totalRemain);
+            assertThat(grants).allSatisfy(grant -> {
+                assertThat(grant.getRemainTime()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+                assertThat(grant.getRemainTime()).isLessThanOrEqualTo(grant.getGrantTime());
+            });
+        });
+    }
+}
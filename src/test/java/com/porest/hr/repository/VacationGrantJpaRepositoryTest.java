@@ -5,10 +5,14 @@ import com.porest.core.type.YNType;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.vacation.domain.VacationGrant;
 import com.porest.hr.vacation.domain.VacationPolicy;
+import com.porest.hr.vacation.domain.VacationUsage;
 import com.porest.hr.vacation.repository.VacationGrantJpaRepository;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.type.EffectiveType;
 import com.porest.hr.vacation.type.ExpirationType;
 import com.porest.hr.vacation.type.GrantStatus;
+import com.porest.hr.vacation.type.VacationTimeType;
 import com.porest.hr.vacation.type.VacationType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,8 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -113,13 +119,14 @@ class VacationGrantJpaRepositoryTest {
     }
 
     @Test
-    @DisplayName("만료된 휴가부여 조회")
-    void findExpiredTargets() {
+    @DisplayName("만료된 휴가부여 ID 조회")
+    void findExpiredTargetIdsForUpdate() {
         // given
-        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+        VacationGrant expired = VacationGrant.createVacationGrant(
                 user, policy, "만료된 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
                 LocalDateTime.of(2024, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59)
-        ));
+        );
+        vacationGrantRepository.save(expired);
         vacationGrantRepository.save(VacationGrant.createVacationGrant(
                 user, policy, "유효한 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
                 LocalDateTime.of(2025, 1, 1, 0, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59, 59)
@@ -128,11 +135,77 @@ class VacationGrantJpaRepositoryTest {
         em.clear();
 
         // when
-        List<VacationGrant> expiredGrants = vacationGrantRepository.findExpiredTargets(LocalDateTime.of(2025, 1, 1, 0, 0, 0));
+        List<Long> expiredIds = vacationGrantRepository.findExpiredTargetIdsForUpdate(LocalDateTime.of(2025, 1, 1, 0, 0, 0), null, 100);
 
         // then
-        assertThat(expiredGrants).hasSize(1);
-        assertThat(expiredGrants.get(0).getDesc()).isEqualTo("만료된 연차");
+        assertThat(expiredIds).containsExactly(expired.getRowId());
+    }
+
+    @Test
+    @DisplayName("만료된 휴가부여 ID 조회 - rowId 키셋으로 청크 단위 조회")
+    void findExpiredTargetIdsKeyset() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            VacationGrant grant = VacationGrant.createVacationGrant(
+                    user, policy, "만료된 연차" + i, VacationType.ANNUAL, new BigDecimal("8.0"),
+                    LocalDateTime.of(2024, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59)
+            );
+            vacationGrantRepository.save(grant);
+            ids.add(grant.getRowId());
+        }
+        em.flush();
+        em.clear();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+
+        // when
+        List<Long> first = vacationGrantRepository.findExpiredTargetIdsForUpdate(now, null, 2);
+        List<Long> second = vacationGrantRepository.findExpiredTargetIdsForUpdate(now, first.get(first.size() - 1), 2);
+
+        // then
+        assertThat(first).containsExactly(ids.get(0), ids.get(1));
+        assertThat(second).containsExactly(ids.get(2));
+    }
+
+    @Test
+    @DisplayName("ID 목록 중 ACTIVE 부여 휴가만 일괄 만료")
+    void expireByIds() {
+        // given
+        VacationGrant active1 = VacationGrant.createVacationGrant(
+                user, policy, "연차1", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59)
+        );
+        VacationGrant active2 = VacationGrant.createVacationGrant(
+                user, policy, "연차2", VacationType.ANNUAL, new BigDecimal("4.0"),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59)
+        );
+        active2.deduct(new BigDecimal("1.0"));
+        VacationGrant exhausted = VacationGrant.createVacationGrant(
+                user, policy, "연차3", VacationType.ANNUAL, new BigDecimal("2.0"),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59)
+        );
+        exhausted.deduct(new BigDecimal("2.0"));
+        vacationGrantRepository.save(active1);
+        vacationGrantRepository.save(active2);
+        vacationGrantRepository.save(exhausted);
+        em.flush();
+        em.clear();
+        List<Long> ids = List.of(active1.getRowId(), active2.getRowId(), exhausted.getRowId());
+
+        // when
+        LocalDateTime modifyAt = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+        long expiredCount = vacationGrantRepository.expireByIds(ids, modifyAt, "SYSTEM");
+        em.clear();
+
+        // then
+        assertThat(expiredCount).isEqualTo(2);
+        VacationGrant expired = vacationGrantRepository.findById(active1.getRowId()).orElseThrow();
+        assertThat(expired.getStatus()).isEqualTo(GrantStatus.EXPIRED);
+        assertThat(expired.getModifyAt()).isEqualTo(modifyAt);
+        assertThat(expired.getModifyBy()).isEqualTo("SYSTEM");
+        assertThat(expired.getModifyIp()).isNull();
+        assertThat(vacationGrantRepository.findById(exhausted.getRowId()).orElseThrow().getStatus()).isEqualTo(GrantStatus.EXHAUSTED);
+        assertThat(vacationGrantRepository.expireByIds(List.of(), modifyAt, "SYSTEM")).isZero();
     }
 
     @Test
@@ -559,4 +632,200 @@ class VacationGrantJpaRepositoryTest {
         // then
         assertThat(grants).isEmpty();
     }
+
+    @Test
+    @DisplayName("유저별 기간 내 유효한 휴가부여 시간 합계 집계")
+    void sumGrantTimeByValidPeriod() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        em.persist(user2);
+
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user, policy, "user1 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59)
+        ));
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user, policy, "user1 추가 연차", VacationType.ANNUAL, new BigDecimal("4.0"),
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59)
+        ));
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user2, policy, "user2 전년도 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59)
+        ));
+        em.flush();
+        em.clear();
+
+        // when
+        List<VacationTimeSumDto> sums = vacationGrantRepository.sumGrantTimeByValidPeriod(
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 31, 23, 59, 59)
+        );
+
+        // then
+        assertThat(sums).hasSize(1);
+        assertThat(sums.get(0).getUserId()).isEqualTo("user1");
+        assertThat(sums.get(0).getTime()).isEqualByComparingTo(new BigDecimal("12.0"));
+    }
+
+    @Test
+    @DisplayName("기간 내 부여 또는 사용 내역이 있는 유저 ID를 커서 이후부터 오름차순 조회")
+    void findUserIdsWithHistoryAfter() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        User user3 = createTestUser("user3", "테스트유저3", "user3@test.com");
+        User user4 = createTestUser("user4", "테스트유저4", "user4@test.com");
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(user4);
+
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user, policy, "user1 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59)
+        ));
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user2, policy, "user2 전년도 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59)
+        ));
+        em.persist(VacationUsage.createVacationUsage(
+                user3, "user3 연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 6, 1, 9, 0), LocalDateTime.of(2025, 6, 1, 18, 0),
+                new BigDecimal("1.0000")
+        ));
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user4, policy, "user4 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59)
+        ));
+        em.flush();
+        em.clear();
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+
+        // when
+        List<String> firstPage = vacationGrantRepository.findUserIdsWithHistoryAfter(null, start, end, 2);
+        List<String> nextPage = vacationGrantRepository.findUserIdsWithHistoryAfter("user3", start, end, 2);
+
+        // then
+        assertThat(firstPage).containsExactly("user1", "user3");
+        assertThat(nextPage).containsExactly("user4");
+    }
+
+    @Test
+    @DisplayName("여러 유저의 기간 내 휴가부여 내역을 유저 ID 순으로 스트림 조회")
+    void streamByUserIdsAndPeriod() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        em.persist(user2);
+
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user2, policy, "user2 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59)
+        ));
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user, policy, "user1 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59)
+        ));
+        vacationGrantRepository.save(VacationGrant.createVacationGrant(
+                user, policy, "user1 전년도 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59)
+        ));
+        em.flush();
+        em.clear();
+
+        // when
+        List<VacationGrant> grants;
+        try (Stream<VacationGrant> stream = vacationGrantRepository.streamByUserIdsAndPeriod(
+                List.of("user1", "user2"),
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 31, 23, 59, 59))) {
+            grants = stream.toList();
+        }
+
+        // then
+        assertThat(grants).extracting(VacationGrant::getDesc).containsExactly("user1 연차", "user2 연차");
+    }
+
+    @Test
+    @DisplayName("유저 ID 목록이 비어 있으면 빈 스트림 반환")
+    void streamByUserIdsAndPeriodEmpty() {
+        // when
+        Stream<VacationGrant> stream = vacationGrantRepository.streamByUserIdsAndPeriod(
+                List.of(),
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 31, 23, 59, 59));
+
+        // then
+        assertThat(stream).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 목록 중 ACTIVE 휴가부여만 사용자/휴가 타입/유효기간별로 합산")
+    void sumActiveGrantsByIds() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 12, 31, 23, 59);
+        VacationGrant first = VacationGrant.createVacationGrant(
+                user, policy, "연차1", VacationType.ANNUAL, new BigDecimal("8.0"), start, end);
+        VacationGrant second = VacationGrant.createVacationGrant(
+                user, policy, "연차2", VacationType.ANNUAL, new BigDecimal("4.0"), start, end);
+        VacationGrant exhausted = VacationGrant.createVacationGrant(
+                user, policy, "소진 연차", VacationType.ANNUAL, new BigDecimal("8.0"), start, end);
+        exhausted.deduct(new BigDecimal("8.0"));
+        second.deduct(new BigDecimal("1.0"));
+        vacationGrantRepository.save(first);
+        vacationGrantRepository.save(second);
+        vacationGrantRepository.save(exhausted);
+        em.flush();
+        em.clear();
+
+        // when
+        List<VacationBalanceSumDto> result = vacationGrantRepository.sumActiveGrantsByIds(
+                List.of(first.getRowId(), second.getRowId(), exhausted.getRowId()));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getUserRowId()).isEqualTo(user.getRowId());
+        assertThat(result.get(0).getPeriodStart()).isEqualTo(start);
+        assertThat(result.get(0).getPeriodEnd()).isEqualTo(end);
+        assertThat(result.get(0).getGrantTime()).isEqualByComparingTo(new BigDecimal("12.0"));
+        assertThat(result.get(0).getRemainTime()).isEqualByComparingTo(new BigDecimal("11.0"));
+        assertThat(vacationGrantRepository.sumActiveGrantsByIds(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 row id 목록의 사용 가능한 휴가부여를 유효기간별로 합산하고, 사용자 row id 를 키셋으로 조회")
+    void sumUsableGrantsByUserRowIds() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        em.persist(user2);
+        VacationGrant grant2025 = VacationGrant.createVacationGrant(
+                user, policy, "2025 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59));
+        grant2025.deduct(new BigDecimal("8.0"));
+        VacationGrant grant2026 = VacationGrant.createVacationGrant(
+                user, policy, "2026 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 12, 31, 23, 59));
+        VacationGrant revoked = VacationGrant.createVacationGrant(
+                user2, policy, "회수 연차", VacationType.ANNUAL, new BigDecimal("8.0"),
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 12, 31, 23, 59));
+        revoked.revoke();
+        vacationGrantRepository.save(grant2025);
+        vacationGrantRepository.save(grant2026);
+        vacationGrantRepository.save(revoked);
+        em.flush();
+        em.clear();
+
+        // when
+        List<VacationBalanceSumDto> result = vacationGrantRepository.sumUsableGrantsByUserRowIds(
+                List.of(user.getRowId(), user2.getRowId()));
+        List<Long> userRowIds = vacationGrantRepository.findUsableUserRowIdsAfter(null, 10);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(VacationBalanceSumDto::getRemainTime)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(BigDecimal.ZERO, new BigDecimal("8.0"));
+        assertThat(userRowIds).containsExactly(user.getRowId());
+        assertThat(vacationGrantRepository.findUsableUserRowIdsAfter(user.getRowId(), 10)).isEmpty();
+    }
 }
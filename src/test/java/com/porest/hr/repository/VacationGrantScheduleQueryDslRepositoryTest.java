@@ -232,7 +232,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now());
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now(), null, 100);
 
             // then
             assertThat(schedules).hasSize(1);
@@ -250,7 +250,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today);
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today, null, 100);
 
             // then
             assertThat(schedules).hasSize(1);
@@ -268,7 +268,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today);
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today, null, 100);
 
             // then
             assertThat(schedules).hasSize(1);
@@ -286,7 +286,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today);
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today, null, 100);
 
             // then
             assertThat(schedules).isEmpty();
@@ -302,7 +302,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now());
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now(), null, 100);
 
             // then
             assertThat(schedules).isEmpty();
@@ -319,7 +319,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now());
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now(), null, 100);
 
             // then
             assertThat(schedules).isEmpty();
@@ -336,7 +336,7 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now());
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now(), null, 100);
 
             // then
             assertThat(schedules).isEmpty();
@@ -353,7 +353,70 @@ class VacationGrantScheduleQueryDslRepositoryTest {
             em.clear();
 
             // when
-            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now());
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(LocalDate.now(), null, 100);
+
+            // then
+            assertThat(schedules).isEmpty();
+        }
+
+        @Test
+        @DisplayName("오늘 부여 대상 스케줄 조회 - rowId 키셋으로 청크 단위 조회")
+        void findRepeatGrantTargetsForTodayKeyset() {
+            // given
+            for (int i = 2; i <= 4; i++) {
+                User other = createTestUser("user" + i, "테스트유저" + i, "user" + i + "@test.com");
+                em.persist(other);
+                vacationGrantScheduleRepository.save(VacationGrantSchedule.createSchedule(other, repeatPolicy));
+            }
+            em.flush();
+            em.clear();
+            LocalDate today = LocalDate.now();
+
+            // when
+            List<VacationGrantSchedule> first = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(today, null, 2);
+            List<VacationGrantSchedule> second = vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(
+                    today, first.get(first.size() - 1).getRowId(), 2);
+
+            // then
+            assertThat(first).extracting(s -> s.getUser().getId()).containsExactly("user2", "user3");
+            assertThat(second).extracting(s -> s.getUser().getId()).containsExactly("user4");
+        }
+    }
+
+    @Nested
+    @DisplayName("findByIdsWithUserAndPolicy")
+    class FindByIdsWithUserAndPolicy {
+        @Test
+        @DisplayName("스케줄 ID 목록으로 조회 - 사용자와 정책을 함께 rowId 순으로 조회")
+        void findByIdsWithUserAndPolicySuccess() {
+            // given
+            User other = createTestUser("user2", "테스트유저2", "user2@test.com");
+            em.persist(other);
+            VacationGrantSchedule first = VacationGrantSchedule.createSchedule(user, repeatPolicy);
+            VacationGrantSchedule second = VacationGrantSchedule.createSchedule(other, repeatPolicy);
+            VacationGrantSchedule third = VacationGrantSchedule.createSchedule(other, manualPolicy);
+            vacationGrantScheduleRepository.save(first);
+            vacationGrantScheduleRepository.save(second);
+            vacationGrantScheduleRepository.save(third);
+            em.flush();
+            em.clear();
+
+            // when
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findByIdsWithUserAndPolicy(
+                    List.of(third.getRowId(), first.getRowId()));
+
+            // then
+            assertThat(schedules).extracting(VacationGrantSchedule::getRowId)
+                    .containsExactly(first.getRowId(), third.getRowId());
+            assertThat(schedules.get(0).getUser().getId()).isEqualTo("user1");
+            assertThat(schedules.get(1).getVacationPolicy().getName()).isEqualTo("경조사 휴가");
+        }
+
+        @Test
+        @DisplayName("스케줄 ID 목록으로 조회 - 빈 목록이면 조회하지 않고 빈 결과")
+        void findByIdsWithUserAndPolicyEmpty() {
+            // when
+            List<VacationGrantSchedule> schedules = vacationGrantScheduleRepository.findByIdsWithUserAndPolicy(List.of());
 
             // then
             assertThat(schedules).isEmpty();
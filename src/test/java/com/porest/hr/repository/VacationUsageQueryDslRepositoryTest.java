@@ -5,6 +5,7 @@ import com.porest.core.type.YNType;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.vacation.domain.VacationUsage;
 import com.porest.hr.vacation.repository.VacationUsageQueryDslRepository;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.type.VacationTimeType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -82,6 +84,29 @@ class VacationUsageQueryDslRepositoryTest {
         assertThat(result.isEmpty()).isTrue();
     }
 
+    @Test
+    @DisplayName("락을 잡고 단건 조회")
+    void findByIdForUpdate() {
+        // given
+        VacationUsage usage = VacationUsage.createVacationUsage(
+                user, "연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 6, 1, 9, 0), LocalDateTime.of(2025, 6, 1, 18, 0),
+                new BigDecimal("1.0000")
+        );
+        vacationUsageRepository.save(usage);
+        em.flush();
+        em.clear();
+
+        // when
+        Optional<VacationUsage> findUsage = vacationUsageRepository.findByIdForUpdate(usage.getRowId());
+
+        // then
+        assertThat(findUsage).isPresent();
+        assertThat(findUsage.get().getDesc()).isEqualTo("연차");
+        assertThat(findUsage.get().getUser().getId()).isEqualTo("user1");
+        assertThat(vacationUsageRepository.findByIdForUpdate(999L)).isEmpty();
+    }
+
     @Test
     @DisplayName("모든 휴가사용 목록 조회")
     void findAllWithUser() {
@@ -403,4 +428,79 @@ class VacationUsageQueryDslRepositoryTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("유저별 기간 내 휴가사용 시간 합계 집계")
+    void sumUsedTimeByPeriod() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        em.persist(user2);
+
+        vacationUsageRepository.save(VacationUsage.createVacationUsage(
+                user, "user1 연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 6, 15, 9, 0), LocalDateTime.of(2025, 6, 15, 18, 0),
+                new BigDecimal("1.0000")
+        ));
+        vacationUsageRepository.save(VacationUsage.createVacationUsage(
+                user, "user1 반차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 6, 20, 9, 0), LocalDateTime.of(2025, 6, 20, 18, 0),
+                new BigDecimal("0.5000")
+        ));
+        vacationUsageRepository.save(VacationUsage.createVacationUsage(
+                user2, "user2 연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 7, 1, 9, 0), LocalDateTime.of(2025, 7, 1, 18, 0),
+                new BigDecimal("1.0000")
+        ));
+        em.flush();
+        em.clear();
+
+        // when
+        List<VacationTimeSumDto> sums = vacationUsageRepository.sumUsedTimeByPeriod(
+                LocalDateTime.of(2025, 6, 1, 0, 0),
+                LocalDateTime.of(2025, 6, 30, 23, 59)
+        );
+
+        // then
+        assertThat(sums).hasSize(1);
+        assertThat(sums.get(0).getUserId()).isEqualTo("user1");
+        assertThat(sums.get(0).getTime()).isEqualByComparingTo(new BigDecimal("1.5000"));
+    }
+
+    @Test
+    @DisplayName("여러 유저의 기간 내 휴가사용 내역을 유저 ID 순으로 스트림 조회")
+    void streamByUserIdsAndPeriod() {
+        // given
+        User user2 = createTestUser("user2", "테스트유저2", "user2@test.com");
+        em.persist(user2);
+
+        vacationUsageRepository.save(VacationUsage.createVacationUsage(
+                user2, "user2 연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 3, 1, 9, 0), LocalDateTime.of(2025, 3, 1, 18, 0),
+                new BigDecimal("1.0000")
+        ));
+        vacationUsageRepository.save(VacationUsage.createVacationUsage(
+                user, "user1 연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2025, 6, 1, 9, 0), LocalDateTime.of(2025, 6, 1, 18, 0),
+                new BigDecimal("1.0000")
+        ));
+        vacationUsageRepository.save(VacationUsage.createVacationUsage(
+                user, "user1 전년도 연차", VacationTimeType.DAYOFF,
+                LocalDateTime.of(2024, 6, 1, 9, 0), LocalDateTime.of(2024, 6, 1, 18, 0),
+                new BigDecimal("1.0000")
+        ));
+        em.flush();
+        em.clear();
+
+        // when
+        List<VacationUsage> usages;
+        try (Stream<VacationUsage> stream = vacationUsageRepository.streamByUserIdsAndPeriod(
+                List.of("user1", "user2"),
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 31, 23, 59, 59))) {
+            usages = stream.toList();
+        }
+
+        // then
+        assertThat(usages).extracting(VacationUsage::getDesc).containsExactly("user1 연차", "user2 연차");
+    }
 }
@@ -252,4 +252,24 @@ class WorkCodeQueryDslRepositoryTest {
         assertThat(codes).hasSize(3);
         assertThat(codes).extracting("code").containsExactly("GRP001", "GRP002", "GRP003");
     }
+
+    @Test
+    @DisplayName("여러 코드로 업무코드 일괄 조회 - 삭제된 코드는 제외")
+    void findByCodes() {
+        // given
+        workCodeRepository.save(WorkCode.createWorkCode("GRP001", "개발팀", CodeType.LABEL, null, 1));
+        workCodeRepository.save(WorkCode.createWorkCode("GRP002", "기획팀", CodeType.LABEL, null, 2));
+        WorkCode deleted = WorkCode.createWorkCode("DEL001", "삭제코드", CodeType.LABEL, null, 3);
+        workCodeRepository.save(deleted);
+        deleted.deleteWorkCode();
+        em.flush();
+        em.clear();
+
+        // when
+        List<WorkCode> codes = workCodeRepository.findByCodes(List.of("GRP001", "GRP002", "DEL001", "NONEXISTENT"));
+
+        // then
+        assertThat(codes).extracting(WorkCode::getCode).containsExactlyInAnyOrder("GRP001", "GRP002");
+        assertThat(workCodeRepository.findByCodes(List.of())).isEmpty();
+    }
 }
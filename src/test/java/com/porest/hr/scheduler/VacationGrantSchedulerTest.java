@@ -3,37 +3,52 @@ package com.porest.hr.scheduler;
 import com.porest.hr.common.time.CompanyClock;
 import com.porest.core.type.CountryCode;
 import com.porest.core.type.YNType;
+import com.porest.hr.common.domain.JobCheckpoint;
+import com.porest.hr.common.lease.JobLeaseManager;
+import com.porest.hr.common.repository.JobCheckpointRepository;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.vacation.domain.VacationGrant;
 import com.porest.hr.vacation.domain.VacationGrantSchedule;
 import com.porest.hr.vacation.domain.VacationPolicy;
 import com.porest.hr.vacation.repository.VacationGrantRepository;
 import com.porest.hr.vacation.repository.VacationGrantScheduleRepository;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
 import com.porest.hr.vacation.scheduler.VacationGrantScheduler;
+import com.porest.hr.vacation.service.VacationBalanceLedger;
 import com.porest.hr.vacation.service.policy.RepeatGrant;
 import com.porest.hr.vacation.service.policy.factory.VacationPolicyStrategyFactory;
 import com.porest.hr.vacation.type.EffectiveType;
 import com.porest.hr.vacation.type.ExpirationType;
 import com.porest.hr.vacation.type.GrantMethod;
-import com.porest.hr.vacation.type.GrantStatus;
 import com.porest.hr.vacation.type.RepeatUnit;
 import com.porest.hr.vacation.type.VacationType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Spy;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
@@ -53,6 +68,24 @@ class VacationGrantSchedulerTest {
     @Mock
     private RepeatGrant repeatGrant;
 
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private JobLeaseManager jobLeaseManager;
+
+    @Mock
+    private ThreadPoolTaskExecutor vacationGrantTaskExecutor;
+
+    @Mock
+    private VacationBalanceLedger vacationBalanceLedger;
+
     // 날짜 판정용 — @InjectMocks 가 null 을 넣으면 NPE. 실물을 주입하되 회사 조회는 비어
     // 서비스 기준(Asia/Seoul)으로 폴백한다(기존 테스트가 기대하던 KST 동작 유지).
     @Spy
@@ -72,42 +105,177 @@ class VacationGrantSchedulerTest {
         );
     }
 
+    // 리스는 항상 잡히고 청크 트랜잭션은 바로 실행하며, 오늘 체크포인트는 주어진 객체를 돌려준다
+    @SuppressWarnings("unchecked")
+    private JobCheckpoint givenCheckpoint(String jobName) {
+        JobCheckpoint checkpoint = JobCheckpoint.createJobCheckpoint(jobName, companyClock.today());
+        given(jobLeaseManager.runExclusively(eq(jobName), any())).willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+        given(jobCheckpointRepository.findByJobNameAndRunDate(eq(jobName), any())).willReturn(Optional.of(checkpoint));
+        return checkpoint;
+    }
+
+    // 파티션 수를 고정하고, 파티션 작업은 호출 스레드에서 바로 실행한다
+    private void givenPartitions(int count) {
+        given(vacationGrantTaskExecutor.getMaxPoolSize()).willReturn(count);
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(vacationGrantTaskExecutor).execute(any(Runnable.class));
+    }
+
+    // 파티션이 다시 읽는 ID 목록에 맞는 스케줄을 돌려준다
+    private void givenReload(List<VacationGrantSchedule> schedules) {
+        given(vacationGrantScheduleRepository.findByIdsWithUserAndPolicy(anyList())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return schedules.stream().filter(s -> ids.contains(s.getRowId())).toList();
+        });
+    }
+
+    private VacationPolicy createRepeatPolicy() {
+        VacationPolicy policy = VacationPolicy.createRepeatGrantPolicy(
+                "연차", "연차 정책", VacationType.ANNUAL,
+                new BigDecimal("15.0"), YNType.N, RepeatUnit.YEARLY, 1, null, null,
+                LocalDateTime.of(2025, 1, 1, 0, 0), YNType.Y, null,
+                EffectiveType.IMMEDIATELY, ExpirationType.END_OF_YEAR
+        );
+        ReflectionTestUtils.setField(policy, "rowId", 1L);
+        return policy;
+    }
+
+    private VacationGrantSchedule createSchedule(Long rowId, User user, VacationPolicy policy) {
+        VacationGrantSchedule schedule = VacationGrantSchedule.createSchedule(user, policy);
+        ReflectionTestUtils.setField(schedule, "rowId", rowId);
+        return schedule;
+    }
+
     @Nested
     @DisplayName("휴가 만료 처리")
     class ExpireVacationsDaily {
         @Test
-        @DisplayName("성공 - 만료 대상 휴가를 만료 처리한다")
+        @DisplayName("성공 - 만료 대상 ID 를 한 번의 UPDATE 로 만료 처리하고, UPDATE 전에 잔액 원장에서 뺀다")
         void expireVacationsDailySuccess() {
             // given
-            User user = createTestUser("user1");
-            VacationPolicy policy = createTestPolicy();
-            VacationGrant grant = VacationGrant.createVacationGrant(
-                    user, policy, "연차", VacationType.ANNUAL, new BigDecimal("15.0"),
-                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59)
-            );
-            ReflectionTestUtils.setField(grant, "rowId", 1L);
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_EXPIRE");
+            List<Long> ids = List.of(1L, 2L, 3L);
+            List<VacationBalanceSumDto> sums = List.of(new VacationBalanceSumDto(1L, VacationType.ANNUAL,
+                    LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59, 59),
+                    new BigDecimal("24.0000"), new BigDecimal("8.0000")));
 
-            given(vacationGrantRepository.findExpiredTargets(any())).willReturn(List.of(grant));
+            given(vacationGrantRepository.findExpiredTargetIdsForUpdate(any(), isNull(), anyInt())).willReturn(ids);
+            given(vacationGrantRepository.sumActiveGrantsByIds(ids)).willReturn(sums);
+            given(vacationGrantRepository.expireByIds(eq(ids), any(), eq("SYSTEM"))).willReturn(3L);
 
             // when
             scheduler.expireVacationsDaily();
 
             // then
-            assertThat(grant.getStatus()).isEqualTo(GrantStatus.EXPIRED);
-            then(vacationGrantRepository).should().findExpiredTargets(any());
+            ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+            then(vacationGrantRepository).should().findExpiredTargetIdsForUpdate(now.capture(), isNull(), anyInt());
+            InOrder inOrder = inOrder(vacationBalanceLedger, vacationGrantRepository);
+            inOrder.verify(vacationBalanceLedger).releaseAll(sums);
+            inOrder.verify(vacationGrantRepository).expireByIds(ids, now.getValue(), "SYSTEM");
+            assertThat(checkpoint.getLastRowId()).isEqualTo(3L);
+            assertThat(checkpoint.getSuccessCount()).isEqualTo(3);
+            assertThat(checkpoint.getAffectedIds()).isEqualTo("1-3");
+            assertThat(checkpoint.getIsCompleted()).isEqualTo(YNType.Y);
+        }
+
+        @Test
+        @DisplayName("성공 - 그 사이 상태가 바뀌어 만료되지 않은 건은 스킵으로 집계한다")
+        void expireVacationsDailyPartiallyUpdated() {
+            // given
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_EXPIRE");
+            List<Long> ids = List.of(1L, 2L, 3L);
+
+            given(vacationGrantRepository.findExpiredTargetIdsForUpdate(any(), isNull(), anyInt())).willReturn(ids);
+            given(vacationGrantRepository.expireByIds(eq(ids), any(), eq("SYSTEM"))).willReturn(2L);
+
+            // when
+            scheduler.expireVacationsDaily();
+
+            // then
+            assertThat(checkpoint.getSuccessCount()).isEqualTo(2);
+            assertThat(checkpoint.getSkipCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 청크가 가득 차면 마지막 rowId 다음부터 다음 청크를 읽는다")
+        void expireVacationsDailyChunks() {
+            // given
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_EXPIRE");
+            List<Long> firstChunk = new ArrayList<>();
+            for (long id = 1; id <= 500; id++) {
+                firstChunk.add(id);
+            }
+
+            given(vacationGrantRepository.findExpiredTargetIdsForUpdate(any(), isNull(), anyInt())).willReturn(firstChunk);
+            given(vacationGrantRepository.findExpiredTargetIdsForUpdate(any(), eq(500L), anyInt())).willReturn(List.of(501L));
+            given(vacationGrantRepository.expireByIds(eq(firstChunk), any(), eq("SYSTEM"))).willReturn(500L);
+            given(vacationGrantRepository.expireByIds(eq(List.of(501L)), any(), eq("SYSTEM"))).willReturn(1L);
+
+            // when
+            scheduler.expireVacationsDaily();
+
+            // then
+            assertThat(checkpoint.getLastRowId()).isEqualTo(501L);
+            assertThat(checkpoint.getSuccessCount()).isEqualTo(501);
+            assertThat(checkpoint.getAffectedIds()).isEqualTo("1-500,501");
+            then(vacationGrantRepository).should(times(2)).findExpiredTargetIdsForUpdate(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 중단된 실행은 체크포인트 다음 rowId 부터 이어서 처리한다")
+        void expireVacationsDailyResume() {
+            // given
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_EXPIRE");
+            checkpoint.advance(500L, 500, 0, 0);
+
+            given(vacationGrantRepository.findExpiredTargetIdsForUpdate(any(), eq(500L), anyInt())).willReturn(List.of(501L));
+            given(vacationGrantRepository.expireByIds(eq(List.of(501L)), any(), eq("SYSTEM"))).willReturn(1L);
+
+            // when
+            scheduler.expireVacationsDaily();
+
+            // then
+            then(vacationGrantRepository).should(never()).findExpiredTargetIdsForUpdate(any(), isNull(), anyInt());
+            assertThat(checkpoint.getSuccessCount()).isEqualTo(501);
+            assertThat(checkpoint.getIsCompleted()).isEqualTo(YNType.Y);
+        }
+
+        @Test
+        @DisplayName("성공 - 오늘 이미 완료된 작업이면 다시 실행하지 않는다")
+        void expireVacationsDailyAlreadyCompleted() {
+            // given
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_EXPIRE");
+            checkpoint.complete();
+
+            // when
+            scheduler.expireVacationsDaily();
+
+            // then
+            then(vacationGrantRepository).shouldHaveNoInteractions();
         }
 
         @Test
         @DisplayName("성공 - 만료 대상이 없으면 아무 작업도 하지 않는다")
         void expireVacationsDailyEmpty() {
             // given
-            given(vacationGrantRepository.findExpiredTargets(any())).willReturn(List.of());
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_EXPIRE");
+            given(vacationGrantRepository.findExpiredTargetIdsForUpdate(any(), isNull(), anyInt())).willReturn(List.of());
 
             // when
             scheduler.expireVacationsDaily();
 
             // then
-            then(vacationGrantRepository).should().findExpiredTargets(any());
+            then(vacationGrantRepository).should().findExpiredTargetIdsForUpdate(any(), isNull(), anyInt());
+            then(vacationGrantRepository).should(never()).expireByIds(any(), any(), any());
+            assertThat(checkpoint.getIsCompleted()).isEqualTo(YNType.Y);
         }
     }
 
@@ -133,8 +301,11 @@ class VacationGrantSchedulerTest {
             VacationGrantSchedule schedule = VacationGrantSchedule.createSchedule(user, policy);
             ReflectionTestUtils.setField(schedule, "rowId", 1L);
 
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_REPEAT_GRANT");
             given(strategyFactory.getStrategy(GrantMethod.REPEAT_GRANT)).willReturn(repeatGrant);
-            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any())).willReturn(List.of(schedule));
+            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any(), isNull(), anyInt())).willReturn(List.of(schedule));
+            givenPartitions(2);
+            givenReload(List.of(schedule));
             // 첫 번째 호출(today.minusDays(1)): expectedGrantDate로 today 반환 → 부여 대상
             // 두 번째 호출(today): newNextGrantDate로 내년 반환
             given(repeatGrant.calculateNextGrantDate(any(), eq(today.minusDays(1)))).willReturn(today);
@@ -145,24 +316,182 @@ class VacationGrantSchedulerTest {
             scheduler.grantVacationsDaily();
 
             // then
-            then(vacationGrantScheduleRepository).should().findRepeatGrantTargetsForToday(any());
+            then(vacationGrantScheduleRepository).should().findRepeatGrantTargetsForToday(any(), isNull(), anyInt());
+            then(vacationGrantRepository).should().saveAll(anyList());
+            then(vacationBalanceLedger).should().grantAll(anyList());
+            then(vacationGrantScheduleRepository).should().findByIdsWithUserAndPolicy(List.of(1L));
+            assertThat(schedule.getNextGrantDate()).isEqualTo(LocalDate.of(2027, 1, 1));
+            assertThat(checkpoint.getLastRowId()).isEqualTo(1L);
+            assertThat(checkpoint.getSuccessCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 사용자 해시로 파티션을 나눠 처리하고 결과를 합산한다")
+        void grantVacationsDailyPartitions() {
+            // given
+            LocalDate today = companyClock.today();
+            VacationPolicy policy = createRepeatPolicy();
+            User user1 = createTestUser("user1");
+            User user2 = createTestUser("user2");
+            List<VacationGrantSchedule> schedules = List.of(
+                    createSchedule(1L, user1, policy),
+                    createSchedule(2L, user2, policy),
+                    createSchedule(3L, user1, policy));
+
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_REPEAT_GRANT");
+            given(strategyFactory.getStrategy(GrantMethod.REPEAT_GRANT)).willReturn(repeatGrant);
+            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any(), isNull(), anyInt())).willReturn(schedules);
+            givenPartitions(2);
+            givenReload(schedules);
+            given(repeatGrant.calculateNextGrantDate(any(), eq(today.minusDays(1)))).willReturn(today);
+            given(repeatGrant.calculateNextGrantDate(any(), eq(today))).willReturn(LocalDate.of(2027, 1, 1));
+
+            // when
+            scheduler.grantVacationsDaily();
+
+            // then
+            // "user1", "user2" 해시는 1 차이라 2개 파티션에 하나씩 나뉘고, 같은 사용자의 스케줄은 한 파티션에 모인다
+            then(vacationGrantScheduleRepository).should().findByIdsWithUserAndPolicy(List.of(1L, 3L));
+            then(vacationGrantScheduleRepository).should().findByIdsWithUserAndPolicy(List.of(2L));
+            then(vacationGrantTaskExecutor).should(times(2)).execute(any(Runnable.class));
+            then(vacationGrantRepository).should(times(2)).saveAll(anyList());
+            assertThat(checkpoint.getLastRowId()).isEqualTo(3L);
+            assertThat(checkpoint.getSuccessCount()).isEqualTo(3);
+            assertThat(checkpoint.getFailCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 부여일 계산은 정책마다 한 번만 하고, 부여일이 아니면 다음 부여일만 갱신한다")
+        void grantVacationsDailySkipCalculatesOncePerPolicy() {
+            // given
+            LocalDate today = companyClock.today();
+            LocalDate nextGrantDate = today.plusDays(2);
+            VacationPolicy policy = createRepeatPolicy();
+            List<VacationGrantSchedule> schedules = List.of(
+                    createSchedule(1L, createTestUser("user1"), policy),
+                    createSchedule(2L, createTestUser("user2"), policy));
+
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_REPEAT_GRANT");
+            given(strategyFactory.getStrategy(GrantMethod.REPEAT_GRANT)).willReturn(repeatGrant);
+            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any(), isNull(), anyInt())).willReturn(schedules);
+            givenPartitions(2);
+            givenReload(schedules);
+            given(repeatGrant.calculateNextGrantDate(any(), eq(today.minusDays(1)))).willReturn(today.plusDays(1));
+            given(repeatGrant.calculateNextGrantDate(any(), eq(today))).willReturn(nextGrantDate);
+
+            // when
+            scheduler.grantVacationsDaily();
+
+            // then
+            then(repeatGrant).should(times(1)).calculateNextGrantDate(any(), eq(today.minusDays(1)));
+            then(repeatGrant).should(times(1)).calculateNextGrantDate(any(), eq(today));
+            then(vacationGrantRepository).should(never()).saveAll(anyList());
+            assertThat(schedules).extracting(VacationGrantSchedule::getNextGrantDate).containsOnly(nextGrantDate);
+            assertThat(checkpoint.getSkipCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실패 - 파티션 하나가 롤백되면 체크포인트를 넘기지 않고 예외를 던진다")
+        void grantVacationsDailyPartitionFailure() {
+            // given
+            LocalDate today = companyClock.today();
+            VacationPolicy policy = createRepeatPolicy();
+            VacationGrantSchedule schedule1 = createSchedule(1L, createTestUser("user1"), policy);
+            VacationGrantSchedule schedule2 = createSchedule(2L, createTestUser("user2"), policy);
+
+            JobCheckpoint checkpoint = givenCheckpoint("VACATION_REPEAT_GRANT");
+            given(strategyFactory.getStrategy(GrantMethod.REPEAT_GRANT)).willReturn(repeatGrant);
+            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any(), isNull(), anyInt()))
+                    .willReturn(List.of(schedule1, schedule2));
+            givenPartitions(2);
+            given(vacationGrantScheduleRepository.findByIdsWithUserAndPolicy(List.of(1L))).willReturn(List.of(schedule1));
+            given(vacationGrantScheduleRepository.findByIdsWithUserAndPolicy(List.of(2L)))
+                    .willThrow(new IllegalStateException("db down"));
+            given(repeatGrant.calculateNextGrantDate(any(), eq(today.minusDays(1)))).willReturn(today);
+            given(repeatGrant.calculateNextGrantDate(any(), eq(today))).willReturn(LocalDate.of(2027, 1, 1));
+
+            // when & then
+            assertThatThrownBy(() -> scheduler.grantVacationsDaily())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("db down");
             then(vacationGrantRepository).should().saveAll(anyList());
+            assertThat(checkpoint.getLastRowId()).isNull();
+            assertThat(checkpoint.getSuccessCount()).isZero();
+            assertThat(checkpoint.getIsCompleted()).isEqualTo(YNType.N);
         }
 
         @Test
         @DisplayName("성공 - 부여 대상이 없으면 아무 작업도 하지 않는다")
         void grantVacationsDailyEmpty() {
             // given
+            givenCheckpoint("VACATION_REPEAT_GRANT");
             given(strategyFactory.getStrategy(GrantMethod.REPEAT_GRANT)).willReturn(repeatGrant);
-            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any())).willReturn(List.of());
+            given(vacationGrantScheduleRepository.findRepeatGrantTargetsForToday(any(), isNull(), anyInt())).willReturn(List.of());
 
             // when
             scheduler.grantVacationsDaily();
 
             // then
-            then(vacationGrantScheduleRepository).should().findRepeatGrantTargetsForToday(any());
+            then(vacationGrantScheduleRepository).should().findRepeatGrantTargetsForToday(any(), isNull(), anyInt());
             then(vacationGrantRepository).shouldHaveNoMoreInteractions();
         }
+
+        @Test
+        @DisplayName("성공 - 다른 노드가 리스를 잡고 있으면 실행하지 않는다")
+        void grantVacationsDailyLeaseHeld() {
+            // given
+            given(jobLeaseManager.runExclusively(eq("VACATION_REPEAT_GRANT"), any())).willReturn(false);
+
+            // when
+            scheduler.grantVacationsDaily();
+
+            // then
+            then(jobCheckpointRepository).shouldHaveNoInteractions();
+            then(vacationGrantScheduleRepository).shouldHaveNoInteractions();
+            then(vacationGrantRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("중단된 실행 재개")
+    class ResumeIncompleteRuns {
+        @Test
+        @DisplayName("성공 - 오늘 완료되지 않은 작업을 리스 유효 시간 뒤로 스케줄러에 예약한다")
+        @SuppressWarnings("unchecked")
+        void resumeIncompleteRunsSuccess() {
+            // given
+            given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                    ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+            LocalDate today = companyClock.today();
+            given(jobCheckpointRepository.findIncompleteByRunDate(any())).willReturn(List.of(
+                    JobCheckpoint.createJobCheckpoint("VACATION_EXPIRE", today),
+                    JobCheckpoint.createJobCheckpoint("VACATION_REPEAT_GRANT", today)));
+            given(jobLeaseManager.getLeaseTtl()).willReturn(Duration.ofMinutes(10));
+            Instant before = Instant.now();
+
+            // when
+            scheduler.resumeIncompleteRuns();
+
+            // then
+            then(taskScheduler).should(times(2)).schedule(any(Runnable.class),
+                    argThat((Instant startAt) -> !startAt.isBefore(before.plus(Duration.ofMinutes(10)))));
+        }
+
+        @Test
+        @DisplayName("성공 - 완료되지 않은 작업이 없으면 예약하지 않는다")
+        @SuppressWarnings("unchecked")
+        void resumeIncompleteRunsNone() {
+            // given
+            given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                    ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+            given(jobCheckpointRepository.findIncompleteByRunDate(any())).willReturn(List.of());
+
+            // when
+            scheduler.resumeIncompleteRuns();
+
+            // then
+            then(taskScheduler).shouldHaveNoInteractions();
+        }
     }
 
     private VacationPolicy createTestPolicy() {
@@ -0,0 +1,100 @@
+package com.porest.hr.security.filter;
+
+import com.porest.hr.common.config.properties.IpBlacklistProperties;
+import com.porest.hr.security.service.IpAbuseTracker;
+import com.porest.hr.security.service.IpBlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("클라이언트 IP 추출 테스트")
+class ClientIpResolverTest {
+
+    private static final String ATTACKER = "198.51.100.20";
+    private static final String VICTIM = "203.0.113.7";
+
+    @Mock
+    private IpBlacklistService ipBlacklistService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private MockHttpServletRequest forgedRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(ATTACKER);
+        request.addHeader("X-Forwarded-For", VICTIM);
+        request.addHeader("X-Real-IP", VICTIM);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("resolve")
+    class Resolve {
+        @Test
+        @DisplayName("성공 - 클라이언트가 넣은 X-Forwarded-For / X-Real-IP 는 무시하고 remoteAddr 을 쓴다")
+        void ignoreForwardedHeaders() {
+            // when
+            String ip = ClientIpResolver.resolve(forgedRequest("/api/v1/users"));
+
+            // then
+            assertThat(ip).isEqualTo(ATTACKER);
+        }
+    }
+
+    @Nested
+    @DisplayName("자동 차단")
+    class AutoBan {
+        @Test
+        @DisplayName("성공 - X-Forwarded-For 를 위조해도 다른 IP 를 차단시킬 수 없다")
+        void forgedForwardedForCannotBanVictim() throws Exception {
+            // given
+            IpBlacklistProperties properties = new IpBlacklistProperties();
+            IpAbuseTracker tracker = new IpAbuseTracker(properties, ipBlacklistService, new SimpleMeterRegistry());
+            MaliciousPatternBlockFilter filter = new MaliciousPatternBlockFilter(tracker);
+            long requests = properties.getAutoBan().getThreshold() / properties.getAutoBan().getPatternHitWeight();
+
+            // when
+            for (int i = 0; i < requests; i++) {
+                filter.doFilter(forgedRequest("/.env"), new MockHttpServletResponse(), filterChain);
+            }
+
+            // then
+            then(ipBlacklistService).should(never()).addToBlacklist(eq(VICTIM), any(Duration.class));
+            then(ipBlacklistService).should().addToBlacklist(eq(ATTACKER), any(Duration.class));
+            then(filterChain).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 차단 여부도 위조 헤더가 아닌 remoteAddr 로 확인한다")
+        void blacklistLookupUsesRemoteAddr() throws Exception {
+            // given
+            IpAbuseTracker tracker = new IpAbuseTracker(new IpBlacklistProperties(), ipBlacklistService, new SimpleMeterRegistry());
+            IpBlockFilter filter = new IpBlockFilter(ipBlacklistService, tracker, null);
+
+            // when
+            filter.doFilter(forgedRequest("/api/v1/users"), new MockHttpServletResponse(), filterChain);
+
+            // then
+            then(ipBlacklistService).should().isBlocked(ATTACKER);
+            then(ipBlacklistService).should(never()).isBlocked(VICTIM);
+            then(ipBlacklistService).should(never()).addToBlacklist(anyString(), any(Duration.class));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.porest.hr.security.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("악성 경로 매처 테스트")
+class MaliciousPathMatcherTest {
+
+    /**
+     * 기존 MaliciousPatternBlockFilter 의 정규식 목록 (동등성 비교 기준)
+     */
+    static final List<Pattern> LEGACY_PATTERNS = List.of(
+            // 버전 관리 시스템
+            Pattern.compile(".*/\\.git(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.svn(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.hg(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.bzr(/.*)?$", Pattern.CASE_INSENSITIVE),
+
+            // 환경 변수 및 설정 파일
+            Pattern.compile(".*/\\.env(\\..*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.htaccess$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/web\\.config$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/php\\.ini$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/httpd\\.conf$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/nginx\\.conf$", Pattern.CASE_INSENSITIVE),
+
+            // IDE 및 에디터 설정 파일
+            Pattern.compile(".*/\\.idea(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.vscode(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.eclipse(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.settings(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.classpath$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.project$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/\\.DS_Store$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/Thumbs\\.db$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/desktop\\.ini$", Pattern.CASE_INSENSITIVE),
+
+            // 백업 및 임시 파일 (OWASP 권장)
+            Pattern.compile(".*\\.bak$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.backup$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.old$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.orig$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.tmp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.temp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.swp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.swo$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.save$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*~$"),
+
+            // 데이터베이스 및 설정 파일
+            Pattern.compile(".*\\.sql$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.sqlite$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.db$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/config\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/config\\.yml$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/config\\.json$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application\\.yml$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application\\.properties$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application-.*\\.yml$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/application-.*\\.properties$", Pattern.CASE_INSENSITIVE),
+
+            // 압축 파일 (소스코드/백업 포함 가능성)
+            Pattern.compile(".*\\.tar$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.tar\\.gz$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.tgz$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.zip$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.rar$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.7z$", Pattern.CASE_INSENSITIVE),
+
+            // 공격 벡터 - 악성 스크립트
+            Pattern.compile(".*/eval-stdin\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/shell\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/c99\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/r57\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/adminer\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/phpMyAdmin(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/phpmyadmin(/.*)?$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.php$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.asp$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.aspx$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.jsp\\.bak$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*\\.java\\.bak$", Pattern.CASE_INSENSITIVE),
+
+            // 로그 파일 (민감 정보 포함 가능)
+            Pattern.compile(".*\\.log$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*/logs(/.*)?$", Pattern.CASE_INSENSITIVE)
+    );
+
+
+    private static boolean legacyMatches(String uri) {
+        return LEGACY_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(uri).matches());
+    }
+
+    @Nested
+    @DisplayName("match")
+    class Match {
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "/.git/config", "/.GIT", "/a/.svn/entries", "/.env", "/.env.local", "/.env.local/x",
+                "/wp/.htaccess", "/web.config", "/.DS_Store", "/a/Thumbs.DB", "/backup.sql", "/site.tar.gz",
+                "/index.PHP", "/phpMyAdmin/index", "/app/application-dev.yml", "/application-.properties",
+                "/var/logs", "/var/logs/app", "/server.log", "/file~", "/a.jsp.bak"
+        })
+        @DisplayName("성공 - 악성 경로는 차단한다")
+        void blocked(String uri) {
+            assertThat(MaliciousPathMatcher.match(uri)).isNotNull();
+            assertThat(legacyMatches(uri)).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "/", "/api/v1/users", "/api/v1/work-histories/excel/download", "/.envx", "/.env/x",
+                "/logsx", "/a/config.xml", "/application-dev", "/web.config/x", "/img.png", "/foo.bak\n"
+        })
+        @DisplayName("성공 - 정상 경로는 통과시킨다")
+        void allowed(String uri) {
+            assertThat(MaliciousPathMatcher.match(uri)).isNull();
+            assertThat(legacyMatches(uri)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - null 이면 null 을 반환한다")
+        void nullUri() {
+            assertThat(MaliciousPathMatcher.match(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 무작위 경로에 대해 기존 정규식 목록과 결과가 같다")
+        void sameDecisionAsLegacyPatterns() {
+            String[] parts = {
+                    "/", ".", "git", "GIT", ".git", ".env", "env", "~", "bak", "php", "PhP", "tar", "gz",
+                    "application-", "application", "yml", "properties", "logs", "LOGS", "phpMyAdmin",
+                    "config", ".json", "x", "api", "v1", "users", "-", "web.config", "php.ini", ".DS_Store",
+                    "thumbs.DB", "db", "sql", "7z", "tgz", "jsp", "old", ".settings", "desktop.ini",
+                    "\n", "\r", "\u2028", "\u212A", "%2e"
+            };
+            Random random = new Random(42);
+
+            for (int i = 0; i < 200_000; i++) {
+                StringBuilder uri = new StringBuilder();
+                int count = random.nextInt(7);
+                for (int j = 0; j < count; j++) {
+                    uri.append(parts[random.nextInt(parts.length)]);
+                }
+                String candidate = uri.toString();
+                assertThat(MaliciousPathMatcher.match(candidate) != null)
+                        .as("uri=%s", candidate)
+                        .isEqualTo(legacyMatches(candidate));
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.porest.hr.security.jwt;
+
+import com.porest.hr.common.config.properties.JwtProperties;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT 토큰 Provider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String HR_SECRET = "test-hr-secret-key-that-is-long-enough-for-hs256";
+
+    @Mock
+    private SsoJwksKeyLocator ssoJwksKeyLocator;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setHrSecret(HR_SECRET);
+        meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+        verifiedTokenCache.init();
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, ssoJwksKeyLocator, verifiedTokenCache);
+        jwtTokenProvider.init();
+    }
+
+    private String hrToken(Object roles) {
+        return Jwts.builder()
+                .subject("user1")
+                .issuer("porest-hr")
+                .expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .claim("roles", roles)
+                .signWith(Keys.hmacShaKeyFor(HR_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    @Nested
+    @DisplayName("HR 토큰 판별")
+    class IsHrToken {
+        @Test
+        @DisplayName("성공 - 이미 검증한 HR 토큰은 다시 파싱하지 않고 캐시로 판별한다")
+        void isHrTokenUsesCache() {
+            // given
+            String token = hrToken(new String[]{"ADMIN"});
+            jwtTokenProvider.parseAndClassify(token);
+
+            // when
+            boolean result = jwtTokenProvider.isHrToken(token);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(cacheHits()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공 - 검증되지 않는 토큰은 HR 토큰이 아니다")
+        void isHrTokenInvalid() {
+            // when
+            boolean result = jwtTokenProvider.isHrToken("not-a-jwt");
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("SSO 토큰 클레임 조회")
+    class GetFromSsoToken {
+        @Test
+        @DisplayName("실패 - HR 토큰으로 SSO 클레임을 조회하면 예외가 발생한다")
+        void getUserIdFromSsoTokenWithHrToken() {
+            // given
+            String token = hrToken(new String[]{"ADMIN"});
+            jwtTokenProvider.parseAndClassify(token);
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromSsoToken(token))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("클레임 배열")
+    class ClaimArrays {
+        @Test
+        @DisplayName("성공 - 배열 안의 null 은 버리고 나머지 값만 담는다")
+        void nullElementsAreDropped() {
+            // given
+            String token = hrToken(Arrays.asList("ADMIN", null, "USER"));
+
+            // when
+            VerifiedToken result = jwtTokenProvider.parseAndClassify(token);
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.getRoles()).containsExactly("ADMIN", "USER");
+            assertThat(jwtTokenProvider.getRolesFromHrToken(token)).containsExactly("ADMIN", "USER");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.porest.hr.security.jwt;
+
+import com.porest.hr.common.config.properties.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검증된 토큰 캐시 테스트")
+class VerifiedTokenCacheTest {
+
+    private JwtProperties jwtProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("성공 - 저장한 토큰은 같은 토큰 문자열로 조회된다")
+    void getAfterPut() {
+        // given
+        VerifiedToken verified = token(Instant.now().plus(1, ChronoUnit.HOURS));
+        cache.put("token-a", verified);
+
+        // when
+        VerifiedToken result = cache.get("token-a");
+
+        // then
+        assertThat(result).isSameAs(verified);
+        assertThat(cache.get("token-b")).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 만료된 토큰은 저장하지 않는다")
+    void putExpiredToken() {
+        // given
+        VerifiedToken expired = token(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        // when
+        cache.put("token-a", expired);
+
+        // then
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 비활성화 상태면 저장/조회하지 않는다")
+    void disabled() {
+        // given
+        jwtProperties.getVerifiedTokenCache().setEnabled(false);
+
+        // when
+        cache.put("token-a", token(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // then
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 적중/실패 지표가 Micrometer 에 기록된다")
+    void metrics() {
+        // given
+        cache.put("token-a", token(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // when
+        cache.get("token-a");
+        cache.get("token-b");
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private VerifiedToken token(Instant expiresAt) {
+        return VerifiedToken.of(VerifiedToken.Type.HR, Jwts.claims()
+                .subject("user1")
+                .expiration(Date.from(expiresAt))
+                .build());
+    }
+}
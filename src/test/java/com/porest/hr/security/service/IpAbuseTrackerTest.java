@@ -0,0 +1,208 @@
+package com.porest.hr.security.service;
+
+import com.porest.hr.common.config.properties.IpBlacklistProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IP 악용 점수 집계 테스트")
+class IpAbuseTrackerTest {
+
+    private static final String IP = "203.0.113.7";
+
+    @Mock
+    private IpBlacklistService ipBlacklistService;
+
+    private IpBlacklistProperties properties;
+    private IpAbuseTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IpBlacklistProperties();
+        properties.getAutoBan().setWindow(60000);
+        properties.getAutoBan().setBuckets(6);
+        properties.getAutoBan().setThreshold(10);
+        properties.getAutoBan().setBanTtl(3600000);
+        tracker = new IpAbuseTracker(properties, ipBlacklistService, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("record")
+    class Record {
+        @Test
+        @DisplayName("성공 - 임계치에 도달하면 TTL 을 붙여 한 번만 차단한다")
+        void banOnThreshold() {
+            // given
+            long now = 1_000_000L;
+            for (int i = 0; i < 9; i++) {
+                tracker.record(IP, 1, now);
+            }
+            then(ipBlacklistService).should(never()).addToBlacklist(anyString(), any(Duration.class));
+
+            // when
+            boolean banned = tracker.record(IP, 1, now);
+
+            // then
+            assertThat(banned).isTrue();
+            then(ipBlacklistService).should().addToBlacklist(IP, Duration.ofMillis(3600000));
+            assertThat(tracker.getTopScores(10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 - 윈도우를 벗어난 기록은 점수에서 빠진다")
+        void oldBucketsSlideOut() {
+            // given
+            long now = 1_000_000L;
+            for (int i = 0; i < 9; i++) {
+                tracker.record(IP, 1, now);
+            }
+
+            // when - 윈도우(60초)가 지난 뒤 다시 9건 기록
+            boolean banned = false;
+            for (int i = 0; i < 9; i++) {
+                banned |= tracker.record(IP, 1, now + 61_000);
+            }
+
+            // then
+            assertThat(banned).isFalse();
+            then(ipBlacklistService).should(never()).addToBlacklist(anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 비활성화 상태면 집계하지 않는다")
+        void disabled() {
+            // given
+            properties.getAutoBan().setEnabled(false);
+
+            // when
+            boolean banned = tracker.record(IP, 100, 1_000_000L);
+
+            // then
+            assertThat(banned).isFalse();
+            then(ipBlacklistService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 추적 IP 수 한도를 넘으면 새 IP 는 집계하지 않는다")
+        void maxTrackedIps() {
+            // given
+            properties.getAutoBan().setMaxTrackedIps(1);
+            tracker.record("198.51.100.1", 1, 1_000_000L);
+
+            // when
+            boolean banned = tracker.record(IP, 100, 1_000_000L);
+
+            // then
+            assertThat(banned).isFalse();
+            then(ipBlacklistService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 동시에 기록해도 차단은 한 번만 일어난다")
+        void concurrentRecordsBanOnce() throws Exception {
+            // given
+            properties.getAutoBan().setThreshold(500);
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger bans = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            long now = 1_000_000L;
+
+            // when
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (tracker.record(IP, 1, now)) {
+                            bans.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(bans.get()).isEqualTo(1);
+            then(ipBlacklistService).should(times(1)).addToBlacklist(IP, Duration.ofMillis(3600000));
+        }
+    }
+
+    @Nested
+    @DisplayName("recordAuthFailure")
+    class RecordAuthFailure {
+        @Test
+        @DisplayName("성공 - 기본 설정에서는 401 을 집계하지 않는다")
+        void ignoredByDefault() {
+            // when
+            tracker.recordAuthFailure(IP);
+
+            // then
+            assertThat(tracker.getTopScores(10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 - auth-failure-enabled 면 401 을 가중치만큼 집계한다")
+        void recordedWhenEnabled() {
+            // given
+            properties.getAutoBan().setAuthFailureEnabled(true);
+            properties.getAutoBan().setAuthFailureWeight(2);
+
+            // when
+            tracker.recordAuthFailure(IP);
+
+            // then
+            assertThat(tracker.getTopScores(10))
+                    .singleElement()
+                    .satisfies(score -> assertThat(score.getScore()).isEqualTo(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("evictIdle")
+    class EvictIdle {
+        @Test
+        @DisplayName("성공 - 윈도우 동안 기록이 없는 IP 를 제거한다")
+        void evictIdleWindows() {
+            // given
+            long now = System.currentTimeMillis();
+            tracker.record(IP, 1, now - 120_000);
+            tracker.record("198.51.100.1", 1, now);
+
+            // when
+            tracker.evictIdle(now);
+
+            // then
+            assertThat(tracker.getTopScores(10))
+                    .extracting(IpAbuseTracker.AbuseScore::getIp)
+                    .containsExactly("198.51.100.1");
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.porest.hr.security.service;
 
+import com.porest.core.exception.ForbiddenException;
+import com.porest.core.exception.UnauthorizedException;
 import com.porest.hr.client.sso.SsoApiClient;
 import com.porest.hr.security.controller.dto.TokenExchangeDto;
 import com.porest.hr.security.jwt.JwtTokenProvider;
+import com.porest.hr.security.jwt.VerifiedToken;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.service.UserService;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +20,12 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -40,9 +46,7 @@ class TokenExchangeServiceTest {
         // SSO 인가코드 → SSO access token
         given(ssoApiClient.exchangeOAuthCode("code", "verifier", "https://hr/cb")).willReturn("ssoToken");
         // 기존 exchange 내부 흐름
-        given(jwtTokenProvider.validateSsoToken("ssoToken")).willReturn(true);
-        given(jwtTokenProvider.getServicesFromSsoToken("ssoToken")).willReturn(List.of("hr"));
-        given(jwtTokenProvider.getUserIdFromSsoToken("ssoToken")).willReturn("user1");
+        given(jwtTokenProvider.parseSsoToken("ssoToken")).willReturn(ssoToken("user1", List.of("hr")));
 
         User user = mock(User.class);
         given(user.getRoles()).willReturn(Collections.emptyList());
@@ -62,4 +66,30 @@ class TokenExchangeServiceTest {
         assertThat(result.getExpiresIn()).isEqualTo(3600L);
         verify(ssoApiClient).exchangeOAuthCode("code", "verifier", "https://hr/cb");
     }
+
+    @Test
+    @DisplayName("exchange — 검증 실패한 SSO 토큰은 UnauthorizedException")
+    void exchangeInvalidSsoToken() {
+        given(jwtTokenProvider.parseSsoToken("badToken")).willReturn(null);
+
+        assertThatThrownBy(() -> sut.exchange("badToken"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    @DisplayName("exchange — HR 서비스 접근 권한이 없으면 ForbiddenException")
+    void exchangeWithoutHrService() {
+        given(jwtTokenProvider.parseSsoToken("ssoToken")).willReturn(ssoToken("user1", List.of("desk")));
+
+        assertThatThrownBy(() -> sut.exchange("ssoToken"))
+                .isInstanceOf(ForbiddenException.class);
+        verify(userService, never()).findUserById("user1");
+    }
+
+    private VerifiedToken ssoToken(String userId, List<String> services) {
+        return VerifiedToken.of(VerifiedToken.Type.SSO, Jwts.claims()
+                .subject(userId)
+                .add("services", services)
+                .build());
+    }
 }
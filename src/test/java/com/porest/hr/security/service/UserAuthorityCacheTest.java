@@ -0,0 +1,174 @@
+package com.porest.hr.security.service;
+
+import com.porest.hr.common.cache.TwoLevelCacheManager;
+import com.porest.hr.common.config.properties.JwtProperties;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import com.porest.hr.permission.domain.Role;
+import com.porest.hr.security.service.UserAuthorityCache.CachedUserAuthority;
+import com.porest.hr.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("사용자 권한 캐시 테스트")
+class UserAuthorityCacheTest {
+
+    private JwtProperties jwtProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+    private AtomicInteger loads;
+    private Function<String, User> loader;
+    private UserAuthorityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.getRedis().setEnabled(false);
+        cacheManager = new TwoLevelCacheManager(properties, null, null, meterRegistry);
+        cacheManager.afterPropertiesSet();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            User user = User.createUserFromSso(1L, id, "테스트유저", id + "@test.com");
+            user.addRole(Role.createRole("USER", "사용자", "일반 사용자"));
+            return user;
+        };
+        cache = new UserAuthorityCache(jwtProperties, cacheManager);
+        cache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 두 번째 조회는 loader 를 부르지 않고 캐시에서 돌려준다")
+    void getHit() {
+        // given
+        CachedUserAuthority first = cache.get("user1", loader);
+
+        // when
+        CachedUserAuthority second = cache.get("user1", loader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getRoles()).containsExactly("USER");
+        assertThat(second.getAuthorities()).containsExactly("USER");
+        assertThat(second.getPermissions()).isEmpty();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user-authority").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 노드의 무효화 메시지를 받으면 다시 조회한다")
+    void remoteInvalidationReloads() {
+        // given
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // when
+        cacheManager.handleInvalidation(
+                "{\"origin\":\"other-node\",\"cacheName\":\"user-authority\",\"key\":\"user1\"}");
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 노드의 전체 무효화 메시지를 받으면 모든 사용자를 다시 조회한다")
+    void remoteInvalidationAllReloads() {
+        // given
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // when
+        cacheManager.handleInvalidation("{\"origin\":\"other-node\",\"cacheName\":\"user-authority\"}");
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("성공 - 트랜잭션 밖에서는 바로 무효화한다")
+    void evictWithoutTransaction() {
+        // given
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // when
+        cache.evict("user1");
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공 - 트랜잭션 안에서는 커밋 이후에 무효화한다")
+    void evictAfterCommit() {
+        // given
+        cache.get("user1", loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.evict("user1");
+        cache.get("user1", loader);
+        int loadsBeforeCommit = loads.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get("user1", loader);
+
+        // then
+        assertThat(loadsBeforeCommit).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 - 전체 무효화하면 모든 사용자를 다시 조회한다")
+    void evictAll() {
+        // given
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // when
+        cache.evictAll();
+        cache.get("user1", loader);
+        cache.get("user2", loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("성공 - 비활성화 상태면 매번 loader 로 조회한다")
+    void disabled() {
+        // given
+        jwtProperties.getUserAuthorityCache().setEnabled(false);
+
+        // when
+        cache.get("user1", loader);
+        cache.get("user1", loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -10,6 +10,9 @@ import com.porest.hr.company.service.CompanyService;
 import com.porest.hr.company.service.CompanyServiceImpl;
 import com.porest.hr.company.service.dto.CompanyServiceDto;
 import com.porest.hr.department.domain.Department;
+import com.porest.hr.department.service.OrgTree;
+import com.porest.hr.department.service.OrgTreeSnapshot;
+import com.porest.hr.department.service.dto.DepartmentServiceDto;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,7 +21,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +38,9 @@ class CompanyServiceTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private OrgTree orgTree;
+
     @InjectMocks
     private CompanyServiceImpl companyService;
 
@@ -222,21 +230,29 @@ class CompanyServiceTest {
         void searchCompanyWithDepartmentsSuccess() {
             // given
             Company company = Company.createCompany("COMPANY001", "테스트 회사", "설명");
-            given(companyRepository.findByIdWithDepartments("COMPANY001")).willReturn(Optional.of(company));
+            Department root = Department.createDepartment("Development", "개발팀", null, null, 1L, "설명", "#FF0000", company);
+            ReflectionTestUtils.setField(root, "rowId", 1L);
+            Department child = Department.createDepartment("Backend", "백엔드팀", root, null, 2L, "설명", "#00FF00", company);
+            ReflectionTestUtils.setField(child, "rowId", 2L);
+            given(companyRepository.findById("COMPANY001")).willReturn(Optional.of(company));
+            given(orgTree.snapshot()).willReturn(OrgTreeSnapshot.of(List.of(root, child)));
 
             // when
             CompanyServiceDto result = companyService.searchCompanyWithDepartments("COMPANY001");
 
             // then
-            then(companyRepository).should().findByIdWithDepartments("COMPANY001");
+            then(companyRepository).should().findById("COMPANY001");
             assertThat(result.getId()).isEqualTo("COMPANY001");
+            assertThat(result.getDepartments()).hasSize(1);
+            assertThat(result.getDepartments().get(0).getChildren()).extracting(DepartmentServiceDto::getName)
+                    .containsExactly("Backend");
         }
 
         @Test
         @DisplayName("실패 - 존재하지 않는 회사면 예외가 발생한다")
         void searchCompanyWithDepartmentsFailNotFound() {
             // given
-            given(companyRepository.findByIdWithDepartments("NOTEXIST")).willReturn(Optional.empty());
+            given(companyRepository.findById("NOTEXIST")).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> companyService.searchCompanyWithDepartments("NOTEXIST"))
@@ -312,4 +328,36 @@ class CompanyServiceTest {
                     .isInstanceOf(EntityNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("회사 존재 확인 (락)")
+    class CheckCompanyExistsForUpdate {
+        @Test
+        @DisplayName("성공 - 락 조회로 존재하는 회사를 반환한다")
+        void checkCompanyExistsForUpdateSuccess() {
+            // given
+            Company company = Company.createCompany("COMPANY001", "회사", "설명");
+            given(companyRepository.findByRowIdForUpdate(1L)).willReturn(Optional.of(company));
+
+            // when
+            Company result = companyService.checkCompanyExistsForUpdate(1L);
+
+            // then
+            assertThat(result).isEqualTo(company);
+            then(companyRepository).should(never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 삭제된 회사면 예외가 발생한다")
+        void checkCompanyExistsForUpdateFailDeleted() {
+            // given
+            Company company = Company.createCompany("COMPANY001", "회사", "설명");
+            company.deleteCompany();
+            given(companyRepository.findByRowIdForUpdate(1L)).willReturn(Optional.of(company));
+
+            // when & then
+            assertThatThrownBy(() -> companyService.checkCompanyExistsForUpdate(1L))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
 }
@@ -12,6 +12,8 @@ import com.porest.hr.department.domain.UserDepartment;
 import com.porest.hr.department.repository.DepartmentRepository;
 import com.porest.hr.department.service.DepartmentService;
 import com.porest.hr.department.service.DepartmentServiceImpl;
+import com.porest.hr.department.service.OrgTree;
+import com.porest.hr.department.service.OrgTreeSnapshot;
 import com.porest.hr.department.service.dto.DepartmentServiceDto;
 import com.porest.hr.department.service.dto.UserDepartmentServiceDto;
 import com.porest.hr.user.domain.User;
@@ -44,6 +46,8 @@ class DepartmentServiceTest {
     private CompanyService companyService;
     @Mock
     private UserService userService;
+    @Mock
+    private OrgTree orgTree;
 
     @InjectMocks
     private DepartmentServiceImpl departmentService;
@@ -157,7 +161,7 @@ class DepartmentServiceTest {
             Department department = Department.createDepartment("Development", "개발팀", null, null, 1L, "설명", "#FF0000", company);
             setDepartmentId(department, 1L);
 
-            given(departmentRepository.findById(1L)).willReturn(Optional.of(department));
+            given(departmentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(department));
 
             DepartmentServiceDto data = DepartmentServiceDto.builder()
                     .id(1L)
@@ -170,7 +174,7 @@ class DepartmentServiceTest {
             departmentService.edit(data);
 
             // then
-            then(departmentRepository).should().findById(1L);
+            then(departmentRepository).should().findByIdForUpdate(1L);
             assertThat(department.getName()).isEqualTo("Dev Team");
             assertThat(department.getNameKR()).isEqualTo("개발팀 수정");
         }
@@ -184,7 +188,8 @@ class DepartmentServiceTest {
             Department department = Department.createDepartment("Development", "개발팀", null, null, 1L, "설명", "#FF0000", company);
             setDepartmentId(department, 1L);
 
-            // 자기 자신을 부모로 설정: findById가 두 번 호출됨 (department, newParent)
+            // 자기 자신을 부모로 설정: 수정할 부서는 락 조회, 새 부모는 일반 조회
+            given(departmentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(department));
             given(departmentRepository.findById(1L)).willReturn(Optional.of(department));
 
             DepartmentServiceDto data = DepartmentServiceDto.builder()
@@ -210,8 +215,9 @@ class DepartmentServiceTest {
             setDepartmentId(child, 2L);
 
             // 부모(1L)를 수정할 때 자식(2L)을 부모로 설정하려고 함
-            given(departmentRepository.findById(1L)).willReturn(Optional.of(parent));
+            given(departmentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(parent));
             given(departmentRepository.findById(2L)).willReturn(Optional.of(child));
+            given(departmentRepository.findAncestorIdsByDepartmentId(2L)).willReturn(List.of(2L, 1L));
 
             DepartmentServiceDto data = DepartmentServiceDto.builder()
                     .id(1L)
@@ -238,8 +244,9 @@ class DepartmentServiceTest {
             Department otherDept = Department.createDepartment("Other", "다른팀", null, null, 1L, "설명", "#00FF00", company2);
             setDepartmentId(otherDept, 2L);
 
-            given(departmentRepository.findById(1L)).willReturn(Optional.of(department));
+            given(departmentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(department));
             given(departmentRepository.findById(2L)).willReturn(Optional.of(otherDept));
+            given(departmentRepository.findAncestorIdsByDepartmentId(2L)).willReturn(List.of(2L));
 
             DepartmentServiceDto data = DepartmentServiceDto.builder()
                     .id(1L)
@@ -264,8 +271,9 @@ class DepartmentServiceTest {
             Department newParent = Department.createDepartment("Development", "개발팀", null, null, 1L, "설명", "#00FF00", company);
             setDepartmentId(newParent, 2L);
 
-            given(departmentRepository.findById(1L)).willReturn(Optional.of(department));
+            given(departmentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(department));
             given(departmentRepository.findById(2L)).willReturn(Optional.of(newParent));
+            given(departmentRepository.findAncestorIdsByDepartmentId(2L)).willReturn(List.of(2L));
 
             DepartmentServiceDto data = DepartmentServiceDto.builder()
                     .id(1L)
@@ -278,13 +286,16 @@ class DepartmentServiceTest {
 
             // then
             assertThat(department.getName()).isEqualTo("Backend Team");
+            assertThat(department.getParent()).isSameAs(newParent);
+            then(companyService).should().checkCompanyExistsForUpdate(1L);
+            then(orgTree).should().invalidate();
         }
 
         @Test
         @DisplayName("실패 - 존재하지 않는 부서를 수정하려 하면 예외가 발생한다")
         void editFailNotFound() {
             // given
-            given(departmentRepository.findById(999L)).willReturn(Optional.empty());
+            given(departmentRepository.findByIdForUpdate(999L)).willReturn(Optional.empty());
 
             DepartmentServiceDto data = DepartmentServiceDto.builder()
                     .id(999L)
@@ -392,7 +403,7 @@ class DepartmentServiceTest {
             Department child = Department.createDepartment("Backend", "백엔드팀", department, null, 2L, "설명", "#00FF00", company);
             setDepartmentId(child, 2L);
 
-            given(departmentRepository.findById(1L)).willReturn(Optional.of(department));
+            given(orgTree.snapshot()).willReturn(OrgTreeSnapshot.of(List.of(department, child)));
 
             // when
             DepartmentServiceDto result = departmentService.searchDepartmentByIdWithChildren(1L);
@@ -401,6 +412,41 @@ class DepartmentServiceTest {
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getName()).isEqualTo("Development");
             assertThat(result.getChildren()).hasSize(1);
+            then(departmentRepository).should(never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 캐시된 스냅샷에 없는 부서가 존재하면 직접 만든 스냅샷으로 반환한다")
+        void searchDepartmentByIdWithChildrenRefresh() {
+            // given
+            Company company = Company.createCompany("COMPANY001", "회사", "설명");
+            setCompanyId(company, 1L);
+            Department department = Department.createDepartment("Development", "개발팀", null, null, 1L, "설명", "#FF0000", company);
+            setDepartmentId(department, 1L);
+
+            given(orgTree.snapshot()).willReturn(OrgTreeSnapshot.of(List.of()));
+            given(departmentRepository.findById(1L)).willReturn(Optional.of(department));
+            given(orgTree.load()).willReturn(OrgTreeSnapshot.of(List.of(department)));
+
+            // when
+            DepartmentServiceDto result = departmentService.searchDepartmentByIdWithChildren(1L);
+
+            // then
+            assertThat(result.getId()).isEqualTo(1L);
+            assertThat(result.getChildren()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - 스냅샷에 없고 삭제된 부서면 예외가 발생한다")
+        void searchDepartmentByIdWithChildrenFailNotFound() {
+            // given
+            given(orgTree.snapshot()).willReturn(OrgTreeSnapshot.of(List.of()));
+            given(departmentRepository.findById(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> departmentService.searchDepartmentByIdWithChildren(999L))
+                    .isInstanceOf(EntityNotFoundException.class);
+            then(orgTree).should(never()).load();
         }
     }
 
@@ -7,6 +7,7 @@ import com.porest.core.type.YNType;
 import com.porest.hr.holiday.domain.Holiday;
 import com.porest.hr.holiday.repository.HolidayRepository;
 import com.porest.hr.holiday.service.HolidayServiceImpl;
+import com.porest.hr.holiday.service.WorkingCalendar;
 import com.porest.hr.holiday.service.dto.HolidayServiceDto;
 import com.porest.hr.holiday.type.HolidayType;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,9 @@ class HolidayServiceTest {
     @Mock
     private HolidayRepository holidayRepository;
 
+    @Mock
+    private WorkingCalendar workingCalendar;
+
     @InjectMocks
     private HolidayServiceImpl holidayService;
 
@@ -207,6 +211,28 @@ class HolidayServiceTest {
             assertThat(holiday.getDate()).isEqualTo(LocalDate.of(2025, 1, 30));
         }
 
+        @Test
+        @DisplayName("성공 - 날짜의 연도가 바뀌면 이전 연도와 새 연도의 근무일 달력을 무효화한다")
+        void editHolidayEvictsWorkingCalendar() {
+            // given
+            Long id = 1L;
+            Holiday holiday = Holiday.createHoliday("신정", LocalDate.of(2025, 12, 31), HolidayType.PUBLIC, CountryCode.KR, YNType.N, null, YNType.Y, null);
+            setHolidayId(holiday, id);
+            given(holidayRepository.findByRowId(id)).willReturn(Optional.of(holiday));
+
+            HolidayServiceDto data = HolidayServiceDto.builder()
+                    .id(id)
+                    .date(LocalDate.of(2026, 1, 1))
+                    .build();
+
+            // when
+            holidayService.editHoliday(data);
+
+            // then
+            then(workingCalendar).should().evict(CountryCode.KR, 2025);
+            then(workingCalendar).should().evict(CountryCode.KR, 2026);
+        }
+
         @Test
         @DisplayName("실패 - 존재하지 않는 공휴일을 수정하려 하면 예외가 발생한다")
         void editHolidayFailNotFound() {
@@ -239,6 +265,7 @@ class HolidayServiceTest {
             // then
             then(holidayRepository).should().findByRowId(id);
             then(holidayRepository).should().delete(holiday);
+            then(workingCalendar).should().evict(CountryCode.KR, 2025);
         }
 
         @Test
@@ -480,6 +507,7 @@ class HolidayServiceTest {
             // then
             assertThat(result).isEqualTo(1);
             then(holidayRepository).should().saveAll(anyList());
+            then(workingCalendar).should().evict(CountryCode.KR, 2026);
         }
 
         @Test
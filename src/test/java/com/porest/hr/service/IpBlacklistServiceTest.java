@@ -1,6 +1,9 @@
 package com.porest.hr.service;
 
 import com.porest.core.config.properties.SecurityProperties;
+import com.porest.hr.common.event.IpBlacklistEvent;
+import com.porest.hr.common.event.IpBlacklistEventPublisher;
+import com.porest.hr.common.event.IpBlacklistEventType;
 import com.porest.hr.security.service.IpBlacklistServiceImpl;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,12 +22,17 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +46,9 @@ class IpBlacklistServiceTest {
     @Mock
     private SecurityProperties.IpBlacklist ipBlacklistConfig;
 
+    @Mock
+    private IpBlacklistEventPublisher ipBlacklistEventPublisher;
+
     @InjectMocks
     private IpBlacklistServiceImpl ipBlacklistService;
 
@@ -45,7 +56,7 @@ class IpBlacklistServiceTest {
     void setUp() {
         given(securityProperties.getIpBlacklist()).willReturn(ipBlacklistConfig);
         // 테스트 간 독립성을 위해 런타임 블랙리스트 초기화
-        Set<String> runtimeBlockedIps = ConcurrentHashMap.newKeySet();
+        Map<String, Long> runtimeBlockedIps = new ConcurrentHashMap<>();
         ReflectionTestUtils.setField(ipBlacklistService, "runtimeBlockedIps", runtimeBlockedIps);
     }
 
@@ -177,6 +188,7 @@ class IpBlacklistServiceTest {
             // then
             assertThat(ipBlacklistService.isBlocked(ip)).isTrue();
             assertThat(ipBlacklistService.getRuntimeBlacklist()).contains(ip);
+            then(ipBlacklistEventPublisher).should().publishBlocked(ip, null);
         }
 
         @Test
@@ -193,6 +205,46 @@ class IpBlacklistServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("addToBlacklist (TTL)")
+    class AddToBlacklistWithTtl {
+        @Test
+        @DisplayName("성공 - 만료 전에는 차단하고 만료 후에는 해제한다")
+        void temporaryBanExpires() {
+            // given
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            ipBlacklistService.addToBlacklist("203.0.113.7", Duration.ofHours(1));
+            ipBlacklistService.addToBlacklist("203.0.113.8", Duration.ofMillis(-1));
+
+            // when & then
+            assertThat(ipBlacklistService.isBlocked("203.0.113.7")).isTrue();
+            assertThat(ipBlacklistService.isBlocked("203.0.113.8")).isFalse();
+            assertThat(ipBlacklistService.getRuntimeBlacklist()).containsExactly("203.0.113.7");
+            assertThat(ipBlacklistService.getRuntimeBlacklistEntries())
+                    .singleElement()
+                    .satisfies(entry -> assertThat(entry.getExpiresAt()).isNotNull());
+        }
+
+        @Test
+        @DisplayName("성공 - 영구 차단된 IP 는 임시 차단으로 줄어들지 않는다")
+        void permanentBanIsKept() {
+            // given
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            ipBlacklistService.addToBlacklist("203.0.113.7");
+
+            // when
+            ipBlacklistService.addToBlacklist("203.0.113.7", Duration.ofMillis(-1));
+
+            // then
+            assertThat(ipBlacklistService.isBlocked("203.0.113.7")).isTrue();
+            assertThat(ipBlacklistService.getRuntimeBlacklistEntries())
+                    .singleElement()
+                    .satisfies(entry -> assertThat(entry.getExpiresAt()).isNull());
+            // 임시 차단 요청도 병합 결과(영구)로 다시 전파한다
+            then(ipBlacklistEventPublisher).should(times(2)).publishBlocked("203.0.113.7", null);
+        }
+    }
+
     @Nested
     @DisplayName("removeFromBlacklist")
     class RemoveFromBlacklist {
@@ -210,6 +262,7 @@ class IpBlacklistServiceTest {
             // then
             assertThat(ipBlacklistService.isBlocked(ip)).isFalse();
             assertThat(ipBlacklistService.getRuntimeBlacklist()).doesNotContain(ip);
+            then(ipBlacklistEventPublisher).should().publishUnblocked(ip);
         }
     }
 
@@ -310,6 +363,96 @@ class IpBlacklistServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("reloadFromFile")
+    class ReloadFromFile {
+        @Test
+        @DisplayName("성공 - 파일이 바뀌면 새 목록으로 교체한다")
+        void reloadReplacesSnapshot(@TempDir Path tempDir) throws IOException {
+            // given
+            Path blacklistFile = tempDir.resolve("blacklist.txt");
+            Files.write(blacklistFile, List.of("192.168.1.100"));
+
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            given(ipBlacklistConfig.getFilePath()).willReturn(blacklistFile.toString());
+            ipBlacklistService.init();
+
+            Files.write(blacklistFile, List.of("10.0.0.0/8"));
+
+            // when
+            ipBlacklistService.reloadFromFile();
+
+            // then
+            assertThat(ipBlacklistService.isBlocked("192.168.1.100")).isFalse();
+            assertThat(ipBlacklistService.isBlocked("10.1.2.3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 파일을 읽을 수 없으면 기존 목록을 유지한다")
+        void reloadKeepsSnapshotWhenFileMissing(@TempDir Path tempDir) throws IOException {
+            // given
+            Path blacklistFile = tempDir.resolve("blacklist.txt");
+            Files.write(blacklistFile, List.of("192.168.1.100"));
+
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            given(ipBlacklistConfig.getFilePath()).willReturn(blacklistFile.toString());
+            ipBlacklistService.init();
+
+            Files.delete(blacklistFile);
+
+            // when
+            ipBlacklistService.reloadFromFile();
+
+            // then
+            assertThat(ipBlacklistService.isBlocked("192.168.1.100")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 간 공유")
+    class SharedBlacklist {
+        @Test
+        @DisplayName("성공 - 시작 시 공유 블랙리스트를 불러온다")
+        void initLoadsSharedBlacklist() {
+            // given
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            given(ipBlacklistEventPublisher.findSharedBlacklist()).willReturn(Map.of("203.0.113.7", Long.MAX_VALUE));
+
+            // when
+            ipBlacklistService.init();
+
+            // then
+            assertThat(ipBlacklistService.isBlocked("203.0.113.7")).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드의 차단/해제 이벤트를 재발행 없이 반영한다")
+        void applyRemoteEvent() {
+            // given
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            IpBlacklistEvent blocked = IpBlacklistEvent.builder()
+                    .type(IpBlacklistEventType.IP_BLOCKED)
+                    .ip("203.0.113.7")
+                    .origin("other-node")
+                    .build();
+            IpBlacklistEvent unblocked = IpBlacklistEvent.builder()
+                    .type(IpBlacklistEventType.IP_UNBLOCKED)
+                    .ip("203.0.113.7")
+                    .origin("other-node")
+                    .build();
+
+            // when
+            ipBlacklistService.applyRemoteEvent(blocked);
+            boolean blockedResult = ipBlacklistService.isBlocked("203.0.113.7");
+            ipBlacklistService.applyRemoteEvent(unblocked);
+
+            // then
+            assertThat(blockedResult).isTrue();
+            assertThat(ipBlacklistService.isBlocked("203.0.113.7")).isFalse();
+            then(ipBlacklistEventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
     @Nested
     @DisplayName("CIDR 매칭")
     class CidrMatching {
@@ -347,5 +490,68 @@ class IpBlacklistServiceTest {
             assertThat(ipBlacklistService.isBlocked("192.168.1.100")).isTrue();
             assertThat(ipBlacklistService.isBlocked("192.168.1.101")).isFalse();
         }
+
+        @Test
+        @DisplayName("성공 - IPv6 CIDR 범위 내 IP를 차단한다")
+        void ipv6CidrMatching(@TempDir Path tempDir) throws IOException {
+            // given
+            Path blacklistFile = tempDir.resolve("blacklist.txt");
+            Files.write(blacklistFile, List.of("2001:db8::/32", "2400:cb00:0:0:0:0:0:1"));
+
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            given(ipBlacklistConfig.getFilePath()).willReturn(blacklistFile.toString());
+
+            ipBlacklistService.init();
+
+            // when & then
+            assertThat(ipBlacklistService.isBlocked("2001:db8::1")).isTrue();
+            assertThat(ipBlacklistService.isBlocked("2001:DB8:FFFF:0:0:0:0:1")).isTrue();
+            assertThat(ipBlacklistService.isBlocked("2400:cb00::1")).isTrue();
+            assertThat(ipBlacklistService.isBlocked("2001:db9::1")).isFalse();
+            assertThat(ipBlacklistService.isBlocked("192.168.1.1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 대량의 CIDR 목록에서도 범위를 정확히 찾는다")
+        void largeCidrList(@TempDir Path tempDir) throws IOException {
+            // given
+            List<String> ranges = new ArrayList<>();
+            for (int i = 0; i < 256; i++) {
+                for (int j = 0; j < 100; j++) {
+                    ranges.add("10." + i + "." + j + ".0/24");
+                }
+            }
+            Path blacklistFile = tempDir.resolve("blacklist.txt");
+            Files.write(blacklistFile, ranges);
+
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            given(ipBlacklistConfig.getFilePath()).willReturn(blacklistFile.toString());
+
+            ipBlacklistService.init();
+
+            // when & then
+            assertThat(ipBlacklistService.isBlocked("10.0.0.1")).isTrue();
+            assertThat(ipBlacklistService.isBlocked("10.255.99.254")).isTrue();
+            assertThat(ipBlacklistService.isBlocked("10.255.100.1")).isFalse();
+            assertThat(ipBlacklistService.isBlocked("11.0.0.1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 잘못된 항목은 무시하고 나머지 항목은 적용한다")
+        void invalidEntryIgnored(@TempDir Path tempDir) throws IOException {
+            // given
+            Path blacklistFile = tempDir.resolve("blacklist.txt");
+            Files.write(blacklistFile, List.of("192.168.1.0/abc", "10.0.0.0/33", "172.16.0.0/12"));
+
+            given(ipBlacklistConfig.isEnabled()).willReturn(true);
+            given(ipBlacklistConfig.getFilePath()).willReturn(blacklistFile.toString());
+
+            ipBlacklistService.init();
+
+            // when & then
+            assertThat(ipBlacklistService.isBlocked("192.168.1.1")).isFalse();
+            assertThat(ipBlacklistService.isBlocked("10.0.0.1")).isFalse();
+            assertThat(ipBlacklistService.isBlocked("172.31.255.255")).isTrue();
+        }
     }
 }
@@ -0,0 +1,192 @@
+package com.porest.hr.service;
+
+import com.porest.hr.common.config.properties.JobLeaseProperties;
+import com.porest.hr.common.lease.JdbcLeaseStore;
+import com.porest.hr.common.lease.JobLeaseManager;
+import com.porest.hr.common.lease.RedisLeaseStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("배치 작업 리스 테스트")
+class JobLeaseManagerTest {
+    @Mock
+    private RedisLeaseStore redisLeaseStore;
+
+    @Mock
+    private JdbcLeaseStore jdbcLeaseStore;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ScheduledFuture<?> renewal;
+
+    private JobLeaseProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private JobLeaseManager jobLeaseManager;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobLeaseProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        jobLeaseManager = new JobLeaseManager(properties, redisLeaseStore, jdbcLeaseStore, taskScheduler, meterRegistry);
+        runs = new AtomicInteger();
+        lenient().when(redisLeaseStore.type()).thenReturn("redis");
+        lenient().when(jdbcLeaseStore.type()).thenReturn("jdbc");
+        lenient().when(taskScheduler.scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class)))
+                .thenAnswer(invocation -> renewal);
+    }
+
+    private double count(String name, String store, String result) {
+        return meterRegistry.counter(name, "job", "JOB", "store", store, "result", result).count();
+    }
+
+    @Nested
+    @DisplayName("리스 획득")
+    class RunExclusively {
+        @Test
+        @DisplayName("성공 - Redis 리스를 잡으면 실행하고, 연장을 멈춘 뒤 반환한다")
+        void runWithRedisLease() {
+            // given
+            given(redisLeaseStore.tryAcquire(eq("JOB"), any(), eq(Duration.ofMillis(properties.getTtl())))).willReturn(true);
+
+            // when
+            boolean executed = jobLeaseManager.runExclusively("JOB", runs::incrementAndGet);
+
+            // then
+            assertThat(executed).isTrue();
+            assertThat(runs.get()).isEqualTo(1);
+            then(taskScheduler).should().scheduleAtFixedRate(any(Runnable.class), any(Instant.class),
+                    eq(Duration.ofMillis(properties.getRenewInterval())));
+            then(renewal).should().cancel(false);
+            then(redisLeaseStore).should().release(eq("JOB"), any());
+            then(jdbcLeaseStore).shouldHaveNoInteractions();
+            assertThat(count("scheduler.lease.acquisitions", "redis", "acquired")).isEqualTo(1);
+            assertThat(meterRegistry.timer("scheduler.lease.acquire", "job", "JOB").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드가 잡고 있으면 실행하지 않는다")
+        void skipWhenHeld() {
+            // given
+            given(redisLeaseStore.tryAcquire(eq("JOB"), any(), any())).willReturn(false);
+
+            // when
+            boolean executed = jobLeaseManager.runExclusively("JOB", runs::incrementAndGet);
+
+            // then
+            assertThat(executed).isFalse();
+            assertThat(runs.get()).isZero();
+            then(taskScheduler).shouldHaveNoInteractions();
+            then(redisLeaseStore).should(never()).release(any(), any());
+            assertThat(count("scheduler.lease.acquisitions", "redis", "held")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 오류 시 JDBC 리스로 대신 잡는다")
+        void fallbackToJdbc() {
+            // given
+            given(redisLeaseStore.tryAcquire(eq("JOB"), any(), any())).willThrow(new RedisConnectionFailureException("down"));
+            given(jdbcLeaseStore.tryAcquire(eq("JOB"), any(), any())).willReturn(true);
+
+            // when
+            boolean executed = jobLeaseManager.runExclusively("JOB", runs::incrementAndGet);
+
+            // then
+            assertThat(executed).isTrue();
+            then(jdbcLeaseStore).should().release(eq("JOB"), any());
+            assertThat(count("scheduler.lease.acquisitions", "redis", "error")).isEqualTo(1);
+            assertThat(count("scheduler.lease.acquisitions", "jdbc", "acquired")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 저장소를 JDBC 로 설정하면 Redis 를 쓰지 않는다")
+        void jdbcStore() {
+            // given
+            properties.setStore(JobLeaseProperties.Store.JDBC);
+            given(jdbcLeaseStore.tryAcquire(eq("JOB"), any(), any())).willReturn(true);
+
+            // when
+            jobLeaseManager.runExclusively("JOB", runs::incrementAndGet);
+
+            // then
+            assertThat(runs.get()).isEqualTo(1);
+            then(redisLeaseStore).should(never()).tryAcquire(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 리스를 쓰지 않으면 바로 실행한다")
+        void disabled() {
+            // given
+            properties.setEnabled(false);
+
+            // when
+            boolean executed = jobLeaseManager.runExclusively("JOB", runs::incrementAndGet);
+
+            // then
+            assertThat(executed).isTrue();
+            assertThat(runs.get()).isEqualTo(1);
+            assertThat(jobLeaseManager.getLeaseTtl()).isEqualTo(Duration.ZERO);
+            then(redisLeaseStore).should(never()).tryAcquire(any(), any(), any());
+            then(jdbcLeaseStore).should(never()).tryAcquire(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 작업이 실패해도 리스를 반환하고 예외를 그대로 던진다")
+        void releaseOnFailure() {
+            // given
+            given(redisLeaseStore.tryAcquire(eq("JOB"), any(), any())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> jobLeaseManager.runExclusively("JOB", () -> {
+                throw new IllegalStateException("fail");
+            })).isInstanceOf(IllegalStateException.class);
+            then(renewal).should().cancel(false);
+            then(redisLeaseStore).should().release(eq("JOB"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("리스 연장")
+    class Renew {
+        @Test
+        @DisplayName("성공 - 실행 중 연장 결과를 지표로 남긴다")
+        void renewRecordsMetrics() {
+            // given
+            given(redisLeaseStore.tryAcquire(eq("JOB"), any(), any())).willReturn(true);
+            given(redisLeaseStore.renew(eq("JOB"), any(), any())).willReturn(true).willReturn(false);
+            ArgumentCaptor<Runnable> renewTask = ArgumentCaptor.forClass(Runnable.class);
+
+            // when
+            jobLeaseManager.runExclusively("JOB", runs::incrementAndGet);
+            then(taskScheduler).should().scheduleAtFixedRate(renewTask.capture(), any(Instant.class), any(Duration.class));
+            renewTask.getValue().run();
+            renewTask.getValue().run();
+
+            // then
+            assertThat(count("scheduler.lease.renewals", "redis", "renewed")).isEqualTo(1);
+            assertThat(count("scheduler.lease.renewals", "redis", "lost")).isEqualTo(1);
+        }
+    }
+}
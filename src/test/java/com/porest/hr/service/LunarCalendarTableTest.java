@@ -0,0 +1,78 @@
+package com.porest.hr.service;
+
+import com.github.usingsky.calendar.KoreanLunarCalendar;
+import com.porest.hr.holiday.service.LunarCalendarTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("음력 변환표 테스트")
+class LunarCalendarTableTest {
+
+    /**
+     * 변환표를 거치지 않고 라이브러리로 직접 변환 (기존 변환 방식)
+     */
+    private LocalDate convertDirectly(int year, int month, int day, boolean leapMonth) {
+        KoreanLunarCalendar calendar = KoreanLunarCalendar.getInstance();
+        if (!calendar.setLunarDate(year, month, day, leapMonth)) {
+            return null;
+        }
+        String solarIsoFormat = calendar.getSolarIsoFormat();
+        if (solarIsoFormat == null || solarIsoFormat.startsWith("0000")) {
+            return null;
+        }
+        return LocalDate.parse(solarIsoFormat);
+    }
+
+    @Test
+    @DisplayName("성공 - 음력 날짜를 양력 날짜로 변환한다")
+    void toSolarSuccess() {
+        // when & then
+        assertThat(LunarCalendarTable.toSolar(2025, 1, 1, false)).isEqualTo(LocalDate.of(2025, 1, 29));
+        assertThat(LunarCalendarTable.toSolar(2026, 1, 1, false)).isEqualTo(LocalDate.of(2026, 2, 17));
+        assertThat(LunarCalendarTable.toSolar(2025, 12, 29, false)).isEqualTo(LocalDate.of(2026, 2, 16));
+    }
+
+    @Test
+    @DisplayName("실패 - 존재하지 않는 음력 날짜나 지원 범위 밖 연도는 null 을 반환한다")
+    void toSolarInvalid() {
+        // when & then
+        assertThat(LunarCalendarTable.toSolar(2025, 1, 31, false)).isNull();
+        assertThat(LunarCalendarTable.toSolar(2025, 13, 1, false)).isNull();
+        assertThat(LunarCalendarTable.toSolar(2025, 1, 0, false)).isNull();
+        assertThat(LunarCalendarTable.toSolar(LunarCalendarTable.MIN_YEAR - 1, 1, 1, false)).isNull();
+        assertThat(LunarCalendarTable.toSolar(LunarCalendarTable.MAX_YEAR + 1, 1, 1, false)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 윤달은 윤달이 있는 해의 해당 월만 변환한다")
+    void toSolarLeapMonth() {
+        // 2020년은 윤4월이 있다
+        for (int day = 1; day <= 29; day++) {
+            assertThat(LunarCalendarTable.toSolar(2020, 4, day, true))
+                    .isEqualTo(convertDirectly(2020, 4, day, true));
+        }
+        assertThat(LunarCalendarTable.toSolar(2020, 4, 1, true))
+                .isNotEqualTo(LunarCalendarTable.toSolar(2020, 4, 1, false));
+        assertThat(LunarCalendarTable.toSolar(2020, 5, 1, true)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 임의의 음력 날짜 변환 결과가 라이브러리 직접 변환과 같다")
+    void toSolarMatchesLibrary() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            int year = LunarCalendarTable.MIN_YEAR + random.nextInt(LunarCalendarTable.MAX_YEAR - LunarCalendarTable.MIN_YEAR + 1);
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(31);
+
+            assertThat(LunarCalendarTable.toSolar(year, month, day, false))
+                    .as("%d-%d-%d", year, month, day)
+                    .isEqualTo(convertDirectly(year, month, day, false));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.porest.hr.service;
+
+import com.porest.hr.common.cache.TwoLevelCacheManager;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import com.porest.hr.company.domain.Company;
+import com.porest.hr.department.domain.Department;
+import com.porest.hr.department.repository.DepartmentRepository;
+import com.porest.hr.department.service.OrgTree;
+import com.porest.hr.department.service.OrgTreeSnapshot;
+import com.porest.hr.department.service.dto.DepartmentServiceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("조직도 테스트")
+class OrgTreeTest {
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    private TwoLevelCacheManager cacheManager;
+    private OrgTree orgTree;
+
+    private Company company;
+    private Department root;
+    private Department dev;
+    private Department backend;
+    private Department sales;
+
+    @BeforeEach
+    void setUp() {
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.getRedis().setEnabled(false);
+        cacheManager = new TwoLevelCacheManager(properties, null, null, new SimpleMeterRegistry());
+        cacheManager.afterPropertiesSet();
+        orgTree = new OrgTree(departmentRepository, cacheManager);
+        orgTree.init();
+
+        // root(1) ─┬─ dev(2) ── backend(3)
+        //          └─ sales(4)
+        company = company("COMPANY001", 1L);
+        root = department(1L, "Root", null, company);
+        dev = department(2L, "Dev", root, company);
+        backend = department(3L, "Backend", dev, company);
+        sales = department(4L, "Sales", root, company);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Company company(String id, Long rowId) {
+        Company company = Company.createCompany(id, "회사", "설명");
+        ReflectionTestUtils.setField(company, "rowId", rowId);
+        return company;
+    }
+
+    private Department department(Long id, String name, Department parent, Company company) {
+        Department department = Department.createDepartment(name, name, parent, null, 1L, "설명", "#FF0000", company);
+        ReflectionTestUtils.setField(department, "rowId", id);
+        return department;
+    }
+
+    private OrgTreeSnapshot snapshot(Department... departments) {
+        return OrgTreeSnapshot.of(List.of(departments));
+    }
+
+    @Nested
+    @DisplayName("하위 부서 여부")
+    class IsDescendant {
+        @Test
+        @DisplayName("성공 - 자식과 손자는 하위 부서이고 자기 자신, 형제, 상위 부서는 아니다")
+        void isDescendantSuccess() {
+            // given
+            OrgTreeSnapshot snapshot = snapshot(backend, sales, root, dev);
+
+            // when & then
+            assertThat(snapshot.isDescendant(1L, 2L)).isTrue();
+            assertThat(snapshot.isDescendant(1L, 3L)).isTrue();
+            assertThat(snapshot.isDescendant(2L, 3L)).isTrue();
+            assertThat(snapshot.isDescendant(2L, 2L)).isFalse();
+            assertThat(snapshot.isDescendant(2L, 4L)).isFalse();
+            assertThat(snapshot.isDescendant(3L, 1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 스냅샷에 없는 부서는 하위 부서가 아니다")
+        void isDescendantUnknown() {
+            // given
+            OrgTreeSnapshot snapshot = snapshot(root, dev);
+
+            // when & then
+            assertThat(snapshot.isDescendant(1L, 999L)).isFalse();
+            assertThat(snapshot.isDescendant(999L, 1L)).isFalse();
+            assertThat(snapshot.isDescendant(null, 1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 순환 데이터에서도 끝나고 삭제된 부서 아래 부서는 부모가 없는 것으로 본다")
+        void isDescendantCycleAndOrphan() {
+            // given
+            Department a = department(10L, "A", null, company);
+            Department b = department(11L, "B", a, company);
+            ReflectionTestUtils.setField(a, "parent", b);
+            Department orphan = department(12L, "Orphan", department(99L, "Deleted", null, company), company);
+
+            // when
+            OrgTreeSnapshot snapshot = snapshot(a, b, orphan);
+
+            // then
+            assertThat(snapshot.size()).isEqualTo(3);
+            assertThat(snapshot.isDescendant(10L, 11L)).isTrue();
+            assertThat(snapshot.isDescendant(11L, 10L)).isFalse();
+            assertThat(snapshot.toTreeDto(10L).getChildren()).extracting(DepartmentServiceDto::getId).containsExactly(11L);
+            assertThat(snapshot.toTreeDto(12L).getChildren()).isEmpty();
+            assertThat(snapshot.getCompanyTrees("COMPANY001")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("트리 변환")
+    class ToTree {
+        @Test
+        @DisplayName("성공 - 부서와 하위 부서를 부서 ID 순으로 변환한다")
+        void toTreeDtoSuccess() {
+            // given
+            OrgTreeSnapshot snapshot = snapshot(sales, backend, dev, root);
+
+            // when
+            DepartmentServiceDto result = snapshot.toTreeDto(1L);
+
+            // then
+            assertThat(result.getCompanyId()).isEqualTo("COMPANY001");
+            assertThat(result.getChildren()).extracting(DepartmentServiceDto::getId).containsExactly(2L, 4L);
+            assertThat(result.getChildren().get(0).getChildren()).extracting(DepartmentServiceDto::getId).containsExactly(3L);
+            assertThat(result.getChildren().get(0).getParentId()).isEqualTo(1L);
+            assertThat(snapshot.toTreeDto(999L)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 회사별 최상위 부서 트리만 반환한다")
+        void getCompanyTreesSuccess() {
+            // given
+            Company other = company("COMPANY002", 2L);
+            Department otherRoot = department(5L, "Other", null, other);
+            OrgTreeSnapshot snapshot = snapshot(root, dev, backend, sales, otherRoot);
+
+            // when
+            List<DepartmentServiceDto> result = snapshot.getCompanyTrees("COMPANY001");
+
+            // then
+            assertThat(result).extracting(DepartmentServiceDto::getId).containsExactly(1L);
+            assertThat(snapshot.getCompanyTrees("COMPANY002")).extracting(DepartmentServiceDto::getId).containsExactly(5L);
+            assertThat(snapshot.getCompanyTrees("NONE")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 캐시")
+    class Snapshot {
+        @Test
+        @DisplayName("성공 - 무효화 전까지는 만든 스냅샷을 재사용한다")
+        void snapshotReuse() {
+            // given
+            given(departmentRepository.findAllActiveDepartments()).willReturn(List.of(root, dev));
+
+            // when
+            OrgTreeSnapshot first = orgTree.snapshot();
+            OrgTreeSnapshot second = orgTree.snapshot();
+
+            // then
+            assertThat(second).isSameAs(first);
+            then(departmentRepository).should(times(1)).findAllActiveDepartments();
+        }
+
+        @Test
+        @DisplayName("성공 - 트랜잭션 안에서 무효화하면 커밋 이후에 다시 만든다")
+        void snapshotInvalidateAfterCommit() {
+            // given
+            given(departmentRepository.findAllActiveDepartments())
+                    .willReturn(List.of(root, dev))
+                    .willReturn(List.of(root, dev, backend));
+            OrgTreeSnapshot first = orgTree.snapshot();
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            orgTree.invalidate();
+            OrgTreeSnapshot beforeCommit = orgTree.snapshot();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            OrgTreeSnapshot afterCommit = orgTree.snapshot();
+
+            // then
+            assertThat(beforeCommit).isSameAs(first);
+            assertThat(afterCommit.contains(3L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드의 무효화 메시지를 받으면 다시 만든다")
+        void remoteInvalidationRebuilds() {
+            // given
+            given(departmentRepository.findAllActiveDepartments())
+                    .willReturn(List.of(root, dev))
+                    .willReturn(List.of(root, dev, backend));
+            orgTree.snapshot();
+
+            // when
+            cacheManager.handleInvalidation("{\"origin\":\"other-node\",\"cacheName\":\"org-tree\",\"key\":\"snapshot\"}");
+            OrgTreeSnapshot result = orgTree.snapshot();
+
+            // then
+            assertThat(result.contains(3L)).isTrue();
+            then(departmentRepository).should(times(2)).findAllActiveDepartments();
+        }
+
+        @Test
+        @DisplayName("성공 - 직접 만든 스냅샷은 캐시된 스냅샷을 교체하지 않는다")
+        void loadNotPublished() {
+            // given
+            given(departmentRepository.findAllActiveDepartments())
+                    .willReturn(List.of(root, dev))
+                    .willReturn(List.of(root, dev, backend));
+            OrgTreeSnapshot shared = orgTree.snapshot();
+
+            // when
+            OrgTreeSnapshot loaded = orgTree.load();
+
+            // then
+            assertThat(loaded.contains(3L)).isTrue();
+            assertThat(orgTree.snapshot()).isSameAs(shared);
+        }
+    }
+}
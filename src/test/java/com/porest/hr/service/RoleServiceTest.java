@@ -9,6 +9,7 @@ import com.porest.hr.permission.repository.RoleRepository;
 import com.porest.hr.permission.service.RoleServiceImpl;
 import com.porest.hr.permission.type.ActionType;
 import com.porest.hr.permission.type.ResourceType;
+import com.porest.hr.security.service.UserAuthorityCache;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +40,9 @@ class RoleServiceTest {
     @Mock
     private PermissionRepository permissionRepository;
 
+    @Mock
+    private UserAuthorityCache userAuthorityCache;
+
     @InjectMocks
     private RoleServiceImpl roleService;
 
@@ -332,6 +336,7 @@ class RoleServiceTest {
 
             // then
             assertThat(role.getPermissions()).contains(permission);
+            then(userAuthorityCache).should().evictAll();
         }
 
         @Test
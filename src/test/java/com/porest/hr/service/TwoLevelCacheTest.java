@@ -0,0 +1,235 @@
+package com.porest.hr.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.porest.hr.common.cache.CacheInvalidationMessage;
+import com.porest.hr.common.cache.CacheNames;
+import com.porest.hr.common.cache.TwoLevelCache;
+import com.porest.hr.common.cache.TwoLevelCacheManager;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("2단계 캐시 테스트")
+class TwoLevelCacheTest {
+    private static final String PREFIX = "porest:hr:cache:";
+
+    @Mock
+    private RedisOperations<String, Object> redisOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache(CacheNames.WORK_CODES, Caffeine.newBuilder().build(), redisOperations,
+                PREFIX, Duration.ofMinutes(10), published::add, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+        @Test
+        @DisplayName("성공 - L1, L2 모두 없으면 원본을 읽어 L2 에 저장하고 이후에는 L1 에서 반환한다")
+        void getLoadsOnceAndStoresToL2() {
+            // given
+            given(redisOperations.opsForValue()).willReturn(valueOperations);
+            given(redisOperations.opsForSet()).willReturn(setOperations);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            String first = cache.get("key", () -> "value" + loads.incrementAndGet());
+            String second = cache.get("key", () -> "value" + loads.incrementAndGet());
+
+            // then
+            assertThat(first).isEqualTo("value1");
+            assertThat(second).isEqualTo("value1");
+            assertThat(loads.get()).isEqualTo(1);
+            then(valueOperations).should().set(PREFIX + "work-codes:key", "value1", Duration.ofMinutes(10));
+            then(setOperations).should().add(PREFIX + "work-codes:keys", "key");
+            assertThat(meterRegistry.get("cache.l2.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - L1 에 없고 L2 에 있으면 원본을 읽지 않고 L2 값을 반환한다")
+        void getFallsBackToL2() {
+            // given
+            given(redisOperations.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(PREFIX + "work-codes:key")).willReturn("remote");
+
+            // when
+            String value = cache.get("key", () -> "loaded");
+            Cache.ValueWrapper wrapper = cache.get("key");
+
+            // then
+            assertThat(value).isEqualTo("remote");
+            assertThat(wrapper).isNotNull();
+            assertThat(wrapper.get()).isEqualTo("remote");
+            then(valueOperations).should().get(PREFIX + "work-codes:key");
+            assertThat(meterRegistry.get("cache.l2.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시 미스로 처리하고 원본 값을 반환한다")
+        void getIgnoresRedisFailure() {
+            // given
+            given(redisOperations.opsForValue()).willThrow(new IllegalStateException("connection refused"));
+
+            // when
+            String value = cache.get("key", () -> "loaded");
+
+            // then
+            assertThat(value).isEqualTo("loaded");
+            assertThat(cache.get("key").get()).isEqualTo("loaded");
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Evict {
+        @Test
+        @DisplayName("성공 - evict 는 L1, L2 를 지우고 무효화 메시지를 발행한다")
+        void evictRemovesBothLevelsAndPublishes() {
+            // given
+            given(redisOperations.opsForValue()).willReturn(valueOperations);
+            given(redisOperations.opsForSet()).willReturn(setOperations);
+            cache.put("key", "value");
+
+            // when
+            cache.evict("key");
+
+            // then
+            then(redisOperations).should().delete(PREFIX + "work-codes:key");
+            then(setOperations).should().remove(PREFIX + "work-codes:keys", "key");
+            assertThat(cache.get("key")).isNull();
+            assertThat(published).hasSize(1);
+            assertThat(published.get(0).getCacheName()).isEqualTo("work-codes");
+            assertThat(published.get(0).getKey()).isEqualTo("key");
+        }
+
+        @Test
+        @DisplayName("성공 - clear 는 L2 의 키 목록으로 항목을 지우고 전체 무효화 메시지를 발행한다")
+        void clearRemovesIndexedKeys() {
+            // given
+            given(redisOperations.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(PREFIX + "work-codes:keys")).willReturn(Set.of("a"));
+
+            // when
+            cache.clear();
+
+            // then
+            then(redisOperations).should().delete(List.of(PREFIX + "work-codes:a"));
+            then(redisOperations).should().delete(PREFIX + "work-codes:keys");
+            assertThat(published).hasSize(1);
+            assertThat(published.get(0).getKey()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시에도 L1 은 지운다")
+        void evictIgnoresRedisFailure() {
+            // given
+            given(redisOperations.opsForValue()).willReturn(valueOperations);
+            given(redisOperations.opsForSet()).willReturn(setOperations);
+            cache.put("key", "value");
+            willThrow(new IllegalStateException("connection refused")).given(redisOperations).delete(anyString());
+
+            // when
+            cache.evict("key");
+
+            // then
+            assertThat(cache.get("key")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 매니저")
+    class Manager {
+        private TwoLevelCacheManager cacheManager;
+
+        @BeforeEach
+        void setUp() {
+            TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+            properties.getRedis().setEnabled(false);
+            cacheManager = new TwoLevelCacheManager(properties, null, null, new SimpleMeterRegistry());
+            cacheManager.afterPropertiesSet();
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드의 무효화 메시지를 받으면 L1 에서 해당 키를 지운다")
+        void handleInvalidationEvictsLocal() {
+            // given
+            Cache workCodes = cacheManager.getCache(CacheNames.WORK_CODES);
+            workCodes.put("a", "1");
+            workCodes.put("b", "2");
+
+            // when
+            cacheManager.handleInvalidation("{\"origin\":\"other-node\",\"cacheName\":\"work-codes\",\"key\":\"a\"}");
+
+            // then
+            assertThat(workCodes.get("a")).isNull();
+            assertThat(workCodes.get("b").get()).isEqualTo("2");
+        }
+
+        @Test
+        @DisplayName("성공 - 자기 자신이 발행한 무효화 메시지는 무시한다")
+        void handleInvalidationIgnoresOwnMessage() {
+            // given
+            Cache workCodes = cacheManager.getCache(CacheNames.WORK_CODES);
+            workCodes.put("a", "1");
+
+            // when
+            cacheManager.handleInvalidation("{\"origin\":\"" + cacheManager.getNodeId()
+                    + "\",\"cacheName\":\"work-codes\",\"key\":null}");
+
+            // then
+            assertThat(workCodes.get("a").get()).isEqualTo("1");
+        }
+
+        @Test
+        @DisplayName("성공 - 캐시를 끄면 값을 보관하지 않는다")
+        void disabledCacheDoesNotStore() {
+            // given
+            TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+            properties.setEnabled(false);
+            TwoLevelCacheManager disabled = new TwoLevelCacheManager(properties, null, null, new SimpleMeterRegistry());
+            disabled.afterPropertiesSet();
+
+            // when
+            Cache workCodes = disabled.getCache(CacheNames.WORK_CODES);
+            workCodes.put("a", "1");
+
+            // then
+            assertThat(workCodes.get("a")).isNull();
+        }
+    }
+}
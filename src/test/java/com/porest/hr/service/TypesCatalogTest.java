@@ -0,0 +1,68 @@
+package com.porest.hr.service;
+
+import com.porest.hr.common.controller.TypesCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("타입 카탈로그 테스트")
+class TypesCatalogTest {
+    private TypesCatalog typesCatalog;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        messageSource.addMessage("type.grant.method.on_request", Locale.KOREAN, "신청 시 부여");
+        messageSource.addMessage("type.grant.method.on_request", Locale.ENGLISH, "On request");
+
+        typesCatalog = new TypesCatalog(messageSource, JsonMapper.builder().build());
+        typesCatalog.init();
+    }
+
+    @Nested
+    @DisplayName("enum 타입 조회")
+    class GetEnumValues {
+        @Test
+        @DisplayName("성공 - 언어별로 미리 만든 응답을 반환하고 같은 언어의 지역 로케일은 같은 응답을 쓴다")
+        void getEnumValuesReturnsPrecomputedEntry() {
+            // when
+            TypesCatalog.Entry ko = typesCatalog.getEnumValues("grant-method", Locale.KOREAN);
+            TypesCatalog.Entry koKr = typesCatalog.getEnumValues("grant-method", Locale.KOREA);
+            TypesCatalog.Entry en = typesCatalog.getEnumValues("grant-method", Locale.US);
+
+            // then
+            assertThat(koKr).isSameAs(ko);
+            assertThat(new String(ko.body(), StandardCharsets.UTF_8)).contains("ON_REQUEST", "신청 시 부여");
+            assertThat(new String(en.body(), StandardCharsets.UTF_8)).contains("On request");
+            assertThat(ko.eTag()).startsWith("\"").endsWith("\"").isNotEqualTo(en.eTag());
+        }
+
+        @Test
+        @DisplayName("성공 - 지원 언어가 아니면 요청 시 만들고, 같은 내용이면 ETag 가 같다")
+        void getEnumValuesBuildsUnsupportedLocale() {
+            // when
+            TypesCatalog.Entry first = typesCatalog.getEnumValues("grant-method", Locale.JAPANESE);
+            TypesCatalog.Entry second = typesCatalog.getEnumValues("grant-method", Locale.JAPANESE);
+
+            // then
+            assertThat(first).isNotSameAs(second);
+            assertThat(first.eTag()).isEqualTo(second.eTag());
+        }
+
+        @Test
+        @DisplayName("실패 - 지원하지 않는 타입이면 null 을 반환한다")
+        void getEnumValuesUnknownType() {
+            // when & then
+            assertThat(typesCatalog.getEnumValues("unknown-type", Locale.KOREAN)).isNull();
+        }
+    }
+}
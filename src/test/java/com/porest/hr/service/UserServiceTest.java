@@ -31,6 +31,7 @@ import com.porest.hr.department.domain.UserDepartment;
 import com.porest.hr.company.domain.Company;
 import com.porest.hr.permission.domain.Role;
 import com.porest.hr.permission.repository.RoleRepository;
+import com.porest.hr.security.service.UserAuthorityCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -63,6 +64,8 @@ class UserServiceTest {
     private EntityManager em;
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
+    @Mock
+    private UserAuthorityCache userAuthorityCache;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -401,6 +404,22 @@ class UserServiceTest {
             // then
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("성공 - 역할/권한 없이 유저 엔티티 목록을 반환한다")
+        void findAllUsersWithoutRolesSuccess() {
+            // given
+            List<User> users = List.of(createTestUser("user1", "이서준", "user1@test.com"));
+            given(userRepository.findUsers()).willReturn(users);
+
+            // when
+            List<User> result = userService.findAllUsersWithoutRoles();
+
+            // then
+            then(userRepository).should().findUsers();
+            then(userRepository).should(never()).findUsersWithRolesAndPermissions();
+            assertThat(result).hasSize(1);
+        }
     }
 
     @Nested
@@ -425,6 +444,7 @@ class UserServiceTest {
 
             // then
             then(userRepository).should().findById(userId);
+            then(userAuthorityCache).should().evict(userId);
             assertThat(user.getName()).isEqualTo("이하은");
             assertThat(user.getWorkTime()).isEqualTo("10 ~ 19");
         }
@@ -664,6 +684,37 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("유저 존재 확인 (락)")
+    class CheckUserExistForUpdate {
+        @Test
+        @DisplayName("성공 - 락 조회로 존재하는 유저를 반환한다")
+        void checkUserExistForUpdateSuccess() {
+            // given
+            String userId = "user1";
+            User user = createTestUser(userId, "유저", "user1@test.com");
+            given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(user));
+
+            // when
+            User result = userService.checkUserExistForUpdate(userId);
+
+            // then
+            assertThat(result).isEqualTo(user);
+            then(userRepository).should(never()).findById(userId);
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 유저면 예외가 발생한다")
+        void checkUserExistForUpdateFailNotFound() {
+            // given
+            given(userRepository.findByIdForUpdate("nonexistent")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> userService.checkUserExistForUpdate("nonexistent"))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("프로필 URL에서 물리적 파일명 추출")
     class ExtractPhysicalFileNameFromUrl {
@@ -894,7 +945,7 @@ class UserServiceTest {
             ReflectionTestUtils.setField(dept, "rowId", 1L);
 
             given(departmentRepository.findApproversByUserId(userId)).willReturn(List.of(dept));
-            given(userRepository.findByIdWithRolesAndPermissions("head1")).willReturn(Optional.of(approver));
+            given(userRepository.findUsersByIdsWithRolesAndPermissions(List.of("head1"))).willReturn(List.of(approver));
 
             // when
             List<UserServiceDto> result = userService.getUserApprovers(userId);
@@ -905,6 +956,35 @@ class UserServiceTest {
             assertThat(result.get(0).getDepartmentName()).isEqualTo("부서");
         }
 
+        @Test
+        @DisplayName("성공 - 여러 부서의 부서장을 한 번에 조회한다")
+        void getUserApproversBatchLoad() {
+            // given
+            String userId = "user1";
+            User user = createTestUser(userId, "유저", "user1@test.com");
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+
+            User teamHead = createTestUser("head1", "팀장", "head1@test.com");
+            User ceo = createTestUser("head2", "본부장", "head2@test.com");
+
+            Company company = Company.createCompany("회사", "Company", "desc");
+            Department headquarters = Department.createDepartment("본부", "본부KR", null, ceo, 1L, "desc", "#000", company);
+            Department team = Department.createDepartment("팀", "팀KR", headquarters, teamHead, 2L, "desc", "#000", company);
+            ReflectionTestUtils.setField(headquarters, "rowId", 1L);
+            ReflectionTestUtils.setField(team, "rowId", 2L);
+
+            given(departmentRepository.findApproversByUserId(userId)).willReturn(List.of(team, headquarters));
+            given(userRepository.findUsersByIdsWithRolesAndPermissions(List.of("head1", "head2")))
+                    .willReturn(List.of(ceo, teamHead));
+
+            // when
+            List<UserServiceDto> result = userService.getUserApprovers(userId);
+
+            // then
+            assertThat(result).extracting(UserServiceDto::getName).containsExactly("팀장", "본부장");
+            then(userRepository).should(never()).findByIdWithRolesAndPermissions(anyString());
+        }
+
         @Test
         @DisplayName("성공 - 부서장이 없으면 해당 부서는 결과에서 제외된다")
         void getUserApproversWithNullApprover() {
@@ -942,7 +1022,7 @@ class UserServiceTest {
             ReflectionTestUtils.setField(dept, "rowId", 1L);
 
             given(departmentRepository.findApproversByUserId(userId)).willReturn(List.of(dept));
-            given(userRepository.findByIdWithRolesAndPermissions("deleted")).willReturn(Optional.of(deletedApprover));
+            given(userRepository.findUsersByIdsWithRolesAndPermissions(List.of("deleted"))).willReturn(List.of(deletedApprover));
 
             // when
             List<UserServiceDto> result = userService.getUserApprovers(userId);
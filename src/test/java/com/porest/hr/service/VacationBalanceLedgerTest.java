@@ -0,0 +1,232 @@
+package com.porest.hr.service;
+
+import com.porest.core.type.CountryCode;
+import com.porest.core.type.YNType;
+import com.porest.hr.common.time.CompanyClock;
+import com.porest.hr.user.domain.User;
+import com.porest.hr.vacation.domain.VacationGrant;
+import com.porest.hr.vacation.domain.VacationPolicy;
+import com.porest.hr.vacation.repository.UserVacationBalanceRepository;
+import com.porest.hr.vacation.repository.VacationGrantRepository;
+import com.porest.hr.vacation.repository.dto.VacationBalanceSumDto;
+import com.porest.hr.vacation.service.VacationBalanceLedger;
+import com.porest.hr.vacation.type.EffectiveType;
+import com.porest.hr.vacation.type.ExpirationType;
+import com.porest.hr.vacation.type.VacationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("휴가 잔액 원장 테스트")
+class VacationBalanceLedgerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+
+    @Mock
+    private UserVacationBalanceRepository userVacationBalanceRepository;
+
+    @Mock
+    private VacationGrantRepository vacationGrantRepository;
+
+    @Mock
+    private CompanyClock companyClock;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private VacationBalanceLedger vacationBalanceLedger;
+
+    private User user;
+    private VacationPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        user = User.createUser(
+                null, "user1", "테스트유저", "user1@test.com",
+                LocalDate.of(1990, 1, 1), "NONE", "9 ~ 18",
+                LocalDate.now(), YNType.N, null, null, CountryCode.KR
+        );
+        ReflectionTestUtils.setField(user, "rowId", 1L);
+        policy = VacationPolicy.createManualGrantPolicy(
+                "연차", "연차 정책", VacationType.ANNUAL, new BigDecimal("8.0"),
+                YNType.N, YNType.N, EffectiveType.IMMEDIATELY, ExpirationType.END_OF_YEAR
+        );
+        lenient().when(companyClock.now()).thenReturn(NOW);
+        lenient().when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+    }
+
+    private VacationGrant createGrant(String grantTime) {
+        return VacationGrant.createVacationGrant(
+                user, policy, "연차", VacationType.ANNUAL, new BigDecimal(grantTime), START, END);
+    }
+
+    private VacationBalanceSumDto createSum(Long userRowId, String grantTime, String remainTime) {
+        return new VacationBalanceSumDto(userRowId, VacationType.ANNUAL, START, END,
+                new BigDecimal(grantTime), new BigDecimal(remainTime));
+    }
+
+    @Nested
+    @DisplayName("부여/회수/잔여 시간 증감")
+    class Apply {
+        @Test
+        @DisplayName("성공 - 같은 사용자/휴가 타입/유효기간의 부여 휴가는 한 번에 증감한다")
+        void grantAllGroupsByKey() {
+            // given
+            VacationGrant first = createGrant("8.0");
+            VacationGrant second = createGrant("4.0");
+
+            // when
+            vacationBalanceLedger.grantAll(List.of(first, second));
+
+            // then
+            then(userVacationBalanceRepository).should().addBalance(1L, VacationType.ANNUAL, START, END,
+                    new BigDecimal("12.0"), new BigDecimal("12.0"), NOW, "admin");
+            then(userVacationBalanceRepository).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 회수된 부여 휴가는 반영하지 않는다")
+        void grantAllSkipsRevokedGrant() {
+            // given
+            VacationGrant revoked = createGrant("8.0");
+            revoked.revoke();
+
+            // when
+            vacationBalanceLedger.grantAll(List.of(revoked));
+            vacationBalanceLedger.release(revoked);
+            vacationBalanceLedger.adjustRemain(revoked, new BigDecimal("1.0"));
+
+            // then
+            then(userVacationBalanceRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 회수 직전 부여 휴가의 부여 시간, 잔여 시간만큼 차감한다")
+        void releaseNegatesGrant() {
+            // given
+            VacationGrant grant = createGrant("8.0");
+            grant.deduct(new BigDecimal("2.0"));
+
+            // when
+            vacationBalanceLedger.release(grant);
+
+            // then
+            then(userVacationBalanceRepository).should().addBalance(1L, VacationType.ANNUAL, START, END,
+                    new BigDecimal("-8.0"), new BigDecimal("-6.0"), NOW, "admin");
+        }
+
+        @Test
+        @DisplayName("성공 - 잔여 시간 증감은 부여 시간을 바꾸지 않고, 증감이 0이면 호출하지 않는다")
+        void adjustRemainOnlyChangesRemain() {
+            // given
+            VacationGrant grant = createGrant("8.0");
+
+            // when
+            vacationBalanceLedger.adjustRemain(grant, new BigDecimal("-1.0"));
+            vacationBalanceLedger.adjustRemain(grant, BigDecimal.ZERO);
+
+            // then
+            then(userVacationBalanceRepository).should().addBalance(1L, VacationType.ANNUAL, START, END,
+                    BigDecimal.ZERO, new BigDecimal("-1.0"), NOW, "admin");
+            then(userVacationBalanceRepository).shouldHaveNoMoreInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("원장 대사")
+    class Reconcile {
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        void setUp() {
+            given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                    ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        }
+
+        @Test
+        @DisplayName("성공 - 원본 합계와 다른 원장 행은 차이만큼 증감하고 빈 행을 지운다")
+        void reconcileRepairsByDelta() {
+            // given
+            given(userVacationBalanceRepository.findUserRowIdsAfter(null, 500)).willReturn(List.of(1L, 2L));
+            given(vacationGrantRepository.findUsableUserRowIdsAfter(null, 500)).willReturn(List.of(1L, 3L));
+            given(vacationGrantRepository.sumUsableGrantsByUserRowIds(List.of(1L, 2L, 3L))).willReturn(List.of(
+                    createSum(1L, "8.0", "6.0"),
+                    createSum(3L, "4.0", "4.0")));
+            given(userVacationBalanceRepository.findSumsByUserRowIds(List.of(1L, 2L, 3L))).willReturn(List.of(
+                    createSum(1L, "8.0", "7.0"),
+                    createSum(2L, "4.0", "4.0")));
+
+            // when
+            int mismatchCount = vacationBalanceLedger.reconcile(true);
+
+            // then
+            assertThat(mismatchCount).isEqualTo(3);
+            then(userVacationBalanceRepository).should().addBalance(1L, VacationType.ANNUAL, START, END,
+                    new BigDecimal("0.0"), new BigDecimal("-1.0"), NOW, "admin");
+            then(userVacationBalanceRepository).should().addBalance(2L, VacationType.ANNUAL, START, END,
+                    new BigDecimal("-4.0"), new BigDecimal("-4.0"), NOW, "admin");
+            then(userVacationBalanceRepository).should().addBalance(3L, VacationType.ANNUAL, START, END,
+                    new BigDecimal("4.0"), new BigDecimal("4.0"), NOW, "admin");
+            then(userVacationBalanceRepository).should().deleteEmptyByUserRowIds(List.of(1L, 2L, 3L));
+        }
+
+        @Test
+        @DisplayName("성공 - 검증만 할 때는 불일치 건수만 세고 원장을 바꾸지 않는다")
+        void reconcileVerifyOnly() {
+            // given
+            given(userVacationBalanceRepository.findUserRowIdsAfter(null, 500)).willReturn(List.of(1L));
+            given(vacationGrantRepository.findUsableUserRowIdsAfter(null, 500)).willReturn(List.of(1L));
+            given(vacationGrantRepository.sumUsableGrantsByUserRowIds(List.of(1L)))
+                    .willReturn(List.of(createSum(1L, "8.0", "6.0")));
+            given(userVacationBalanceRepository.findSumsByUserRowIds(List.of(1L)))
+                    .willReturn(List.of(createSum(1L, "8.0", "7.0")));
+
+            // when
+            int mismatchCount = vacationBalanceLedger.reconcile(false);
+
+            // then
+            assertThat(mismatchCount).isEqualTo(1);
+            then(userVacationBalanceRepository).should(never()).addBalance(any(), any(), any(), any(), any(), any(), any(), any());
+            then(userVacationBalanceRepository).should(never()).deleteEmptyByUserRowIds(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 대상 사용자가 없으면 바로 끝난다")
+        void reconcileEmpty() {
+            // given
+            given(userVacationBalanceRepository.findUserRowIdsAfter(null, 500)).willReturn(List.of());
+            given(vacationGrantRepository.findUsableUserRowIdsAfter(null, 500)).willReturn(List.of());
+
+            // when
+            int mismatchCount = vacationBalanceLedger.reconcile(true);
+
+            // then
+            assertThat(mismatchCount).isZero();
+            then(vacationGrantRepository).should(never()).sumUsableGrantsByUserRowIds(any());
+        }
+    }
+}
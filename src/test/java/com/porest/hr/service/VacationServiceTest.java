@@ -3,10 +3,12 @@ package com.porest.hr.service;
 import com.porest.hr.common.time.CompanyClock;
 import com.porest.core.exception.BusinessRuleViolationException;
 import com.porest.core.exception.EntityNotFoundException;
+import com.porest.core.exception.InvalidValueException;
 import com.porest.core.type.CountryCode;
 import com.porest.core.type.YNType;
 import com.porest.hr.department.repository.DepartmentRepository;
-import com.porest.hr.holiday.repository.HolidayRepository;
+import com.porest.hr.holiday.service.WorkingCalendar;
+import com.porest.hr.vacation.domain.UserVacationBalance;
 import com.porest.hr.vacation.domain.UserVacationPlan;
 import com.porest.hr.vacation.domain.VacationGrant;
 import com.porest.hr.vacation.domain.VacationPlan;
@@ -14,12 +16,14 @@ import com.porest.hr.vacation.domain.VacationPlanPolicy;
 import com.porest.hr.vacation.domain.VacationPolicy;
 import com.porest.hr.vacation.domain.VacationUsage;
 import com.porest.hr.vacation.domain.VacationUsageDeduction;
+import com.porest.hr.vacation.repository.UserVacationBalanceRepository;
 import com.porest.hr.vacation.repository.UserVacationPlanRepository;
 import com.porest.hr.vacation.repository.VacationApprovalRepository;
 import com.porest.hr.vacation.repository.VacationGrantRepository;
 import com.porest.hr.vacation.repository.VacationPolicyRepository;
 import com.porest.hr.vacation.repository.VacationUsageDeductionRepository;
 import com.porest.hr.vacation.repository.VacationUsageRepository;
+import com.porest.hr.vacation.repository.dto.VacationTimeSumDto;
 import com.porest.hr.vacation.type.EffectiveType;
 import com.porest.hr.vacation.type.ExpirationType;
 import com.porest.hr.vacation.type.GrantMethod;
@@ -28,6 +32,7 @@ import com.porest.hr.vacation.type.VacationTimeType;
 import com.porest.hr.vacation.type.VacationType;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.service.UserService;
+import com.porest.hr.vacation.service.VacationBalanceLedger;
 import com.porest.hr.vacation.service.VacationService;
 import com.porest.hr.vacation.service.VacationServiceImpl;
 import com.porest.hr.vacation.service.VacationTimeFormatter;
@@ -46,6 +51,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Spy;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
@@ -53,6 +59,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -72,7 +79,7 @@ class VacationServiceTest {
     private UserVacationPlanRepository userVacationPlanRepository;
 
     @Mock
-    private HolidayRepository holidayRepository;
+    private WorkingCalendar workingCalendar;
 
     @Mock
     private UserService userService;
@@ -101,6 +108,12 @@ class VacationServiceTest {
     @Mock
     private VacationTimeFormatter vacationTimeFormatter;
 
+    @Mock
+    private UserVacationBalanceRepository userVacationBalanceRepository;
+
+    @Mock
+    private VacationBalanceLedger vacationBalanceLedger;
+
     // 날짜 판정용 — @InjectMocks 가 null 을 넣으면 NPE. 실물을 주입하되 회사 조회는 비어
     // 서비스 기준(Asia/Seoul)으로 폴백한다(기존 테스트가 기대하던 KST 동작 유지).
     @Spy
@@ -163,7 +176,7 @@ class VacationServiceTest {
     @DisplayName("모든 유저 휴가 내역 조회")
     class GetAllUsersVacationHistory {
         @Test
-        @DisplayName("성공 - 모든 유저의 휴가 내역을 반환한다")
+        @DisplayName("성공 - 커서 이후 유저들의 휴가 내역을 유저 ID 순으로 반환한다")
         void getAllUsersVacationHistorySuccess() {
             // given
             User user1 = createTestUser("user1");
@@ -172,28 +185,72 @@ class VacationServiceTest {
             VacationGrant grant1 = createTestGrant(user1);
             VacationGrant grant2 = createTestGrant(user2);
 
-            given(vacationGrantRepository.findAllWithUser()).willReturn(List.of(grant1, grant2));
-            given(vacationUsageRepository.findAllWithUser()).willReturn(List.of());
+            given(vacationGrantRepository.findUserIdsWithHistoryAfter(isNull(), any(), any(), eq(3)))
+                    .willReturn(List.of("user1", "user2"));
+            given(vacationGrantRepository.streamByUserIdsAndPeriod(eq(List.of("user1", "user2")), any(), any()))
+                    .willReturn(Stream.of(grant1, grant2));
+            given(vacationUsageRepository.streamByUserIdsAndPeriod(eq(List.of("user1", "user2")), any(), any()))
+                    .willReturn(Stream.empty());
 
             // when
-            List<VacationServiceDto> result = vacationService.getAllUsersVacationHistory();
+            Slice<VacationServiceDto> result = vacationService.getAllUsersVacationHistory(2025, null, 2);
 
             // then
-            assertThat(result).hasSize(2);
+            assertThat(result.getContent()).extracting(VacationServiceDto::getUserId)
+                    .containsExactly("user1", "user2");
+            assertThat(result.getContent().get(0).getGrants()).containsExactly(grant1);
+            assertThat(result.getContent().get(0).getUsages()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - size 보다 많은 유저가 있으면 size 명만 반환하고 다음 페이지가 있음을 알린다")
+        void getAllUsersVacationHistoryHasNext() {
+            // given
+            User user2 = createTestUser("user2");
+            VacationGrant grant2 = createTestGrant(user2);
+
+            given(vacationGrantRepository.findUserIdsWithHistoryAfter(eq("user1"), any(), any(), eq(2)))
+                    .willReturn(List.of("user2", "user3"));
+            given(vacationGrantRepository.streamByUserIdsAndPeriod(eq(List.of("user2")), any(), any()))
+                    .willReturn(Stream.of(grant2));
+            given(vacationUsageRepository.streamByUserIdsAndPeriod(eq(List.of("user2")), any(), any()))
+                    .willReturn(Stream.empty());
+
+            // when
+            Slice<VacationServiceDto> result = vacationService.getAllUsersVacationHistory(2025, "user1", 1);
+
+            // then
+            assertThat(result.getContent()).extracting(VacationServiceDto::getUserId).containsExactly("user2");
+            assertThat(result.hasNext()).isTrue();
         }
 
         @Test
-        @DisplayName("성공 - 내역이 없으면 빈 리스트를 반환한다")
+        @DisplayName("성공 - 내역이 없으면 빈 페이지를 반환한다")
         void getAllUsersVacationHistoryEmpty() {
             // given
-            given(vacationGrantRepository.findAllWithUser()).willReturn(List.of());
-            given(vacationUsageRepository.findAllWithUser()).willReturn(List.of());
+            given(vacationGrantRepository.findUserIdsWithHistoryAfter(isNull(), any(), any(), anyInt()))
+                    .willReturn(List.of());
+            given(vacationGrantRepository.streamByUserIdsAndPeriod(eq(List.of()), any(), any()))
+                    .willReturn(Stream.empty());
+            given(vacationUsageRepository.streamByUserIdsAndPeriod(eq(List.of()), any(), any()))
+                    .willReturn(Stream.empty());
 
             // when
-            List<VacationServiceDto> result = vacationService.getAllUsersVacationHistory();
+            Slice<VacationServiceDto> result = vacationService.getAllUsersVacationHistory(2025, null, 100);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 - 페이지 크기가 허용 범위를 벗어나면 예외가 발생한다")
+        void getAllUsersVacationHistoryInvalidSize() {
+            // when & then
+            assertThatThrownBy(() -> vacationService.getAllUsersVacationHistory(2025, null, 501))
+                    .isInstanceOf(InvalidValueException.class);
+            then(vacationGrantRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -201,19 +258,19 @@ class VacationServiceTest {
     @DisplayName("사용 가능한 휴가 조회")
     class GetAvailableVacations {
         @Test
-        @DisplayName("성공 - 시작일 기준 사용 가능한 휴가를 VacationType별로 그룹화하여 반환한다")
+        @DisplayName("성공 - 시작일을 포함하는 유효기간별 잔액 원장 행을 VacationType별로 합산하여 반환한다")
         void getAvailableVacationsSuccess() {
             // given
             String userId = "user1";
             LocalDateTime startDate = LocalDateTime.of(2025, 6, 1, 0, 0);
             User user = createTestUser(userId);
 
-            VacationGrant grant1 = createTestGrant(user, VacationType.ANNUAL, new BigDecimal("10.0000"));
-            VacationGrant grant2 = createTestGrant(user, VacationType.ANNUAL, new BigDecimal("5.0000"));
+            UserVacationBalance balance1 = createTestBalance(VacationType.ANNUAL, new BigDecimal("10.0000"));
+            UserVacationBalance balance2 = createTestBalance(VacationType.ANNUAL, new BigDecimal("5.0000"));
 
             given(userService.checkUserExist(userId)).willReturn(user);
-            given(vacationGrantRepository.findAvailableGrantsByUserIdAndDate(userId, startDate))
-                    .willReturn(List.of(grant1, grant2));
+            given(userVacationBalanceRepository.findByUserIdAndDate(userId, startDate))
+                    .willReturn(List.of(balance1, balance2));
 
             // when
             List<VacationServiceDto> result = vacationService.getAvailableVacations(userId, startDate);
@@ -233,7 +290,7 @@ class VacationServiceTest {
             User user = createTestUser(userId);
 
             given(userService.checkUserExist(userId)).willReturn(user);
-            given(vacationGrantRepository.findAvailableGrantsByUserIdAndDate(userId, startDate))
+            given(userVacationBalanceRepository.findByUserIdAndDate(userId, startDate))
                     .willReturn(List.of());
 
             // when
@@ -263,7 +320,7 @@ class VacationServiceTest {
             VacationUsageDeduction deduction = VacationUsageDeduction.createVacationUsageDeduction(
                     usage, grant, new BigDecimal("1.0000"));
 
-            given(vacationUsageRepository.findById(usageId)).willReturn(Optional.of(usage));
+            given(vacationUsageRepository.findByIdForUpdate(usageId)).willReturn(Optional.of(usage));
             given(vacationUsageDeductionRepository.findByUsageId(usageId)).willReturn(List.of(deduction));
 
             // when
@@ -271,8 +328,10 @@ class VacationServiceTest {
 
             // then
             assertThat(usage.getIsDeleted()).isEqualTo(YNType.Y);
-            then(vacationUsageRepository).should().findById(usageId);
+            then(vacationUsageRepository).should().findByIdForUpdate(usageId);
+            then(userService).should().checkUserExistForUpdate("user1");
             then(vacationUsageDeductionRepository).should().findByUsageId(usageId);
+            then(vacationBalanceLedger).should().adjustRemain(grant, new BigDecimal("1.0000"));
         }
 
         @Test
@@ -280,7 +339,7 @@ class VacationServiceTest {
         void cancelVacationUsageFailNotFound() {
             // given
             Long usageId = 999L;
-            given(vacationUsageRepository.findById(usageId)).willReturn(Optional.empty());
+            given(vacationUsageRepository.findByIdForUpdate(usageId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> vacationService.cancelVacationUsage(usageId))
@@ -297,7 +356,7 @@ class VacationServiceTest {
             ReflectionTestUtils.setField(usage, "rowId", usageId);
             usage.deleteVacationUsage();
 
-            given(vacationUsageRepository.findById(usageId)).willReturn(Optional.of(usage));
+            given(vacationUsageRepository.findByIdForUpdate(usageId)).willReturn(Optional.of(usage));
 
             // when & then
             assertThatThrownBy(() -> vacationService.cancelVacationUsage(usageId))
@@ -401,6 +460,33 @@ class VacationServiceTest {
             assertThat(policy.getIsDeleted()).isEqualTo(YNType.Y);
         }
 
+        @Test
+        @DisplayName("성공 - ACTIVE 부여 휴가만 회수하고 잔액 원장에서 제외한다")
+        void deleteVacationPolicyRevokesActiveGrants() {
+            // given
+            Long policyId = 1L;
+            VacationPolicy policy = createTestPolicy();
+            ReflectionTestUtils.setField(policy, "rowId", policyId);
+            User user = createTestUser("user1");
+            VacationGrant active = createTestGrant(user);
+            VacationGrant exhausted = createTestGrant(user);
+            exhausted.deduct(exhausted.getRemainTime());
+
+            given(vacationPolicyRepository.findByRowId(policyId))
+                    .willReturn(Optional.of(policy));
+            given(vacationGrantRepository.findByPolicyId(policyId))
+                    .willReturn(List.of(active, exhausted));
+
+            // when
+            vacationService.deleteVacationPolicy(policyId);
+
+            // then
+            assertThat(active.getStatus()).isEqualTo(GrantStatus.REVOKED);
+            assertThat(exhausted.getStatus()).isEqualTo(GrantStatus.EXHAUSTED);
+            then(vacationBalanceLedger).should().release(active);
+            then(vacationBalanceLedger).should(never()).release(exhausted);
+        }
+
         @Test
         @DisplayName("실패 - 이미 삭제된 정책이면 예외가 발생한다")
         void deleteVacationPolicyFailAlreadyDeleted() {
@@ -505,6 +591,7 @@ class VacationServiceTest {
 
             // then
             assertThat(result.getStatus()).isEqualTo(GrantStatus.REVOKED);
+            then(vacationBalanceLedger).should().release(grant);
         }
 
         @Test
@@ -832,13 +919,11 @@ class VacationServiceTest {
         void getAvailableVacationsSuccess() {
             // given
             String userId = "user1";
-            User user = createTestUser(userId);
-            VacationGrant grant = createTestGrant(user);
-            ReflectionTestUtils.setField(grant, "rowId", 1L);
+            UserVacationBalance balance = createTestBalance(VacationType.ANNUAL, new BigDecimal("15.0000"));
             LocalDateTime startDate = LocalDateTime.now();
 
-            given(vacationGrantRepository.findAvailableGrantsByUserIdAndDate(userId, startDate))
-                    .willReturn(List.of(grant));
+            given(userVacationBalanceRepository.findByUserIdAndDate(userId, startDate))
+                    .willReturn(List.of(balance));
 
             // when
             List<VacationServiceDto> result = vacationService.getAvailableVacations(userId, startDate);
@@ -854,7 +939,7 @@ class VacationServiceTest {
             String userId = "user1";
             LocalDateTime startDate = LocalDateTime.now();
 
-            given(vacationGrantRepository.findAvailableGrantsByUserIdAndDate(userId, startDate))
+            given(userVacationBalanceRepository.findByUserIdAndDate(userId, startDate))
                     .willReturn(List.of());
 
             // when
@@ -1064,6 +1149,7 @@ class VacationServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getGrantTime()).isEqualByComparingTo(new BigDecimal("3.0000"));
             then(vacationGrantRepository).should().save(any(VacationGrant.class));
+            then(vacationBalanceLedger).should().grant(result);
         }
 
         @Test
@@ -1245,7 +1331,7 @@ class VacationServiceTest {
                     .desc("수정된 휴가")
                     .build();
 
-            given(vacationUsageRepository.findById(usageId)).willReturn(Optional.empty());
+            given(vacationUsageRepository.findByIdForUpdate(usageId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> vacationService.updateVacationUsage(usageId, data))
@@ -1271,7 +1357,7 @@ class VacationServiceTest {
                     .desc("수정된 휴가")
                     .build();
 
-            given(vacationUsageRepository.findById(usageId)).willReturn(Optional.of(usage));
+            given(vacationUsageRepository.findByIdForUpdate(usageId)).willReturn(Optional.of(usage));
 
             // when & then
             assertThatThrownBy(() -> vacationService.updateVacationUsage(usageId, data))
@@ -1297,7 +1383,7 @@ class VacationServiceTest {
                     .desc("수정된 휴가")
                     .build();
 
-            given(vacationUsageRepository.findById(usageId)).willReturn(Optional.of(usage));
+            given(vacationUsageRepository.findByIdForUpdate(usageId)).willReturn(Optional.of(usage));
 
             // when & then
             assertThatThrownBy(() -> vacationService.updateVacationUsage(usageId, data))
@@ -1308,6 +1394,35 @@ class VacationServiceTest {
     @Nested
     @DisplayName("전체 유저 휴가 요약 조회")
     class GetAllUsersVacationSummary {
+        @Test
+        @DisplayName("성공 - 유저별 집계 결과로 총/사용/사용 예정/잔여 휴가를 계산하고 집계가 없는 유저는 0으로 반환한다")
+        void getAllUsersVacationSummarySuccess() {
+            // given
+            User user1 = createTestUser("user1");
+            User user2 = createTestUser("user2");
+
+            given(userService.findAllUsersWithoutRoles()).willReturn(List.of(user1, user2));
+            given(userVacationBalanceRepository.sumGrantTimeByValidPeriod(any(), any()))
+                    .willReturn(List.of(new VacationTimeSumDto("user1", new BigDecimal("15.0000"))));
+            given(vacationUsageRepository.sumUsedTimeByPeriod(any(), any()))
+                    .willReturn(List.of(new VacationTimeSumDto("user1", new BigDecimal("3.0000"))));
+            given(vacationGrantRepository.sumGrantTimeByStatusesAndPeriod(
+                    eq(List.of(GrantStatus.PENDING, GrantStatus.PROGRESS)), any(), any()))
+                    .willReturn(List.of(new VacationTimeSumDto("user1", new BigDecimal("2.0000"))));
+
+            // when
+            List<VacationServiceDto> result = vacationService.getAllUsersVacationSummary(2025);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getTotalVacationDays()).isEqualByComparingTo(new BigDecimal("15.0000"));
+            assertThat(result.get(0).getUsedVacationDays()).isEqualByComparingTo(new BigDecimal("3.0000"));
+            assertThat(result.get(0).getScheduledVacationDays()).isEqualByComparingTo(new BigDecimal("2.0000"));
+            assertThat(result.get(0).getRemainingVacationDays()).isEqualByComparingTo(new BigDecimal("10.0000"));
+            assertThat(result.get(1).getTotalVacationDays()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(result.get(1).getRemainingVacationDays()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
         @Test
         @DisplayName("실패 - 년도가 null이면 예외가 발생한다")
         void getAllUsersVacationSummaryFailNullYear() {
@@ -1387,13 +1502,13 @@ class VacationServiceTest {
             );
             ReflectionTestUtils.setField(grant, "rowId", 1L);
 
-            given(userService.checkUserExist(userId)).willReturn(user);
+            given(userService.checkUserExistForUpdate(userId)).willReturn(user);
             // 분단위 검증이 먼저 실행됨
             given(vacationPolicyRepository.findByVacationType(VacationType.ANNUAL))
                     .willReturn(List.of(policyWithMinute));
-            // 분단위 검증 통과 후 공휴일 조회
-            given(holidayRepository.findHolidaysByStartEndDateWithType(any(), any(), any(), any()))
-                    .willReturn(List.of());
+            // 분단위 검증 통과 후 근무일 수 계산
+            given(workingCalendar.countWorkingDays(CountryCode.KR, LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 2)))
+                    .willReturn(1);
             given(vacationGrantRepository.findAvailableGrantsByUserIdAndTypeAndDate(eq(userId), eq(VacationType.ANNUAL), any()))
                     .willReturn(List.of(grant));
             willDoNothing().given(vacationUsageRepository).save(any(VacationUsage.class));
@@ -1405,6 +1520,7 @@ class VacationServiceTest {
             // then
             assertThat(result).isNull(); // 저장 후 ID 반환되지만 mock이므로 null
             then(vacationUsageRepository).should().save(any(VacationUsage.class));
+            then(vacationBalanceLedger).should().adjustRemain(eq(grant), argThat(time -> time.signum() < 0));
         }
 
         @Test
@@ -1434,8 +1550,8 @@ class VacationServiceTest {
             );
             ReflectionTestUtils.setField(policyWithoutMinute, "rowId", 1L);
 
-            given(userService.checkUserExist(userId)).willReturn(user);
-            // 분단위 검증이 먼저 실행되어 실패하므로 holidayRepository는 호출되지 않음
+            given(userService.checkUserExistForUpdate(userId)).willReturn(user);
+            // 분단위 검증이 먼저 실행되어 실패하므로 workingCalendar는 호출되지 않음
             given(vacationPolicyRepository.findByVacationType(VacationType.ANNUAL))
                     .willReturn(List.of(policyWithoutMinute));
 
@@ -1486,13 +1602,13 @@ class VacationServiceTest {
             );
             ReflectionTestUtils.setField(grant, "rowId", 1L);
 
-            given(userService.checkUserExist(userId)).willReturn(user);
+            given(userService.checkUserExistForUpdate(userId)).willReturn(user);
             // 분단위 검증이 먼저 실행됨
             given(vacationPolicyRepository.findByVacationType(VacationType.ANNUAL))
                     .willReturn(List.of(policyWithoutMinute, policyWithMinute));
-            // 분단위 검증 통과 후 공휴일 조회
-            given(holidayRepository.findHolidaysByStartEndDateWithType(any(), any(), any(), any()))
-                    .willReturn(List.of());
+            // 분단위 검증 통과 후 근무일 수 계산
+            given(workingCalendar.countWorkingDays(CountryCode.KR, LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 2)))
+                    .willReturn(1);
             given(vacationGrantRepository.findAvailableGrantsByUserIdAndTypeAndDate(eq(userId), eq(VacationType.ANNUAL), any()))
                     .willReturn(List.of(grant));
             willDoNothing().given(vacationUsageRepository).save(any(VacationUsage.class));
@@ -1539,9 +1655,9 @@ class VacationServiceTest {
             );
             ReflectionTestUtils.setField(grant, "rowId", 1L);
 
-            given(userService.checkUserExist(userId)).willReturn(user);
-            given(holidayRepository.findHolidaysByStartEndDateWithType(any(), any(), any(), any()))
-                    .willReturn(List.of());
+            given(userService.checkUserExistForUpdate(userId)).willReturn(user);
+            given(workingCalendar.countWorkingDays(CountryCode.KR, LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 2)))
+                    .willReturn(1);
             given(vacationGrantRepository.findAvailableGrantsByUserIdAndTypeAndDate(eq(userId), eq(VacationType.ANNUAL), any()))
                     .willReturn(List.of(grant));
             willDoNothing().given(vacationUsageRepository).save(any(VacationUsage.class));
@@ -1574,8 +1690,8 @@ class VacationServiceTest {
                     .desc("30분 휴가")
                     .build();
 
-            given(userService.checkUserExist(userId)).willReturn(user);
-            // 분단위 검증이 먼저 실행되어 실패하므로 holidayRepository는 호출되지 않음
+            given(userService.checkUserExistForUpdate(userId)).willReturn(user);
+            // 분단위 검증이 먼저 실행되어 실패하므로 workingCalendar는 호출되지 않음
             given(vacationPolicyRepository.findByVacationType(VacationType.ANNUAL))
                     .willReturn(List.of());
 
@@ -1609,6 +1725,13 @@ class VacationServiceTest {
         );
     }
 
+    private UserVacationBalance createTestBalance(VacationType type, BigDecimal remainTime) {
+        UserVacationBalance balance = mock(UserVacationBalance.class);
+        given(balance.getType()).willReturn(type);
+        given(balance.getRemainTime()).willReturn(remainTime);
+        return balance;
+    }
+
     private VacationUsage createTestUsage(User user) {
         return VacationUsage.createVacationUsage(
                 user, "연차 사용", VacationTimeType.DAYOFF,
@@ -5,9 +5,7 @@ import com.porest.core.exception.EntityNotFoundException;
 import com.porest.core.exception.InvalidValueException;
 import com.porest.core.type.CountryCode;
 import com.porest.core.type.YNType;
-import com.porest.hr.holiday.domain.Holiday;
-import com.porest.hr.holiday.service.HolidayService;
-import com.porest.hr.holiday.type.HolidayType;
+import com.porest.hr.holiday.service.WorkingCalendar;
 import com.porest.hr.user.domain.User;
 import com.porest.hr.user.repository.UserRepository;
 import com.porest.hr.user.service.UserService;
@@ -45,6 +43,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
@@ -61,7 +60,7 @@ class WorkHistoryServiceTest {
     private UserService userService;
 
     @Mock
-    private HolidayService holidayService;
+    private WorkingCalendar workingCalendar;
 
     @Mock
     private UserRepository userRepository;
@@ -298,10 +297,8 @@ class WorkHistoryServiceTest {
                     .content("업무2")
                     .build();
 
-            given(userService.checkUserExist(userId)).willReturn(user);
-            given(workCodeRepository.findByCode("GROUP")).willReturn(Optional.of(group));
-            given(workCodeRepository.findByCode("PART")).willReturn(Optional.of(part));
-            given(workCodeRepository.findByCode("DIVISION")).willReturn(Optional.of(division));
+            given(userRepository.findUsersByIds(List.of(userId))).willReturn(List.of(user));
+            given(workCodeRepository.findByCodes(List.of("GROUP", "PART", "DIVISION"))).willReturn(List.of(group, part, division));
             willDoNothing().given(workHistoryRepository).saveAll(any());
 
             // when
@@ -309,6 +306,64 @@ class WorkHistoryServiceTest {
 
             // then
             then(workHistoryRepository).should().saveAll(any());
+            then(userService).should(never()).checkUserExist(any());
+            then(workCodeRepository).should(never()).findByCode(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않거나 삭제된 유저가 있으면 저장하지 않고 예외가 발생한다")
+        void createWorkHistoriesFailUserNotFound() {
+            // given
+            WorkHistoryServiceDto dto = WorkHistoryServiceDto.builder()
+                    .date(LocalDate.now())
+                    .userId("deleted")
+                    .groupCode("GROUP")
+                    .partCode("PART")
+                    .classCode("DIVISION")
+                    .hours(new BigDecimal("4.0000"))
+                    .content("업무")
+                    .build();
+
+            given(userRepository.findUsersByIds(List.of("deleted"))).willReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> workHistoryService.createWorkHistories(List.of(dto)))
+                    .isInstanceOf(EntityNotFoundException.class);
+            then(workHistoryRepository).should(never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 업무 코드가 없거나 존재하지 않으면 예외가 발생한다")
+        void createWorkHistoriesFailWorkCode() {
+            // given
+            String userId = "user1";
+            User user = createTestUser(userId);
+            WorkCode group = createTestWorkCode(1L, "GROUP", "그룹", CodeType.LABEL);
+
+            WorkHistoryServiceDto missing = WorkHistoryServiceDto.builder()
+                    .date(LocalDate.now())
+                    .userId(userId)
+                    .groupCode("GROUP")
+                    .partCode("UNKNOWN")
+                    .classCode("GROUP")
+                    .hours(new BigDecimal("4.0000"))
+                    .build();
+            WorkHistoryServiceDto noCode = WorkHistoryServiceDto.builder()
+                    .date(LocalDate.now())
+                    .userId(userId)
+                    .groupCode("GROUP")
+                    .hours(new BigDecimal("4.0000"))
+                    .build();
+
+            given(userRepository.findUsersByIds(List.of(userId))).willReturn(List.of(user));
+            given(workCodeRepository.findByCodes(any())).willReturn(List.of(group));
+
+            // when & then
+            assertThatThrownBy(() -> workHistoryService.createWorkHistories(List.of(missing)))
+                    .isInstanceOf(EntityNotFoundException.class);
+            assertThatThrownBy(() -> workHistoryService.createWorkHistories(List.of(noCode)))
+                    .isInstanceOf(InvalidValueException.class);
+            then(workHistoryRepository).should(never()).saveAll(any());
         }
     }
 
@@ -495,8 +550,8 @@ class WorkHistoryServiceTest {
             LocalDate endDate = LocalDate.of(2025, 1, 31);
 
             given(userService.checkUserExist(userId)).willReturn(user);
-            given(holidayService.searchHolidaysByStartEndDate(startDate, endDate, CountryCode.KR))
-                    .willReturn(List.of());
+            given(workingCalendar.getWorkingDays(CountryCode.KR, startDate, endDate))
+                    .willReturn(List.of(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3)));
             given(workHistoryRepository.findDailyWorkHoursByUserAndPeriod(eq(userId), eq(startDate), eq(endDate)))
                     .willReturn(Map.of());
             given(vacationUsageRepository.findByUserIdAndPeriodForDaily(eq(userId), any(), any()))
@@ -542,11 +597,10 @@ class WorkHistoryServiceTest {
             LocalDate startDate = LocalDate.of(2025, 1, 1);
             LocalDate endDate = LocalDate.of(2025, 1, 31);
 
-            Holiday holiday = Holiday.createHoliday("신정", LocalDate.of(2025, 1, 1), HolidayType.PUBLIC, CountryCode.KR, YNType.N, null, YNType.Y, null);
-
+            // 근무일 달력은 1월 1일(신정)을 제외한 근무일을 반환
             given(userService.checkUserExist(userId)).willReturn(user);
-            given(holidayService.searchHolidaysByStartEndDate(startDate, endDate, CountryCode.KR))
-                    .willReturn(List.of(holiday));
+            given(workingCalendar.getWorkingDays(CountryCode.KR, startDate, endDate))
+                    .willReturn(List.of(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3)));
             given(workHistoryRepository.findDailyWorkHoursByUserAndPeriod(eq(userId), eq(startDate), eq(endDate)))
                     .willReturn(Map.of());
             given(vacationUsageRepository.findByUserIdAndPeriodForDaily(eq(userId), any(), any()))
@@ -557,6 +611,7 @@ class WorkHistoryServiceTest {
 
             // then
             assertThat(result).doesNotContain(LocalDate.of(2025, 1, 1));
+            assertThat(result).containsExactly(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3));
         }
     }
 
@@ -729,8 +784,8 @@ class WorkHistoryServiceTest {
             );
 
             given(userService.checkUserExist(userId)).willReturn(user);
-            given(holidayService.searchHolidaysByStartEndDate(startDate, endDate, CountryCode.KR))
-                    .willReturn(List.of());
+            given(workingCalendar.getWorkingDays(CountryCode.KR, startDate, endDate))
+                    .willReturn(List.of(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 6)));
             given(workHistoryRepository.findDailyWorkHoursByUserAndPeriod(eq(userId), eq(startDate), eq(endDate)))
                     .willReturn(dailyHoursMap);
             given(vacationUsageRepository.findByUserIdAndPeriodForDaily(eq(userId), any(), any()))
@@ -742,6 +797,7 @@ class WorkHistoryServiceTest {
             // then
             assertThat(result).doesNotContain(LocalDate.of(2025, 1, 2));
             assertThat(result).doesNotContain(LocalDate.of(2025, 1, 3));
+            assertThat(result).containsExactly(LocalDate.of(2025, 1, 6));
         }
     }
 }
@@ -0,0 +1,209 @@
+package com.porest.hr.service;
+
+import com.porest.core.type.CountryCode;
+import com.porest.core.type.YNType;
+import com.porest.hr.common.cache.TwoLevelCacheManager;
+import com.porest.hr.common.config.properties.TwoLevelCacheProperties;
+import com.porest.hr.holiday.domain.Holiday;
+import com.porest.hr.holiday.repository.HolidayRepository;
+import com.porest.hr.holiday.service.WorkingCalendar;
+import com.porest.hr.holiday.type.HolidayType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("근무일 달력 테스트")
+class WorkingCalendarTest {
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    private TwoLevelCacheManager cacheManager;
+    private WorkingCalendar workingCalendar;
+
+    @BeforeEach
+    void setUp() {
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.getRedis().setEnabled(false);
+        cacheManager = new TwoLevelCacheManager(properties, null, null, new SimpleMeterRegistry());
+        cacheManager.afterPropertiesSet();
+        workingCalendar = new WorkingCalendar(holidayRepository, cacheManager);
+        workingCalendar.init();
+    }
+
+    private void givenHolidays(int year, CountryCode countryCode, Holiday... holidays) {
+        given(holidayRepository.findHolidaysByStartEndDate(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), countryCode))
+                .willReturn(List.of(holidays));
+    }
+
+    private Holiday holiday(LocalDate date, HolidayType type) {
+        return Holiday.createHoliday("공휴일", date, type, CountryCode.KR, YNType.N, null, YNType.N, null);
+    }
+
+    @Nested
+    @DisplayName("근무일 여부")
+    class IsWorkingDay {
+        @Test
+        @DisplayName("성공 - 주말, PUBLIC, SUBSTITUTE 는 휴무일이고 ETC 는 근무일이다")
+        void isWorkingDaySuccess() {
+            // given
+            givenHolidays(2025, CountryCode.KR,
+                    holiday(LocalDate.of(2025, 1, 1), HolidayType.PUBLIC),
+                    holiday(LocalDate.of(2025, 3, 3), HolidayType.SUBSTITUTE),
+                    holiday(LocalDate.of(2025, 5, 1), HolidayType.ETC));
+
+            // when & then
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 1, 1))).isFalse();
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 3, 3))).isFalse();
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 5, 1))).isTrue();
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 1, 4))).isFalse();
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 1, 5))).isFalse();
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 1, 6))).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 국가/연도별 달력은 한 번만 조회해 캐시한다")
+        void isWorkingDayCachesPerCountryAndYear() {
+            // given
+            givenHolidays(2025, CountryCode.KR);
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                workingCalendar.isWorkingDay(CountryCode.KR, LocalDate.of(2025, 6, 2).plusDays(i));
+            }
+
+            // then
+            then(holidayRepository).should(times(1))
+                    .findHolidaysByStartEndDate(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), CountryCode.KR);
+        }
+    }
+
+    @Nested
+    @DisplayName("기간 내 근무일")
+    class WorkingDaysInRange {
+        @Test
+        @DisplayName("성공 - 연도를 넘는 기간의 근무일 목록과 개수를 계산한다")
+        void workingDaysAcrossYears() {
+            // given
+            givenHolidays(2024, CountryCode.KR, holiday(LocalDate.of(2024, 12, 25), HolidayType.PUBLIC));
+            givenHolidays(2025, CountryCode.KR, holiday(LocalDate.of(2025, 1, 1), HolidayType.PUBLIC));
+            LocalDate start = LocalDate.of(2024, 12, 23);
+            LocalDate end = LocalDate.of(2025, 1, 3);
+
+            // when
+            List<LocalDate> workingDays = workingCalendar.getWorkingDays(CountryCode.KR, start, end);
+            int count = workingCalendar.countWorkingDays(CountryCode.KR, start, end);
+
+            // then
+            assertThat(workingDays).containsExactly(
+                    LocalDate.of(2024, 12, 23), LocalDate.of(2024, 12, 24), LocalDate.of(2024, 12, 26),
+                    LocalDate.of(2024, 12, 27), LocalDate.of(2024, 12, 30), LocalDate.of(2024, 12, 31),
+                    LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3));
+            assertThat(count).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("성공 - 시작일이 종료일보다 늦으면 근무일이 없다")
+        void workingDaysEmptyWhenStartAfterEnd() {
+            // when & then
+            assertThat(workingCalendar.getWorkingDays(CountryCode.KR, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 5))).isEmpty();
+            assertThat(workingCalendar.countWorkingDays(CountryCode.KR, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 5))).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 임의 기간에서 날짜를 하나씩 확인한 결과와 같다")
+        void workingDaysMatchDayByDayWalk() {
+            // given
+            Random random = new Random(42);
+            Set<LocalDate> holidayDates = Set.of(
+                    LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 10, 3),
+                    LocalDate.of(2025, 1, 28), LocalDate.of(2025, 1, 29), LocalDate.of(2025, 12, 25));
+            for (int year = 2024; year <= 2025; year++) {
+                int targetYear = year;
+                givenHolidays(year, CountryCode.KR, holidayDates.stream()
+                        .filter(date -> date.getYear() == targetYear)
+                        .map(date -> holiday(date, HolidayType.PUBLIC))
+                        .toArray(Holiday[]::new));
+            }
+
+            for (int i = 0; i < 500; i++) {
+                LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(731));
+                LocalDate end = start.plusDays(random.nextInt(120));
+                if (end.getYear() > 2025) {
+                    end = LocalDate.of(2025, 12, 31);
+                }
+
+                List<LocalDate> expected = new ArrayList<>();
+                for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                    if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                            && !holidayDates.contains(date)) {
+                        expected.add(date);
+                    }
+                }
+
+                // when & then
+                assertThat(workingCalendar.getWorkingDays(CountryCode.KR, start, end)).isEqualTo(expected);
+                assertThat(workingCalendar.countWorkingDays(CountryCode.KR, start, end)).isEqualTo(expected.size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 무효화")
+    class Evict {
+        @Test
+        @DisplayName("성공 - 무효화하면 다음 조회에서 공휴일을 다시 읽는다")
+        void evictReloadsHolidays() {
+            // given
+            LocalDate date = LocalDate.of(2025, 6, 3);
+            given(holidayRepository.findHolidaysByStartEndDate(
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), CountryCode.KR))
+                    .willReturn(List.of())
+                    .willReturn(List.of(holiday(date, HolidayType.PUBLIC)));
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, date)).isTrue();
+
+            // when
+            workingCalendar.evict(CountryCode.KR, 2025);
+
+            // then
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, date)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드의 무효화 메시지를 받으면 다음 조회에서 공휴일을 다시 읽는다")
+        void remoteInvalidationReloadsHolidays() {
+            // given
+            LocalDate date = LocalDate.of(2025, 6, 3);
+            given(holidayRepository.findHolidaysByStartEndDate(
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), CountryCode.KR))
+                    .willReturn(List.of())
+                    .willReturn(List.of(holiday(date, HolidayType.PUBLIC)));
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, date)).isTrue();
+
+            // when
+            cacheManager.handleInvalidation(
+                    "{\"origin\":\"other-node\",\"cacheName\":\"working-calendar\",\"key\":\"KR:2025\"}");
+
+            // then
+            assertThat(workingCalendar.isWorkingDay(CountryCode.KR, date)).isFalse();
+            then(holidayRepository).should(times(2)).findHolidaysByStartEndDate(
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), CountryCode.KR);
+        }
+    }
+}